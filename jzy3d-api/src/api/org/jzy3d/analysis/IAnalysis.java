@@ -12,7 +12,7 @@ public interface IAnalysis {
     public boolean isInitialized();
     public boolean hasOwnChartControllers();
     public String getCanvasType();
-    /** Determine the canvas, "awt", "swing", "newt", "offscreen".*/
+    /** Determine the canvas, "awt", "swing", "newt", "offscreen", "software".*/
     public void setCanvasType(String type);
     /** Use a factory to initialize a chart instance*/
     public Chart initializeChart();
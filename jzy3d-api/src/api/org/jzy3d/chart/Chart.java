@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.jzy3d.bridge.IFrame;
 import org.jzy3d.chart.controllers.camera.AbstractCameraController;
@@ -14,6 +15,7 @@ import org.jzy3d.chart.controllers.mouse.camera.ICameraMouseController;
 import org.jzy3d.chart.controllers.mouse.picking.IMousePickingController;
 import org.jzy3d.chart.factories.ChartComponentFactory;
 import org.jzy3d.chart.factories.IChartComponentFactory;
+import org.jzy3d.chart.factories.IChartComponentFactory.Toolkit;
 import org.jzy3d.colors.Color;
 import org.jzy3d.maths.Coord3d;
 import org.jzy3d.maths.Rectangle;
@@ -24,6 +26,7 @@ import org.jzy3d.plot3d.rendering.canvas.ICanvas;
 import org.jzy3d.plot3d.rendering.canvas.IScreenCanvas;
 import org.jzy3d.plot3d.rendering.canvas.Quality;
 import org.jzy3d.plot3d.rendering.lights.Light;
+import org.jzy3d.plot3d.rendering.view.Renderer3d;
 import org.jzy3d.plot3d.rendering.view.View;
 import org.jzy3d.plot3d.rendering.view.ViewportMode;
 import org.jzy3d.plot3d.rendering.view.modes.ViewPositionMode;
@@ -59,11 +62,18 @@ public class Chart {
     }
 
     public Chart(Quality quality, String windowingToolkit) {
-        this(new ChartComponentFactory(), quality, windowingToolkit, org.jzy3d.chart.Settings.getInstance().getGLCapabilities());
+        this(new ChartComponentFactory(), quality, windowingToolkit, capabilities(windowingToolkit));
     }
 
     public Chart(IChartComponentFactory factory, Quality quality, String windowingToolkit) {
-        this(factory, quality, windowingToolkit, org.jzy3d.chart.Settings.getInstance().getGLCapabilities());
+        this(factory, quality, windowingToolkit, capabilities(windowingToolkit));
+    }
+
+    /** Software rendering does not need, thus does not probe, the OpenGL capabilities of the host. */
+    protected static GLCapabilities capabilities(String windowingToolkit) {
+        if (windowingToolkit.startsWith(Toolkit.software.name()))
+            return null;
+        return org.jzy3d.chart.Settings.getInstance().getGLCapabilities();
     }
 
     public Chart(IChartComponentFactory factory, Quality quality, String windowingToolkit, GLCapabilities capabilities) {
@@ -196,6 +206,23 @@ public class Chart {
         return canvas.screenshot(file);
     }
 
+    /**
+     * Render the chart and save it to a file, while image encoding runs in a background
+     * thread. Batch exports can thus render the next frame while the previous one is
+     * being encoded.
+     * 
+     * With screen canvases, the frame is captured at the next display, which may
+     * occur later.
+     * 
+     * @return a future completing once the file is written
+     * @see Renderer3d#nextDisplayScreenshot(File)
+     */
+    public Future<File> screenshotAsync(File file) {
+        Future<File> future = canvas.getRenderer().nextDisplayScreenshot(file);
+        canvas.forceRepaint();
+        return future;
+    }
+
     public void updateProjectionsAndRender() {
         getView().shoot();
         getView().project();
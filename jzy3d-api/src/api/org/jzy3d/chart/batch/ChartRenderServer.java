@@ -0,0 +1,199 @@
+package org.jzy3d.chart.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.log4j.Logger;
+import org.jzy3d.maths.Parallel;
+import org.jzy3d.plot3d.rendering.canvas.Quality;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A minimal HTTP front-end submitting jobs to a {@link ChartRenderService}, to stand in
+ * for a real job server during development and tests.
+ *
+ * <ul>
+ * <li><code>GET /render/name?width=800&amp;height=600&amp;quality=advanced&amp;format=png</code>
+ * renders the scene built by the provider registered with the given name, and answers
+ * the image. Other query parameters are given to the provider.</li>
+ * <li><code>GET /stats</code> answers the counters of the service as plain text.</li>
+ * </ul>
+ *
+ * The server listens on the loopback interface unless given another address. Images larger
+ * than the maximal size are refused.
+ */
+public class ChartRenderServer {
+    public static int DEFAULT_WIDTH = 800;
+    public static int DEFAULT_HEIGHT = 600;
+    public static int DEFAULT_MAX_SIZE = 4096;
+
+    /** A server on the loopback interface, or on any free port if port is 0. */
+    public ChartRenderServer(ChartRenderService service, int port) throws IOException {
+        this(service, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public ChartRenderServer(ChartRenderService service, InetSocketAddress address) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/render/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try {
+                    render(exchange);
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        this.server.createContext("/stats", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try {
+                    send(exchange, 200, "text/plain", ChartRenderServer.this.service.getStatistics().toString().getBytes("UTF-8"));
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        // connections wait for their image, so they should not hold render threads
+        this.connections = Executors.newFixedThreadPool(Math.max(4, 2 * Parallel.AVAILABLE_PROCESSORS));
+        this.server.setExecutor(connections);
+    }
+
+    /** Refuse images wider or higher than the given number of pixels. */
+    public void setMaxSize(int maxWidth, int maxHeight) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    public void register(String name, ISceneProvider provider) {
+        providers.put(name, provider);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Stop accepting requests, and close connections after at most the given delay in seconds. */
+    public void stop(int delay) {
+        server.stop(delay);
+        connections.shutdown();
+    }
+
+    /** The port the server listens to. */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /* */
+
+    protected void render(HttpExchange exchange) throws IOException {
+        String name = exchange.getRequestURI().getPath().substring("/render/".length());
+        ISceneProvider provider = providers.get(name);
+        if (provider == null) {
+            sendError(exchange, 404, "No chart named " + name);
+            return;
+        }
+
+        RenderJob job;
+        File file;
+        String format;
+        try {
+            Map<String, String> parameters = parse(exchange.getRequestURI().getRawQuery());
+            int width = parameters.containsKey("width") ? Integer.parseInt(parameters.remove("width")) : DEFAULT_WIDTH;
+            int height = parameters.containsKey("height") ? Integer.parseInt(parameters.remove("height")) : DEFAULT_HEIGHT;
+            Quality quality = quality(parameters.remove("quality"));
+            format = parameters.containsKey("format") ? parameters.remove("format") : "png";
+            if (width <= 0 || height <= 0 || width > maxWidth || height > maxHeight)
+                throw new IllegalArgumentException("Image size must be within " + maxWidth + "x" + maxHeight);
+            if (!format.matches("png|jpg|bmp"))
+                throw new IllegalArgumentException("Invalid format " + format);
+            file = File.createTempFile("chart-", "." + format);
+            job = new RenderJob(provider.newScene(parameters), width, height, quality, file);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+            return;
+        }
+
+        try {
+            service.submit(job).get();
+            send(exchange, 200, "image/" + (format.equals("jpg") ? "jpeg" : format), Files.readAllBytes(file.toPath()));
+        } catch (ExecutionException e) {
+            Logger.getLogger(ChartRenderServer.class).error("Could not render " + name, e.getCause());
+            sendError(exchange, 500, String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, "Interrupted");
+        } finally {
+            file.delete();
+        }
+    }
+
+    protected Quality quality(String name) {
+        if (name == null || name.equalsIgnoreCase("advanced"))
+            return Quality.Advanced;
+        if (name.equalsIgnoreCase("nicest"))
+            return Quality.Nicest;
+        if (name.equalsIgnoreCase("intermediate"))
+            return Quality.Intermediate;
+        if (name.equalsIgnoreCase("fastest"))
+            return Quality.Fastest;
+        throw new IllegalArgumentException("Unknown quality " + name);
+    }
+
+    protected static Map<String, String> parse(String query) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new LinkedHashMap<String, String>();
+        if (query == null || query.isEmpty())
+            return parameters;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0)
+                parameters.put(URLDecoder.decode(pair, "UTF-8"), "");
+            else
+                parameters.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+        }
+        return parameters;
+    }
+
+    protected static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, "text/plain", (message + "\n").getBytes("UTF-8"));
+    }
+
+    protected static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(body);
+        out.close();
+    }
+
+    protected ChartRenderService service;
+    protected HttpServer server;
+    protected ExecutorService connections;
+    protected int maxWidth = DEFAULT_MAX_SIZE;
+    protected int maxHeight = DEFAULT_MAX_SIZE;
+    protected Map<String, ISceneProvider> providers = new ConcurrentHashMap<String, ISceneProvider>();
+}
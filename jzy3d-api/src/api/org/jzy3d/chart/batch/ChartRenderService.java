@@ -0,0 +1,316 @@
+package org.jzy3d.chart.batch;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.jzy3d.chart.Chart;
+import org.jzy3d.chart.factories.IChartComponentFactory;
+import org.jzy3d.chart.factories.IChartComponentFactory.Toolkit;
+import org.jzy3d.maths.Parallel;
+import org.jzy3d.plot3d.rendering.canvas.Quality;
+import org.jzy3d.plot3d.rendering.scene.Graph;
+import org.jzy3d.plot3d.rendering.view.ScreenshotPipeline;
+import org.jzy3d.plot3d.rendering.view.View;
+
+/**
+ * Renders batches of chart images while keeping charts, with their canvas, renderer,
+ * view and GL resources, in a pool keyed by image size and quality.
+ *
+ * Jobs are queued and rendered by a fixed number of render threads. Each render thread
+ * takes a pooled chart of the job size and quality, binds the {@link SceneDescription}
+ * of the job into its scene, renders and reads the frame back. Images are then encoded
+ * and written by a {@link ScreenshotPipeline}, while render threads go on with the next
+ * jobs.
+ *
+ * <pre>
+ * <code>
+ * ChartRenderService service = new ChartRenderService(new AWTChartComponentFactory(), Toolkit.offscreen, 2);
+ * Future&lt;File&gt; image = service.submit(new RenderJob(scene, 800, 600, Quality.Advanced, file));
+ * ...
+ * System.out.println(service.getStatistics());
+ * service.shutdown();
+ * </code>
+ * </pre>
+ *
+ * Charts are created by the given factory with an offscreen or software toolkit. Pooled
+ * charts are keyed by the identity of their {@link Quality}, so jobs should share the
+ * predefined qualities instead of building their own.
+ *
+ * The pool keeps at most {@link #getMaxIdle()} idle charts over all sizes and qualities,
+ * and disposes the least recently used one when a chart returns to a full pool.
+ */
+public class ChartRenderService {
+    public ChartRenderService(IChartComponentFactory factory, Toolkit toolkit, int renderThreads) {
+        this(factory, toolkit, renderThreads, new ScreenshotPipeline(Math.max(1, Parallel.AVAILABLE_PROCESSORS - renderThreads), renderThreads + 1));
+    }
+
+    /**
+     * A service rendering with the given number of threads, and encoding images with the
+     * given pipeline.
+     *
+     * @param toolkit either {@link Toolkit#offscreen} or {@link Toolkit#software}.
+     */
+    public ChartRenderService(IChartComponentFactory factory, Toolkit toolkit, int renderThreads, ScreenshotPipeline pipeline) {
+        if (toolkit != Toolkit.offscreen && toolkit != Toolkit.software)
+            throw new IllegalArgumentException("Batch rendering requires an offscreen or software toolkit, not " + toolkit);
+        this.factory = factory;
+        this.toolkit = toolkit;
+        this.pipeline = pipeline;
+        this.maxIdlePerKey = renderThreads;
+        this.maxIdle = 2 * renderThreads;
+        this.executor = new ThreadPoolExecutor(renderThreads, renderThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "chart-render-" + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Queue a job and return a future completing once its image is written.
+     *
+     * @throws RejectedExecutionException if the service was shut down.
+     */
+    public Future<File> submit(final RenderJob job) {
+        final ScreenshotPipeline.Request request = pipeline.newRequest(job.getFile());
+        submitted.incrementAndGet();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!request.isCancelled())
+                    render(job, request);
+            }
+        });
+        return request;
+    }
+
+    public RenderStatistics getStatistics() {
+        return new RenderStatistics(submitted.get(), executor.getQueue().size(), rendered.get(), renderFailed.get(), pipeline.getEncodedCount(), pipeline.getFailedCount(), canvasCreated.get(), canvasReused.get(), renderNanos.get(), pipeline.getEncodeNanos(), System.nanoTime() - start);
+    }
+
+    /** Number of idle charts in the pool. */
+    public int getPooledCount() {
+        synchronized (pool) {
+            int count = 0;
+            for (ArrayDeque<Chart> charts : pool.values())
+                count += charts.size();
+            return count;
+        }
+    }
+
+    public ScreenshotPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /** Maximal number of idle charts in the pool, twice the number of render threads by default. */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    public void setMaxIdle(int maxIdle) {
+        List<Chart> evicted;
+        synchronized (pool) {
+            this.maxIdle = maxIdle;
+            evicted = evict();
+        }
+        for (Chart chart : evicted)
+            dispose(chart);
+    }
+
+    /**
+     * Render the queued jobs, then dispose pooled charts. Images of rendered jobs are
+     * still written after this method returns, unless the pipeline is shut down.
+     */
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        List<Chart> charts = new ArrayList<Chart>();
+        synchronized (pool) {
+            for (ArrayDeque<Chart> idle : pool.values())
+                charts.addAll(idle);
+            pool.clear();
+            idleOrder.clear();
+        }
+        for (Chart chart : charts)
+            dispose(chart);
+    }
+
+    /* RENDER STAGE */
+
+    /**
+     * Bind the scene of the job to a pooled chart, render it and read the frame back
+     * for the request. A chart failing to render is disposed instead of returning to
+     * the pool.
+     */
+    protected void render(RenderJob job, ScreenshotPipeline.Request request) {
+        long begin = System.nanoTime();
+        CanvasKey key = new CanvasKey(job.getWidth(), job.getHeight(), job.getQuality());
+        Chart chart = null;
+        try {
+            chart = acquire(key);
+            bind(chart, job.getScene());
+            chart.getCanvas().getRenderer().nextDisplayScreenshot(request);
+            chart.getCanvas().forceRepaint();
+            rendered.incrementAndGet();
+            release(key, chart);
+        } catch (RuntimeException e) {
+            renderFailed.incrementAndGet();
+            request.fail(e);
+            Logger.getLogger(ChartRenderService.class).error("Could not render " + job.getFile(), e);
+            if (chart != null)
+                dispose(chart);
+        } finally {
+            renderNanos.addAndGet(System.nanoTime() - begin);
+        }
+    }
+
+    /**
+     * Replace the content of a chart by the given scene. Drawables are added without
+     * updating the view, and the view is configured without rendering, so that the
+     * chart is rendered once per job.
+     */
+    protected void bind(Chart chart, SceneDescription scene) {
+        View view = chart.getView();
+        Graph graph = chart.getScene().getGraph();
+        graph.clear();
+        graph.add(scene.getDrawables(), false);
+
+        view.setBackgroundColor(scene.getBackgroundColor());
+        view.setAxeBoxDisplayed(scene.isAxeBoxDisplayed());
+        view.setViewPoint(scene.getViewPoint().clone(), false);
+        if (scene.getBounds() != null)
+            view.setBoundManual(scene.getBounds());
+        else
+            view.updateBoundsForceUpdate(false);
+    }
+
+    /* POOL */
+
+    protected Chart acquire(CanvasKey key) {
+        synchronized (pool) {
+            ArrayDeque<Chart> idle = pool.get(key);
+            if (idle != null && !idle.isEmpty()) {
+                canvasReused.incrementAndGet();
+                Chart chart = idle.pop();
+                if (idle.isEmpty())
+                    pool.remove(key);
+                idleOrder.remove(chart);
+                return chart;
+            }
+        }
+        canvasCreated.incrementAndGet();
+        return newChart(key);
+    }
+
+    protected void release(CanvasKey key, Chart chart) {
+        List<Chart> evicted;
+        synchronized (pool) {
+            ArrayDeque<Chart> idle = pool.get(key);
+            if (idle == null) {
+                idle = new ArrayDeque<Chart>();
+                pool.put(key, idle);
+            }
+            if (idle.size() >= maxIdlePerKey) {
+                evicted = new ArrayList<Chart>();
+                evicted.add(chart);
+            } else {
+                idle.push(chart);
+                idleOrder.put(chart, key);
+                evicted = evict();
+            }
+        }
+        for (Chart c : evicted)
+            dispose(c);
+    }
+
+    /** Remove the least recently released charts above the pool capacity. Must hold the pool lock. */
+    protected List<Chart> evict() {
+        List<Chart> evicted = new ArrayList<Chart>();
+        Iterator<Map.Entry<Chart, CanvasKey>> it = idleOrder.entrySet().iterator();
+        while (idleOrder.size() > maxIdle && it.hasNext()) {
+            Map.Entry<Chart, CanvasKey> oldest = it.next();
+            it.remove();
+            ArrayDeque<Chart> idle = pool.get(oldest.getValue());
+            idle.remove(oldest.getKey());
+            if (idle.isEmpty())
+                pool.remove(oldest.getValue());
+            evicted.add(oldest.getKey());
+        }
+        return evicted;
+    }
+
+    /** Dispose a chart, but not the drawables of its last scene that belong to a job. */
+    protected void dispose(Chart chart) {
+        chart.getScene().getGraph().clear();
+        chart.dispose();
+    }
+
+    protected Chart newChart(CanvasKey key) {
+        Chart chart = factory.newChart(key.quality, toolkit + "," + key.width + "," + key.height);
+        chart.getCanvas().getRenderer().setScreenshotPipeline(pipeline);
+        return chart;
+    }
+
+    /** Size and quality of pooled charts. */
+    protected static class CanvasKey {
+        public CanvasKey(int width, int height, Quality quality) {
+            this.width = width;
+            this.height = height;
+            this.quality = quality;
+        }
+
+        @Override
+        public int hashCode() {
+            return (width * 31 + height) * 31 + System.identityHashCode(quality);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CanvasKey))
+                return false;
+            CanvasKey other = (CanvasKey) obj;
+            return width == other.width && height == other.height && quality == other.quality;
+        }
+
+        protected final int width;
+        protected final int height;
+        protected final Quality quality;
+    }
+
+    protected IChartComponentFactory factory;
+    protected Toolkit toolkit;
+    protected ScreenshotPipeline pipeline;
+    protected ThreadPoolExecutor executor;
+    protected int maxIdlePerKey;
+    protected int maxIdle;
+    protected Map<CanvasKey, ArrayDeque<Chart>> pool = new HashMap<CanvasKey, ArrayDeque<Chart>>();
+    /** Idle charts, least recently released first. */
+    protected Map<Chart, CanvasKey> idleOrder = new LinkedHashMap<Chart, CanvasKey>();
+
+    protected long start;
+    protected AtomicLong submitted = new AtomicLong();
+    protected AtomicLong rendered = new AtomicLong();
+    protected AtomicLong renderFailed = new AtomicLong();
+    protected AtomicLong canvasCreated = new AtomicLong();
+    protected AtomicLong canvasReused = new AtomicLong();
+    protected AtomicLong renderNanos = new AtomicLong();
+    protected AtomicInteger threads = new AtomicInteger();
+}
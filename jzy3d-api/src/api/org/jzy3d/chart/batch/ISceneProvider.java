@@ -0,0 +1,14 @@
+package org.jzy3d.chart.batch;
+
+import java.util.Map;
+
+/**
+ * Builds the scene of a chart image requested to a {@link ChartRenderServer}.
+ */
+public interface ISceneProvider {
+    /**
+     * Return the scene for the query parameters of a request, or throw an
+     * {@link IllegalArgumentException} if parameters are invalid.
+     */
+    public SceneDescription newScene(Map<String, String> parameters);
+}
@@ -0,0 +1,46 @@
+package org.jzy3d.chart.batch;
+
+import java.io.File;
+
+import org.jzy3d.plot3d.rendering.canvas.Quality;
+
+/**
+ * A request to render a {@link SceneDescription} into an image file of the given
+ * size and quality. The image format is given by the file extension: png, jpg or bmp,
+ * see {@link org.jzy3d.plot3d.rendering.view.ScreenshotPipeline}.
+ */
+public class RenderJob {
+    public RenderJob(SceneDescription scene, int width, int height, Quality quality, File file) {
+        this.scene = scene;
+        this.width = width;
+        this.height = height;
+        this.quality = quality;
+        this.file = file;
+    }
+
+    public SceneDescription getScene() {
+        return scene;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Quality getQuality() {
+        return quality;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    protected SceneDescription scene;
+    protected int width;
+    protected int height;
+    protected Quality quality;
+    protected File file;
+}
@@ -0,0 +1,107 @@
+package org.jzy3d.chart.batch;
+
+/**
+ * A snapshot of the counters of a {@link ChartRenderService}.
+ */
+public class RenderStatistics {
+    public RenderStatistics(long submitted, long queued, long rendered, long renderFailed, long encoded, long encodeFailed, long canvasCreated, long canvasReused, long renderNanos, long encodeNanos, long elapsedNanos) {
+        this.submitted = submitted;
+        this.queued = queued;
+        this.rendered = rendered;
+        this.renderFailed = renderFailed;
+        this.encoded = encoded;
+        this.encodeFailed = encodeFailed;
+        this.canvasCreated = canvasCreated;
+        this.canvasReused = canvasReused;
+        this.renderNanos = renderNanos;
+        this.encodeNanos = encodeNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** Number of jobs given to the service. */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /** Number of jobs waiting for a render thread. */
+    public long getQueued() {
+        return queued;
+    }
+
+    /** Number of jobs rendered and read back. */
+    public long getRendered() {
+        return rendered;
+    }
+
+    public long getRenderFailed() {
+        return renderFailed;
+    }
+
+    /** Number of images written to their file. */
+    public long getEncoded() {
+        return encoded;
+    }
+
+    public long getEncodeFailed() {
+        return encodeFailed;
+    }
+
+    /** Number of charts created because no pooled chart had the required size and quality. */
+    public long getCanvasCreated() {
+        return canvasCreated;
+    }
+
+    /** Number of jobs rendered by a pooled chart. */
+    public long getCanvasReused() {
+        return canvasReused;
+    }
+
+    /** Total time spent binding, rendering and reading scenes back, in nanoseconds. */
+    public long getRenderNanos() {
+        return renderNanos;
+    }
+
+    /** Total time spent encoding and writing images, in nanoseconds. */
+    public long getEncodeNanos() {
+        return encodeNanos;
+    }
+
+    /** Time since the service started, in nanoseconds. */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** Images written per second since the service started. */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? encoded * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("submitted=").append(submitted).append("\n");
+        sb.append("queued=").append(queued).append("\n");
+        sb.append("rendered=").append(rendered).append("\n");
+        sb.append("renderFailed=").append(renderFailed).append("\n");
+        sb.append("encoded=").append(encoded).append("\n");
+        sb.append("encodeFailed=").append(encodeFailed).append("\n");
+        sb.append("canvasCreated=").append(canvasCreated).append("\n");
+        sb.append("canvasReused=").append(canvasReused).append("\n");
+        sb.append("renderMillis=").append(renderNanos / 1000000).append("\n");
+        sb.append("encodeMillis=").append(encodeNanos / 1000000).append("\n");
+        sb.append("imagesPerSecond=").append(String.format("%.2f", getThroughput())).append("\n");
+        return sb.toString();
+    }
+
+    protected final long submitted;
+    protected final long queued;
+    protected final long rendered;
+    protected final long renderFailed;
+    protected final long encoded;
+    protected final long encodeFailed;
+    protected final long canvasCreated;
+    protected final long canvasReused;
+    protected final long renderNanos;
+    protected final long encodeNanos;
+    protected final long elapsedNanos;
+}
@@ -0,0 +1,75 @@
+package org.jzy3d.chart.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jzy3d.colors.Color;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.rendering.view.View;
+
+/**
+ * The content of a chart image rendered by a {@link ChartRenderService}: the drawables
+ * of the scene and the few view settings that differ from one image to another.
+ *
+ * A description is bound to a pooled chart right before rendering, so drawables can be
+ * built by any thread but should not be modified until the image is rendered.
+ */
+public class SceneDescription {
+    public SceneDescription() {
+    }
+
+    public SceneDescription(List<? extends AbstractDrawable> drawables) {
+        this.drawables.addAll(drawables);
+    }
+
+    public SceneDescription add(AbstractDrawable drawable) {
+        drawables.add(drawable);
+        return this;
+    }
+
+    public List<AbstractDrawable> getDrawables() {
+        return drawables;
+    }
+
+    public Coord3d getViewPoint() {
+        return viewPoint;
+    }
+
+    /** Polar coordinates of the eye, as for {@link View#setViewPoint(Coord3d)}. */
+    public void setViewPoint(Coord3d viewPoint) {
+        this.viewPoint = viewPoint;
+    }
+
+    public BoundingBox3d getBounds() {
+        return bounds;
+    }
+
+    /** Bounds of the view, or null to fit the bounds of the drawables. */
+    public void setBounds(BoundingBox3d bounds) {
+        this.bounds = bounds;
+    }
+
+    public Color getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    public void setBackgroundColor(Color backgroundColor) {
+        this.backgroundColor = backgroundColor;
+    }
+
+    public boolean isAxeBoxDisplayed() {
+        return axeBoxDisplayed;
+    }
+
+    public void setAxeBoxDisplayed(boolean axeBoxDisplayed) {
+        this.axeBoxDisplayed = axeBoxDisplayed;
+    }
+
+    protected List<AbstractDrawable> drawables = new ArrayList<AbstractDrawable>();
+    protected Coord3d viewPoint = View.DEFAULT_VIEW.clone();
+    protected BoundingBox3d bounds;
+    protected Color backgroundColor = Color.WHITE;
+    protected boolean axeBoxDisplayed = true;
+}
@@ -35,6 +35,7 @@ import org.jzy3d.plot3d.primitives.axes.IAxe;
 import org.jzy3d.plot3d.rendering.canvas.CanvasNewtAwt;
 import org.jzy3d.plot3d.rendering.canvas.ICanvas;
 import org.jzy3d.plot3d.rendering.canvas.Quality;
+import org.jzy3d.plot3d.rendering.canvas.SoftwareCanvas;
 import org.jzy3d.plot3d.rendering.canvas.VoidCanvas;
 import org.jzy3d.plot3d.rendering.ordering.AbstractOrderingStrategy;
 import org.jzy3d.plot3d.rendering.ordering.BarycentreOrderingStrategy;
@@ -216,6 +217,8 @@ public class ChartComponentFactory implements IChartComponentFactory {
 
     @Override
     public ICanvas newCanvas(IChartComponentFactory factory, Scene scene, Quality quality, String windowingToolkit, GLCapabilities capabilities) {
+        if (windowingToolkit.startsWith("software"))
+            return newCanvasSoftware(factory, scene, quality, windowingToolkit);
         return new VoidCanvas(factory, scene, quality);
     }
 
@@ -285,18 +288,27 @@ public class ChartComponentFactory implements IChartComponentFactory {
         }
     }
 
+    /** A canvas rendering without OpenGL, sized by a "software,width,height" toolkit. */
+    protected ICanvas newCanvasSoftware(IChartComponentFactory factory, Scene scene, Quality quality, String windowingToolkit) {
+        Dimension dimension = getCanvasDimension(windowingToolkit);
+        return new SoftwareCanvas(factory, scene, quality, dimension.width, dimension.height);
+    }
+
     /* UTILS */
 
     public Toolkit getToolkit(String windowingToolkit) {
         if (windowingToolkit.startsWith("offscreen")) {
             return Toolkit.offscreen;
         }
+        if (windowingToolkit.startsWith("software")) {
+            return Toolkit.software;
+        }
         return Toolkit.valueOf(windowingToolkit);
     }
 
     protected Dimension getCanvasDimension(String windowingToolkit) {
-        if (windowingToolkit.startsWith("offscreen")) {
-            Pattern pattern = Pattern.compile("offscreen,(\\d+),(\\d+)");
+        if (windowingToolkit.startsWith("offscreen") || windowingToolkit.startsWith("software")) {
+            Pattern pattern = Pattern.compile("(?:offscreen|software),(\\d+),(\\d+)");
             Matcher matcher = pattern.matcher(windowingToolkit);
             if (matcher.matches()) {
                 int width = Integer.parseInt(matcher.group(1));
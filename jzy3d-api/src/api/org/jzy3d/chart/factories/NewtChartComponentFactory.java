@@ -136,6 +136,8 @@ public class NewtChartComponentFactory extends ChartComponentFactory {
         case offscreen:
             Dimension dimension = getCanvasDimension(windowingToolkit);
             return new OffscreenCanvas(factory, scene, quality, capabilities, dimension.width, dimension.height, traceGL, debugGL);
+        case software:
+            return newCanvasSoftware(factory, scene, quality, windowingToolkit);
         default:
             throw new IllegalArgumentException("unknown chart type:" + chartType);
         }
@@ -116,7 +116,7 @@ public class AxeBox2d extends AxeBox {
             // CETTE ROTATION NE MARCHE PAS ET AFFECTE LE BON RENDU QUAND ON UTILISE BOUNDING POLICY!!
             
             glRasterPos(gl, sceneOffset, Coord3d.ORIGIN);
-            glut.glutBitmapString(font, text);
+            glutBitmapString(gl, font, text);
             
             return computeTextBounds(gl, glu, cam, posScreenShifted, strlen);
         }
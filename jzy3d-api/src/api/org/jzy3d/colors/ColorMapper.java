@@ -69,6 +69,15 @@ public class ColorMapper implements IColorMappable {
         return out;
     }
 
+    /** call a colormap with a three dimensions coordinate given by its components */
+    public Color getColor(float x, float y, float z) {
+        Color out = colormap.getColor(this, x, y, z);
+
+        if (factor != null)
+            out.mul(factor);
+        return out;
+    }
+
     /** call a colormap with a single dimension coordinate */
     public Color getColor(double v) {
         Color out = colormap.getColor(this, v);
@@ -0,0 +1,385 @@
+package org.jzy3d.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.jzy3d.maths.Parallel;
+
+/**
+ * Reads numeric columns of a delimited text file into float arrays in a single pass.
+ *
+ * The file is memory-mapped and split into chunks starting at line boundaries, which
+ * are parsed concurrently without creating a String or an object per row. Chunks are
+ * then concatenated into one array per selected column.
+ *
+ * <pre>
+ * CsvColumns xyz = new CsvColumnLoader().setHeaderLines(1).setColumns("x", "y", "z").load("points.csv");
+ * Shape surface = (Shape) new OrthonormalTessellator().build(xyz.getX(), xyz.getY(), xyz.getZ());
+ * </pre>
+ *
+ * Fields may be padded with blanks and surrounded by double quotes, but quoted fields may
+ * not contain the delimiter. An empty selected field reads as NaN. Blank lines and lines
+ * with less fields than required are skipped, as {@link FileDataset} does.
+ */
+public class CsvColumnLoader {
+    /** Minimal size of the part of a file parsed by a task. */
+    public static int MIN_CHUNK_SIZE = 1 << 20;
+    /** Maximal size of the part of a file parsed by a task, which is mapped at once. */
+    public static int MAX_CHUNK_SIZE = 1 << 28;
+
+    /* CONFIGURATION */
+
+    /** Field delimiter, ',' by default. A blank delimiter merges consecutive blanks. */
+    public CsvColumnLoader setDelimiter(char delimiter) {
+        this.delimiter = (byte) delimiter;
+        return this;
+    }
+
+    /** Number of lines to skip at the beginning of the file, the last one naming columns. */
+    public CsvColumnLoader setHeaderLines(int headerLines) {
+        this.headerLines = headerLines;
+        return this;
+    }
+
+    /** Select columns by index, 0, 1 and 2 by default. */
+    public CsvColumnLoader setColumns(int... columns) {
+        this.columns = columns;
+        this.names = null;
+        return this;
+    }
+
+    /** Select columns by their name in the last header line. */
+    public CsvColumnLoader setColumns(String... names) {
+        this.names = names;
+        this.columns = null;
+        return this;
+    }
+
+    public CsvColumnLoader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /* LOAD */
+
+    public CsvColumns load(String filename) throws IOException {
+        return load(new File(filename));
+    }
+
+    public CsvColumns load(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            long length = channel.size();
+
+            long start = 0;
+            String[] header = null;
+            for (int i = 0; i < headerLines; i++) {
+                long next = nextLine(channel, start, length);
+                header = split(readLine(channel, start, next));
+                start = next;
+            }
+            int[] selected = resolve(header);
+            final int[] slots = slots(selected);
+
+            final long[] bounds = bounds(channel, start, length);
+            final Chunk[] chunks = new Chunk[bounds.length - 1];
+
+            Parallel.forRange(0, chunks.length, parallelism, new Parallel.IRangeTask() {
+                @Override
+                public void run(int from, int to) {
+                    for (int k = from; k < to; k++) {
+                        chunks[k] = new Chunk(slots, columnCount(slots), bounds[k + 1] - bounds[k]);
+                        try {
+                            if (bounds[k + 1] > bounds[k])
+                                chunks[k].parse(channel.map(FileChannel.MapMode.READ_ONLY, bounds[k], bounds[k + 1] - bounds[k]), bounds[k]);
+                        } catch (IOException e) {
+                            chunks[k].error = e;
+                        }
+                    }
+                }
+            });
+            return merge(chunks, selected.length, header);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /* */
+
+    /** Concatenate columns of all chunks. */
+    protected CsvColumns merge(final Chunk[] chunks, int columnCount, String[] header) throws IOException {
+        final int[] offsets = new int[chunks.length + 1];
+        for (int k = 0; k < chunks.length; k++) {
+            if (chunks[k].error != null)
+                throw chunks[k].error;
+            long rows = (long) offsets[k] + chunks[k].rows;
+            if (rows > Integer.MAX_VALUE)
+                throw new IOException("Too many rows");
+            offsets[k + 1] = (int) rows;
+        }
+
+        final float[][] columns = new float[columnCount][offsets[chunks.length]];
+        Parallel.forRange(0, chunks.length, parallelism, new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int k = from; k < to; k++) {
+                    for (int c = 0; c < columns.length; c++)
+                        System.arraycopy(chunks[k].values[c], 0, columns[c], offsets[k], chunks[k].rows);
+                    chunks[k].values = null;
+                }
+            }
+        });
+        return new CsvColumns(columns, offsets[chunks.length], header);
+    }
+
+    /** Offsets of chunks in the file, each but the first starting after a line end. */
+    protected long[] bounds(FileChannel channel, long start, long end) throws IOException {
+        long length = end - start;
+        long count = Math.max(Math.min(4L * parallelism, length / MIN_CHUNK_SIZE), (length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        int n = (int) Math.max(count, 1);
+
+        long[] bounds = new long[n + 1];
+        bounds[0] = start;
+        bounds[n] = end;
+        for (int k = 1; k < n; k++)
+            bounds[k] = Math.max(bounds[k - 1], nextLine(channel, start + length * k / n - 1, end));
+        for (int k = 1; k <= n; k++)
+            if (bounds[k] - bounds[k - 1] > Integer.MAX_VALUE)
+                throw new IOException("Line too long at byte " + bounds[k - 1]);
+        return bounds;
+    }
+
+    /** Offset following the first line end at or after from, or end. */
+    protected static long nextLine(FileChannel channel, long from, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long position = from;
+        while (position < end) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0)
+                break;
+            for (int i = 0; i < read; i++)
+                if (buffer.get(i) == '\n')
+                    return position + i + 1;
+            position += read;
+        }
+        return end;
+    }
+
+    protected static String readLine(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(to - from, Integer.MAX_VALUE));
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) > 0)
+            ;
+        String line = new String(buffer.array(), 0, buffer.position(), Charset.forName("UTF-8"));
+        return line.replaceAll("[\r\n]+$", "");
+    }
+
+    protected String[] split(String line) {
+        String d = String.valueOf((char) delimiter);
+        String[] fields = isBlank(delimiter) ? line.trim().split("[ \t]+") : line.split(Pattern.quote(d), -1);
+        for (int i = 0; i < fields.length; i++)
+            fields[i] = fields[i].trim().replaceAll("^\"|\"$", "");
+        return fields;
+    }
+
+    /** Indices of selected columns. */
+    protected int[] resolve(String[] header) throws IOException {
+        if (names == null)
+            return columns;
+        if (header == null)
+            throw new IOException("Columns selected by name require a header line");
+        int[] selected = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            selected[i] = Arrays.asList(header).indexOf(names[i]);
+            if (selected[i] < 0)
+                throw new IOException("No column named " + names[i] + " in " + Arrays.toString(header));
+        }
+        return selected;
+    }
+
+    /** For each field index, the selected column it is read into, or -1. */
+    protected static int[] slots(int[] selected) {
+        if (selected.length == 0)
+            throw new IllegalArgumentException("No column selected");
+        int max = -1;
+        for (int c : selected) {
+            if (c < 0)
+                throw new IllegalArgumentException("Negative column " + c);
+            max = Math.max(max, c);
+        }
+        int[] slots = new int[max + 1];
+        Arrays.fill(slots, -1);
+        for (int i = 0; i < selected.length; i++) {
+            if (slots[selected[i]] >= 0)
+                throw new IllegalArgumentException("Column " + selected[i] + " selected twice");
+            slots[selected[i]] = i;
+        }
+        return slots;
+    }
+
+    protected static int columnCount(int[] slots) {
+        int n = 0;
+        for (int s : slots)
+            if (s >= 0)
+                n++;
+        return n;
+    }
+
+    protected static boolean isBlank(int c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /** The rows of a part of the file, parsed by a single task. */
+    protected class Chunk {
+        public Chunk(int[] slots, int columnCount, long bytes) {
+            this.slots = slots;
+            // guess a row takes 8 bytes per field, then grow
+            this.values = new float[columnCount][(int) Math.min(Math.max(bytes / (8L * slots.length), 16), Integer.MAX_VALUE - 8)];
+            this.row = new float[columnCount];
+        }
+
+        public void parse(ByteBuffer buffer, long offset) throws IOException {
+            this.buffer = buffer;
+            this.offset = offset;
+            boolean blankDelimiter = isBlank(delimiter);
+            int end = buffer.limit();
+            int i = 0;
+
+            while (i < end) {
+                if (blankDelimiter)
+                    i = skipBlanks(i, end);
+                if (i >= end || buffer.get(i) == '\n' || buffer.get(i) == '\r') {
+                    i = skipLine(i, end);
+                    continue;
+                }
+
+                int field = 0;
+                int found = 0;
+                while (found < row.length) {
+                    i = skipPadding(i, end);
+                    int slot = field < slots.length ? slots[field] : -1;
+                    if (slot >= 0) {
+                        i = parseFloat(i, end);
+                        row[slot] = value;
+                        found++;
+                        i = skipPadding(i, end);
+                        if (i < end && !isFieldEnd(buffer.get(i)))
+                            throw error(i, "unexpected character '" + (char) buffer.get(i) + "'");
+                    } else {
+                        while (i < end && !isFieldEnd(buffer.get(i)))
+                            i++;
+                    }
+                    if (i >= end || buffer.get(i) != delimiter)
+                        break;
+                    i++;
+                    if (blankDelimiter) {
+                        i = skipBlanks(i, end);
+                        if (i >= end || buffer.get(i) == '\n' || buffer.get(i) == '\r')
+                            break;
+                    }
+                    field++;
+                }
+                i = skipLine(i, end);
+
+                if (found == row.length)
+                    add();
+            }
+            this.buffer = null;
+        }
+
+        protected void add() {
+            if (rows == values[0].length) {
+                int capacity = (int) Math.min(rows + (rows >> 1) + 16L, Integer.MAX_VALUE - 8);
+                for (int c = 0; c < values.length; c++)
+                    values[c] = Arrays.copyOf(values[c], capacity);
+            }
+            for (int c = 0; c < values.length; c++)
+                values[c][rows] = row[c];
+            rows++;
+        }
+
+        /** Parse a decimal number into {@link #value} and return the index following it. */
+        protected int parseFloat(int i, int end) throws IOException {
+            int c = i < end ? buffer.get(i) : '\n';
+            if (isFieldEnd(c) || isBlank(c) || c == '"') {
+                value = Float.NaN;
+                return i;
+            }
+            decimals.i = i;
+            decimals.end = end;
+            decimals.parse(c);
+            value = (float) decimals.getValue();
+            return decimals.i;
+        }
+
+        protected boolean isFieldEnd(int c) {
+            return c == delimiter || c == '\n' || c == '\r';
+        }
+
+        protected int skipPadding(int i, int end) {
+            while (i < end) {
+                byte c = buffer.get(i);
+                if (c == delimiter || (!isBlank(c) && c != '"'))
+                    break;
+                i++;
+            }
+            return i;
+        }
+
+        protected int skipBlanks(int i, int end) {
+            while (i < end && isBlank(buffer.get(i)))
+                i++;
+            return i;
+        }
+
+        protected int skipLine(int i, int end) {
+            while (i < end && buffer.get(i) != '\n')
+                i++;
+            return i + 1;
+        }
+
+        protected IOException error(int i, String message) {
+            return new IOException("Malformed CSV file at byte " + (offset + i) + ": " + message);
+        }
+
+        protected int[] slots;
+        protected float[][] values;
+        protected float[] row;
+        protected int rows;
+        protected IOException error;
+
+        protected ByteBuffer buffer;
+        protected long offset;
+        protected float value;
+        protected Decimals decimals = new Decimals();
+
+        /** Reads the bytes of the buffer from index i, a line end standing for its end. */
+        protected class Decimals extends DecimalParser {
+            @Override
+            protected int next() {
+                return ++i < end ? buffer.get(i) : '\n';
+            }
+
+            @Override
+            protected IOException error(String message) {
+                return Chunk.this.error(i, message);
+            }
+
+            protected int i;
+            protected int end;
+        }
+    }
+
+    protected byte delimiter = ',';
+    protected int headerLines = 0;
+    protected int[] columns = { 0, 1, 2 };
+    protected String[] names;
+    protected int parallelism = Parallel.AVAILABLE_PROCESSORS;
+}
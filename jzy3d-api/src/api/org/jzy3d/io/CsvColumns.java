@@ -0,0 +1,72 @@
+package org.jzy3d.io;
+
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Coordinates;
+import org.jzy3d.maths.Parallel;
+
+/**
+ * Float columns read by a {@link CsvColumnLoader}, in the order columns were selected.
+ * The first three columns are the x, y and z arrays expected by
+ * {@link org.jzy3d.plot3d.builder.Tessellator#build(float[], float[], float[])}.
+ */
+public class CsvColumns {
+    public CsvColumns(float[][] columns, int rows, String[] header) {
+        this.columns = columns;
+        this.rows = rows;
+        this.header = header;
+    }
+
+    public float[] getColumn(int i) {
+        return columns[i];
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+
+    /** The fields of the last header line, or null if the file was read without header. */
+    public String[] getHeader() {
+        return header;
+    }
+
+    public float[] getX() {
+        return columns[0];
+    }
+
+    public float[] getY() {
+        return columns[1];
+    }
+
+    public float[] getZ() {
+        return columns[2];
+    }
+
+    /** The first three columns, sharing their arrays. */
+    public Coordinates toCoordinates() {
+        return new Coordinates(getX(), getY(), getZ());
+    }
+
+    /** Points made of the first three columns, e.g. for a {@link org.jzy3d.plot3d.primitives.Scatter}. */
+    public Coord3d[] toArray() {
+        final float[] x = getX();
+        final float[] y = getY();
+        final float[] z = getZ();
+        final Coord3d[] points = new Coord3d[rows];
+        Parallel.forRange(0, rows, Parallel.AVAILABLE_PROCESSORS, 1 << 16, new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int i = from; i < to; i++)
+                    points[i] = new Coord3d(x[i], y[i], z[i]);
+            }
+        });
+        return points;
+    }
+
+    protected float[][] columns;
+    protected int rows;
+    protected String[] header;
+}
@@ -0,0 +1,98 @@
+package org.jzy3d.io;
+
+import java.io.IOException;
+
+/**
+ * Parses decimal numbers, with an optional sign and exponent, from bytes without
+ * creating strings. Digits are accumulated in a long, and the result is scaled once by
+ * a power of ten.
+ *
+ * Loaders give the bytes one at a time by implementing {@link #next()}, whether they
+ * read them from a mapped file or through a buffer.
+ */
+public abstract class DecimalParser {
+    /**
+     * Parse a number starting with character c into {@link #getValue()} and return the
+     * character following it.
+     */
+    public int parse(int c) throws IOException {
+        boolean negative = c == '-';
+        if (c == '-' || c == '+')
+            c = next();
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        while (c >= '0' && c <= '9') {
+            if (mantissa < MAX_MANTISSA)
+                mantissa = mantissa * 10 + (c - '0');
+            else
+                exponent++;
+            digits++;
+            c = next();
+        }
+        if (c == '.') {
+            c = next();
+            while (c >= '0' && c <= '9') {
+                if (mantissa < MAX_MANTISSA) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    exponent--;
+                }
+                digits++;
+                c = next();
+            }
+        }
+        if (digits == 0)
+            throw error("number expected");
+        if (c == 'e' || c == 'E') {
+            c = next();
+            boolean negativeExponent = c == '-';
+            if (c == '-' || c == '+')
+                c = next();
+            if (c < '0' || c > '9')
+                throw error("exponent expected");
+            int e = 0;
+            while (c >= '0' && c <= '9') {
+                if (e < 1000)
+                    e = e * 10 + (c - '0');
+                c = next();
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        double v = scale(mantissa, exponent);
+        value = negative ? -v : v;
+        return c;
+    }
+
+    /** The last parsed number. */
+    public double getValue() {
+        return value;
+    }
+
+    /** Return mantissa x 10^exponent. */
+    public static double scale(long mantissa, int exponent) {
+        double v = mantissa;
+        if (exponent < 0)
+            return -exponent < POWERS_OF_TEN.length ? v / POWERS_OF_TEN[-exponent] : v * Math.pow(10, exponent);
+        else if (exponent > 0)
+            return exponent < POWERS_OF_TEN.length ? v * POWERS_OF_TEN[exponent] : v * Math.pow(10, exponent);
+        return v;
+    }
+
+    /** Move to the next byte and return it, or a value that is not part of a number at the end of input. */
+    protected abstract int next() throws IOException;
+
+    /** An exception locating a malformed number in the input. */
+    protected abstract IOException error(String message);
+
+    /** Digits beyond this mantissa only count in the exponent. */
+    protected static final long MAX_MANTISSA = (Long.MAX_VALUE - 9) / 10;
+    /** Powers of ten exactly represented by a double. */
+    protected static final double[] POWERS_OF_TEN = new double[23];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    protected double value;
+}
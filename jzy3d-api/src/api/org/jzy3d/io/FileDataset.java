@@ -34,6 +34,15 @@ public class FileDataset {
 		return coords;
 	}
 	
+	/**
+	 * Load the three first columns of a comma separated file as x, y and z arrays,
+	 * parsing parts of the file concurrently. Use a {@link CsvColumnLoader} to select
+	 * other columns, delimiters or header lines.
+	 */
+	public static CsvColumns loadColumns(String filename) throws IOException {
+		return new CsvColumnLoader().load(filename);
+	}
+	
 	public static List<Coord3d> loadList(String filename) throws IOException {
 		float x;
 		float y;
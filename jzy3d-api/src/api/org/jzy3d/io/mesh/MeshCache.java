@@ -0,0 +1,189 @@
+package org.jzy3d.io.mesh;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.jzy3d.io.IGLLoader;
+import org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO;
+
+import com.jogamp.opengl.GL;
+
+/**
+ * A directory of {@link MeshFile}s named after the hash of the content of the file they
+ * were loaded from and of the parser and layout they were recorded with. The first load
+ * of a model runs its parser and writes the compiled mesh; later loads of the same
+ * content with the same parser and layout only map the cached mesh.
+ *
+ * <pre>
+ * MeshCache cache = new MeshCache(new File(System.getProperty("java.io.tmpdir"), "jzy3d-meshes"));
+ * DrawableVBO drawable = new DrawableVBO(cache.loader(file, new OBJFileLoader(file.getPath())));
+ * </pre>
+ */
+public class MeshCache {
+    static Logger logger = Logger.getLogger(MeshCache.class);
+
+    public static final String EXTENSION = ".jzm";
+
+    public MeshCache(File directory) {
+        this.directory = directory;
+    }
+
+    /** A loader mapping the cached mesh of the source, or running the parser on a miss. */
+    public IGLLoader<DrawableVBO> loader(final File source, final IGLLoader<DrawableVBO> parser) {
+        return new IGLLoader<DrawableVBO>() {
+            @Override
+            public void load(GL gl, DrawableVBO drawable) throws Exception {
+                get(source, parser, drawable).load(gl, drawable);
+            }
+        };
+    }
+
+    /**
+     * Return the cached mesh of the source, or record the mesh produced by the parser and
+     * cache it. The target only gives the geometry and color layout to record with, and
+     * may be null.
+     */
+    public MeshFile get(File source, IGLLoader<DrawableVBO> parser, DrawableVBO target) throws Exception {
+        long hash = hash(source);
+        long layout = layoutHash(parser, target);
+        File file = getFile(hash, layout);
+
+        if (file.isFile()) {
+            try {
+                MeshFile mesh = MeshFile.map(file);
+                if (mesh.getSourceHash() == hash && mesh.getLayoutHash() == layout) {
+                    hits.incrementAndGet();
+                    return mesh;
+                }
+            } catch (IOException e) {
+                logger.warn("Ignoring invalid cached mesh " + file + ": " + e.getMessage());
+            }
+        }
+
+        misses.incrementAndGet();
+        MeshFile mesh = MeshFile.record(parser, target);
+        mesh.setSourceHash(hash);
+        mesh.setLayoutHash(layout);
+        try {
+            return store(mesh, file);
+        } catch (IOException e) {
+            logger.warn("Could not cache mesh of " + source + ": " + e.getMessage());
+            return mesh;
+        }
+    }
+
+    /** The file caching the mesh of a source with the given hash, recorded with the given layout. */
+    public File getFile(long sourceHash, long layoutHash) {
+        return new File(directory, String.format("%016x", mix(sourceHash, layoutHash)) + EXTENSION);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /* */
+
+    /** Write the mesh next to its final name then move it, so readers never see a partial file. */
+    protected MeshFile store(MeshFile mesh, File file) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Could not create " + directory);
+        File temp = File.createTempFile("mesh", ".tmp", directory);
+        try {
+            mesh.write(temp);
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            temp.delete();
+        }
+        return MeshFile.map(file);
+    }
+
+    /**
+     * A 64 bit hash of the content of a file, read through a mapping eight bytes at a
+     * time. This identifies a model version, it is not meant to resist collisions on
+     * purpose.
+     */
+    public static long hash(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long length = channel.size();
+            long h = SEED ^ (length * M1);
+
+            for (long offset = 0; offset < length; offset += HASH_CHUNK) {
+                long chunk = Math.min(HASH_CHUNK, length - offset);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, chunk);
+                mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+                LongBuffer longs = mapped.asLongBuffer();
+                while (longs.hasRemaining())
+                    h = Long.rotateLeft(h ^ (longs.get() * M1), 31) * M2;
+
+                long tail = 0;
+                for (int i = longs.capacity() * 8; i < chunk; i++)
+                    tail = (tail << 8) | (mapped.get(i) & 0xFF);
+                h = Long.rotateLeft(h ^ (tail * M1), 31) * M2;
+            }
+            h ^= h >>> 33;
+            h *= M1;
+            h ^= h >>> 33;
+            return h;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * A hash of what, beside the source content, changes the recorded mesh: the class of
+     * the parser, and the geometry and color layout of the target. Parsers which output
+     * depends on their settings should override this.
+     */
+    public long layoutHash(IGLLoader<DrawableVBO> parser, DrawableVBO target) {
+        long h = mix(SEED, parser.getClass().getName().hashCode());
+        if (target != null) {
+            h = mix(h, target.getGeometry());
+            h = mix(h, target.isHasColorBuffer() ? target.getColorChannelNumber() : 0);
+            h = mix(h, target.getColorOffset());
+        }
+        return h;
+    }
+
+    protected static long mix(long h, long value) {
+        h = Long.rotateLeft(h ^ (value * M1), 31) * M2;
+        h ^= h >>> 33;
+        h *= M1;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Mapped at once when hashing, a multiple of 8. */
+    protected static final long HASH_CHUNK = 1L << 26;
+    protected static final long SEED = 0x9E3779B97F4A7C15L;
+    protected static final long M1 = 0xFF51AFD7ED558CCDL;
+    protected static final long M2 = 0xC4CEB9FE1A85EC53L;
+
+    protected File directory;
+    protected AtomicLong hits = new AtomicLong();
+    protected AtomicLong misses = new AtomicLong();
+}
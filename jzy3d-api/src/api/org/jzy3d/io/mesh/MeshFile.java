@@ -0,0 +1,334 @@
+package org.jzy3d.io.mesh;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.io.IGLLoader;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Normal;
+import org.jzy3d.plot3d.primitives.AbstractComposite;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.AbstractGeometry;
+import org.jzy3d.plot3d.primitives.Point;
+import org.jzy3d.plot3d.primitives.vbo.buffers.FloatVBO;
+import org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+
+/**
+ * A compiled mesh stored in a compact binary file that is memory-mapped for loading, so
+ * that the vertex and index arrays are handed to GL without being parsed or copied.
+ *
+ * The file is little-endian and made of a header of {@link #HEADER_SIZE} bytes
+ *
+ * <pre>
+ * int   magic 'JZM1'         int   version
+ * int   geometry             int   dimensions
+ * int   stride in bytes      int   normal offset in bytes
+ * int   color offset         int   color channels, 0 without colors
+ * int   vertex float count   int   index count
+ * float xmin, xmax, ymin, ymax, zmin, zmax
+ * long  source hash          int   drawn index count   int reserved
+ * long  layout hash
+ * </pre>
+ *
+ * followed by the interleaved vertex array and the index array.
+ *
+ * A mesh is built from a {@link DrawableVBO} by replaying its loader, or from the
+ * polygons of a {@link AbstractComposite} such as a {@link org.jzy3d.plot3d.primitives.Shape}.
+ */
+public class MeshFile {
+    public static final int MAGIC = 0x314D5A4A; // "JZM1" read little-endian
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = 88;
+
+    public MeshFile(FloatBuffer vertices, IntBuffer indices, BoundingBox3d bounds, int geometry, int dimensions, int stride, int normalOffset, int colorOffset, int colorChannels) {
+        this.vertices = vertices;
+        this.indices = indices;
+        this.bounds = bounds;
+        this.geometry = geometry;
+        this.dimensions = dimensions;
+        this.stride = stride;
+        this.normalOffset = normalOffset;
+        this.colorOffset = colorOffset;
+        this.colorChannels = colorChannels;
+        this.size = indices.remaining();
+    }
+
+    /* LOAD */
+
+    /**
+     * Map a mesh file. Returned buffers are views of the mapping, which remains valid
+     * until the buffers are garbage collected, even once the file is closed.
+     */
+    public static MeshFile map(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long length = channel.size();
+            if (length < HEADER_SIZE)
+                throw new IOException(file + " is not a mesh file");
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC)
+                throw new IOException(file + " is not a mesh file");
+            if (mapped.getInt(4) != VERSION)
+                throw new IOException(file + " has unsupported version " + mapped.getInt(4));
+            int vertexCount = mapped.getInt(32);
+            int indexCount = mapped.getInt(36);
+            if (vertexCount < 0 || indexCount < 0 || length != HEADER_SIZE + 4L * vertexCount + 4L * indexCount)
+                throw new IOException(file + " is truncated");
+
+            BoundingBox3d bounds = new BoundingBox3d(mapped.getFloat(40), mapped.getFloat(44), mapped.getFloat(48), mapped.getFloat(52), mapped.getFloat(56), mapped.getFloat(60));
+
+            mapped.position(HEADER_SIZE);
+            FloatBuffer vertices = mapped.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            vertices.limit(vertexCount);
+            mapped.position(HEADER_SIZE + 4 * vertexCount);
+            IntBuffer indices = mapped.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+            MeshFile mesh = new MeshFile(vertices.slice(), indices, bounds, mapped.getInt(8), mapped.getInt(12), mapped.getInt(16), mapped.getInt(20), mapped.getInt(24), mapped.getInt(28));
+            mesh.sourceHash = mapped.getLong(64);
+            mesh.size = mapped.getInt(72);
+            mesh.layoutHash = mapped.getLong(80);
+            return mesh;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /** Configure and fill the drawable as its loader would. */
+    public void load(GL gl, DrawableVBO drawable) {
+        drawable.doConfigure(0, size, stride, normalOffset, dimensions);
+        drawable.setGeometry(geometry);
+        drawable.setHasColorBuffer(colorChannels > 0);
+        if (colorChannels > 0) {
+            drawable.setColorChannelNumber(colorChannels);
+            drawable.setColorOffset(colorOffset);
+        }
+        drawable.doLoadArrayFloatBuffer(gl, vertices.remaining() * Buffers.SIZEOF_FLOAT, vertices.duplicate());
+        drawable.doLoadElementIntBuffer(gl, indices.remaining() * Buffers.SIZEOF_INT, indices.duplicate());
+        drawable.doSetBoundingBox(bounds);
+    }
+
+    /** The mesh as a {@link FloatVBO} sharing its buffers. */
+    public FloatVBO toFloatVBO() {
+        return new FloatVBO(vertices.duplicate(), indices.duplicate(), bounds);
+    }
+
+    /* WRITE */
+
+    public void write(File file) throws IOException {
+        int vertexCount = vertices.remaining();
+        int indexCount = indices.remaining();
+        long length = HEADER_SIZE + 4L * vertexCount + 4L * indexCount;
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(length);
+            MappedByteBuffer mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.putInt(MAGIC).putInt(VERSION);
+            mapped.putInt(geometry).putInt(dimensions);
+            mapped.putInt(stride).putInt(normalOffset);
+            mapped.putInt(colorOffset).putInt(colorChannels);
+            mapped.putInt(vertexCount).putInt(indexCount);
+            mapped.putFloat(bounds.getXmin()).putFloat(bounds.getXmax());
+            mapped.putFloat(bounds.getYmin()).putFloat(bounds.getYmax());
+            mapped.putFloat(bounds.getZmin()).putFloat(bounds.getZmax());
+            mapped.putLong(sourceHash).putInt(size).putInt(0);
+            mapped.putLong(layoutHash);
+
+            ByteBuffer data = mapped.slice().order(ByteOrder.LITTLE_ENDIAN);
+            data.asFloatBuffer().put(vertices.duplicate());
+            data.position(4 * vertexCount);
+            data.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(indices.duplicate());
+            mapped.force();
+        } finally {
+            raf.close();
+        }
+    }
+
+    /* BUILD */
+
+    /**
+     * Build the mesh of a drawable by running its loader against a recorder, which keeps
+     * buffers and layout instead of sending them to GL.
+     */
+    public static MeshFile of(DrawableVBO drawable) throws Exception {
+        return record(drawable.getLoader(), drawable);
+    }
+
+    /**
+     * Run a loader against a recorder and build the mesh it produced. If a target is
+     * given, the recorder starts from its geometry and color layout, and the target is
+     * left untouched.
+     */
+    public static MeshFile record(IGLLoader<DrawableVBO> loader, DrawableVBO target) throws Exception {
+        MeshRecorder recorder = new MeshRecorder(loader, target);
+        loader.load(null, recorder);
+        return recorder.toMesh();
+    }
+
+    /**
+     * Build a triangle mesh of the polygons of a composite, such as a
+     * {@link org.jzy3d.plot3d.primitives.Shape}, with one flat normal per polygon and the
+     * color given by the polygon color mapper, or by its points.
+     */
+    public static MeshFile of(AbstractComposite composite) {
+        Geometry geometry = new Geometry();
+        geometry.add(composite);
+
+        FloatBuffer vertices = Buffers.newDirectFloatBuffer(geometry.vertexCount * VERTEX_SIZE);
+        IntBuffer indices = Buffers.newDirectIntBuffer(geometry.indexCount);
+        geometry.write(composite, vertices, indices);
+        vertices.flip();
+        indices.flip();
+
+        return new MeshFile(vertices, indices, composite.getBounds(), GL.GL_TRIANGLES, 3, VERTEX_SIZE * Buffers.SIZEOF_FLOAT, 3 * Buffers.SIZEOF_FLOAT, 6 * Buffers.SIZEOF_FLOAT, 4);
+    }
+
+    /** Floats per vertex of meshes built from polygons: coordinates, normal, RGBA color. */
+    protected static final int VERTEX_SIZE = 10;
+
+    /** Counts, then writes, the triangles of the polygons of a composite. */
+    protected static class Geometry {
+        int vertexCount;
+        int indexCount;
+
+        void add(AbstractComposite composite) {
+            for (AbstractDrawable d : composite.getDrawables()) {
+                if (d instanceof AbstractComposite)
+                    add((AbstractComposite) d);
+                else if (d instanceof AbstractGeometry) {
+                    int n = ((AbstractGeometry) d).getPoints().size();
+                    if (n >= 3) {
+                        vertexCount += n;
+                        indexCount += (n - 2) * 3;
+                    }
+                }
+            }
+        }
+
+        void write(AbstractComposite composite, FloatBuffer vertices, IntBuffer indices) {
+            for (AbstractDrawable d : composite.getDrawables()) {
+                if (d instanceof AbstractComposite)
+                    write((AbstractComposite) d, vertices, indices);
+                else if (d instanceof AbstractGeometry)
+                    write((AbstractGeometry) d, vertices, indices);
+            }
+        }
+
+        void write(AbstractGeometry polygon, FloatBuffer vertices, IntBuffer indices) {
+            List<Point> points = polygon.getPoints();
+            int n = points.size();
+            if (n < 3)
+                return;
+            Coord3d normal = Normal.compute(points.get(0).xyz, points.get(1).xyz, points.get(2).xyz);
+            ColorMapper mapper = polygon.getColorMapper();
+            int first = vertices.position() / VERTEX_SIZE;
+
+            for (Point p : points) {
+                Color c = mapper != null ? mapper.getColor(p.xyz) : p.rgb;
+                vertices.put(p.xyz.x).put(p.xyz.y).put(p.xyz.z);
+                vertices.put(normal.x).put(normal.y).put(normal.z);
+                vertices.put(c.r).put(c.g).put(c.b).put(c.a);
+            }
+            for (int i = 1; i < n - 1; i++)
+                indices.put(first).put(first + i).put(first + i + 1);
+        }
+    }
+
+    /* */
+
+    public FloatBuffer getVertices() {
+        return vertices;
+    }
+
+    public IntBuffer getIndices() {
+        return indices;
+    }
+
+    public BoundingBox3d getBounds() {
+        return bounds;
+    }
+
+    public int getGeometry() {
+        return geometry;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /** Size of a vertex in bytes. */
+    public int getStride() {
+        return stride;
+    }
+
+    public int getNormalOffset() {
+        return normalOffset;
+    }
+
+    public int getColorOffset() {
+        return colorOffset;
+    }
+
+    /** Number of color components per vertex, 0 if vertices have no color. */
+    public int getColorChannels() {
+        return colorChannels;
+    }
+
+    /** Number of indices drawn. */
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /** Hash of the file the mesh was loaded from, 0 if unknown. */
+    public long getSourceHash() {
+        return sourceHash;
+    }
+
+    public void setSourceHash(long sourceHash) {
+        this.sourceHash = sourceHash;
+    }
+
+    /** Hash of the parser and layout the mesh was recorded with, 0 if unknown. */
+    public long getLayoutHash() {
+        return layoutHash;
+    }
+
+    public void setLayoutHash(long layoutHash) {
+        this.layoutHash = layoutHash;
+    }
+
+    protected FloatBuffer vertices;
+    protected IntBuffer indices;
+    protected BoundingBox3d bounds;
+    protected int geometry;
+    protected int dimensions;
+    protected int stride;
+    protected int normalOffset;
+    protected int colorOffset;
+    protected int colorChannels;
+    protected int size;
+    protected long sourceHash;
+    protected long layoutHash;
+}
@@ -0,0 +1,22 @@
+package org.jzy3d.io.mesh;
+
+import java.io.File;
+
+import org.jzy3d.io.IGLLoader;
+import org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO;
+
+import com.jogamp.opengl.GL;
+
+/** Loads a {@link MeshFile} by mapping it and handing the mapped buffers to GL. */
+public class MeshFileLoader implements IGLLoader<DrawableVBO> {
+    protected File file;
+
+    public MeshFileLoader(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void load(GL gl, DrawableVBO drawable) throws Exception {
+        MeshFile.map(file).load(gl, drawable);
+    }
+}
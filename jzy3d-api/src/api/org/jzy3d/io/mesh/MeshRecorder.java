@@ -0,0 +1,65 @@
+package org.jzy3d.io.mesh;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.jzy3d.io.IGLLoader;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.plot3d.primitives.vbo.buffers.FloatVBO;
+import org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A {@link DrawableVBO} keeping what a loader gives it instead of sending it to GL, so
+ * that loaders may run without a GL context.
+ */
+public class MeshRecorder extends DrawableVBO {
+    /** A recorder starting from the geometry and color layout of the target, if any. */
+    public MeshRecorder(IGLLoader<DrawableVBO> loader, DrawableVBO target) {
+        super(loader);
+        if (target != null) {
+            geometry = target.getGeometry();
+            setHasColorBuffer(target.isHasColorBuffer());
+            colorChannelNumber = target.getColorChannelNumber();
+            colorOffset = target.getColorOffset();
+        }
+    }
+
+    public MeshFile toMesh() {
+        if (vertices == null || indices == null)
+            throw new IllegalStateException("Loader did not provide vertices and indices");
+        MeshFile mesh = new MeshFile(vertices, indices, bbox != null ? bbox : new BoundingBox3d(), geometry, dimensions, byteOffset, normalOffset, colorOffset, isHasColorBuffer() ? colorChannelNumber : 0);
+        mesh.setSize(size);
+        return mesh;
+    }
+
+    @Override
+    public void setData(GL gl, FloatVBO vbo) {
+        setData((GL2) null, vbo.getIndices(), vbo.getVertices(), vbo.getBounds(), 0);
+    }
+
+    @Override
+    public void setData(GL gl, IntBuffer indices, FloatBuffer vertices, BoundingBox3d bounds) {
+        setData((GL2) null, indices, vertices, bounds, 0);
+    }
+
+    @Override
+    public void doLoadArrayFloatBuffer(GL gl, int vertexSize, FloatBuffer vertices) {
+        FloatBuffer recorded = vertices.duplicate();
+        recorded.limit(recorded.position() + vertexSize / Buffers.SIZEOF_FLOAT);
+        this.vertices = recorded.slice();
+    }
+
+    @Override
+    public void doLoadElementIntBuffer(GL gl, int indexSize, IntBuffer indices) {
+        IntBuffer recorded = indices.duplicate();
+        recorded.limit(recorded.position() + indexSize / Buffers.SIZEOF_INT);
+        this.indices = recorded.slice();
+    }
+
+    protected FloatBuffer vertices;
+    protected IntBuffer indices;
+}
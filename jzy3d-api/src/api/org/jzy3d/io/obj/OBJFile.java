@@ -1,20 +1,18 @@
 package org.jzy3d.io.obj;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.AbstractList;
 import java.util.List;
 
 import org.apache.log4j.Logger;
 import org.jzy3d.maths.BoundingBox3d;
 
+import com.jogamp.common.nio.Buffers;
+
 /**
  * Translated from C++ Version: nvModel.h - Model support class
  * 
@@ -50,21 +48,6 @@ public class OBJFile {
         openEdges_ = 0;
     }
 
-    public class IdxSet {
-        Integer pIndex = 0;
-        Integer nIndex = 0;
-
-        boolean lessThan(IdxSet rhs) {
-            if (pIndex < rhs.pIndex)
-                return true;
-            else if (pIndex == rhs.pIndex) {
-                if (nIndex < rhs.nIndex)
-                    return true;
-            }
-            return false;
-        }
-    };
-
     public boolean loadModelFromFilename(String file) {
         //URL fileURL = getClass().getClassLoader().getResource(File.separator + file);
 
@@ -80,155 +63,26 @@ public class OBJFile {
     }
     
     /**
-     * This function attempts to determine the type of the filename passed as a
-     * parameter. If it understands that file type, it attempts to parse and
-     * load the file into its raw data structures. If the file type is
-     * recognized and successfully parsed, the function returns true, otherwise
-     * it returns false.
+     * This function attempts to parse and load the obj file at the given URL into
+     * its raw data structures, with an {@link OBJParser}. Files are memory mapped.
+     * If the file is successfully parsed, the function returns true, otherwise it
+     * returns false.
      */
     public boolean loadModelFromURL(URL fileURL) {        
-        if (fileURL != null) {
-            BufferedReader input = null;
-            try {
-
-                input = new BufferedReader(new InputStreamReader(fileURL.openStream()));
-                String line = null;
-                float[] val = new float[4];
-                int[][] idx = new int[3][3];
-                boolean hasNormals = false;
-
-                while ((line = input.readLine()) != null) {
-                    if(line.isEmpty()){
-                        continue;
-                    }
-                    switch (line.charAt(0)) {
-                    case '#':
-                        break;
-                    case 'v':
-                        switch (line.charAt(1)) {
-
-                        case ' ':
-                            line = line.substring(line.indexOf(" ") + 1);
-                            // vertex, 3 or 4 components
-                            val[0] = Float.valueOf(line.substring(0, line.indexOf(" ")));
-                            line = line.substring(line.indexOf(" ") + 1);
-                            val[1] = Float.valueOf(line.substring(0, line.indexOf(" ")));
-                            line = line.substring(line.indexOf(" ") + 1);
-                            val[2] = Float.valueOf(line);
-                            positions_.add(val[0]);
-                            positions_.add(val[1]);
-                            positions_.add(val[2]);
-                            break;
-
-                        case 'n':
-                            // normal, 3 components
-                            line = line.substring(line.indexOf(" ") + 1);
-                            val[0] = Float.valueOf(line.substring(0, line.indexOf(" ")));
-                            line = line.substring(line.indexOf(" ") + 1);
-                            val[1] = Float.valueOf(line.substring(0, line.indexOf(" ")));
-                            line = line.substring(line.indexOf(" ") + 1);
-                            val[2] = Float.valueOf(line);
-                            normals_.add(val[0]);
-                            normals_.add(val[1]);
-                            normals_.add(val[2]);
-                            break;
-                        }
-                        break;
-
-                    case 'f':
-                        // face
-                        line = line.substring(line.indexOf(" ") + 1);
-
-                        // Remove any additional leading whitespace. The whitespace count
-                        // can vary for different programs, i.e., Right Hemisphere produces
-                        // obj files with 2 spaces. Meshlab produces single spaced files.
-                        while(line.startsWith(" ")){
-                            line = line.substring(1);
-                        }
-
-                        idx[0][0] = Integer.valueOf(line.substring(0, line.indexOf("//"))).intValue();
-                        line = line.substring(line.indexOf("//") + 2);
-                        idx[0][1] = Integer.valueOf(line.substring(0, line.indexOf(" "))).intValue();
-
-                        {
-                            // This face has vertex and normal indices
-
-                            // in .obj, f v1 .... the vertex index used start
-                            // from 1, so -1 here
-                            // remap them to the right spot
-                            idx[0][0] = (idx[0][0] > 0) ? (idx[0][0] - 1) : (positions_.size() - idx[0][0]);
-                            idx[0][1] = (idx[0][1] > 0) ? (idx[0][1] - 1) : (normals_.size() - idx[0][1]);
-
-                            // grab the second vertex to prime
-                            line = line.substring(line.indexOf(" ") + 1);
-                            idx[1][0] = Integer.valueOf(line.substring(0, line.indexOf("//")));
-                            line = line.substring(line.indexOf("//") + 2);
-                            idx[1][1] = Integer.valueOf(line.substring(0, line.indexOf(" ")));
-
-                            // remap them to the right spot
-                            idx[1][0] = (idx[1][0] > 0) ? (idx[1][0] - 1) : (positions_.size() - idx[1][0]);
-                            idx[1][1] = (idx[1][1] > 0) ? (idx[1][1] - 1) : (normals_.size() - idx[1][1]);
-
-                            // grab the third vertex to prime
-                            line = line.substring(line.indexOf(" ") + 1);
-                            idx[2][0] = Integer.valueOf(line.substring(0, line.indexOf("//")));
-                            line = line.substring(line.indexOf("//") + 2);
-                            idx[2][1] = Integer.valueOf(line);
-                            {
-                                // remap them to the right spot
-                                idx[2][0] = (idx[2][0] > 0) ? (idx[2][0] - 1) : (positions_.size() - idx[2][0]);
-                                idx[2][1] = (idx[2][1] > 0) ? (idx[2][1] - 1) : (normals_.size() - idx[2][1]);
-
-                                // add the indices
-                                for (int ii = 0; ii < 3; ii++) {
-                                    pIndex_.add(idx[ii][0]);
-                                    nIndex_.add(idx[ii][1]);
-                                }
-
-                                // prepare for the next iteration, the num 0
-                                // does not change.
-                                idx[1][0] = idx[2][0];
-                                idx[1][1] = idx[2][1];
-                            }
-                            hasNormals = true;
-                        }
-                        break;
-
-                    default:
-                        break;
-                    }
-                    ;
-                }
-                // post-process data
-                // free anything that ended up being unused
-                if (!hasNormals) {
-                    normals_.clear();
-                    nIndex_.clear();
-                }
-
-                posSize_ = 3;
-                return true;
-
-            } catch (FileNotFoundException kFNF) {
-                logger.error("Unable to find the shader file " + fileURL + " : FileNotFoundException : " + kFNF.getMessage());
-            } catch (IOException kIO) {
-                logger.error("Problem reading the shader file " + fileURL + " : IOException : " + kIO.getMessage());
-            } catch (NumberFormatException kIO) {
-                logger.error("Problem reading the shader file " + fileURL + " : NumberFormatException : " + kIO.getMessage());
-            } finally {
-                try {
-                    if (input != null) {
-                        input.close();
-                    }
-                } catch (IOException closee) {
-                }
-            }
-        }
-        else{
+        if (fileURL == null) {
             logger.error("URL was null");
+            return false;
+        }
+        parser = new OBJParser();
+        try {
+            parser.parse(fileURL);
+            posSize_ = 3;
+            return true;
+        } catch (IOException e) {
+            logger.error("Problem reading the OBJ file " + fileURL + " : " + e.getMessage());
+            parser = new OBJParser();
+            return false;
         }
-            
-        return false;
     }
 
     /**
@@ -236,65 +90,82 @@ public class OBJFile {
      * structures, and attempts to bring it to a format directly
      * accepted for vertex array style rendering. This means that
      * a unique compiled vertex will exist for each unique
-     * combination of position, normal, tex coords, etc that are
-     * used in the model. The prim parameter, tells the model
-     * what type of index list to compile. By default it compiles
-     * a simple triangle mesh with no connectivity.
+     * combination of position and normal used in the model, and
+     * that vertices and triangle indices are stored in direct
+     * buffers ready to be loaded in GL buffers.
      */
     public void compileModel() {
-        boolean needsTriangles = true;
-
-        HashMap<IdxSet, Integer> pts = new HashMap<IdxSet, Integer>();
-        vertices_ = FloatBuffer.allocate((pIndex_.size() + nIndex_.size()) * 3);
-        indices_ = IntBuffer.allocate(pIndex_.size());
-        for (int i = 0; i < pIndex_.size(); i++) {
-            IdxSet idx = new IdxSet();
-            idx.pIndex = pIndex_.get(i);
-
-            if (normals_.size() > 0)
-                idx.nIndex = nIndex_.get(i);
-            else
-                idx.nIndex = 0;
-
-            if (!pts.containsKey(idx)) {
-                if (needsTriangles)
-                    indices_.put(pts.size());
-
-                pts.put(idx, pts.size());
-
-                // position,
-                vertices_.put(positions_.get(idx.pIndex * posSize_));
-                vertices_.put(positions_.get(idx.pIndex * posSize_ + 1));
-                vertices_.put(positions_.get(idx.pIndex * posSize_ + 2));
-
-                // normal
-                if (normals_.size() > 0) {
-                    vertices_.put(normals_.get(idx.nIndex * 3));
-                    vertices_.put(normals_.get(idx.nIndex * 3 + 1));
-                    vertices_.put(normals_.get(idx.nIndex * 3 + 2));
+        int corners = parser.getCornerCount();
+        int[] pIndex = parser.getPositionIndices();
+        int[] nIndex = parser.getNormalIndices();
+        boolean normals = hasNormals();
+
+        indices_ = Buffers.newDirectIntBuffer(corners);
+        int count;
+        int[] vertexP;
+        int[] vertexN = null;
+        if (!normals) {
+            // positions are the compiled vertices
+            count = parser.getPositionCount();
+            vertexP = null;
+            for (int i = 0; i < corners; i++)
+                indices_.put(pIndex[i]);
+        } else {
+            // open addressing table of the compiled vertex + 1 of each position/normal pair
+            int capacity = Integer.highestOneBit(Math.max(corners, 1) * 2 - 1) << 1;
+            int[] table = new int[capacity];
+            vertexP = new int[corners];
+            vertexN = new int[corners];
+            count = 0;
+            for (int i = 0; i < corners; i++) {
+                int p = pIndex[i];
+                int n = nIndex[i];
+                int slot = hash(p, n) & (capacity - 1);
+                while (table[slot] != 0 && (vertexP[table[slot] - 1] != p || vertexN[table[slot] - 1] != n))
+                    slot = (slot + 1) & (capacity - 1);
+                if (table[slot] == 0) {
+                    vertexP[count] = p;
+                    vertexN[count] = n;
+                    table[slot] = ++count;
                 }
-
-            } else {
-                if (needsTriangles)
-                    indices_.put(pts.get(idx));
+                indices_.put(table[slot] - 1);
             }
         }
 
-        // create selected prim
-
         // set the offsets and vertex size
         pOffset_ = 0; // always first
         vtxSize_ = posSize_;
-        if (hasNormals()) {
+        if (normals) {
             nOffset_ = vtxSize_;
             vtxSize_ += 3;
         } else {
             nOffset_ = -1;
         }
+
+        float[] positions = parser.getPositions();
+        float[] normalValues = parser.getNormals();
+        vertices_ = Buffers.newDirectFloatBuffer(count * vtxSize_);
+        for (int v = 0; v < count; v++) {
+            int p = (vertexP == null ? v : vertexP[v]) * 3;
+            vertices_.put(positions[p]);
+            vertices_.put(positions[p + 1]);
+            vertices_.put(positions[p + 2]);
+            if (normals) {
+                int n = vertexN[v] * 3;
+                vertices_.put(normalValues[n]);
+                vertices_.put(normalValues[n + 1]);
+                vertices_.put(normalValues[n + 2]);
+            }
+        }
         vertices_.rewind();
         indices_.rewind();
     }
 
+    protected static int hash(int p, int n) {
+        int h = p * 0x9E3779B9 + n;
+        return h ^ (h >>> 16);
+    }
+
     /**
      * Returns the points defining the axis-aligned bounding box containing the model.
      */
@@ -302,7 +173,7 @@ public class OBJFile {
         float[] minVal = new float[3];
         float[] maxVal = new float[3];
         
-        if (positions_.isEmpty())
+        if (parser.getPositionCount() == 0)
             return null;
 
         for (int i = 0; i < 3; i++) {
@@ -310,10 +181,11 @@ public class OBJFile {
             maxVal[i] = -1e10f;
         }
 
-        for (int i = 0; i < positions_.size(); i += 3) {
-            float x = positions_.get(i);
-            float y = positions_.get(i + 1);
-            float z = positions_.get(i + 2);
+        float[] positions = parser.getPositions();
+        for (int i = 0; i < parser.getPositionCount() * 3; i += 3) {
+            float x = positions[i];
+            float y = positions[i + 1];
+            float z = positions[i + 2];
             minVal[0] = Math.min(minVal[0], x);
             minVal[1] = Math.min(minVal[1], y);
             minVal[2] = Math.min(minVal[2], z);
@@ -326,12 +198,12 @@ public class OBJFile {
     }
 
     public void clearNormals() {
-        normals_.clear();
-        nIndex_.clear();
+        parser.clearNormals();
     }
 
+    /** True if normals are defined for all face vertices. */
     public boolean hasNormals() {
-        return normals_.size() > 0;
+        return parser.getNormalCount() > 0 && parser.hasNormalIndices();
     }
 
     public int getPositionSize() {
@@ -342,32 +214,38 @@ public class OBJFile {
         return 3;
     }
 
+    /** The parsed model, holding positions, normals, texture coordinates and face indices in primitive arrays. */
+    public OBJParser getParser() {
+        return parser;
+    }
+
+    /** A read only view of the positions, boxing values on access. */
     public List<Float> getPositions() {
-        return (positions_.size() > 0) ? positions_ : null;
+        return (parser.getPositionCount() > 0) ? asList(parser.getPositions(), parser.getPositionCount() * 3) : null;
     }
 
     public List<Float> getNormals() {
-        return (normals_.size() > 0) ? normals_ : null;
+        return (parser.getNormalCount() > 0) ? asList(parser.getNormals(), parser.getNormalCount() * 3) : null;
     }
 
     public List<Integer> getPositionIndices() {
-        return (pIndex_.size() > 0) ? pIndex_ : null;
+        return (parser.getCornerCount() > 0) ? asList(parser.getPositionIndices(), parser.getCornerCount()) : null;
     }
 
     public List<Integer> getNormalIndices() {
-        return (nIndex_.size() > 0) ? nIndex_ : null;
+        return hasNormals() ? asList(parser.getNormalIndices(), parser.getCornerCount()) : null;
     }
 
     public int getPositionCount() {
-        return (posSize_ > 0) ? positions_.size() / posSize_ : 0;
+        return (posSize_ > 0) ? parser.getPositionCount() : 0;
     }
 
     public int getNormalCount() {
-        return normals_.size() / 3;
+        return parser.getNormalCount();
     }
 
     public int getIndexCount() {
-        return pIndex_.size();
+        return parser.getCornerCount();
     }
 
     public FloatBuffer getCompiledVertices() {
@@ -390,20 +268,49 @@ public class OBJFile {
         return vtxSize_;
     }
 
+    /** Number of floats in the compiled vertices. */
     public int getCompiledVertexCount() {
-        return ((pIndex_.size() + nIndex_.size()) * 3);
+        return (vertices_ != null) ? vertices_.capacity() : 0;
     }
 
     public int getOpenEdgeCount() {
         return openEdges_;
     }
 
-    protected List<Float> positions_ = new ArrayList<Float>();
-    protected List<Float> normals_ = new ArrayList<Float>();
-    protected int posSize_;
+    protected static List<Float> asList(final float[] values, final int size) {
+        return new AbstractList<Float>() {
+            @Override
+            public Float get(int index) {
+                if (index >= size)
+                    throw new IndexOutOfBoundsException(index + " >= " + size);
+                return values[index];
+            }
 
-    protected List<Integer> pIndex_ = new ArrayList<Integer>();
-    protected List<Integer> nIndex_ = new ArrayList<Integer>();
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    protected static List<Integer> asList(final int[] values, final int size) {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                if (index >= size)
+                    throw new IndexOutOfBoundsException(index + " >= " + size);
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    protected OBJParser parser = new OBJParser();
+    protected int posSize_;
 
     // data structures optimized for rendering, compiled model
     protected IntBuffer indices_ = null;
@@ -0,0 +1,382 @@
+package org.jzy3d.io.obj;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.jzy3d.io.DecimalParser;
+
+/**
+ * Reads the geometry of a Wavefront OBJ file into primitive arrays.
+ *
+ * The parser reads bytes from a memory mapped file, or from a channel through a
+ * buffer, and parses numbers from these bytes without creating strings. Arrays grow
+ * by doubling, so parsing allocates a few arrays whatever the size of the model.
+ *
+ * Supported statements are vertex positions (<code>v x y z [w]</code>), texture
+ * coordinates (<code>vt u [v [w]]</code>), normals (<code>vn x y z</code>) and faces
+ * with any vertex form (<code>f p</code>, <code>f p/t</code>, <code>f p//n</code>,
+ * <code>f p/t/n</code>), with absolute or relative indices. Polygons are split into a
+ * fan of triangles. Other statements, like groups and materials, are ignored.
+ *
+ * Indices are stored zero based, per triangle corner. A corner without texture
+ * coordinate or normal has index -1.
+ */
+public class OBJParser {
+    /** Size of the buffer reading files that are not memory mapped. */
+    public static int BUFFER_SIZE = 1 << 16;
+
+    /** Parse a file, or any other URL if not a file. */
+    public void parse(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                parse(new File(url.toURI()));
+                return;
+            } catch (URISyntaxException e) {
+                // not a valid file URI, read as a stream
+            } catch (IllegalArgumentException e) {
+                // not a hierarchical URI, read as a stream
+            }
+        }
+        InputStream input = url.openStream();
+        try {
+            parse(Channels.newChannel(input));
+        } finally {
+            input.close();
+        }
+    }
+
+    /** Parse a file, memory mapped unless larger than 2GB. */
+    public void parse(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            if (channel.size() <= Integer.MAX_VALUE)
+                parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), null);
+            else
+                parse(channel);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /** Parse bytes read from a channel, which is not closed. */
+    public void parse(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.limit(0);
+        parse(buffer, channel);
+    }
+
+    /**
+     * Parse the bytes remaining in a buffer, then the bytes read from the channel
+     * into the buffer if the channel is not null.
+     */
+    protected void parse(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        this.buffer = buffer;
+        this.channel = channel;
+        this.line = 1;
+        try {
+            int c = read();
+            while (c >= 0) {
+                c = skipBlanks(c);
+                if (c == 'v') {
+                    c = read();
+                    if (c == ' ' || c == '\t')
+                        c = position(c);
+                    else if (c == 'n')
+                        c = normal(read());
+                    else if (c == 't')
+                        c = texCoord(read());
+                } else if (c == 'f') {
+                    c = read();
+                    if (c == ' ' || c == '\t')
+                        c = face(c);
+                }
+                c = skipLine(c);
+            }
+        } finally {
+            this.buffer = null;
+            this.channel = null;
+        }
+    }
+
+    /* STATEMENTS */
+
+    protected int position(int c) throws IOException {
+        if (positions.length < positionCount * 3 + 3)
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        int p = positionCount * 3;
+        for (int k = 0; k < 3; k++) {
+            c = parseFloat(skipBlanks(c));
+            positions[p + k] = (float) number;
+        }
+        positionCount++;
+        return c; // an optional w is skipped with the end of line
+    }
+
+    protected int normal(int c) throws IOException {
+        if (normals.length < normalCount * 3 + 3)
+            normals = Arrays.copyOf(normals, normals.length * 2);
+        int n = normalCount * 3;
+        for (int k = 0; k < 3; k++) {
+            c = parseFloat(skipBlanks(c));
+            normals[n + k] = (float) number;
+        }
+        normalCount++;
+        return c;
+    }
+
+    protected int texCoord(int c) throws IOException {
+        if (texCoords.length < texCoordCount * 2 + 2)
+            texCoords = Arrays.copyOf(texCoords, texCoords.length * 2);
+        int t = texCoordCount * 2;
+        c = parseFloat(skipBlanks(c));
+        texCoords[t] = (float) number;
+        c = skipBlanks(c);
+        if (isNumberStart(c)) {
+            c = parseFloat(c);
+            texCoords[t + 1] = (float) number;
+        } else
+            texCoords[t + 1] = 0;
+        texCoordCount++;
+        return c;
+    }
+
+    /** Read the corners of a face, adding a triangle for each corner after the second. */
+    protected int face(int c) throws IOException {
+        int corners = 0;
+        c = skipBlanks(c);
+        while (isNumberStart(c)) {
+            c = parseInt(c);
+            int p = index(number, positionCount);
+            int t = -1;
+            int n = -1;
+            if (c == '/') {
+                c = read();
+                if (c != '/') {
+                    c = parseInt(c);
+                    t = index(number, texCoordCount);
+                }
+                if (c == '/') {
+                    c = parseInt(read());
+                    n = index(number, normalCount);
+                }
+            }
+            if (corners == 0) {
+                firstCorner[0] = p;
+                firstCorner[1] = t;
+                firstCorner[2] = n;
+            } else if (corners >= 2) {
+                corner(firstCorner[0], firstCorner[1], firstCorner[2]);
+                corner(lastCorner[0], lastCorner[1], lastCorner[2]);
+                corner(p, t, n);
+            }
+            lastCorner[0] = p;
+            lastCorner[1] = t;
+            lastCorner[2] = n;
+            corners++;
+            c = skipBlanks(c);
+        }
+        if (corners < 3)
+            throw error("a face requires at least 3 vertices");
+        return c;
+    }
+
+    protected void corner(int p, int t, int n) {
+        if (positionIndices.length == cornerCount) {
+            int length = cornerCount * 2;
+            positionIndices = Arrays.copyOf(positionIndices, length);
+            texCoordIndices = Arrays.copyOf(texCoordIndices, length);
+            normalIndices = Arrays.copyOf(normalIndices, length);
+        }
+        positionIndices[cornerCount] = p;
+        texCoordIndices[cornerCount] = t;
+        normalIndices[cornerCount] = n;
+        cornerCount++;
+        if (t >= 0)
+            hasTexCoordIndices = true;
+        if (n >= 0)
+            cornersWithNormals++;
+    }
+
+    /** Convert a one based or negative relative index to a zero based index. */
+    protected int index(double value, int count) throws IOException {
+        int index = (int) value;
+        if (index > 0 && index <= count)
+            return index - 1;
+        if (index < 0 && -index <= count)
+            return count + index;
+        throw error("index " + index + " out of the " + count + " elements read");
+    }
+
+    /* TOKENIZER */
+
+    protected int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            if (channel == null)
+                return -1;
+            buffer.clear();
+            int n;
+            do {
+                n = channel.read(buffer);
+            } while (n == 0);
+            buffer.flip();
+            if (n < 0)
+                return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    protected int skipBlanks(int c) throws IOException {
+        while (c == ' ' || c == '\t' || c == '\r')
+            c = read();
+        return c;
+    }
+
+    /** Skip the end of the current line, and return the first character of next line. */
+    protected int skipLine(int c) throws IOException {
+        while (c >= 0 && c != '\n')
+            c = read();
+        if (c < 0)
+            return c;
+        line++;
+        return read();
+    }
+
+    protected static boolean isNumberStart(int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+    }
+
+    /** Parse an integer into {@link #number} and return the character following it. */
+    protected int parseInt(int c) throws IOException {
+        boolean negative = c == '-';
+        if (c == '-' || c == '+')
+            c = read();
+        if (c < '0' || c > '9')
+            throw error("integer expected");
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE)
+                throw error("integer too large");
+            c = read();
+        }
+        number = negative ? -value : value;
+        return c;
+    }
+
+    /** Parse a decimal number, with an optional exponent, into {@link #number} and return the character following it. */
+    protected int parseFloat(int c) throws IOException {
+        c = decimals.parse(c);
+        number = decimals.getValue();
+        return c;
+    }
+
+    protected IOException error(String message) {
+        return new IOException("Malformed OBJ file at line " + line + ": " + message);
+    }
+
+    /* DATA */
+
+    /** Positions as x, y, z triplets, in an array that may be longer than 3 * {@link #getPositionCount()}. */
+    public float[] getPositions() {
+        return positions;
+    }
+
+    public int getPositionCount() {
+        return positionCount;
+    }
+
+    /** Normals as x, y, z triplets, in an array that may be longer than 3 * {@link #getNormalCount()}. */
+    public float[] getNormals() {
+        return normals;
+    }
+
+    public int getNormalCount() {
+        return normalCount;
+    }
+
+    /** Texture coordinates as u, v pairs, in an array that may be longer than 2 * {@link #getTexCoordCount()}. */
+    public float[] getTexCoords() {
+        return texCoords;
+    }
+
+    public int getTexCoordCount() {
+        return texCoordCount;
+    }
+
+    /** Number of triangle corners, i.e. three times the number of triangles. */
+    public int getCornerCount() {
+        return cornerCount;
+    }
+
+    public int[] getPositionIndices() {
+        return positionIndices;
+    }
+
+    public int[] getTexCoordIndices() {
+        return texCoordIndices;
+    }
+
+    public int[] getNormalIndices() {
+        return normalIndices;
+    }
+
+    /** True if all corners have a normal. */
+    public boolean hasNormalIndices() {
+        return cornerCount > 0 && cornersWithNormals == cornerCount;
+    }
+
+    /** True if some corners have texture coordinates. */
+    public boolean hasTexCoordIndices() {
+        return hasTexCoordIndices;
+    }
+
+    /** Forget normals, e.g. to compute them after loading. */
+    public void clearNormals() {
+        normals = new float[3];
+        normalCount = 0;
+        Arrays.fill(normalIndices, 0, cornerCount, -1);
+        cornersWithNormals = 0;
+    }
+
+    protected DecimalParser decimals = new DecimalParser() {
+        @Override
+        protected int next() throws IOException {
+            return read();
+        }
+
+        @Override
+        protected IOException error(String message) {
+            return OBJParser.this.error(message);
+        }
+    };
+
+    protected float[] positions = new float[3 * 1024];
+    protected int positionCount;
+    protected float[] normals = new float[3 * 1024];
+    protected int normalCount;
+    protected float[] texCoords = new float[2 * 1024];
+    protected int texCoordCount;
+
+    protected int[] positionIndices = new int[3 * 1024];
+    protected int[] texCoordIndices = new int[3 * 1024];
+    protected int[] normalIndices = new int[3 * 1024];
+    protected int cornerCount;
+    protected int cornersWithNormals;
+    protected boolean hasTexCoordIndices;
+
+    protected ByteBuffer buffer;
+    protected ReadableByteChannel channel;
+    protected int line;
+    protected double number;
+    protected int[] firstCorner = new int[3];
+    protected int[] lastCorner = new int[3];
+}
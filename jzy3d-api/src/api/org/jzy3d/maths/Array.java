@@ -121,6 +121,31 @@ public class Array {
         return false;
     }
 
+    /**
+     * Search a value in an array sorted in ascending order. Values are compared
+     * with primitive operators, so -0f and 0f are considered equal, which is not
+     * the case of {@link java.util.Arrays#binarySearch(float[], float)}.
+     *
+     * @return the index of the value, or -1 if the value is not in the array.
+     */
+    public static int binarySearch(float[] sorted, float value) {
+        int low = 0;
+        int high = sorted.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value)
+                low = mid + 1;
+            else if (sorted[mid] > value)
+                high = mid - 1;
+            else if (sorted[mid] == value)
+                return mid;
+            else
+                return -1; // NaN
+        }
+        return -1;
+    }
+
     /********************************************************************/
 
     public static double[] merge(double[] array1, double[] array2) {
@@ -0,0 +1,63 @@
+package org.jzy3d.maths;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link ConcurrentHistogram} accepts values added by several threads at
+ * the same time.
+ *
+ * Counts are striped: each thread increments its own copy of the bins,
+ * selected from its id, and reading a count sums all stripes. Stripes are
+ * padded so that threads incrementing different stripes do not write to the
+ * same cache line. Reads are not atomic with respect to concurrent adds, but
+ * never lose an increment.
+ */
+public class ConcurrentHistogram extends Histogram {
+    /** Number of longs separating two stripes, i.e. one 64 bytes cache line. */
+    protected static final int PADDING = 8;
+
+    public ConcurrentHistogram(float min, float max, int bins) {
+        this(min, max, bins, Parallel.AVAILABLE_PROCESSORS);
+    }
+
+    public ConcurrentHistogram(float min, float max, int bins, int stripes) {
+        super(min, max, bins);
+
+        int n = 1;
+        while (n < stripes)
+            n <<= 1;
+        this.stripeMask = n - 1;
+        this.stripeLength = bins + PADDING;
+        this.stripes = new AtomicLongArray(n * stripeLength);
+    }
+
+    @Override
+    protected void increment(int bin, long n) {
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        stripes.addAndGet(stripe * stripeLength + bin, n);
+    }
+
+    @Override
+    public long getLongCount(int bin) {
+        long sum = 0;
+        for (int s = 0; s <= stripeMask; s++)
+            sum += stripes.get(s * stripeLength + bin);
+        return sum;
+    }
+
+    /** Set a count. Must not be called while other threads add values. */
+    @Override
+    public void setCount(int bin, long value) {
+        for (int s = 1; s <= stripeMask; s++)
+            stripes.set(s * stripeLength + bin, 0);
+        stripes.set(bin, value);
+    }
+
+    public int getStripes() {
+        return stripeMask + 1;
+    }
+
+    protected final int stripeMask;
+    protected final int stripeLength;
+    protected final AtomicLongArray stripes;
+}
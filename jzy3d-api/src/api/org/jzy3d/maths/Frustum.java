@@ -0,0 +1,97 @@
+package org.jzy3d.maths;
+
+/**
+ * A {@link Frustum} holds the six clipping planes of a projection, extracted
+ * from a combined projection x modelview matrix stored in OpenGL column-major
+ * order. Planes are oriented toward the inside of the visible volume.
+ *
+ * Planes are expressed in the coordinate system the modelview matrix applies
+ * to, so that boxes of this system can be tested without being transformed.
+ */
+public class Frustum {
+    public static final int OUTSIDE = 0;
+    public static final int INTERSECT = 1;
+    public static final int INSIDE = 2;
+
+    /** Build a frustum out of a 4x4 column-major clip matrix. */
+    public Frustum(float[] clip) {
+        setMatrix(clip);
+    }
+
+    /** Build a frustum out of 4x4 column-major projection and modelview matrices. */
+    public Frustum(float[] projection, float[] modelview) {
+        setMatrix(multiply(projection, modelview));
+    }
+
+    /** Extract planes of a 4x4 column-major clip matrix (Gribb & Hartmann). */
+    public void setMatrix(float[] m) {
+        for (int i = 0; i < 4; i++) {
+            float row3 = m[i * 4 + 3];
+            planes[0 * 4 + i] = row3 + m[i * 4 + 0]; // left
+            planes[1 * 4 + i] = row3 - m[i * 4 + 0]; // right
+            planes[2 * 4 + i] = row3 + m[i * 4 + 1]; // bottom
+            planes[3 * 4 + i] = row3 - m[i * 4 + 1]; // top
+            planes[4 * 4 + i] = row3 + m[i * 4 + 2]; // near
+            planes[5 * 4 + i] = row3 - m[i * 4 + 2]; // far
+        }
+    }
+
+    /**
+     * Classify a box against this frustum, returning {@link #OUTSIDE},
+     * {@link #INSIDE} or {@link #INTERSECT}. The test is conservative: a box
+     * lying outside near a frustum corner may be reported as intersecting.
+     */
+    public int classify(float xmin, float xmax, float ymin, float ymax, float zmin, float zmax) {
+        int result = INSIDE;
+        for (int p = 0; p < 24; p += 4) {
+            float a = planes[p], b = planes[p + 1], c = planes[p + 2], d = planes[p + 3];
+
+            // the box corner the most in the direction of the plane normal
+            float px = a > 0 ? xmax : xmin;
+            float py = b > 0 ? ymax : ymin;
+            float pz = c > 0 ? zmax : zmin;
+            if (a * px + b * py + c * pz + d < 0)
+                return OUTSIDE;
+
+            // the opposite corner
+            float nx = a > 0 ? xmin : xmax;
+            float ny = b > 0 ? ymin : ymax;
+            float nz = c > 0 ? zmin : zmax;
+            if (a * nx + b * ny + c * nz + d < 0)
+                result = INTERSECT;
+        }
+        return result;
+    }
+
+    public int classify(BoundingBox3d box) {
+        return classify(box.getXmin(), box.getXmax(), box.getYmin(), box.getYmax(), box.getZmin(), box.getZmax());
+    }
+
+    public boolean intersect(BoundingBox3d box) {
+        return classify(box) != OUTSIDE;
+    }
+
+    public boolean contains(Coord3d c) {
+        return classify(c.x, c.x, c.y, c.y, c.z, c.z) != OUTSIDE;
+    }
+
+    /** Return the 24 plane coefficients (a,b,c,d) ordered left, right, bottom, top, near, far. */
+    public float[] getPlanes() {
+        return planes;
+    }
+
+    /** Multiply two 4x4 column-major matrices, returning a x b. */
+    public static float[] multiply(float[] a, float[] b) {
+        float[] out = new float[16];
+        for (int col = 0; col < 4; col++)
+            for (int row = 0; row < 4; row++) {
+                float sum = 0;
+                for (int k = 0; k < 4; k++)
+                    sum += a[k * 4 + row] * b[col * 4 + k];
+                out[col * 4 + row] = sum;
+            }
+        return out;
+    }
+
+    protected float[] planes = new float[24];
+}
@@ -119,10 +119,11 @@ public class GridLoader implements IColorMappable{
 			for(int j=0; j<this.y.length; j++)
 				this.z[i][j] = Float.NaN;
 		
-		// Fill Z matrix and set surface minimum and maximum
+		// Fill Z matrix and set surface minimum and maximum. Points given in grid 
+		// order are located in constant time, others by binary search
 		boolean found;
 		for(int p=0; p<z.length; p++){
-			found = find(this.x, this.y, x[p], y[p]);
+			found = findInGridOrder(p, x[p], y[p]) || find(this.x, this.y, x[p], y[p]);
 			assert found:"GridLoader: it seems (x[p],y[p]) has not been properly stored into (this.x,this.y)";
 			this.z[findxi][findyj] = z[p];
 			bbox.add(this.x[findxi], this.y[findyj], this.z[findxi][findyj] );
@@ -172,21 +173,37 @@ public class GridLoader implements IColorMappable{
 	    return result;
 	}
 	
-	/** Search in a couple of array a combination of values vx and vy.
+	/** Search in a couple of sorted array a combination of values vx and vy.
 	 * Positions xi and yi are returned by reference.
 	 * Function returns true if the couple of data may be retrieved,
 	 * false otherwise (in this case, xi and yj remain unchanged).
 	 */
 	private boolean find(float[] x, float[] y, float vx, float vy){
-
-		for(int i=0; i<x.length; i++)
-			for(int j=0; j<y.length; j++)
-				if(x[i]==vx && y[j]==vy){
-					findxi = i;
-					findyj = j;
-					return true;
-				}
-		return false;			
+		int i = Array.binarySearch(x, vx);
+		if(i==-1)
+			return false;
+		int j = Array.binarySearch(y, vy);
+		if(j==-1)
+			return false;
+		findxi = i;
+		findyj = j;
+		return true;
+	}
+	
+	/** Check if the p-th input point stands where it would be if input was
+	 * ordered as a complete grid, x major and y minor.
+	 */
+	private boolean findInGridOrder(int p, float vx, float vy){
+		if(y.length==0)
+			return false;
+		int i = p / y.length;
+		int j = p % y.length;
+		if(i<x.length && x[i]==vx && y[j]==vy){
+			findxi = i;
+			findyj = j;
+			return true;
+		}
+		return false;
 	}
 		
 	/**************************************************************************************/
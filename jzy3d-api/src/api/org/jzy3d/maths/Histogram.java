@@ -1,55 +1,139 @@
 package org.jzy3d.maths;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
+/**
+ * A {@link Histogram} counts values falling in bins of equal width between a
+ * min and a max value.
+ *
+ * The bin of a value is computed arithmetically and counts are stored in a
+ * long array, so adding a value costs the same whatever the number of bins.
+ * A value equal to a bin boundary is counted in the upper bin, except max
+ * which is counted in the last bin.
+ *
+ * A {@link Histogram} is not thread safe, except {@link #add(float[])} which
+ * splits its input among processors and merges partial counts in the calling
+ * thread. Use a {@link ConcurrentHistogram} to add values from several
+ * threads.
+ */
 public class Histogram {
-    protected Range[] ranges ;
-    protected Map<Range,Integer> data;
-    
-    public Histogram(float min, float max, int bins){
+    /** Number of values above which bulk adds run in parallel. */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    protected Range[] ranges;
+    protected long[] counts;
+    protected float min;
+    protected float max;
+    protected double scale;
+
+    public Histogram(float min, float max, int bins) {
         initBins(min, max, bins);
     }
 
     private void initBins(float min, float max, int bins) {
-        data = new HashMap<Range,Integer>(bins);
-        ranges = new Range[bins];
-        
-        
-        float step = (max-min)/bins;
-        float rmin = min;
-        for (int i = 0; i < bins - 1; i++) {
-            ranges[i] = new Range(rmin, rmin + step);
-            data.put(ranges[i], 0);
-            rmin = rmin + step;
-        }
-        ranges[bins-1] = new Range(rmin, max);
-        data.put(ranges[bins-1], 0);
+        if (bins <= 0)
+            throw new IllegalArgumentException("bins must be positive: " + bins);
+        if (!(max > min))
+            throw new IllegalArgumentException("max must be greater than min: " + min + " >= " + max);
+
+        this.min = min;
+        this.max = max;
+        this.scale = bins / ((double) max - min);
+        this.counts = new long[bins];
+        this.ranges = new Range[bins];
+
+        double step = ((double) max - min) / bins;
+        for (int i = 0; i < bins - 1; i++)
+            ranges[i] = new Range((float) (min + i * step), (float) (min + (i + 1) * step));
+        ranges[bins - 1] = new Range((float) (min + (bins - 1) * step), max);
     }
 
-    public void add(List<Float> values){
-        for(float v : values){
+    /* ADD */
+
+    public void add(List<Float> values) {
+        for (float v : values) {
             add(v);
         }
     }
-    
-    public void add(float value){
-        for(Entry<Range,Integer> e: data.entrySet()){
-            Range r = e.getKey();
-            if(r.isIn(value, true, true)){
-                e.setValue(e.getValue()+1);
-                return;
+
+    public void add(float value) {
+        increment(bin(value), 1);
+    }
+
+    /**
+     * Add all values, splitting the array among processors if it is large.
+     * Counts are only updated once all values were binned, so an illegal
+     * value leaves the histogram unchanged.
+     */
+    public void add(final float[] values) {
+        final int bins = counts.length;
+        int parallelism = Math.max(1, Math.min(Parallel.AVAILABLE_PROCESSORS, values.length / PARALLEL_THRESHOLD));
+        final long[][] partials = new long[parallelism][];
+        final int grain = (values.length + parallelism - 1) / parallelism;
+
+        Parallel.forRange(0, parallelism, parallelism, new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int p = from; p < to; p++) {
+                    long[] partial = new long[bins];
+                    int end = Math.min(values.length, (p + 1) * grain);
+                    for (int i = p * grain; i < end; i++)
+                        partial[bin(values[i])]++;
+                    partials[p] = partial;
+                }
             }
+        });
+
+        for (int b = 0; b < bins; b++) {
+            long sum = 0;
+            for (long[] partial : partials)
+                sum += partial[b];
+            if (sum != 0)
+                increment(b, sum);
+        }
+    }
+
+    /**
+     * Add counts of another histogram having the same min, max and number of
+     * bins, e.g. a partial histogram computed by another thread.
+     */
+    public void merge(Histogram other) {
+        if (other.min != min || other.max != max || other.counts.length != counts.length)
+            throw new IllegalArgumentException("can not merge histograms with different bins: [" + min + ";" + max + "]/" + counts.length + " and [" + other.min + ";" + other.max + "]/" + other.counts.length);
+        for (int b = 0; b < counts.length; b++) {
+            long c = other.getLongCount(b);
+            if (c != 0)
+                increment(b, c);
         }
-        illegalValueException(value);
+    }
+
+    /** Set all counts to 0. */
+    public void reset() {
+        for (int b = 0; b < counts.length; b++)
+            setCount(b, 0);
+    }
+
+    /**
+     * Return the bin of a value.
+     *
+     * @throws IllegalArgumentException
+     *             if the value is out of [min;max] or NaN.
+     */
+    public int bin(float value) {
+        if (!(value >= min && value <= max))
+            illegalValueException(value);
+        int b = (int) ((value - min) * scale);
+        return b < counts.length ? b : counts.length - 1;
+    }
+
+    protected void increment(int bin, long n) {
+        counts[bin] += n;
     }
 
     private void illegalValueException(float value) {
         StringBuilder sb = new StringBuilder();
         String m = "value could not be added to any pre-configured bin. "
-                + "Are you adding a value out of the min-max range you used to build " 
+                + "Are you adding a value out of the min-max range you used to build "
                 + Histogram.class.getSimpleName() + "?";
         sb.append(m + "\n");
         sb.append("min:" + ranges[0].getMin() + "\n");
@@ -57,30 +141,61 @@ public class Histogram {
         sb.append("value:" + value + "\n");
         throw new IllegalArgumentException(sb.toString());
     }
-    
+
+    /* COUNTS */
+
     public Range[] ranges(){
         return ranges;
     }
 
+    public int bins() {
+        return counts.length;
+    }
+
+    /** Return the count of a bin, saturated to {@link Integer#MAX_VALUE}. */
     public int getCount(int bin) {
-        return data.get(ranges[bin]);
+        return (int) Math.min(Integer.MAX_VALUE, getLongCount(bin));
+    }
+
+    public long getLongCount(int bin) {
+        return counts[bin];
     }
-    
+
     public void setCount(int bin, int value) {
-        data.put(ranges[bin], value);
+        setCount(bin, (long) value);
+    }
+
+    public void setCount(int bin, long value) {
+        counts[bin] = value;
+    }
+
+    /** Return a copy of all counts. */
+    public long[] getCounts() {
+        long[] out = new long[counts.length];
+        for (int b = 0; b < out.length; b++)
+            out[b] = getLongCount(b);
+        return out;
+    }
+
+    /** Return the number of values counted by all bins. */
+    public long getTotal() {
+        long total = 0;
+        for (int b = 0; b < counts.length; b++)
+            total += getLongCount(b);
+        return total;
     }
 
     public void console() {
         for (int i = 0; i < ranges.length; i++) {
-            System.out.println(ranges[i] + " : " + data.get(ranges[0]));
+            System.out.println(ranges[i] + " : " + getLongCount(i));
         }
     }
 
-    
+
     public int computeMaxCount() {
         int max = Integer.MIN_VALUE;
-        for(Entry<Range,Integer> e : data.entrySet()){
-            int v = e.getValue();
+        for (int b = 0; b < counts.length; b++) {
+            int v = getCount(b);
             if(v>max)
                 max = v;
         }
@@ -0,0 +1,98 @@
+package org.jzy3d.maths;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link Parallel} splits a range of indices into contiguous chunks that are
+ * processed concurrently on a shared {@link ForkJoinPool}.
+ *
+ * <pre>
+ * <code>
+ * Parallel.forRange(0, rows, parallelism, new Parallel.IRangeTask() {
+ *     public void run(int from, int to) {
+ *         for (int i = from; i &lt; to; i++)
+ *             process(i);
+ *     }
+ * });
+ * </code>
+ * </pre>
+ *
+ * Chunks never overlap, so a task writing only the indices it receives needs
+ * no synchronization. The call returns once all chunks are processed, and
+ * rethrows any {@link RuntimeException} thrown by a chunk.
+ */
+public class Parallel {
+    /** The number of available processors, a sensible default parallelism. */
+    public static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    /** A piece of work processing the indices in [from;to[ */
+    public interface IRangeTask {
+        public void run(int from, int to);
+    }
+
+    /**
+     * Process indices in [from;to[, split in at most parallelism chunks.
+     * The task runs in the calling thread if parallelism is lower than 2
+     * or if the range holds less than two indices.
+     */
+    public static void forRange(int from, int to, int parallelism, IRangeTask task) {
+        forRange(from, to, parallelism, 1, task);
+    }
+
+    /**
+     * Process indices in [from;to[, split in at most parallelism chunks made
+     * of at least minChunk indices each. The task runs in the calling thread
+     * if it would only make one chunk.
+     */
+    public static void forRange(int from, int to, int parallelism, int minChunk, IRangeTask task) {
+        int n = to - from;
+        int chunks = Math.min(parallelism, n / Math.max(minChunk, 1));
+
+        if (chunks < 2) {
+            if (n > 0)
+                task.run(from, to);
+            return;
+        }
+        int grain = (n + chunks - 1) / chunks;
+        getPool().invoke(new RangeAction(task, from, to, grain));
+    }
+
+    /** Return the pool shared by all parallel computations of the library. */
+    public static synchronized ForkJoinPool getPool() {
+        if (pool == null)
+            pool = new ForkJoinPool(AVAILABLE_PROCESSORS);
+        return pool;
+    }
+
+    /* */
+
+    protected static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 3468524734583513240L;
+
+        public RangeAction(IRangeTask task, int from, int to, int grain) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                task.run(from, to);
+            } else {
+                // split on a grain boundary to keep chunks even
+                int mid = from + grain * (((to - from) / grain + 1) / 2);
+                invokeAll(new RangeAction(task, from, mid, grain), new RangeAction(task, mid, to, grain));
+            }
+        }
+
+        protected IRangeTask task;
+        protected int from;
+        protected int to;
+        protected int grain;
+    }
+
+    protected static ForkJoinPool pool;
+}
@@ -39,6 +39,21 @@ public class Histogram2d {
         this.drawable = buildDrawable(model);
     }
 
+    /**
+     * Update bar heights with current counts of the model, e.g. after more
+     * values were added to it, without rebuilding the drawable.
+     */
+    public void update() {
+        for (int i = 0; i < model.bins(); i++) {
+            Polygon p = (Polygon) drawable.get(i);
+            int count = model.getCount(i);
+            p.get(1).xyz.y = count;
+            p.get(2).xyz.y = count;
+            p.invalidateBounds();
+        }
+        drawable.invalidateBounds();
+    }
+
     public Histogram getModel() {
         return model;
     }
@@ -50,7 +65,7 @@ public class Histogram2d {
     protected AbstractComposite buildDrawable(Histogram model){
         AbstractComposite c = new AbstractComposite() {
         };
-        for (int i = 0; i < model.ranges().length; i++) {
+        for (int i = 0; i < model.bins(); i++) {
             Range range = model.ranges()[i];
             int count = model.getCount(i);
             
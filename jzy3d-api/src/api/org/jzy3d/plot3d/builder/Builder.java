@@ -14,6 +14,8 @@ import org.jzy3d.plot3d.builder.concrete.OrthonormalTessellatorLog;
 import org.jzy3d.plot3d.builder.concrete.RingTessellator;
 import org.jzy3d.plot3d.builder.delaunay.DelaunayTessellator;
 import org.jzy3d.plot3d.primitives.CompileableComposite;
+import org.jzy3d.plot3d.primitives.GridSurface;
+import org.jzy3d.plot3d.primitives.Polygon;
 import org.jzy3d.plot3d.primitives.Shape;
 import org.jzy3d.plot3d.transform.space.SpaceTransformer;
 
@@ -27,6 +29,16 @@ public class Builder {
 		OrthonormalTessellator tesselator = new OrthonormalTessellator();
 		return (Shape) tesselator.build(grid.apply(mapper));
 	}
+    
+    /**
+     * Build a surface while evaluating the mapper on the grid with the given number
+     * of threads, whatever the parallelism of the mapper, which is left unchanged.
+     * The mapper must be a pure function, see {@link Mapper#setParallelism(int)}.
+     */
+    public static Shape buildOrthonormal(OrthonormalGrid grid, Mapper mapper, int parallelism) {
+        OrthonormalTessellator tesselator = new OrthonormalTessellator();
+        return (Shape) tesselator.build(grid.apply(mapper, parallelism));
+    }
 	
 	public static Shape buildRing(OrthonormalGrid grid, Mapper mapper, float ringMin, float ringMax) {
         RingTessellator tesselator = new RingTessellator(ringMin, ringMax, new ColorMapper(new ColorMapRainbow(), 0, 1), Color.BLACK);
@@ -42,6 +54,16 @@ public class Builder {
 	    DelaunayTessellator tesselator = new DelaunayTessellator();
 	    return (Shape) tesselator.build(coordinates);
     }
+
+	/**
+	 * Build a Delaunay surface while triangulating the coordinates with the
+	 * given number of threads, see {@link DelaunayTessellator#setParallelism(int)}.
+	 */
+	public static Shape buildDelaunay(List<Coord3d> coordinates, int parallelism) {
+	    DelaunayTessellator tesselator = new DelaunayTessellator();
+	    tesselator.setParallelism(parallelism);
+	    return (Shape) tesselator.build(coordinates);
+	}
 		
 	/* BIG SURFACE */
 	
@@ -69,6 +91,21 @@ public class Builder {
         return sls;
     }
     
+    /* COMPACT SURFACE */
+    
+    public static GridSurface buildOrthonormalCompact(Mapper mapper, Range range, int steps) {
+        return buildOrthonormalCompact(new OrthonormalGrid(range, steps, range, steps), mapper);
+    }
+    
+    /**
+     * Build a surface storing its vertices in primitive arrays instead of
+     * one {@link Polygon} per grid cell, which is suitable for very large
+     * opaque surfaces.
+     */
+    public static GridSurface buildOrthonormalCompact(OrthonormalGrid grid, Mapper mapper) {
+        return new GridSurface(grid.getXTicks(), grid.getYTicks(), grid.applyAsFloat(mapper));
+    }
+    
     /* LOG */
     
     public static Shape buildOrthonormalLog(OrthonormalGrid grid, Mapper mapper, SpaceTransformer transformers) {
@@ -0,0 +1,111 @@
+package org.jzy3d.plot3d.builder;
+
+import org.jzy3d.maths.Parallel;
+import org.jzy3d.maths.Range;
+
+/**
+ * The values of a {@link Mapper} evaluated on a regular grid of xsteps*ysteps points
+ * covering the x and y ranges, bounds included.
+ *
+ * Values are stored x major, y minor, with increasing x and y: <code>getValues()[xi][yi]</code>
+ * holds f(xmin + xi*xstep, ymin + yi*ystep). A height field is shared by all users of a
+ * {@link HeightFieldCache} and must not be modified.
+ */
+public class HeightField {
+	/**
+	 * Evaluate the mapper on the grid, columns of the grid being evaluated concurrently
+	 * according to {@link Mapper#getParallelism()}.
+	 */
+	public static HeightField compute(Mapper mapper, Range xrange, int xsteps, Range yrange, int ysteps) {
+		return compute(mapper, xrange, xsteps, yrange, ysteps, mapper.getParallelism());
+	}
+
+	/** Evaluate the mapper on the grid, columns of the grid being evaluated by the given number of threads. */
+	public static HeightField compute(final Mapper mapper, final Range xrange, final int xsteps, final Range yrange, final int ysteps, int parallelism) {
+		final double xstep = xrange.getRange() / (double) (xsteps - 1);
+		final double ystep = yrange.getRange() / (double) (ysteps - 1);
+		final double[][] values = new double[xsteps][ysteps];
+		final double[] mins = new double[xsteps];
+		final double[] maxs = new double[xsteps];
+
+		Parallel.forRange(0, xsteps, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for (int xi = from; xi < to; xi++) {
+					double[] column = values[xi];
+					double x = xrange.getMin() + xi * xstep;
+					double min = Double.MAX_VALUE;
+					double max = -Double.MAX_VALUE;
+					for (int yi = 0; yi < ysteps; yi++) {
+						double value = mapper.f(x, yrange.getMin() + yi * ystep);
+						column[yi] = value;
+						if (value < min)
+							min = value;
+						if (value > max)
+							max = value;
+					}
+					mins[xi] = min;
+					maxs[xi] = max;
+				}
+			}
+		});
+
+		double min = Double.MAX_VALUE;
+		double max = -Double.MAX_VALUE;
+		for (int xi = 0; xi < xsteps; xi++) {
+			min = Math.min(min, mins[xi]);
+			max = Math.max(max, maxs[xi]);
+		}
+		// ranges are mutable
+		return new HeightField(new Range(xrange.getMin(), xrange.getMax()), new Range(yrange.getMin(), yrange.getMax()), values, min, max);
+	}
+
+	public HeightField(Range xrange, Range yrange, double[][] values, double min, double max) {
+		this.xrange = xrange;
+		this.yrange = yrange;
+		this.values = values;
+		this.min = min;
+		this.max = max;
+	}
+
+	public double getZ(int xi, int yi) {
+		return values[xi][yi];
+	}
+
+	/** Return the values, that should be read only. */
+	public double[][] getValues() {
+		return values;
+	}
+
+	public int getXSteps() {
+		return values.length;
+	}
+
+	public int getYSteps() {
+		return values.length > 0 ? values[0].length : 0;
+	}
+
+	public Range getXRange() {
+		return xrange;
+	}
+
+	public Range getYRange() {
+		return yrange;
+	}
+
+	/** Return the minimum value, ignoring NaN values. */
+	public double getMin() {
+		return min;
+	}
+
+	/** Return the maximum value, ignoring NaN values. */
+	public double getMax() {
+		return max;
+	}
+
+	protected Range xrange;
+	protected Range yrange;
+	protected double[][] values;
+	protected double min;
+	protected double max;
+}
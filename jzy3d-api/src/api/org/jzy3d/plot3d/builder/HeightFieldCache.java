@@ -0,0 +1,165 @@
+package org.jzy3d.plot3d.builder;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jzy3d.maths.Range;
+
+/**
+ * Keeps the {@link HeightField}s recently computed for a {@link Mapper}, a grid range and
+ * resolution, so that surface builders and contour generators evaluating the same mapper
+ * on the same grid only evaluate it once. Caching is opt-in: a cache is only used by the
+ * grids and contour generators it was given to.
+ *
+ * Mappers are identified by reference: a mapper whose function changes must be
+ * {@link #invalidate(Mapper)}d, as done in the shared cache by
+ * {@link SingleParameterMapper#setParam(double)}. Mappers are weakly referenced, so
+ * that a cache does not keep them, or the data they refer to, alive.
+ * The least recently used fields are dropped once the capacity is reached, and fields
+ * are softly referenced so that they can be reclaimed when memory runs low.
+ *
+ * Methods are thread safe. Two threads missing the same field at the same time may
+ * both compute it.
+ */
+public class HeightFieldCache {
+	public static int DEFAULT_CAPACITY = 4;
+
+	/** Return a cache that builders and contour generators may share. */
+	public static synchronized HeightFieldCache getShared() {
+		if (shared == null)
+			shared = new HeightFieldCache(DEFAULT_CAPACITY);
+		return shared;
+	}
+
+	public HeightFieldCache(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Return the height field of the mapper on the given grid, computing it if it is not
+	 * in the cache.
+	 */
+	public HeightField get(Mapper mapper, Range xrange, int xsteps, Range yrange, int ysteps) {
+		return get(mapper, xrange, xsteps, yrange, ysteps, mapper.getParallelism());
+	}
+
+	/** Same as {@link #get(Mapper, Range, int, Range, int)}, computing a missing field with the given number of threads. */
+	public HeightField get(Mapper mapper, Range xrange, int xsteps, Range yrange, int ysteps, int parallelism) {
+		Key key = new Key(mapper, xrange, xsteps, yrange, ysteps);
+		synchronized (this) {
+			SoftReference<HeightField> ref = fields.get(key);
+			HeightField field = ref != null ? ref.get() : null;
+			if (field != null) {
+				hits++;
+				return field;
+			}
+			misses++;
+		}
+		HeightField field = HeightField.compute(mapper, xrange, xsteps, yrange, ysteps, parallelism);
+		synchronized (this) {
+			fields.put(key, new SoftReference<HeightField>(field));
+		}
+		return field;
+	}
+
+	/** Drop all fields computed with the mapper. */
+	public synchronized void invalidate(Mapper mapper) {
+		Iterator<Key> it = fields.keySet().iterator();
+		while (it.hasNext()) {
+			if (it.next().mapper.get() == mapper)
+				it.remove();
+		}
+	}
+
+	public synchronized void clear() {
+		fields.clear();
+	}
+
+	public synchronized int size() {
+		return fields.size();
+	}
+
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	public synchronized void setCapacity(int capacity) {
+		this.capacity = capacity;
+		Iterator<Key> it = fields.keySet().iterator();
+		while (fields.size() > capacity && it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+
+	/** Return the number of queries answered from the cache. */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/** Return the number of queries that required evaluating a mapper. */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/* */
+
+	protected static class Key {
+		public Key(Mapper mapper, Range xrange, int xsteps, Range yrange, int ysteps) {
+			this.mapper = new WeakReference<Mapper>(mapper);
+			this.hash = System.identityHashCode(mapper);
+			this.xmin = xrange.getMin();
+			this.xmax = xrange.getMax();
+			this.ymin = yrange.getMin();
+			this.ymax = yrange.getMax();
+			this.xsteps = xsteps;
+			this.ysteps = ysteps;
+		}
+
+		@Override
+		public int hashCode() {
+			int h = hash;
+			h = 31 * h + Float.floatToIntBits(xmin);
+			h = 31 * h + Float.floatToIntBits(xmax);
+			h = 31 * h + Float.floatToIntBits(ymin);
+			h = 31 * h + Float.floatToIntBits(ymax);
+			h = 31 * h + xsteps;
+			return 31 * h + ysteps;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key k = (Key) obj;
+			Mapper m = mapper.get();
+			return m != null && m == k.mapper.get() && xsteps == k.xsteps && ysteps == k.ysteps
+					&& Float.floatToIntBits(xmin) == Float.floatToIntBits(k.xmin)
+					&& Float.floatToIntBits(xmax) == Float.floatToIntBits(k.xmax)
+					&& Float.floatToIntBits(ymin) == Float.floatToIntBits(k.ymin)
+					&& Float.floatToIntBits(ymax) == Float.floatToIntBits(k.ymax);
+		}
+
+		protected final WeakReference<Mapper> mapper;
+		protected final int hash;
+		protected final float xmin, xmax, ymin, ymax;
+		protected final int xsteps, ysteps;
+	}
+
+	protected int capacity;
+	protected long hits;
+	protected long misses;
+	protected Map<Key, SoftReference<HeightField>> fields = new LinkedHashMap<Key, SoftReference<HeightField>>(16, 0.75f, true) {
+		private static final long serialVersionUID = -3402127632283611347L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<HeightField>> eldest) {
+			return size() > capacity;
+		}
+	};
+
+	protected static HeightFieldCache shared;
+}
@@ -3,11 +3,20 @@ package org.jzy3d.plot3d.builder;
 import java.util.List;
 
 import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Parallel;
 import org.jzy3d.plot3d.primitives.AbstractComposite;
 import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.GridSurface;
 import org.jzy3d.plot3d.primitives.Point;
 import org.jzy3d.plot3d.primitives.Polygon;
 
+/**
+ * A {@link Mapper} defines a function z=f(x,y) that may be evaluated on a {@link Grid}
+ * to build a surface.
+ * 
+ * Evaluation of batch methods and grids may be split across several threads, see
+ * {@link #setParallelism(int)}. In that case f(x,y) must be a pure function.
+ */
 public abstract class Mapper {
 	public abstract double f(double x, double y);
 	
@@ -20,6 +29,7 @@ public abstract class Mapper {
 		for(AbstractDrawable d: polygons){
 			remapDrawable(d);
 		}
+		shape.invalidateBounds();
 	}
 
 	public void remapDrawable(AbstractDrawable d) {
@@ -35,53 +45,126 @@ public abstract class Mapper {
 			Coord3d c = pt.xyz;
 			c.z = (float) f(c.x, c.y);
 		}
+		p.invalidateBounds();
+	}
+
+	/**
+	 * Update the surface by remapping its vertices' z coordinate
+	 * according to f(x,y)
+	 */
+	public void remap(GridSurface surface){
+		final float[] x = surface.getX();
+		final float[] y = surface.getY();
+		final float[] z = surface.getZ();
+		Parallel.forRange(0, z.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = (float) f(x[i], y[i]);
+			}
+		});
+		surface.setZ(z);
 	}
 	
-	public double[] f(double[] x, double[] y){
-		double[] z = new double[x.length];
+	public double[] f(final double[] x, final double[] y){
+		final double[] z = new double[x.length];
 		
-		for(int i=0; i<x.length; i++)
-			z[i] = f(x[i], y[i]);
+		Parallel.forRange(0, x.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = f(x[i], y[i]);
+			}
+		});
 		return z;
 	}
 	
-	public double[] f(double[][] xy){
-		double[] z = new double[xy.length];
+	public double[] f(final double[][] xy){
+		final double[] z = new double[xy.length];
 		
-		for(int i=0; i<xy.length; i++)
-			z[i] = f(xy[i][0], xy[i][1]);
+		Parallel.forRange(0, xy.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = f(xy[i][0], xy[i][1]);
+			}
+		});
 		return z;
 	}
 
-	public float[] fAsFloat(double[] x, double[] y){
-		float[] z = new float[x.length];
+	public float[] fAsFloat(final double[] x, final double[] y){
+		final float[] z = new float[x.length];
 		
-		for(int i=0; i<x.length; i++)
-			z[i] = (float)f(x[i], y[i]);
+		Parallel.forRange(0, x.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = (float)f(x[i], y[i]);
+			}
+		});
 		return z;
 	}
 
-	public float[] fAsFloat(float[] x, float[] y){
-		float[] z = new float[x.length];
+	public float[] fAsFloat(final float[] x, final float[] y){
+		final float[] z = new float[x.length];
 		
-		for(int i=0; i<x.length; i++)
-			z[i] = (float)f(x[i], y[i]);
+		Parallel.forRange(0, x.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = (float)f(x[i], y[i]);
+			}
+		});
 		return z;
 	}
 
-	public float[] fAsFloat(double[][] xy){
-		float[] z = new float[xy.length];
+	public float[] fAsFloat(final double[][] xy){
+		final float[] z = new float[xy.length];
 		
-		for(int i=0; i<xy.length; i++)
-			z[i] = (float)f(xy[i][0], xy[i][1]);
+		Parallel.forRange(0, xy.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = (float)f(xy[i][0], xy[i][1]);
+			}
+		});
 		return z;
 	}
 	
-	public float[] fAsFloat(float[][] xy){
-		float[] z = new float[xy.length];
+	public float[] fAsFloat(final float[][] xy){
+		final float[] z = new float[xy.length];
 		
-		for(int i=0; i<xy.length; i++)
-			z[i] = (float)f(xy[i][0], xy[i][1]);
+		Parallel.forRange(0, xy.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					z[i] = (float)f(xy[i][0], xy[i][1]);
+			}
+		});
 		return z;
 	}
+	
+	/* */
+	
+	/** Return the number of threads that may evaluate this mapper concurrently.*/
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Set the number of threads that may evaluate this mapper concurrently in batch
+	 * methods and grids (e.g. {@link org.jzy3d.plot3d.builder.concrete.OrthonormalGrid}).
+	 * Default value is 1, meaning all evaluations occur in the caller thread.
+	 * 
+	 * A value greater than 1 requires {@link #f(double, double)} to be a pure function:
+	 * its result should only depend on x and y, and it should not modify any state
+	 * shared between calls.
+	 * 
+	 * @see Parallel#AVAILABLE_PROCESSORS
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+	
+	protected int parallelism = 1;
 }
@@ -12,8 +12,10 @@ public abstract class SingleParameterMapper extends Mapper{
 		this.p = p;
 	}
 	
+	/** Change the parameter, and drop the height fields cached for the former value.*/
 	public void setParam(double p){
 		this.p = p;
+		HeightFieldCache.getShared().invalidate(this);
 	}
 	
 	public double getParam(){
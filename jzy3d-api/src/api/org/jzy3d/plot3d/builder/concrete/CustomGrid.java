@@ -1,9 +1,11 @@
 package org.jzy3d.plot3d.builder.concrete;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Parallel;
 import org.jzy3d.plot3d.builder.Grid;
 import org.jzy3d.plot3d.builder.Mapper;
 
@@ -15,12 +17,19 @@ public class CustomGrid extends Grid {
 		this.coordinates = coordinates;
 	}
 	
+	/** Evaluate the mapper on each coordinate. Coordinates are evaluated
+	 * concurrently if the mapper parallelism is greater than 1.*/
 	@Override
-	public List<Coord3d> apply(Mapper mapper) {
-		List<Coord3d> output = new ArrayList<Coord3d>(coordinates.length);
-		for(int i=0; i<coordinates.length; i++)
-			output.add( new Coord3d(coordinates[i][0], coordinates[i][1], mapper.f(coordinates[i][0], coordinates[i][1]) ) );
-		return output;
+	public List<Coord3d> apply(final Mapper mapper) {
+		final Coord3d[] output = new Coord3d[coordinates.length];
+		Parallel.forRange(0, coordinates.length, mapper.getParallelism(), new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for(int i=from; i<to; i++)
+					output[i] = new Coord3d(coordinates[i][0], coordinates[i][1], mapper.f(coordinates[i][0], coordinates[i][1]) );
+			}
+		});
+		return new ArrayList<Coord3d>(Arrays.asList(output));
 	}
 
 	protected double[][] coordinates;
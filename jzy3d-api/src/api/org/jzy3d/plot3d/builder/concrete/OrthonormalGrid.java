@@ -1,11 +1,15 @@
 package org.jzy3d.plot3d.builder.concrete;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Parallel;
 import org.jzy3d.maths.Range;
 import org.jzy3d.plot3d.builder.Grid;
+import org.jzy3d.plot3d.builder.HeightField;
+import org.jzy3d.plot3d.builder.HeightFieldCache;
 import org.jzy3d.plot3d.builder.Mapper;
 
 
@@ -19,23 +23,100 @@ public class OrthonormalGrid extends Grid{
 		super(xrange, xsteps, yrange, ysteps);
 	}
 	
+	/** Evaluate the mapper on the grid, x major and y minor. Columns of the grid
+	 * are evaluated concurrently if the mapper parallelism is greater than 1.
+	 * Values are read from the height field cache of the grid, if any.*/
 	@Override
     public List<Coord3d> apply(Mapper mapper) {
-        double xstep = xrange.getRange() / (double)(xsteps-1);
-        double ystep = yrange.getRange() / (double)(ysteps-1);
+        return apply(mapper, mapper.getParallelism());
+    }
+	
+	/** Evaluate the mapper on the grid with the given number of threads, whatever
+	 * the parallelism of the mapper.*/
+	public List<Coord3d> apply(final Mapper mapper, int parallelism) {
+        final double xstep = xrange.getRange() / (double)(xsteps-1);
+        final double ystep = yrange.getRange() / (double)(ysteps-1);
+        final double[][] values = heightField(mapper, parallelism).getValues();
        
-        List<Coord3d> output = new ArrayList<Coord3d>(xsteps*ysteps);
+        final Coord3d[] output = new Coord3d[xsteps*ysteps];
 
-        for(int xi=0; xi<xsteps; xi++){
-            for(int yi=0; yi<ysteps; yi++){
-                double x = xrange.getMin() + xi * xstep;
-                double y = yrange.getMin() + yi * ystep;
-                output.add( new Coord3d(x, y, mapper.f(x, y) ) );
+        Parallel.forRange(0, xsteps, parallelism, new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for(int xi=from; xi<to; xi++){
+                    for(int yi=0; yi<ysteps; yi++){
+                        double x = xrange.getMin() + xi * xstep;
+                        double y = yrange.getMin() + yi * ystep;
+                        output[xi*ysteps+yi] = new Coord3d(x, y, values[xi][yi]);
+                    }
+                }
             }
-        }
-        return output;
+        });
+        return new ArrayList<Coord3d>(Arrays.asList(output));
     }
 	
+	/** Evaluate the mapper on the grid and return z values only, in the
+	 * same order than {@link #apply(Mapper)}: x major, y minor.*/
+	public float[] applyAsFloat(Mapper mapper) {
+	    return applyAsFloat(mapper, mapper.getParallelism());
+	}
+	
+	/** Same as {@link #applyAsFloat(Mapper)} with the given number of threads.*/
+	public float[] applyAsFloat(final Mapper mapper, int parallelism) {
+	    final double[][] values = heightField(mapper, parallelism).getValues();
+	    final float[] output = new float[xsteps*ysteps];
+	    
+	    Parallel.forRange(0, xsteps, parallelism, new Parallel.IRangeTask() {
+	        @Override
+	        public void run(int from, int to) {
+	            for(int xi=from; xi<to; xi++){
+	                for(int yi=0; yi<ysteps; yi++)
+	                    output[xi*ysteps+yi] = (float) values[xi][yi];
+	            }
+	        }
+	    });
+	    return output;
+	}
+	
+	/** Evaluate the mapper, or read its values from the cache if one was given.*/
+	protected HeightField heightField(Mapper mapper, int parallelism) {
+	    if (heightFieldCache != null)
+	        return heightFieldCache.get(mapper, xrange, xsteps, yrange, ysteps, parallelism);
+	    return HeightField.compute(mapper, xrange, xsteps, yrange, ysteps, parallelism);
+	}
+	
+	public HeightFieldCache getHeightFieldCache() {
+	    return heightFieldCache;
+	}
+	
+	/** Share mapper values with contour generators and other grids using the same
+	 * cache, e.g. {@link HeightFieldCache#getShared()}. Mappers are then identified
+	 * by reference, so a mapper whose function changes must be invalidated. No cache
+	 * is used by default, and the mapper is evaluated at each application.*/
+	public void setHeightFieldCache(HeightFieldCache heightFieldCache) {
+	    this.heightFieldCache = heightFieldCache;
+	}
+	
+	/** Return the x value of each grid column, as used by {@link #apply(Mapper)}.*/
+	public float[] getXTicks() {
+	    return ticks(xrange, xsteps);
+	}
+	
+	/** Return the y value of each grid row, as used by {@link #apply(Mapper)}.*/
+	public float[] getYTicks() {
+	    return ticks(yrange, ysteps);
+	}
+	
+	protected float[] ticks(Range range, int steps) {
+	    double step = range.getRange() / (double)(steps-1);
+	    float[] ticks = new float[steps];
+	    for(int i=0; i<steps; i++)
+	        ticks[i] = (float)(range.getMin() + i * step);
+	    return ticks;
+	}
+	
+	protected HeightFieldCache heightFieldCache;
+	
 	/* The former method that implied an ever centered surface.
 	  
 	public List<Coord3d> apply(Mapper mapper) {
@@ -12,6 +12,7 @@ import org.jzy3d.maths.Coord3d;
 import org.jzy3d.plot3d.builder.Tessellator;
 import org.jzy3d.plot3d.primitives.AbstractComposite;
 import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.GridSurface;
 import org.jzy3d.plot3d.primitives.Point;
 import org.jzy3d.plot3d.primitives.Polygon;
 import org.jzy3d.plot3d.primitives.Shape;
@@ -55,7 +56,18 @@ public class OrthonormalTessellator extends Tessellator{
 		s.add(getSquarePolygonsOnCoordinates());
 		return s;
 	}
-	
+
+	/** Build a {@link GridSurface} holding the same cells than the {@link Shape}
+	 * returned by {@link #build(float[], float[], float[])}, without creating one
+	 * {@link Polygon} per cell.*/
+	public GridSurface buildCompact(float[] x, float[] y, float[] z) {
+	    setData(x, y, z);
+	    float[] zflat = new float[this.x.length*this.y.length];
+	    for(int xi=0; xi<this.x.length; xi++)
+	        System.arraycopy(this.z[xi], 0, zflat, xi*this.y.length, this.y.length);
+	    return new GridSurface(this.x, this.y, zflat);
+	}
+
 	/************************************************************************************************/
 
 	/** Set the array of data. X,Y, and Z are arrays that must implicitely
@@ -99,15 +111,34 @@ public class OrthonormalTessellator extends Tessellator{
 			for(int j=0; j<this.y.length; j++)
 				this.z[i][j] = Float.NaN;
 		
-		// Fill Z matrix and set surface minimum and maximum
+		// Fill Z matrix. Points given in grid order (e.g. by OrthonormalGrid) are
+		// located in constant time, others by binary search in unique arrays
 		boolean found;
 		for(int p=0; p<z.length; p++){
-			found = find(this.x, this.y, x[p], y[p]);
+			found = findInGridOrder(p, x[p], y[p]) || find(this.x, this.y, x[p], y[p]);
 			if(!found)
 				throw new RuntimeException("it seems (x[p],y[p]) has not been properly stored into (this.x,this.y)");
 			this.z[findxi][findyj] = z[p];
 		}
 	}
+
+	/** Check if the p-th input point stands where it would be if input was
+	 * ordered as a complete grid, x major and y minor, as generated by
+	 * {@link OrthonormalGrid#apply(org.jzy3d.plot3d.builder.Mapper)}.
+	 * Positions xi and yi are returned by reference as in {@link #find(float[], float[], float, float)}.
+	 */
+	protected boolean findInGridOrder(int p, float vx, float vy) {
+	    if(y.length==0)
+	        return false;
+	    int xi = p / y.length;
+	    int yj = p % y.length;
+	    if(xi < x.length && x[xi] == vx && y[yj] == vy){
+	        findxi = xi;
+	        findyj = yj;
+	        return true;
+	    }
+	    return false;
+	}
 	
 	/** Compute a sorted array from input, with a unique occurrence of each value.
 	 * Note: any NaN value will be ignored and won't appear in the output array.
@@ -149,25 +180,16 @@ public class OrthonormalTessellator extends Tessellator{
 	    return result;
 	}
 	
-	/** Search in a couple of array a combination of values vx and vy.
+	/** Search in a couple of sorted array a combination of values vx and vy.
 	 * Positions xi and yi are returned by reference.
 	 * Function returns true if the couple of data may be retrieved,
 	 * false otherwise (in this case, xi and yj remain unchanged).
 	 */
 	protected boolean find(float[] x, float[] y, float vx, float vy) {
-        int xi = -1, yj = -1;
-        for (int i = 0; i < x.length; i++) {
-            if (x[i] == vx) {
-                xi = i;
-            }
-        }
+        int xi = Array.binarySearch(x, vx);
         if(xi == -1)
             return false;
-        for (int j = 0; j < y.length; j++) {
-            if (y[j] == vy) {
-                yj = j;
-            }
-        }
+        int yj = Array.binarySearch(y, vy);
         if(yj == -1)
             return false;
         findxi = xi;
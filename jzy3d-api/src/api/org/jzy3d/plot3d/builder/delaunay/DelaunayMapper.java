@@ -0,0 +1,57 @@
+package org.jzy3d.plot3d.builder.delaunay;
+
+import il.ac.idc.jdt.DelaunayTriangulation;
+import il.ac.idc.jdt.PointLocator;
+
+import org.jzy3d.plot3d.builder.Mapper;
+
+/**
+ * A {@link Mapper} interpolating z=f(x,y) on the triangles of a {@link DelaunayTriangulation},
+ * e.g. to resample a triangulated terrain on a regular grid.
+ * 
+ * Each thread evaluating the mapper keeps its own {@link PointLocator}, walking from the
+ * triangle of its previous query, so the mapper may be used with a parallelism greater than 1.
+ * Points outside of the triangulation are mapped to NaN. The triangulation must not be
+ * modified while the mapper is in use.
+ */
+public class DelaunayMapper extends Mapper {
+    public DelaunayMapper(final DelaunayTriangulation triangulation) {
+        this.triangulation = triangulation;
+        if (!triangulation.isIndexed() && triangulation.size() > 2)
+            triangulation.indexData();
+        this.locators = new ThreadLocal<PointLocator>() {
+            @Override
+            protected PointLocator initialValue() {
+                return new PointLocator(triangulation);
+            }
+        };
+    }
+
+    @Override
+    public double f(double x, double y) {
+        return locators.get().z(x, y);
+    }
+
+    @Override
+    public double[] f(double[] x, double[] y) {
+        double[] z = new double[x.length];
+        triangulation.z(x, y, z, parallelism);
+        return z;
+    }
+
+    @Override
+    public float[] fAsFloat(double[] x, double[] y) {
+        double[] z = f(x, y);
+        float[] zf = new float[z.length];
+        for (int i = 0; i < z.length; i++)
+            zf[i] = (float) z[i];
+        return zf;
+    }
+
+    public DelaunayTriangulation getTriangulation() {
+        return triangulation;
+    }
+
+    protected DelaunayTriangulation triangulation;
+    protected ThreadLocal<PointLocator> locators;
+}
@@ -0,0 +1,334 @@
+package org.jzy3d.plot3d.builder.delaunay;
+
+import il.ac.idc.jdt.DelaunayTriangulation;
+import il.ac.idc.jdt.Point;
+import il.ac.idc.jdt.Triangle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jzy3d.events.DrawableChangedEvent;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.Polygon;
+import org.jzy3d.plot3d.primitives.Shape;
+
+/**
+ * A {@link Shape} made of the triangles of a {@link DelaunayTriangulation}, that
+ * follows points inserted in or deleted from the triangulation without being rebuilt.
+ *
+ * After each edit, only the polygons of the triangles replaced by the triangulation
+ * are removed, and polygons are created for the new triangles, styled and colored as
+ * the rest of the shape. Polygons are stored by their triangle, so that removing one
+ * is a constant time operation. Bounds are extended as polygons are added, and only
+ * computed again when a removed polygon touched them.
+ *
+ * Polygons are not kept in any particular order. The triangulation must only be edited
+ * through this shape.
+ */
+public class DelaunaySurface extends Shape {
+    /** An empty surface. */
+    public DelaunaySurface() {
+        this(new DelaunayTriangulation());
+    }
+
+    /** A surface showing the current triangles of the given triangulation. */
+    public DelaunaySurface(DelaunayTriangulation triangulation) {
+        super();
+        this.triangulation = triangulation;
+        rebuild();
+    }
+
+    public DelaunayTriangulation getTriangulation() {
+        return triangulation;
+    }
+
+    /* EDITION */
+
+    /** Insert a point and patch the polygons around it. */
+    public void insertPoint(Coord3d coord) {
+        synchronized (components) {
+            insert(JDTConverter.toJdtPoint(coord));
+        }
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+    }
+
+    /** Insert points one after the other, notifying listeners once. */
+    public void insertPoints(List<Coord3d> coords) {
+        synchronized (components) {
+            for (Coord3d coord : coords)
+                insert(JDTConverter.toJdtPoint(coord));
+        }
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+    }
+
+    /**
+     * Delete the vertex at the given x,y coordinates and patch the polygons around it.
+     * As for {@link DelaunayTriangulation#deletePoint(Point)}, vertices of the convex
+     * hull can not be deleted.
+     *
+     * @return true if a vertex was deleted
+     */
+    public boolean deletePoint(Coord3d coord) {
+        boolean deleted;
+        synchronized (components) {
+            deleted = delete(JDTConverter.toJdtPoint(coord));
+        }
+        if (deleted)
+            fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+        return deleted;
+    }
+
+    /** Create the polygons of all triangles again. */
+    public void rebuild() {
+        synchronized (components) {
+            rebuildContent();
+        }
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+    }
+
+    protected void insert(Point p) {
+        int size = triangulation.size();
+        triangulation.insertPoint(p);
+        if (triangulation.size() == size)
+            return; // duplicate
+
+        // triangles of the first non collinear points are not reported
+        if (slots.isEmpty()) {
+            rebuildContent();
+            return;
+        }
+
+        List<Triangle> updated = new ArrayList<Triangle>();
+        Iterator<Triangle> it = triangulation.getLastUpdatedTriangles();
+        while (it.hasNext()) {
+            Triangle t = it.next();
+            if (!t.isHalfplane())
+                updated.add(t);
+        }
+
+        // replaced triangles lie in the area covered by the updated ones, and
+        // have their vertices on its border
+        Set<TriangleKey> updatedKeys = new HashSet<TriangleKey>();
+        Set<Point> border = new HashSet<Point>();
+        for (Triangle t : updated) {
+            updatedKeys.add(new TriangleKey(t));
+            border.add(t.getA());
+            border.add(t.getB());
+            border.add(t.getC());
+        }
+        border.remove(p);
+        Set<TriangleKey> replaced = new HashSet<TriangleKey>();
+        for (Point v : border) {
+            List<TriangleKey> around = incident.get(v);
+            if (around == null)
+                continue;
+            for (TriangleKey key : around) {
+                if (!updatedKeys.contains(key) && covers(updated, key.centerX(), key.centerY()))
+                    replaced.add(key);
+            }
+        }
+        for (TriangleKey key : replaced)
+            removeTriangle(key);
+        for (Triangle t : updated)
+            addTriangle(t);
+    }
+
+    protected boolean delete(Point p) {
+        List<TriangleKey> around = incident.get(p);
+        if (around == null)
+            return false;
+        int size = triangulation.size();
+        triangulation.deletePoint(p);
+        if (triangulation.size() == size)
+            return false;
+        if (triangulation.size() < 3) {
+            rebuildContent();
+            return true;
+        }
+
+        // the hole left by the vertex star is filled with new triangles
+        List<TriangleKey> star = new ArrayList<TriangleKey>(around);
+        for (TriangleKey key : star)
+            removeTriangle(key);
+
+        TriangleKey first = star.get(0);
+        Triangle start = triangulation.find(new Point(first.centerX(), first.centerY()));
+        Map<Triangle, Boolean> visited = new IdentityHashMap<Triangle, Boolean>();
+        ArrayDeque<Triangle> queue = new ArrayDeque<Triangle>();
+        queue.add(start);
+        visited.put(start, Boolean.TRUE);
+        while (!queue.isEmpty()) {
+            Triangle t = queue.poll();
+            addTriangle(t);
+            for (Triangle n : new Triangle[] { t.getAbTriangle(), t.getBcTriangle(), t.getCaTriangle() }) {
+                if (n == null || n.isHalfplane() || visited.containsKey(n))
+                    continue;
+                visited.put(n, Boolean.TRUE);
+                TriangleKey key = new TriangleKey(n);
+                if (!slots.containsKey(key) && coversKeys(star, key.centerX(), key.centerY()))
+                    queue.add(n);
+            }
+        }
+        return true;
+    }
+
+    protected void rebuildContent() {
+        components.clear();
+        keys.clear();
+        slots.clear();
+        incident.clear();
+        Iterator<Triangle> it = triangulation.trianglesIterator();
+        while (it.hasNext()) {
+            Triangle t = it.next();
+            if (!t.isHalfplane())
+                addTriangle(t);
+        }
+        invalidateBounds();
+    }
+
+    /* POLYGONS STORAGE */
+
+    protected void addTriangle(Triangle t) {
+        TriangleKey key = new TriangleKey(t);
+        if (slots.containsKey(key))
+            return;
+        Polygon polygon = JDTConverter.toJzyPolygon(t);
+        applyStyle(polygon);
+
+        slots.put(key, components.size());
+        components.add(polygon);
+        keys.add(key);
+        for (Point v : key.vertices) {
+            List<TriangleKey> around = incident.get(v);
+            if (around == null) {
+                around = new ArrayList<TriangleKey>(6);
+                incident.put(v, around);
+            }
+            around.add(key);
+        }
+        if (!boundsDirty && bbox != null)
+            bbox.add(polygon.getBounds());
+    }
+
+    /** Remove a polygon by moving the last one in its slot. */
+    protected void removeTriangle(TriangleKey key) {
+        Integer slot = slots.remove(key);
+        if (slot == null)
+            return;
+        int last = components.size() - 1;
+        AbstractDrawable polygon = components.get(slot);
+        if (slot != last) {
+            TriangleKey moved = keys.get(last);
+            components.set(slot, components.get(last));
+            keys.set(slot, moved);
+            slots.put(moved, slot);
+        }
+        components.remove(last);
+        keys.remove(last);
+        for (Point v : key.vertices) {
+            List<TriangleKey> around = incident.get(v);
+            around.remove(key);
+            if (around.isEmpty())
+                incident.remove(v);
+        }
+        if (!boundsDirty && touches(polygon.getBounds(), bbox))
+            invalidateBounds();
+    }
+
+    protected void applyStyle(Polygon polygon) {
+        polygon.setWireframeColor(getWireframeColor());
+        polygon.setWireframeDisplayed(getWireframeDisplayed());
+        polygon.setWireframeWidth(getWireframeWidth());
+        polygon.setFaceDisplayed(getFaceDisplayed());
+        if (mapper != null)
+            polygon.setColorMapper(mapper);
+        else if (color != null)
+            polygon.setColor(color);
+    }
+
+    protected static boolean touches(BoundingBox3d inner, BoundingBox3d outer) {
+        return inner.getXmin() <= outer.getXmin() || inner.getXmax() >= outer.getXmax()
+            || inner.getYmin() <= outer.getYmin() || inner.getYmax() >= outer.getYmax()
+            || inner.getZmin() <= outer.getZmin() || inner.getZmax() >= outer.getZmax();
+    }
+
+    /* GEOMETRY */
+
+    protected static boolean covers(List<Triangle> triangles, double x, double y) {
+        for (Triangle t : triangles)
+            if (inside(t.getA(), t.getB(), t.getC(), x, y))
+                return true;
+        return false;
+    }
+
+    protected static boolean coversKeys(List<TriangleKey> triangles, double x, double y) {
+        for (TriangleKey t : triangles)
+            if (inside(t.vertices[0], t.vertices[1], t.vertices[2], x, y))
+                return true;
+        return false;
+    }
+
+    /** true if (x,y) lies strictly inside triangle (a,b,c), whatever its orientation. */
+    protected static boolean inside(Point a, Point b, Point c, double x, double y) {
+        double d1 = side(a, b, x, y);
+        double d2 = side(b, c, x, y);
+        double d3 = side(c, a, x, y);
+        return (d1 > 0 && d2 > 0 && d3 > 0) || (d1 < 0 && d2 < 0 && d3 < 0);
+    }
+
+    private static double side(Point a, Point b, double x, double y) {
+        return (b.getX() - a.getX()) * (y - a.getY()) - (b.getY() - a.getY()) * (x - a.getX());
+    }
+
+    /**
+     * Identifies a triangle by its vertices x,y coordinates, whatever their order and
+     * the {@link Triangle} object currently holding them.
+     */
+    protected static class TriangleKey {
+        public TriangleKey(Triangle t) {
+            vertices = new Point[] { t.getA(), t.getB(), t.getC() };
+            Arrays.sort(vertices);
+            hash = Arrays.hashCode(vertices);
+        }
+
+        public double centerX() {
+            return (vertices[0].getX() + vertices[1].getX() + vertices[2].getX()) / 3;
+        }
+
+        public double centerY() {
+            return (vertices[0].getY() + vertices[1].getY() + vertices[2].getY()) / 3;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof TriangleKey))
+                return false;
+            return Arrays.equals(vertices, ((TriangleKey) obj).vertices);
+        }
+
+        protected final Point[] vertices;
+        protected final int hash;
+    }
+
+    protected DelaunayTriangulation triangulation;
+    protected Map<TriangleKey, Integer> slots = new HashMap<TriangleKey, Integer>();
+    protected List<TriangleKey> keys = new ArrayList<TriangleKey>();
+    protected Map<Point, List<TriangleKey>> incident = new HashMap<Point, List<TriangleKey>>();
+}
@@ -1,6 +1,7 @@
 package org.jzy3d.plot3d.builder.delaunay;
 
 import il.ac.idc.jdt.DelaunayTriangulation;
+import il.ac.idc.jdt.ParallelTriangulator;
 import il.ac.idc.jdt.Triangle;
 
 import java.util.ArrayList;
@@ -14,6 +15,22 @@ import org.jzy3d.plot3d.primitives.Polygon;
 import org.jzy3d.plot3d.primitives.Shape;
 
 public class DelaunayTessellator extends Tessellator{
+    /** A tessellator inserting points in a spatially sorted order. */
+    public DelaunayTessellator() {
+        this(true);
+    }
+
+    /**
+     * @param sortedInsertion
+     *            if true, points are inserted along a space filling curve and
+     *            the triangulation is indexed (see
+     *            {@link DelaunayTriangulation#insertPointsBulk(java.util.Collection)}),
+     *            otherwise they are inserted one by one in the input order.
+     */
+    public DelaunayTessellator(boolean sortedInsertion) {
+        this.sortedInsertion = sortedInsertion;
+    }
+
     @Override
     public AbstractComposite build(List<Coord3d> coordinates) {
         Shape s = new Shape();
@@ -22,10 +39,21 @@ public class DelaunayTessellator extends Tessellator{
     }
 
     protected List<Polygon> computePolygons(List<Coord3d> coordinates) {
+        if (parallelism > 1)
+            return computePolygonsParallel(coordinates);
+
         // Append all input Jzy3d coordinates in JDT triangulator
         DelaunayTriangulation triangulator = new DelaunayTriangulation();
-        for (Coord3d coord: coordinates) {
-            triangulator.insertPoint(JDTConverter.toJdtPoint(coord));
+        if (sortedInsertion) {
+            List<il.ac.idc.jdt.Point> points = new ArrayList<il.ac.idc.jdt.Point>(coordinates.size());
+            for (Coord3d coord: coordinates) {
+                points.add(JDTConverter.toJdtPoint(coord));
+            }
+            triangulator.insertPointsBulk(points);
+        } else {
+            for (Coord3d coord: coordinates) {
+                triangulator.insertPoint(JDTConverter.toJdtPoint(coord));
+            }
         }
 
         // Retrieve triangles computed by JDT
@@ -41,8 +69,45 @@ public class DelaunayTessellator extends Tessellator{
         return polygons;
     }
 
+    /**
+     * Triangulate vertical strips of the points on several threads, and merge
+     * them along their seams, see {@link ParallelTriangulator}.
+     */
+    protected List<Polygon> computePolygonsParallel(List<Coord3d> coordinates) {
+        List<il.ac.idc.jdt.Point> points = new ArrayList<il.ac.idc.jdt.Point>(coordinates.size());
+        for (Coord3d coord: coordinates) {
+            points.add(JDTConverter.toJdtPoint(coord));
+        }
+        ParallelTriangulator triangulator = new ParallelTriangulator(parallelism);
+        try {
+            return JDTConverter.toJzyPolygons(triangulator.triangulate(points));
+        } finally {
+            triangulator.shutdown();
+        }
+    }
+
     @Override
     public AbstractComposite build(float[] x, float[] y, float[] z) {
         throw new RuntimeException("not called");
     }
+
+    public boolean isSortedInsertion() {
+        return sortedInsertion;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of threads used to triangulate points. Above 1, points
+     * are triangulated in parallel, giving the same triangles as a single
+     * threaded triangulation. Default is 1.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    protected boolean sortedInsertion;
+    protected int parallelism = 1;
 }
@@ -1,8 +1,12 @@
 package org.jzy3d.plot3d.builder.delaunay;
 
+import il.ac.idc.jdt.CompactTriangulation;
 import il.ac.idc.jdt.Point;
 import il.ac.idc.jdt.Triangle;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jzy3d.maths.Coord3d;
 import org.jzy3d.plot3d.primitives.Polygon;
 
@@ -30,4 +34,24 @@ public class JDTConverter {
         polygon.add(new org.jzy3d.plot3d.primitives.Point(c3));
         return polygon;
     }
+
+    /**
+     * Convert all triangles of a compact triangulation, reading its vertex and
+     * index arrays directly rather than building intermediate JDT objects.
+     */
+    public static List<Polygon> toJzyPolygons(CompactTriangulation triangulation) {
+        int n = triangulation.trianglesSize();
+        int[] triangles = triangulation.getTriangles();
+        List<Polygon> polygons = new ArrayList<Polygon>(n);
+        for (int t = 0; t < n * 3; t += 3) {
+            Polygon polygon = new Polygon();
+            for (int i = 0; i < 3; i++) {
+                int v = triangles[t + i];
+                Coord3d c = new Coord3d((float) triangulation.getX(v), (float) triangulation.getY(v), (float) triangulation.getZ(v));
+                polygon.add(new org.jzy3d.plot3d.primitives.Point(c));
+            }
+            polygons.add(polygon);
+        }
+        return polygons;
+    }
 }
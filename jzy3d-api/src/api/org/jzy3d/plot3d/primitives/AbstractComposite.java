@@ -37,6 +37,8 @@ public abstract class AbstractComposite extends AbstractWireframeable implements
         synchronized (components) {
             components.addAll(drawables);
         }
+        invalidateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     /** Clear the list of Drawables from this composite. */
@@ -44,16 +46,22 @@ public abstract class AbstractComposite extends AbstractWireframeable implements
         synchronized (components) {
             components.clear();
         }
+        invalidateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     /** Add a Drawable to this composite. */
     public void add(AbstractDrawable drawable) {
         components.add(drawable);
+        invalidateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     /** Remove a Drawable from this composite. */
     public void remove(AbstractDrawable drawable) {
         components.remove(drawable);
+        invalidateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     /** Get a Drawable stored by this composite. */
@@ -126,26 +134,43 @@ public abstract class AbstractComposite extends AbstractWireframeable implements
     }
 
     /**
-     * Creates and return a BoundingBox3d that embed all available Drawable
-     * bounds.
+     * Return a BoundingBox3d that embed all available Drawable bounds.
+     * 
+     * The box is computed again only after a change of this composite's
+     * content or geometry, or after {@link #invalidateBounds()}. A composite
+     * holding other composites computes its box at each call, as its children
+     * may change without notifying it.
      */
     @Override
     public BoundingBox3d getBounds() {
-        updateBounds();
+        if (boundsDirty)
+            updateBounds();
         return bbox;
     }
 
     @Override
     public void updateBounds() {
         BoundingBox3d box = new BoundingBox3d();
+        boolean nested = false;
 
         synchronized (components) {
             for (AbstractDrawable c : components) {
                 if (c != null && c.getBounds() != null)
                     box.add(c.getBounds());
+                if (c instanceof AbstractComposite || c instanceof CompileableComposite)
+                    nested = true;
             }
         }
         bbox = box;
+        boundsDirty = nested;
+    }
+
+    /**
+     * Force bounds to be computed again at next query. Must be called after
+     * editing children directly, e.g. through {@link #getDrawables()}.
+     */
+    public void invalidateBounds() {
+        boundsDirty = true;
     }
 
     @Override
@@ -155,7 +180,7 @@ public abstract class AbstractComposite extends AbstractWireframeable implements
                 c.applyGeometryTransform(transform);
             }
         }
-        // updateBounds(); no need, as computed by getBounds()
+        invalidateBounds();
     }
 
     /****************************************************************/
@@ -324,4 +349,5 @@ public abstract class AbstractComposite extends AbstractWireframeable implements
     protected ColorMapper mapper;
     protected Color color;
     protected boolean detailedToString = false;
+    protected boolean boundsDirty = true;
 }
@@ -33,6 +33,7 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
         points = new ArrayList<Point>(4); 
         bbox = new BoundingBox3d();
         center = new Coord3d();
+        boundsDirty = true;
         polygonOffsetFillEnable = true;
         polygonMode = PolygonMode.FRONT_AND_BACK;
     }
@@ -241,11 +242,15 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
         add(point, true);
     }
 
-    /** Add a point to the polygon. */
+    /**
+     * Add a point to the polygon. Bounds and barycentre are not computed
+     * immediately but at their next query, so that adding n points
+     * remains O(n).
+     */
     public void add(Point point, boolean updateBounds) {
         points.add(point);
         if (updateBounds) {
-            updateBounds();
+            invalidateBounds();
         }
     }
 
@@ -254,7 +259,21 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
         for (Point p : points) {
             p.xyz = transform.compute(p.xyz);
         }
-        updateBounds();
+        invalidateBounds();
+    }
+
+    /**
+     * Mark bounds, barycentre and camera distances as outdated, so that they
+     * are computed again at their next query. Must be called after editing
+     * point coordinates directly. Listeners are notified of a data change
+     * when bounds become outdated, not again until bounds are computed.
+     */
+    public void invalidateBounds() {
+        boolean notify = !boundsDirty;
+        boundsDirty = true;
+        distancesDirty = true;
+        if (notify)
+            fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     @Override
@@ -263,14 +282,30 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
         bbox.add(getPoints());
 
         // recompute center
-        center = new Coord3d();
-        for (Point p : points)
-            center = center.add(p.xyz);
-        center = center.div(points.size());
+        float x = 0, y = 0, z = 0;
+        for (Point p : points) {
+            x += p.xyz.x;
+            y += p.xyz.y;
+            z += p.xyz.z;
+        }
+        int n = points.size();
+        center = new Coord3d(x / n, y / n, z / n);
+
+        boundsDirty = false;
+        distancesDirty = true;
+    }
+
+    @Override
+    public BoundingBox3d getBounds() {
+        if (boundsDirty)
+            updateBounds();
+        return bbox;
     }
 
     @Override
     public Coord3d getBarycentre() {
+        if (boundsDirty)
+            updateBounds();
         return center;
     }
 
@@ -295,30 +330,45 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
 
     @Override
     public double getShortestDistance(Camera camera) {
-        double min = Float.MAX_VALUE;
-        double dist = 0;
-        for (Point point : points) {
-            dist = point.getDistance(camera);
-            if (dist < min)
-                min = dist;
-        }
-
-        dist = getBarycentre().distance(camera.getEye());
-        if (dist < min)
-            min = dist;
-        return min;
+        updateDistances(camera.getEye());
+        return shortestDistance;
     }
 
     @Override
     public double getLongestDistance(Camera camera) {
+        updateDistances(camera.getEye());
+        return longestDistance;
+    }
+
+    /**
+     * Compute shortest and longest distances to the given eye in a single
+     * pass over points, unless they are known for this eye position.
+     */
+    protected void updateDistances(Coord3d eye) {
+        if (!distancesDirty && !boundsDirty && eye.x == distanceEyeX && eye.y == distanceEyeY && eye.z == distanceEyeZ)
+            return;
+
+        double min = Float.MAX_VALUE;
         double max = 0;
         double dist = 0;
         for (Point point : points) {
-            dist = point.getDistance(camera);
+            dist = point.xyz.distance(eye);
+            if (dist < min)
+                min = dist;
             if (dist > max)
                 max = dist;
         }
-        return max;
+
+        dist = getBarycentre().distance(eye);
+        if (dist < min)
+            min = dist;
+
+        shortestDistance = min;
+        longestDistance = max;
+        distanceEyeX = eye.x;
+        distanceEyeY = eye.y;
+        distanceEyeZ = eye.z;
+        distancesDirty = false;
     }
 
     /* SETTINGS */
@@ -410,4 +460,12 @@ public abstract class AbstractGeometry extends AbstractWireframeable implements
     protected List<Point> points;
     protected Color color;
     protected Coord3d center;
+
+    protected boolean boundsDirty;
+    protected boolean distancesDirty = true;
+    protected float distanceEyeX;
+    protected float distanceEyeY;
+    protected float distanceEyeZ;
+    protected double shortestDistance;
+    protected double longestDistance;
 }
@@ -54,6 +54,7 @@ public class CompileableComposite extends AbstractWireframeable implements
 	protected Color color;
 	protected boolean detailedToString = false;
 	protected List<AbstractDrawable> components = new ArrayList<AbstractDrawable>();
+	protected boolean boundsDirty = true;
 
 	public CompileableComposite() {
 		super();
@@ -139,24 +140,40 @@ public class CompileableComposite extends AbstractWireframeable implements
 		for (AbstractDrawable c : components) {
 			c.applyGeometryTransform(transform);
 		}
-		// updateBounds(); getBounds() do the work
+		invalidateBounds();
 	}
 
+	/**
+	 * Return the bounds of all children, computed again only after a change
+	 * of content or geometry, or after {@link #invalidateBounds()}. 
+	 * 
+	 * @see AbstractComposite#getBounds()
+	 */
 	@Override
     public BoundingBox3d getBounds() {
-		updateBounds();
+		if (boundsDirty)
+			updateBounds();
 		return bbox;
 	}
 
 	@Override
     public void updateBounds() {
 		BoundingBox3d box = new BoundingBox3d();
+		boolean nested = false;
 
 		for (AbstractDrawable c : components) {
 			if (c != null && c.getBounds() != null)
 				box.add(c.getBounds());
+			if (c instanceof AbstractComposite || c instanceof CompileableComposite)
+				nested = true;
 		}
 		bbox = box;
+		boundsDirty = nested;
+	}
+
+	/** Force bounds to be computed again at next query.*/
+	public void invalidateBounds() {
+		boundsDirty = true;
 	}
 
 	/****************************************************************/
@@ -164,24 +181,28 @@ public class CompileableComposite extends AbstractWireframeable implements
 	/** Append a list of Drawables to this composite. */
 	public void add(List<? extends AbstractDrawable> drawables) {
 		components.addAll(drawables);
+		invalidateBounds();
 		recompile();
 	}
 
 	/** Clear the list of Drawables from this composite. */
 	public void clear() {
 		components.clear();
+		invalidateBounds();
 		recompile();
 	}
 
 	/** Add a Drawable to this composite. */
 	public void add(AbstractDrawable drawable) {
 		components.add(drawable);
+		invalidateBounds();
 		recompile();
 	}
 
 	/** Remove a Drawable from this composite. */
 	public void remove(AbstractDrawable drawable) {
 		components.remove(drawable);
+		invalidateBounds();
 		recompile();
 	}
 
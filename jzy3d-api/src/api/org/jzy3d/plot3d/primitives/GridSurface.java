@@ -0,0 +1,412 @@
+package org.jzy3d.plot3d.primitives;
+
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.IMultiColorable;
+import org.jzy3d.colors.ISingleColorable;
+import org.jzy3d.events.DrawableChangedEvent;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Utils;
+import org.jzy3d.plot3d.builder.Builder;
+import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
+import org.jzy3d.plot3d.rendering.view.Camera;
+import org.jzy3d.plot3d.transform.Transform;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.glu.GLU;
+
+/**
+ * A {@link GridSurface} is a compact alternative to a {@link Shape} made of
+ * {@link Polygon}s for surfaces lying on a grid of nx * ny vertices.
+ *
+ * Vertices are stored in flat primitive arrays, x major and y minor, so
+ * that vertex (xi, yi) stands at index xi*ny+yi. The topology is implicit:
+ * each cell is a quad made of vertices (xi,yi), (xi+1,yi), (xi+1,yi+1) and
+ * (xi,yi+1). A cell having one NaN z value is not drawn.
+ *
+ * Colors processed by a {@link ColorMapper} are computed once and stored in
+ * a flat RGBA array. They are computed again if the mapper range changes
+ * or if z values are modified through {@link #setZ(float[])}.
+ *
+ * On the contrary to a {@link Shape}, a {@link GridSurface} is a single
+ * drawable, so its cells are not depth sorted by the scene graph.
+ * It should thus be used for opaque surfaces.
+ *
+ * @see Builder#buildOrthonormalCompact(org.jzy3d.plot3d.builder.concrete.OrthonormalGrid, org.jzy3d.plot3d.builder.Mapper)
+ */
+public class GridSurface extends AbstractWireframeable implements ISingleColorable, IMultiColorable {
+    /**
+     * Initialize a surface standing on the given x and y ticks.
+     *
+     * @param xTicks x value of each grid column
+     * @param yTicks y value of each grid row
+     * @param z the nx*ny z values, x major and y minor
+     */
+    public GridSurface(float[] xTicks, float[] yTicks, float[] z) {
+        super();
+        bbox = new BoundingBox3d();
+        color = Color.BLACK.clone();
+        polygonOffsetFillEnable = true;
+
+        int nx = xTicks.length;
+        int ny = yTicks.length;
+        float[] x = new float[nx * ny];
+        float[] y = new float[nx * ny];
+        for (int xi = 0; xi < nx; xi++) {
+            for (int yi = 0; yi < ny; yi++) {
+                x[xi * ny + yi] = xTicks[xi];
+                y[xi * ny + yi] = yTicks[yi];
+            }
+        }
+        setData(nx, ny, x, y, z);
+    }
+
+    /**
+     * Initialize a surface with one x, y, z value per vertex.
+     *
+     * @see #setData(int, int, float[], float[], float[])
+     */
+    public GridSurface(int nx, int ny, float[] x, float[] y, float[] z) {
+        super();
+        bbox = new BoundingBox3d();
+        color = Color.BLACK.clone();
+        polygonOffsetFillEnable = true;
+        setData(nx, ny, x, y, z);
+    }
+
+    /* DATA */
+
+    /**
+     * Set the vertices of the surface.
+     *
+     * @param nx number of vertices along the x dimension
+     * @param ny number of vertices along the y dimension
+     * @param x the nx*ny x values, x major and y minor
+     * @param y the nx*ny y values, x major and y minor
+     * @param z the nx*ny z values, x major and y minor
+     * @throws IllegalArgumentException if arrays length is not nx*ny
+     */
+    public void setData(int nx, int ny, float[] x, float[] y, float[] z) {
+        int n = nx * ny;
+        if (x.length != n || y.length != n || z.length != n)
+            throw new IllegalArgumentException("x, y, and z arrays must have nx*ny=" + n + " values");
+
+        this.nx = nx;
+        this.ny = ny;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+
+        updateBounds();
+        updateColors();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+    }
+
+    /**
+     * Set the z values of the surface, keeping x and y unchanged. The input
+     * array may be the one returned by {@link #getZ()} after being edited.
+     */
+    public void setZ(float[] z) {
+        if (z.length != nx * ny)
+            throw new IllegalArgumentException("z array must have nx*ny=" + (nx * ny) + " values");
+        this.z = z;
+
+        updateBounds();
+        updateColors();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
+    }
+
+    public float[] getX() {
+        return x;
+    }
+
+    public float[] getY() {
+        return y;
+    }
+
+    public float[] getZ() {
+        return z;
+    }
+
+    /** Return the number of vertices along the x dimension. */
+    public int getXSize() {
+        return nx;
+    }
+
+    /** Return the number of vertices along the y dimension. */
+    public int getYSize() {
+        return ny;
+    }
+
+    /** Return the number of cells, including those having a NaN z value. */
+    public int getCellCount() {
+        return Math.max(nx - 1, 0) * Math.max(ny - 1, 0);
+    }
+
+    /** Return the number of bytes used by the vertex and color arrays. */
+    public long getMemoryUsage() {
+        long floats = (long) x.length + y.length + z.length;
+        if (colors != null)
+            floats += colors.length;
+        return floats * 4;
+    }
+
+    /** Return the number of bytes used by the vertex and color arrays per cell. */
+    public double getMemoryPerCell() {
+        int cells = getCellCount();
+        if (cells == 0)
+            return 0;
+        return getMemoryUsage() / (double) cells;
+    }
+
+    /* DRAW */
+
+    @Override
+    public void draw(GL gl, GLU glu, Camera cam) {
+        doTransform(gl, glu, cam);
+
+        if (mapper != null) {
+            mapper.preDraw(this);
+            if (mapper.getMin() != colorsMin || mapper.getMax() != colorsMax)
+                updateColors();
+        }
+
+        if (facestatus) {
+            applyPolygonModeFill(gl);
+            if (wfstatus && polygonOffsetFillEnable)
+                polygonOffsetFillEnable(gl);
+            callCells(gl, colors, color);
+            if (wfstatus && polygonOffsetFillEnable)
+                polygonOffsetFillDisable(gl);
+        }
+
+        if (wfstatus) {
+            applyPolygonModeLine(gl);
+            if (polygonOffsetFillEnable)
+                polygonOffsetFillEnable(gl);
+            gl.glLineWidth(wfwidth);
+            callCells(gl, null, wfcolor);
+            if (polygonOffsetFillEnable)
+                polygonOffsetFillDisable(gl);
+        }
+
+        if (mapper != null)
+            mapper.postDraw(this);
+
+        doDrawBounds(gl, glu, cam);
+    }
+
+    /**
+     * Emit all valid cells as quads in a single begin/end block. If the
+     * per-vertex color array is null, the default color is used.
+     */
+    protected void callCells(GL gl, float[] rgba, Color defaultColor) {
+        if (gl.isGL2()) {
+            GL2 gl2 = gl.getGL2();
+            if (rgba == null)
+                gl2.glColor4f(defaultColor.r, defaultColor.g, defaultColor.b, defaultColor.a);
+            gl2.glBegin(GL2.GL_QUADS);
+            for (int xi = 0; xi < nx - 1; xi++) {
+                for (int yi = 0; yi < ny - 1; yi++) {
+                    int i0 = xi * ny + yi;
+                    int i1 = i0 + ny;
+                    int i2 = i1 + 1;
+                    int i3 = i0 + 1;
+                    if (Float.isNaN(z[i0]) || Float.isNaN(z[i1]) || Float.isNaN(z[i2]) || Float.isNaN(z[i3]))
+                        continue;
+                    vertexGL2(gl2, rgba, i0);
+                    vertexGL2(gl2, rgba, i1);
+                    vertexGL2(gl2, rgba, i2);
+                    vertexGL2(gl2, rgba, i3);
+                }
+            }
+            gl2.glEnd();
+        } else {
+            if (rgba == null)
+                GLES2CompatUtils.glColor4f(defaultColor.r, defaultColor.g, defaultColor.b, defaultColor.a);
+            GLES2CompatUtils.glBegin(GL2.GL_QUADS);
+            for (int xi = 0; xi < nx - 1; xi++) {
+                for (int yi = 0; yi < ny - 1; yi++) {
+                    int i0 = xi * ny + yi;
+                    int i1 = i0 + ny;
+                    int i2 = i1 + 1;
+                    int i3 = i0 + 1;
+                    if (Float.isNaN(z[i0]) || Float.isNaN(z[i1]) || Float.isNaN(z[i2]) || Float.isNaN(z[i3]))
+                        continue;
+                    vertexGLES2(rgba, i0);
+                    vertexGLES2(rgba, i1);
+                    vertexGLES2(rgba, i2);
+                    vertexGLES2(rgba, i3);
+                }
+            }
+            GLES2CompatUtils.glEnd();
+        }
+    }
+
+    protected void vertexGL2(GL2 gl2, float[] rgba, int i) {
+        if (rgba != null)
+            gl2.glColor4f(rgba[i * 4], rgba[i * 4 + 1], rgba[i * 4 + 2], rgba[i * 4 + 3]);
+        if (spaceTransformer == null)
+            gl2.glVertex3f(x[i], y[i], z[i]);
+        else
+            gl2.glVertex3f(spaceTransformer.getX().compute(x[i]), spaceTransformer.getY().compute(y[i]), spaceTransformer.getZ().compute(z[i]));
+    }
+
+    protected void vertexGLES2(float[] rgba, int i) {
+        if (rgba != null)
+            GLES2CompatUtils.glColor4f(rgba[i * 4], rgba[i * 4 + 1], rgba[i * 4 + 2], rgba[i * 4 + 3]);
+        if (spaceTransformer == null)
+            GLES2CompatUtils.glVertex3f(x[i], y[i], z[i]);
+        else
+            GLES2CompatUtils.glVertex3f(spaceTransformer.getX().compute(x[i]), spaceTransformer.getY().compute(y[i]), spaceTransformer.getZ().compute(z[i]));
+    }
+
+    protected void applyPolygonModeFill(GL gl) {
+        if (gl.isGL2())
+            gl.getGL2().glPolygonMode(GL.GL_FRONT_AND_BACK, GL2GL3.GL_FILL);
+        else
+            GLES2CompatUtils.glPolygonMode(GL.GL_FRONT_AND_BACK, GL2GL3.GL_FILL);
+    }
+
+    protected void applyPolygonModeLine(GL gl) {
+        if (gl.isGL2())
+            gl.getGL2().glPolygonMode(GL.GL_FRONT_AND_BACK, GL2GL3.GL_LINE);
+        else
+            GLES2CompatUtils.glPolygonMode(GL.GL_FRONT_AND_BACK, GL2GL3.GL_LINE);
+    }
+
+    protected void polygonOffsetFillEnable(GL gl) {
+        gl.glEnable(GL.GL_POLYGON_OFFSET_FILL);
+        gl.glPolygonOffset(1.0f, 1.0f);
+    }
+
+    protected void polygonOffsetFillDisable(GL gl) {
+        gl.glDisable(GL.GL_POLYGON_OFFSET_FILL);
+    }
+
+    /* GEOMETRY */
+
+    @Override
+    public void applyGeometryTransform(Transform transform) {
+        Coord3d c = new Coord3d();
+        for (int i = 0; i < z.length; i++) {
+            c.set(x[i], y[i], z[i]);
+            Coord3d t = transform.compute(c);
+            x[i] = t.x;
+            y[i] = t.y;
+            z[i] = t.z;
+        }
+        updateBounds();
+        updateColors();
+    }
+
+    /** Compute bounds of all vertices, ignoring those having a NaN z value. */
+    @Override
+    public void updateBounds() {
+        bbox.reset();
+        for (int i = 0; i < z.length; i++) {
+            if (!Float.isNaN(z[i]))
+                bbox.add(x[i], y[i], z[i]);
+        }
+    }
+
+    /* COLOR */
+
+    /**
+     * Compute the color of each vertex with the current {@link ColorMapper}.
+     * Release the color array if no mapper is defined.
+     */
+    public void updateColors() {
+        if (mapper == null) {
+            colors = null;
+            return;
+        }
+        if (colors == null || colors.length != z.length * 4)
+            colors = new float[z.length * 4];
+
+        Coord3d c = new Coord3d();
+        for (int i = 0; i < z.length; i++) {
+            if (Float.isNaN(z[i]))
+                continue;
+            c.set(x[i], y[i], z[i]);
+            Color rgb = mapper.getColor(c);
+            colors[i * 4] = rgb.r;
+            colors[i * 4 + 1] = rgb.g;
+            colors[i * 4 + 2] = rgb.b;
+            colors[i * 4 + 3] = rgb.a;
+        }
+        colorsMin = mapper.getMin();
+        colorsMax = mapper.getMax();
+    }
+
+    /** Return the RGBA color of each vertex, or null if no mapper is defined. */
+    public float[] getColors() {
+        return colors;
+    }
+
+    @Override
+    public void setColorMapper(ColorMapper mapper) {
+        this.mapper = mapper;
+        updateColors();
+
+        fireDrawableChanged(new DrawableChangedEvent(this, DrawableChangedEvent.FIELD_COLOR));
+    }
+
+    @Override
+    public ColorMapper getColorMapper() {
+        return mapper;
+    }
+
+    /** Set the color used for all vertices when no {@link ColorMapper} is defined. */
+    @Override
+    public void setColor(Color color) {
+        this.color = color;
+
+        fireDrawableChanged(new DrawableChangedEvent(this, DrawableChangedEvent.FIELD_COLOR));
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    /* SETTINGS */
+
+    public boolean isPolygonOffsetFillEnable() {
+        return polygonOffsetFillEnable;
+    }
+
+    /**
+     * Enable offset fill, which let a surface with a wireframe render cleanly
+     * without weird depth incertainty between face and border.
+     *
+     * Default value is true.
+     */
+    public void setPolygonOffsetFillEnable(boolean polygonOffsetFillEnable) {
+        this.polygonOffsetFillEnable = polygonOffsetFillEnable;
+    }
+
+    @Override
+    public String toString(int depth) {
+        return Utils.blanks(depth) + "(" + this.getClass().getSimpleName() + ") " + nx + "x" + ny + " #bytes/cell:" + Utils.num2str('f', getMemoryPerCell(), 1);
+    }
+
+    /* */
+
+    protected int nx;
+    protected int ny;
+    protected float[] x;
+    protected float[] y;
+    protected float[] z;
+    protected float[] colors;
+
+    protected double colorsMin = Double.NaN;
+    protected double colorsMax = Double.NaN;
+
+    protected ColorMapper mapper;
+    protected Color color;
+    protected boolean polygonOffsetFillEnable = true;
+}
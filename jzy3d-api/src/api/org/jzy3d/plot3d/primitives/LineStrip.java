@@ -3,6 +3,7 @@ package org.jzy3d.plot3d.primitives;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jzy3d.events.DrawableChangedEvent;
 import org.jzy3d.maths.BoundingBox3d;
 import org.jzy3d.maths.Coord3d;
 import org.jzy3d.maths.Utils;
@@ -153,6 +154,7 @@ public class LineStrip extends AbstractWireframeable {
             p.xyz = transform.compute(p.xyz);
         }
         updateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     @Override
@@ -165,6 +167,7 @@ public class LineStrip extends AbstractWireframeable {
     public void add(Point point) {
         points.add(point);
         bbox.add(point);
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     public void addAll(List<Point> points) {
@@ -179,6 +182,7 @@ public class LineStrip extends AbstractWireframeable {
     public void clear(){
         points.clear();
         updateBounds();
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     public Point get(int p) {
@@ -84,6 +84,8 @@ public class Point extends AbstractDrawable implements ISingleColorable {
 	@Override
     public void applyGeometryTransform(Transform transform) {
 		xyz = transform.compute(xyz);
+		updateBounds();
+		fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
 	}
 
 	/* */
@@ -97,6 +99,7 @@ public class Point extends AbstractDrawable implements ISingleColorable {
 	public void setData(Coord3d xyz) {
 		this.xyz = xyz;
 		updateBounds();
+		fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
 	}
 
 	@Override
@@ -5,6 +5,7 @@ import org.jzy3d.colors.ISingleColorable;
 import org.jzy3d.events.DrawableChangedEvent;
 import org.jzy3d.maths.BoundingBox3d;
 import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.vbo.buffers.PointVBO;
 import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
 import org.jzy3d.plot3d.rendering.view.Camera;
 import org.jzy3d.plot3d.transform.Transform;
@@ -55,6 +56,17 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
     public void clear() {
         coordinates = null;
         bbox.reset();
+        repack = true;
+        if (retainedPoints != null)
+            retainedPoints.dispose();
+    }
+
+    /** Release the GPU buffer of retained points, if any. */
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (retainedPoints != null)
+            retainedPoints.dispose();
     }
 
     /* */
@@ -64,7 +76,10 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
         doTransform(gl, glu, cam);
 
         if (gl.isGL2()) {
-            drawGL2(gl);
+            if (retained)
+                drawRetained(gl);
+            else
+                drawGL2(gl);
         } else {
             drawGLES2();
         }
@@ -110,12 +125,36 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
         gl.getGL2().glEnd();
     }
 
+    /**
+     * Draw points stored in a GPU buffer, which is only packed and uploaded
+     * again after the data or colors changed.
+     */
+    public void drawRetained(GL gl) {
+        updateRetained();
+        retainedPoints.draw(gl, rgb, width);
+    }
+
+    /**
+     * Pack points into the retained buffer if they changed since last packing.
+     * 
+     * @return true if points were packed
+     */
+    public boolean updateRetained() {
+        if (!repack)
+            return false;
+        retainedPoints.pack(coordinates, colors);
+        repack = false;
+        return true;
+    }
+
     @Override
     public void applyGeometryTransform(Transform transform) {
         for (Coord3d c : coordinates) {
             c.set(transform.compute(c));
         }
         updateBounds();
+        repack = true;
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     /* */
@@ -130,6 +169,8 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
         this.coordinates = coordinates;
 
         updateBounds();
+        repack = true;
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     @Override
@@ -145,6 +186,7 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
 
     public void setColors(Color[] colors) {
         this.colors = colors;
+        repack = true;
 
         fireDrawableChanged(new DrawableChangedEvent(this, DrawableChangedEvent.FIELD_COLOR));
     }
@@ -171,8 +213,35 @@ public class Scatter extends AbstractDrawable implements ISingleColorable {
         this.width = width;
     }
 
+    public boolean isRetained() {
+        return retained;
+    }
+
+    /**
+     * Draw points from a GPU vertex buffer instead of sending them at each
+     * frame, which is much faster for large clouds. Coordinates and colors
+     * edited in place must be given again with {@link #setData(Coord3d[])}
+     * or {@link #setColors(Color[])} to be redrawn. Only applies to GL2.
+     */
+    public void setRetained(boolean retained) {
+        this.retained = retained;
+        if (retained && retainedPoints == null)
+            retainedPoints = new PointVBO();
+        else if (!retained && retainedPoints != null)
+            retainedPoints.dispose();
+        repack = true;
+    }
+
+    public PointVBO getRetainedPoints() {
+        return retainedPoints;
+    }
+
     /**********************************************************************/
 
+    protected boolean retained = false;
+    protected boolean repack = true;
+    protected PointVBO retainedPoints;
+
     public Color[] colors;
     public Coord3d[] coordinates;
     public Color rgb;
@@ -6,6 +6,7 @@ import org.jzy3d.colors.IMultiColorable;
 import org.jzy3d.events.DrawableChangedEvent;
 import org.jzy3d.maths.BoundingBox3d;
 import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.vbo.buffers.PointVBO;
 import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
 import org.jzy3d.plot3d.rendering.view.Camera;
 import org.jzy3d.plot3d.transform.Transform;
@@ -39,6 +40,17 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
     public void clear() {
         coordinates = null;
         bbox.reset();
+        repack = true;
+        if (retainedPoints != null)
+            retainedPoints.dispose();
+    }
+
+    /** Release the GPU buffer of retained points, if any. */
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (retainedPoints != null)
+            retainedPoints.dispose();
     }
 
     /* */
@@ -48,7 +60,10 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
         doTransform(gl, glu, cam);
 
         if (gl.isGL2()) {
-            drawGL2(gl);
+            if (retained)
+                drawRetained(gl);
+            else
+                drawGL2(gl);
         } else {
             drawGLES2();
         }
@@ -88,12 +103,39 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
         gl.getGL2().glEnd();
     }
 
+    /**
+     * Draw points stored in a GPU buffer, which is only packed and uploaded
+     * again after the data, the mapper, or the mapper range changed.
+     */
+    public void drawRetained(GL gl) {
+        updateRetained();
+        retainedPoints.draw(gl, null, width);
+    }
+
+    /**
+     * Pack points and their mapped colors into the retained buffer if they
+     * changed since last packing.
+     * 
+     * @return true if points were packed
+     */
+    public boolean updateRetained() {
+        if (!repack && mapper.getMin() == packedMin && mapper.getMax() == packedMax)
+            return false;
+        retainedPoints.pack(coordinates, mapper);
+        packedMin = mapper.getMin();
+        packedMax = mapper.getMax();
+        repack = false;
+        return true;
+    }
+
     @Override
     public void applyGeometryTransform(Transform transform) {
         for (Coord3d c : coordinates) {
             c.set(transform.compute(c));
         }
         updateBounds();
+        repack = true;
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     @Override
@@ -117,6 +159,8 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
         bbox.reset();
         for (Coord3d c : coordinates)
             bbox.add(c);
+        repack = true;
+        fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
     }
 
     public Coord3d[] getData() {
@@ -137,6 +181,7 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
     @Override
     public void setColorMapper(ColorMapper mapper) {
         this.mapper = mapper;
+        repack = true;
     }
 
     /**
@@ -149,8 +194,38 @@ public class ScatterMultiColor extends AbstractDrawable implements IMultiColorab
         this.width = width;
     }
 
+    public boolean isRetained() {
+        return retained;
+    }
+
+    /**
+     * Draw points from a GPU vertex buffer instead of sending them at each
+     * frame, which is much faster for large clouds. Colors are evaluated
+     * once per change of data, mapper, or mapper range. Only applies to GL2.
+     * 
+     * @see Scatter#setRetained(boolean)
+     */
+    public void setRetained(boolean retained) {
+        this.retained = retained;
+        if (retained && retainedPoints == null)
+            retainedPoints = new PointVBO();
+        else if (!retained && retainedPoints != null)
+            retainedPoints.dispose();
+        repack = true;
+    }
+
+    public PointVBO getRetainedPoints() {
+        return retainedPoints;
+    }
+
     /* */
 
+    protected boolean retained = false;
+    protected boolean repack = true;
+    protected PointVBO retainedPoints;
+    protected double packedMin = Double.NaN;
+    protected double packedMax = Double.NaN;
+
     protected Coord3d[] coordinates;
     protected Color[] colors;
     protected float width;
@@ -116,6 +116,7 @@ public class Sphere extends AbstractWireframeable implements ISingleColorable {
 	public void applyGeometryTransform(Transform transform) {
 		position.set(transform.compute(position));
 		updateBounds();
+		fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
 	}
 
 	/*
@@ -155,6 +156,7 @@ public class Sphere extends AbstractWireframeable implements ISingleColorable {
 	public void setPosition(Coord3d position) {
 		this.position = position;
 		updateBounds();
+		fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
 	}
 
 	public Coord3d getPosition() {
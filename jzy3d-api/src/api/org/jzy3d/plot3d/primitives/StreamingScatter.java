@@ -0,0 +1,706 @@
+package org.jzy3d.plot3d.primitives;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.IMultiColorable;
+import org.jzy3d.colors.ISingleColorable;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
+import org.jzy3d.plot3d.rendering.view.Camera;
+import org.jzy3d.plot3d.transform.Transform;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.fixedfunc.GLPointerFunc;
+import com.jogamp.opengl.glu.GLU;
+
+/**
+ * A scatter accepting points appended by producer threads while it is drawn,
+ * without locking either the producers or the rendering thread.
+ *
+ * Points are stored in fixed size chunks of direct float buffers, holding
+ * interleaved x,y,z coordinates, followed by r,g,b,a if a {@link ColorMapper}
+ * was given at construction. A chunk is never moved once allocated, so
+ * appending never copies existing points and a chunk can be given as is to
+ * GL as a vertex array.
+ *
+ * Appended points become visible in order: a point is published once it and
+ * all points appended before it are fully written. Each writer marks the slots
+ * it completed, then moves the published count over the marked slots that
+ * follow it, so a writer never waits for a slower writer: the last one to
+ * complete publishes both. Drawing reads the count of published points once,
+ * and draws that snapshot. With {@link WriteMode#SINGLE_WRITER}, appending is a
+ * plain write followed by an ordered publication, but only one thread may
+ * append at a time.
+ *
+ * When built with a retained count, the scatter behaves as a ring buffer and
+ * only draws the last appended points. Storage holds one extra chunk of slack
+ * for points being appended, and larger batches are rejected. Readers register
+ * the first point of their snapshot, and a writer that would overwrite it, or
+ * a point not yet published, waits until the slot is free.
+ *
+ * @author Martin Pernollet
+ */
+public class StreamingScatter extends AbstractDrawable implements ISingleColorable, IMultiColorable {
+    public static final int DEFAULT_CHUNK_SIZE = 65536;
+    public static final int UNBOUNDED = -1;
+
+    /** Marks the empty slots of a chunk directory being replaced. */
+    protected static final Chunk MOVED = new Chunk(0, 0);
+
+    /** No reader is drawing a snapshot. */
+    protected static final long NOT_READING = Long.MAX_VALUE;
+
+    /**
+     * Point storage, with the index + 1 of the last point completed in each
+     * slot.
+     */
+    protected static class Chunk {
+        public Chunk(int size, int stride) {
+            this.buffer = Buffers.newDirectFloatBuffer(size * stride);
+            this.marks = new AtomicLongArray(size);
+        }
+
+        public final FloatBuffer buffer;
+        public final AtomicLongArray marks;
+    }
+
+    public enum WriteMode {
+        /** Any number of threads may append concurrently. */
+        MULTI_WRITER,
+        /** A single thread appends, without atomic reservation. */
+        SINGLE_WRITER
+    }
+
+    /** An unbounded scatter drawn with a single color. */
+    public StreamingScatter() {
+        this(DEFAULT_CHUNK_SIZE, UNBOUNDED, null);
+    }
+
+    /** A scatter retaining the last points, drawn with a single color. */
+    public StreamingScatter(int retained) {
+        this(DEFAULT_CHUNK_SIZE, retained, null);
+    }
+
+    /**
+     * @param chunkSize
+     *            number of points per chunk.
+     * @param retained
+     *            number of last points to keep, or {@link #UNBOUNDED} to
+     *            keep all points.
+     * @param mapper
+     *            if not null, colors of points are computed by this mapper
+     *            when they are appended and stored along with coordinates.
+     */
+    public StreamingScatter(int chunkSize, int retained, ColorMapper mapper) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+        if (retained != UNBOUNDED && retained <= 0)
+            throw new IllegalArgumentException("retained count must be positive: " + retained);
+
+        this.chunkSize = chunkSize;
+        this.retained = retained;
+        this.mapper = mapper;
+        this.hasColor = mapper != null;
+        this.stride = hasColor ? 7 : 3;
+
+        if (retained == UNBOUNDED) {
+            this.capacity = Long.MAX_VALUE;
+            this.maxChunks = Integer.MAX_VALUE / chunkSize + 1;
+            this.directory = new AtomicReference<AtomicReferenceArray<Chunk>>(new AtomicReferenceArray<Chunk>(Math.min(16, maxChunks)));
+        } else {
+            this.maxChunks = (retained + chunkSize - 1) / chunkSize + 1;
+            this.capacity = (long) maxChunks * chunkSize;
+            this.directory = new AtomicReference<AtomicReferenceArray<Chunk>>(new AtomicReferenceArray<Chunk>(maxChunks));
+        }
+
+        bbox = new BoundingBox3d();
+        setColor(Color.BLACK);
+        setWidth(1.0f);
+    }
+
+    /* APPEND */
+
+    public void add(Coord3d c) {
+        add(c.x, c.y, c.z);
+    }
+
+    /** Append a point. */
+    public void add(float x, float y, float z) {
+        long index = reserve(1);
+        boolean written = false;
+        try {
+            write(index, x, y, z);
+            written = true;
+        } finally {
+            complete(index, written ? 1 : 0, 1);
+        }
+    }
+
+    /**
+     * Append n points given as interleaved x,y,z coordinates, starting at
+     * offset in the input array. Points of a batch are published together.
+     */
+    public void add(float[] xyz, int offset, int n) {
+        if (n <= 0)
+            return;
+        long index = reserve(n);
+        int written = 0;
+        try {
+            for (; written < n; written++) {
+                int k = offset + written * 3;
+                write(index + written, xyz[k], xyz[k + 1], xyz[k + 2]);
+            }
+        } finally {
+            complete(index, written, n);
+        }
+    }
+
+    public void add(Coord3d[] coordinates) {
+        int n = coordinates.length;
+        if (n == 0)
+            return;
+        long index = reserve(n);
+        int written = 0;
+        try {
+            for (; written < n; written++) {
+                Coord3d c = coordinates[written];
+                write(index + written, c.x, c.y, c.z);
+            }
+        } finally {
+            complete(index, written, n);
+        }
+    }
+
+    /**
+     * Return the index of the first of n slots reserved for the caller, who
+     * must then call {@link #complete(long, int, int)}. A batch must fit in
+     * the slack of a ring buffer, otherwise it would overwrite points being
+     * drawn.
+     */
+    protected long reserve(int n) {
+        if (retained != UNBOUNDED && n > capacity - retained)
+            throw new IllegalArgumentException("can not append more than " + (capacity - retained) + " points at once: " + n);
+
+        long index;
+        if (writeMode == WriteMode.SINGLE_WRITER) {
+            index = published.get();
+            checkCapacity(index, n);
+            reserved.set(index + n);
+        } else {
+            do {
+                index = reserved.get();
+                checkCapacity(index, n);
+            } while (!reserved.compareAndSet(index, index + n));
+        }
+        if (retained != UNBOUNDED)
+            awaitSlots(index, n);
+        return index;
+    }
+
+    /**
+     * Wait until the ring slots of n points starting at index neither hold a
+     * point being read, nor a point of the previous lap not yet published.
+     * The reservation is made before reading {@link #reading}, so that either
+     * this writer sees a reader, or the reader sees the reservation.
+     */
+    protected void awaitSlots(long index, int n) {
+        long lap = index + n - capacity;
+        while (lap > published.get() || lap > reading.get())
+            Thread.yield();
+    }
+
+    protected void checkCapacity(long index, int n) {
+        if (retained == UNBOUNDED && index + n > Integer.MAX_VALUE)
+            throw new IllegalStateException("an unbounded streaming scatter can not hold more than " + Integer.MAX_VALUE + " points");
+    }
+
+    /**
+     * Publish a reserved range of n points of which only the first were
+     * written. Others are set to NaN so that a failed append never blocks
+     * next writers, nor shows stale points.
+     */
+    protected void complete(long index, int written, int n) {
+        try {
+            for (int i = written; i < n; i++) {
+                long slot = (index + i) % capacity;
+                FloatBuffer chunk = chunk((int) (slot / chunkSize)).buffer;
+                int k = (int) (slot % chunkSize) * stride;
+                chunk.put(k, Float.NaN);
+                chunk.put(k + 1, Float.NaN);
+                chunk.put(k + 2, Float.NaN);
+            }
+        } finally {
+            publish(index, n);
+        }
+    }
+
+    protected void write(long index, float x, float y, float z) {
+        long slot = index % capacity;
+        FloatBuffer chunk = chunk((int) (slot / chunkSize)).buffer;
+        int k = (int) (slot % chunkSize) * stride;
+
+        chunk.put(k, x);
+        chunk.put(k + 1, y);
+        chunk.put(k + 2, z);
+
+        if (hasColor) {
+            Color color = mapper.getColor(x, y, z);
+            chunk.put(k + 3, color.r);
+            chunk.put(k + 4, color.g);
+            chunk.put(k + 5, color.b);
+            chunk.put(k + 6, color.a);
+        }
+    }
+
+    /**
+     * Make n points starting at index visible, once all points appended
+     * before them are visible. Every reserved range must be published, even
+     * if appending failed.
+     */
+    protected void publish(long index, int n) {
+        if (writeMode == WriteMode.SINGLE_WRITER) {
+            published.lazySet(index + n);
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            long slot = (index + i) % capacity;
+            chunk((int) (slot / chunkSize)).marks.set((int) (slot % chunkSize), index + i + 1);
+        }
+        advance();
+    }
+
+    /**
+     * Move the published count over the slots marked as completed. Marks are
+     * written before scanning, so of two writers completing concurrently, at
+     * least one sees the slots of the other and publishes them.
+     */
+    protected void advance() {
+        while (true) {
+            long from = published.get();
+            long end = from;
+            while (true) {
+                long slot = end % capacity;
+                Chunk chunk = chunkAt((int) (slot / chunkSize));
+                if (chunk == null || chunk == MOVED || chunk.marks.get((int) (slot % chunkSize)) != end + 1)
+                    break;
+                end++;
+            }
+            if (end == from || published.compareAndSet(from, end))
+                return;
+        }
+    }
+
+    /**
+     * Return the chunk at the given position, allocating it if needed. The
+     * chunk directory of an unbounded scatter grows by copy: growing first
+     * freezes each empty slot of the old directory with {@link #MOVED}, so a
+     * chunk is either installed before its slot is copied, or installed in
+     * the new directory.
+     */
+    protected Chunk chunk(int c) {
+        Chunk chunk = null;
+        while (true) {
+            AtomicReferenceArray<Chunk> dir = directory.get();
+            if (c >= dir.length()) {
+                grow(dir, c);
+                continue;
+            }
+            Chunk installed = dir.get(c);
+            if (installed == MOVED) {
+                // wait for the grown directory to be installed
+                Thread.yield();
+                continue;
+            }
+            if (installed != null)
+                return installed;
+            if (chunk == null)
+                chunk = new Chunk(chunkSize, stride);
+            if (dir.compareAndSet(c, null, chunk))
+                return chunk;
+        }
+    }
+
+    protected void grow(AtomicReferenceArray<Chunk> dir, int c) {
+        int length = (int) Math.min(maxChunks, Math.max(c + 1, (long) dir.length() * 2));
+        AtomicReferenceArray<Chunk> grown = new AtomicReferenceArray<Chunk>(length);
+        for (int i = 0; i < dir.length(); i++) {
+            dir.compareAndSet(i, null, MOVED);
+            Chunk chunk = dir.get(i);
+            if (chunk != MOVED)
+                grown.set(i, chunk);
+        }
+        directory.compareAndSet(dir, grown);
+    }
+
+    /**
+     * Return the chunk at the given position, or null if it is not allocated
+     * yet. A chunk holding published points is always allocated.
+     */
+    protected Chunk chunkAt(int c) {
+        AtomicReferenceArray<Chunk> dir = directory.get();
+        return c < dir.length() ? dir.get(c) : null;
+    }
+
+    /** Return the storage of published points of a chunk. */
+    protected FloatBuffer bufferAt(int c) {
+        return chunkAt(c).buffer;
+    }
+
+    /**
+     * Return the published count of a snapshot, after registering its first
+     * point so that writers do not overwrite the snapshot before
+     * {@link #endRead()}. Registering is retried while a writer reserved
+     * slots a lap ahead of the snapshot before seeing it. Snapshots are read
+     * by one thread at a time, holding {@link #readLock}.
+     */
+    protected long beginRead() {
+        while (true) {
+            long end = published.get();
+            if (retained == UNBOUNDED)
+                return end;
+            long from = first(end);
+            reading.set(from);
+            if (reserved.get() - capacity <= from)
+                return end;
+            // let the writer that is ahead complete before taking a newer snapshot
+            reading.set(NOT_READING);
+            Thread.yield();
+        }
+    }
+
+    protected void endRead() {
+        reading.set(NOT_READING);
+    }
+
+    /* SNAPSHOT */
+
+    /**
+     * Discard all points appended so far. Points appended concurrently may or
+     * may not be discarded. Storage is kept for next points.
+     */
+    public void clear() {
+        start = published.get();
+        bbox.reset();
+        boundedUntil = start;
+    }
+
+    /** Return the index of the first drawn point, for a given published count. */
+    protected long first(long end) {
+        long first = start;
+        if (retained != UNBOUNDED)
+            first = Math.max(first, end - retained);
+        return first;
+    }
+
+    /** Return the number of points that would be drawn now. */
+    public int size() {
+        long end = published.get();
+        return (int) (end - first(end));
+    }
+
+    /** Return the total number of points appended since construction. */
+    public long getAppendedCount() {
+        return published.get();
+    }
+
+    /**
+     * Copy currently visible points to interleaved x,y,z coordinates, oldest
+     * point first.
+     *
+     * @return the number of copied points, which is at most out.length / 3
+     */
+    public int copy(float[] out) {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                long from = first(end);
+                int n = (int) Math.min(end - from, out.length / 3);
+                for (int i = 0; i < n; i++) {
+                    long slot = (from + i) % capacity;
+                    FloatBuffer chunk = bufferAt((int) (slot / chunkSize));
+                    int k = (int) (slot % chunkSize) * stride;
+                    out[i * 3] = chunk.get(k);
+                    out[i * 3 + 1] = chunk.get(k + 1);
+                    out[i * 3 + 2] = chunk.get(k + 2);
+                }
+                return n;
+            } finally {
+                endRead();
+            }
+        }
+    }
+
+    /* DRAW */
+
+    @Override
+    public void draw(GL gl, GLU glu, Camera cam) {
+        doTransform(gl, glu, cam);
+        if (gl.isGL2()) {
+            drawGL2(gl);
+        } else {
+            drawGLES2();
+        }
+
+        doDrawBounds(gl, glu, cam);
+    }
+
+    /**
+     * Draw the published points as vertex arrays, one draw call per chunk
+     * span.
+     */
+    public void drawGL2(GL gl) {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                GL2 gl2 = gl.getGL2();
+                long index = first(end);
+                if (index >= end)
+                    return;
+
+                int strideBytes = stride * Buffers.SIZEOF_FLOAT;
+                gl2.glPointSize(width);
+                gl2.glEnableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+                if (hasColor)
+                    gl2.glEnableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+                else
+                    gl2.glColor4f(rgb.r, rgb.g, rgb.b, rgb.a);
+
+                while (index < end) {
+                    long slot = index % capacity;
+                    int offset = (int) (slot % chunkSize);
+                    int span = (int) Math.min(end - index, chunkSize - offset);
+                    FloatBuffer chunk = bufferAt((int) (slot / chunkSize));
+
+                    // duplicates let the pointer start at the chunk without touching
+                    // the position shared with producers
+                    FloatBuffer vertices = chunk.duplicate();
+                    vertices.position(0);
+                    gl2.glVertexPointer(3, GL.GL_FLOAT, strideBytes, vertices);
+                    if (hasColor) {
+                        FloatBuffer colors = chunk.duplicate();
+                        colors.position(3);
+                        gl2.glColorPointer(4, GL.GL_FLOAT, strideBytes, colors);
+                    }
+                    gl2.glDrawArrays(GL.GL_POINTS, offset, span);
+                    index += span;
+                }
+
+                if (hasColor)
+                    gl2.glDisableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+                gl2.glDisableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+            } finally {
+                endRead();
+            }
+        }
+    }
+
+    public void drawGLES2() {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                long from = first(end);
+
+                GLES2CompatUtils.glPointSize(width);
+                GLES2CompatUtils.glBegin(GL.GL_POINTS);
+                if (!hasColor)
+                    GLES2CompatUtils.glColor4f(rgb.r, rgb.g, rgb.b, rgb.a);
+                for (long i = from; i < end; i++) {
+                    long slot = i % capacity;
+                    FloatBuffer chunk = bufferAt((int) (slot / chunkSize));
+                    int k = (int) (slot % chunkSize) * stride;
+                    if (hasColor)
+                        GLES2CompatUtils.glColor4f(chunk.get(k + 3), chunk.get(k + 4), chunk.get(k + 5), chunk.get(k + 6));
+                    GLES2CompatUtils.glVertex3f(chunk.get(k), chunk.get(k + 1), chunk.get(k + 2));
+                }
+                GLES2CompatUtils.glEnd();
+            } finally {
+                endRead();
+            }
+        }
+    }
+
+    /* BOUNDS */
+
+    /**
+     * Return bounds of points, extended with points published since previous
+     * call. When retaining only the last points, bounds keep including
+     * discarded points until {@link #updateBounds()} is called.
+     */
+    @Override
+    public BoundingBox3d getBounds() {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                long from = Math.max(boundedUntil, first(end));
+                extendBounds(from, end);
+                boundedUntil = end;
+                return bbox;
+            } finally {
+                endRead();
+            }
+        }
+    }
+
+    /** Compute bounds of the currently visible points only. */
+    @Override
+    public void updateBounds() {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                bbox.reset();
+                extendBounds(first(end), end);
+                boundedUntil = end;
+            } finally {
+                endRead();
+            }
+        }
+    }
+
+    protected void extendBounds(long from, long end) {
+        for (long i = from; i < end; i++) {
+            long slot = i % capacity;
+            FloatBuffer chunk = bufferAt((int) (slot / chunkSize));
+            int k = (int) (slot % chunkSize) * stride;
+            bbox.add(chunk.get(k), chunk.get(k + 1), chunk.get(k + 2));
+        }
+    }
+
+    /**
+     * Transform the currently visible points. Points appended concurrently
+     * may not be transformed. Stored colors are not computed again.
+     */
+    @Override
+    public void applyGeometryTransform(Transform transform) {
+        synchronized (readLock) {
+            long end = beginRead();
+            try {
+                Coord3d c = new Coord3d();
+                for (long i = first(end); i < end; i++) {
+                    long slot = i % capacity;
+                    FloatBuffer chunk = bufferAt((int) (slot / chunkSize));
+                    int k = (int) (slot % chunkSize) * stride;
+                    c.set(chunk.get(k), chunk.get(k + 1), chunk.get(k + 2));
+                    Coord3d t = transform.compute(c);
+                    chunk.put(k, t.x);
+                    chunk.put(k + 1, t.y);
+                    chunk.put(k + 2, t.z);
+                }
+            } finally {
+                endRead();
+            }
+        }
+        updateBounds();
+    }
+
+    /* */
+
+    /**
+     * Release the storage. The scatter must not be appended or drawn
+     * concurrently.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        directory.set(new AtomicReferenceArray<Chunk>(retained == UNBOUNDED ? Math.min(16, maxChunks) : maxChunks));
+        reserved.set(0);
+        published.set(0);
+        start = 0;
+        boundedUntil = 0;
+        bbox.reset();
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    /**
+     * Select how appends are synchronized. Must be changed while no thread
+     * appends.
+     */
+    public void setWriteMode(WriteMode writeMode) {
+        reserved.set(published.get());
+        this.writeMode = writeMode;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /** Return the number of points kept, or {@link #UNBOUNDED}. */
+    public int getRetained() {
+        return retained;
+    }
+
+    public boolean hasColor() {
+        return hasColor;
+    }
+
+    /**
+     * Return the mapper used to color points when they are appended, or null
+     * if points are drawn with a single color.
+     */
+    @Override
+    public ColorMapper getColorMapper() {
+        return mapper;
+    }
+
+    /**
+     * Change the mapper used to color next appended points. Has no effect on a
+     * scatter built without a mapper, as it has no color storage.
+     */
+    @Override
+    public void setColorMapper(ColorMapper mapper) {
+        if (hasColor && mapper != null)
+            this.mapper = mapper;
+    }
+
+    @Override
+    public Color getColor() {
+        return rgb;
+    }
+
+    @Override
+    public void setColor(Color color) {
+        this.rgb = color;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public void setWidth(float width) {
+        this.width = width;
+    }
+
+    /* */
+
+    protected final int chunkSize;
+    protected final int retained;
+    protected final int stride;
+    protected final boolean hasColor;
+    protected final long capacity;
+    protected final int maxChunks;
+    protected final AtomicReference<AtomicReferenceArray<Chunk>> directory;
+
+    protected final AtomicLong reserved = new AtomicLong();
+    protected final AtomicLong published = new AtomicLong();
+    /** First point of the snapshot being read, or {@link #NOT_READING}. */
+    protected final AtomicLong reading = new AtomicLong(NOT_READING);
+    protected final Object readLock = new Object();
+    protected volatile long start;
+    protected long boundedUntil;
+    protected volatile WriteMode writeMode = WriteMode.MULTI_WRITER;
+
+    protected ColorMapper mapper;
+    protected Color rgb;
+    protected float width;
+}
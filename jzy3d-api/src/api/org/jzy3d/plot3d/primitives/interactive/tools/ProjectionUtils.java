@@ -16,6 +16,7 @@ import org.jzy3d.plot3d.primitives.Polygon;
 import org.jzy3d.plot3d.rendering.scene.Decomposition;
 import org.jzy3d.plot3d.rendering.scene.Graph;
 import org.jzy3d.plot3d.rendering.view.Camera;
+import org.jzy3d.plot3d.rendering.view.ProjectionSnapshot;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.glu.GLU;
@@ -43,6 +44,11 @@ public class ProjectionUtils {
 	}
 	
 	public static List<PolygonProjection> project(GL gl, GLU glu, Camera cam, ArrayList<AbstractDrawable> monotypes){
+		return project(cam.snapshot(gl), cam, monotypes);
+	}
+	
+	/** Project polygons with the given matrices, which does not require a GL context.*/
+	public static List<PolygonProjection> project(ProjectionSnapshot snapshot, Camera cam, ArrayList<AbstractDrawable> monotypes){
 		final TicToc t = new TicToc();
 		String report = "";
 		
@@ -60,7 +66,7 @@ public class ProjectionUtils {
 		
 		// project
 		t.tic();
-		ArrayList<ArrayList<Coord3d>> projections = cam.modelToScreen(gl, glu, polygons);
+		ArrayList<ArrayList<Coord3d>> projections = cam.modelToScreen(snapshot, polygons);
 		t.toc(); report += " Projections :" + t.elapsedMilisecond();
 		
 		// gather polygon and its colors in a data structure
@@ -9,6 +9,7 @@ import org.jzy3d.maths.Polygon2d;
 import org.jzy3d.plot3d.primitives.Scatter;
 import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
 import org.jzy3d.plot3d.rendering.view.Camera;
+import org.jzy3d.plot3d.rendering.view.ProjectionSnapshot;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.glu.GLU;
@@ -84,10 +85,35 @@ public class SelectableScatter extends Scatter implements ISingleColorable,
 
 	@Override
 	public void project(GL gl, GLU glu, Camera cam) {
-		projection = cam.modelToScreen(gl, glu, getData());
+		project(cam.snapshot(gl));
+	}
+
+	/**
+	 * Project all points with the given matrices, into a buffer reused from
+	 * one projection to the other. Does not require a GL context.
+	 */
+	public void project(ProjectionSnapshot snapshot) {
+		if (projectionXYZ == null || projectionXYZ.length != coordinates.length * 3)
+			projectionXYZ = new float[coordinates.length * 3];
+		snapshot.project(coordinates, projectionXYZ);
+		projection = null;
+	}
+
+	/**
+	 * Return the interleaved x, y, depth screen coordinates of the last
+	 * projection. Points that could not be projected are NaN.
+	 */
+	public float[] getProjectionAsFloat() {
+		return projectionXYZ;
 	}
 
 	public Coord3d[] getProjection() {
+		if (projection == null && projectionXYZ != null) {
+			int n = projectionXYZ.length / 3;
+			projection = new Coord3d[n];
+			for (int i = 0; i < n; i++)
+				projection[i] = new Coord3d(projectionXYZ[i * 3], projectionXYZ[i * 3 + 1], projectionXYZ[i * 3 + 2]);
+		}
 		return projection;
 	}
 
@@ -150,5 +176,6 @@ public class SelectableScatter extends Scatter implements ISingleColorable,
 	protected Color highlightColor = Color.RED.clone();
 
 	protected Coord3d[] projection;
+	protected float[] projectionXYZ;
 
 }
@@ -5,6 +5,8 @@ import java.nio.IntBuffer;
 
 import org.jzy3d.maths.BoundingBox3d;
 
+import com.jogamp.common.nio.Buffers;
+
 public class FloatVBO implements VBO<FloatBuffer> {
     FloatBuffer vertices;
     IntBuffer indices;
@@ -12,8 +14,29 @@ public class FloatVBO implements VBO<FloatBuffer> {
 
     
     public FloatVBO(int verticeBufferSize, int indexBufferSize){
-        vertices = FloatBuffer.allocate(verticeBufferSize);
-        indices = IntBuffer.allocate(indexBufferSize);
+        this(verticeBufferSize, indexBufferSize, false);
+    }
+
+    /** Wrap existing buffers, e.g. mapped from a file. */
+    public FloatVBO(FloatBuffer vertices, IntBuffer indices, BoundingBox3d bounds){
+        this.vertices = vertices;
+        this.indices = indices;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Allocate buffers in native memory if direct is true, which let GL
+     * read them without an intermediate copy.
+     */
+    public FloatVBO(int verticeBufferSize, int indexBufferSize, boolean direct){
+        if(direct){
+            vertices = Buffers.newDirectFloatBuffer(verticeBufferSize);
+            indices = Buffers.newDirectIntBuffer(indexBufferSize);
+        }
+        else{
+            vertices = FloatBuffer.allocate(verticeBufferSize);
+            indices = IntBuffer.allocate(indexBufferSize);
+        }
         bounds = new BoundingBox3d();
     }
 
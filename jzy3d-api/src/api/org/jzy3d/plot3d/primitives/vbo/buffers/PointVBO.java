@@ -0,0 +1,254 @@
+package org.jzy3d.plot3d.primitives.vbo.buffers;
+
+import java.nio.FloatBuffer;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.maths.Coord3d;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.fixedfunc.GLPointerFunc;
+
+/**
+ * A {@link PointVBO} keeps a point cloud in a GPU vertex buffer, so that
+ * drawing a scatter does not send each point again at each frame.
+ *
+ * Points are packed into a direct {@link FloatVBO} as interleaved x,y,z
+ * coordinates, followed by r,g,b,a if points have their own color. Packing
+ * happens on CPU and does not require a GL context. The packed buffer is
+ * uploaded at the first {@link #draw(GL, Color, float)} following a call to
+ * one of the pack methods, and drawn as is at the following frames.
+ *
+ * The GPU buffer is deleted by {@link #release(GL)} when a GL is at hand, or
+ * by {@link #dispose()} from any thread: if the context that uploaded the
+ * buffer is not current, the buffer is deleted at the next display of that
+ * context through {@link #releaseDisposed(GL)}.
+ */
+public class PointVBO {
+    public static final int COORD_SIZE = 3;
+    public static final int COLOR_SIZE = 4;
+
+    /* PACKING */
+
+    /**
+     * Pack coordinates and optional per point colors. A null colors array
+     * packs coordinates only, to be drawn with a single color.
+     */
+    public void pack(Coord3d[] coordinates, Color[] colors) {
+        boolean hasColor = colors != null;
+        int n = coordinates != null ? coordinates.length : 0;
+        FloatBuffer vertices = allocate(n, hasColor);
+
+        for (int i = 0; i < n; i++) {
+            Coord3d c = coordinates[i];
+            vertices.put(c.x);
+            vertices.put(c.y);
+            vertices.put(c.z);
+            vbo.getBounds().add(c);
+            if (hasColor) {
+                putColor(vertices, colors[i]);
+            }
+        }
+        vertices.rewind();
+    }
+
+    /** Pack coordinates with the colors given by the mapper. */
+    public void pack(Coord3d[] coordinates, ColorMapper mapper) {
+        int n = coordinates != null ? coordinates.length : 0;
+        FloatBuffer vertices = allocate(n, true);
+
+        for (int i = 0; i < n; i++) {
+            Coord3d c = coordinates[i];
+            vertices.put(c.x);
+            vertices.put(c.y);
+            vertices.put(c.z);
+            vbo.getBounds().add(c);
+            putColor(vertices, mapper.getColor(c));
+        }
+        vertices.rewind();
+    }
+
+    protected void putColor(FloatBuffer vertices, Color color) {
+        vertices.put(color.r);
+        vertices.put(color.g);
+        vertices.put(color.b);
+        vertices.put(color.a);
+    }
+
+    /**
+     * Size the buffer for n points, reusing the current one if it is large
+     * enough, and mark it for upload.
+     */
+    protected FloatBuffer allocate(int n, boolean hasColor) {
+        int required = n * getStride(hasColor);
+        if (vbo == null || vbo.getVertices().capacity() < required) {
+            vbo = new FloatVBO(required, 0, true);
+        }
+        vbo.getVertices().clear();
+        vbo.getVertices().limit(required);
+        vbo.getBounds().reset();
+
+        this.size = n;
+        this.hasColor = hasColor;
+        this.dirty = true;
+        return vbo.getVertices();
+    }
+
+    /** Number of floats per point. */
+    public static int getStride(boolean hasColor) {
+        return hasColor ? COORD_SIZE + COLOR_SIZE : COORD_SIZE;
+    }
+
+    /* RENDERING */
+
+    /**
+     * Upload the packed buffer if it changed, and draw points. The default
+     * color is used if points do not have their own color.
+     */
+    public void draw(GL gl, Color defaultColor, float width) {
+        if (vbo == null || size == 0)
+            return;
+        GL2 gl2 = gl.getGL2();
+
+        if (bufferName[0] != 0 && uploaded != vbo) {
+            // packing replaced the buffer, do not keep the storage of the old one
+            release(gl);
+        }
+        if (bufferName[0] == 0) {
+            gl2.glGenBuffers(1, bufferName, 0);
+            context = gl.getContext();
+            uploaded = vbo;
+        }
+        gl2.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferName[0]);
+        if (dirty) {
+            FloatBuffer vertices = vbo.getVertices();
+            gl2.glBufferData(GL.GL_ARRAY_BUFFER, vertices.limit() * Buffers.SIZEOF_FLOAT, vertices, GL.GL_STATIC_DRAW);
+            dirty = false;
+        }
+
+        int stride = getStride(hasColor) * Buffers.SIZEOF_FLOAT;
+        gl2.glPointSize(width);
+        gl2.glEnableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+        gl2.glVertexPointer(COORD_SIZE, GL.GL_FLOAT, stride, 0);
+        if (hasColor) {
+            gl2.glEnableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+            gl2.glColorPointer(COLOR_SIZE, GL.GL_FLOAT, stride, COORD_SIZE * Buffers.SIZEOF_FLOAT);
+        } else if (defaultColor != null) {
+            gl2.glColor4f(defaultColor.r, defaultColor.g, defaultColor.b, defaultColor.a);
+        }
+
+        gl2.glDrawArrays(GL.GL_POINTS, 0, size);
+
+        if (hasColor)
+            gl2.glDisableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+        gl2.glDisableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+        gl2.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+    }
+
+    /** Delete the GPU buffer. Packed data is kept and uploaded again at next draw.*/
+    public void release(GL gl) {
+        if (bufferName[0] != 0) {
+            gl.glDeleteBuffers(1, bufferName, 0);
+            bufferName[0] = 0;
+        }
+        context = null;
+        uploaded = null;
+        dirty = true;
+    }
+
+    /**
+     * Delete the GPU buffer without a GL at hand. The buffer is deleted now if
+     * the context it was uploaded to is current on the calling thread, and
+     * otherwise at the next display of that context. Packed data is kept and
+     * uploaded again at next draw.
+     */
+    public void dispose() {
+        if (bufferName[0] != 0 && context != null) {
+            if (GLContext.getCurrent() == context)
+                context.getGL().glDeleteBuffers(1, bufferName, 0);
+            else
+                disposed.add(new Disposed(context, bufferName[0]));
+        }
+        bufferName[0] = 0;
+        context = null;
+        uploaded = null;
+        dirty = true;
+    }
+
+    /**
+     * Delete buffers disposed while their context was not current. Must be
+     * called with the context of the given GL current, as done by
+     * {@link org.jzy3d.plot3d.rendering.view.Renderer3d} at each display.
+     */
+    public static void releaseDisposed(GL gl) {
+        if (disposed.isEmpty())
+            return;
+        GLContext current = gl.getContext();
+        Iterator<Disposed> it = disposed.iterator();
+        while (it.hasNext()) {
+            Disposed buffer = it.next();
+            if (buffer.context == current) {
+                gl.glDeleteBuffers(1, new int[] { buffer.name }, 0);
+                it.remove();
+            } else if (!buffer.context.isCreated()) {
+                // buffers of a destroyed context went with it
+                it.remove();
+            }
+        }
+    }
+
+    /** A buffer name waiting for its context to be current. */
+    protected static class Disposed {
+        public Disposed(GLContext context, int name) {
+            this.context = context;
+            this.name = name;
+        }
+
+        public final GLContext context;
+        public final int name;
+    }
+
+    /* */
+
+    /** Return the packed buffer, or null if nothing was packed yet. */
+    public FloatVBO getBuffer() {
+        return vbo;
+    }
+
+    /** Return the number of packed points. */
+    public int size() {
+        return size;
+    }
+
+    public boolean hasColor() {
+        return hasColor;
+    }
+
+    /** Return the name of the GPU buffer, or 0 if none is allocated. */
+    public int getBufferName() {
+        return bufferName[0];
+    }
+
+    /** Return true if packed data was not uploaded to GPU yet. */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /* */
+
+    protected FloatVBO vbo;
+    protected int size;
+    protected boolean hasColor;
+    protected boolean dirty;
+    protected int[] bufferName = new int[1];
+    protected GLContext context;
+    protected FloatVBO uploaded;
+
+    protected static final Queue<Disposed> disposed = new ConcurrentLinkedQueue<Disposed>();
+}
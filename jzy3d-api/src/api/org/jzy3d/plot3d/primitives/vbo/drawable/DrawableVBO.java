@@ -50,6 +50,7 @@ public class DrawableVBO extends AbstractDrawable implements IGLBindedResource {
     protected Quality quality = Quality.Nicest;
     
     protected int colorChannelNumber = 3;
+    protected int colorOffset = 3 * Buffers.SIZEOF_FLOAT;
 
     public DrawableVBO(IGLLoader<DrawableVBO> loader) {
         this.loader = loader;
@@ -139,10 +140,8 @@ public class DrawableVBO extends AbstractDrawable implements IGLBindedResource {
 
     private void color(GL gl) {
         if (hasColorBuffer) {
-            // int bo = 6 * Buffers.SIZEOF_FLOAT;
-            int p = 3 * Buffers.SIZEOF_FLOAT;
             gl.getGL2().glEnableClientState(GL2.GL_COLOR_ARRAY);
-            gl.getGL2().glColorPointer(colorChannelNumber, GL.GL_FLOAT, byteOffset, p);
+            gl.getGL2().glColorPointer(colorChannelNumber, GL.GL_FLOAT, byteOffset, colorOffset);
         }
     }
 
@@ -246,6 +245,24 @@ public class DrawableVBO extends AbstractDrawable implements IGLBindedResource {
         this.hasColorBuffer = hasColorBuffer;
     }
 
+    public int getColorChannelNumber() {
+        return colorChannelNumber;
+    }
+
+    /** Number of color components per vertex, 3 (RGB) or 4 (RGBA). */
+    public void setColorChannelNumber(int colorChannelNumber) {
+        this.colorChannelNumber = colorChannelNumber;
+    }
+
+    public int getColorOffset() {
+        return colorOffset;
+    }
+
+    /** Offset of the color in bytes from the beginning of a vertex, after its coordinates by default. */
+    public void setColorOffset(int colorOffset) {
+        this.colorOffset = colorOffset;
+    }
+
     
 
     public int getGeometry() {
@@ -335,6 +352,31 @@ public class DrawableVBO extends AbstractDrawable implements IGLBindedResource {
 
     /* */
 
+    public IGLLoader<DrawableVBO> getLoader() {
+        return loader;
+    }
+
+    public int getByteOffset() {
+        return byteOffset;
+    }
+
+    public int getNormalOffset() {
+        return normalOffset;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /** Number of indices drawn. */
+    public int getSize() {
+        return size;
+    }
+
+    public int getPointer() {
+        return pointer;
+    }
+
     public Color getColor() {
         return color;
     }
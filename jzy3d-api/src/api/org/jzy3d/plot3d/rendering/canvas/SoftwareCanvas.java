@@ -0,0 +1,130 @@
+package org.jzy3d.plot3d.rendering.canvas;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jzy3d.chart.factories.IChartComponentFactory;
+import org.jzy3d.plot3d.rendering.scene.Scene;
+import org.jzy3d.plot3d.rendering.software.SoftwareGL;
+import org.jzy3d.plot3d.rendering.software.SoftwareRasterizer;
+import org.jzy3d.plot3d.rendering.software.SoftwareRenderer3d;
+import org.jzy3d.plot3d.rendering.view.Renderer3d;
+import org.jzy3d.plot3d.rendering.view.View;
+
+import com.jogamp.opengl.GLDrawable;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+
+/**
+ * An {@link ICanvas} rendering the chart with a {@link SoftwareRasterizer}, which
+ * requires neither OpenGL drivers nor a display. Charts can thus be drawn on headless
+ * servers by calling:
+ *
+ * <pre>
+ * <code>
+ * Chart chart = new Chart(factory, quality, "software,800,600");
+ * chart.screenshot(file);
+ * </code>
+ * </pre>
+ *
+ * Rendering is slower than with a GPU but uses all cores, and supports the primitives
+ * drawn with immediate mode OpenGL, the axe box and bitmap texts.
+ *
+ * @see SoftwareGL for the supported OpenGL features.
+ */
+public class SoftwareCanvas implements ICanvas {
+    public SoftwareCanvas(IChartComponentFactory factory, Scene scene, Quality quality, int width, int height) {
+        this.view = scene.newView(this, quality);
+        this.gl = new SoftwareGL(new SoftwareRasterizer(width, height));
+        this.renderer = new SoftwareRenderer3d(view, gl);
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Change the size of the images rendered at next display. */
+    public synchronized void setSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Pixel scale has no meaning without screen, and is ignored. */
+    @Override
+    public void setPixelScale(float[] scale) {
+    }
+
+    /** Returns null as this canvas has no native drawable. */
+    @Override
+    public GLDrawable getDrawable() {
+        return null;
+    }
+
+    public SoftwareGL getGL() {
+        return gl;
+    }
+
+    @Override
+    public synchronized void dispose() {
+        renderer.dispose(null);
+        view = null;
+    }
+
+    @Override
+    public synchronized void forceRepaint() {
+        renderer.display(width, height);
+    }
+
+    @Override
+    public synchronized TextureData screenshot() {
+        renderer.nextDisplayUpdateScreenshot();
+        renderer.display(width, height);
+        return renderer.getLastScreenshot();
+    }
+
+    @Override
+    public TextureData screenshot(File file) throws IOException {
+        TextureData screen = screenshot();
+        TextureIO.write(screen, file);
+        return screen;
+    }
+
+    @Override
+    public View getView() {
+        return view;
+    }
+
+    @Override
+    public int getRendererWidth() {
+        return width;
+    }
+
+    @Override
+    public int getRendererHeight() {
+        return height;
+    }
+
+    @Override
+    public Renderer3d getRenderer() {
+        return renderer;
+    }
+
+    @Override
+    public String getDebugInfo() {
+        SoftwareRasterizer rasterizer = gl.getRasterizer();
+        return "Software rasterizer: " + rasterizer.getWidth() + "x" + rasterizer.getHeight() + " on " + rasterizer.getParallelism() + " threads\n";
+    }
+
+    @Override
+    public void addMouseController(Object o) {}
+    @Override
+    public void addKeyController(Object o) {}
+    @Override
+    public void removeMouseController(Object o) {}
+    @Override
+    public void removeKeyController(Object o) {}
+
+    protected View view;
+    protected SoftwareRenderer3d renderer;
+    protected SoftwareGL gl;
+    protected int width;
+    protected int height;
+}
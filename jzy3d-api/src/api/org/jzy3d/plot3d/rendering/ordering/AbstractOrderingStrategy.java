@@ -1,5 +1,6 @@
 package org.jzy3d.plot3d.rendering.ordering;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -22,7 +23,22 @@ import com.jogamp.opengl.glu.GLU;
  *
  */
 public abstract class AbstractOrderingStrategy implements Comparator<AbstractDrawable>{
-    
+    /**
+     * Defines how {@link AbstractOrderingStrategy#sort(List, Camera)} orders drawables:
+     * <ul>
+     * <li>COMPARATOR runs {@link Collections#sort(List, Comparator)} with this strategy as comparator.
+     * <li>SCORE computes the score of each drawable once and sorts drawables by decreasing score.
+     * Drawables already ordered by the previous frame are sorted by insertion in linear time, 
+     * other lists are sorted by a radix sort on score bits.
+     * </ul>
+     * SCORE only applies to strategies which {@link #compare(AbstractDrawable, AbstractDrawable)}
+     * is a comparison of {@link #score(AbstractDrawable)}, and does not suffer from 
+     * the "Comparison method violates its general contract" exception.
+     */
+    public enum SortMode {
+        COMPARATOR, SCORE
+    }
+
     /** Returns a score for ranking this drawable among other drawables of the scenegraph. */
     public abstract double score(AbstractDrawable drawable);
 
@@ -35,7 +51,132 @@ public abstract class AbstractOrderingStrategy implements Comparator<AbstractDra
      */
     public void sort(List<AbstractDrawable> monotypes, Camera cam){
 		setCamera(cam);
-		Collections.sort(monotypes, this);
+		if(sortMode == SortMode.SCORE)
+		    sortByScore(monotypes);
+		else
+		    Collections.sort(monotypes, this);
+	}
+
+	/**
+	 * Sort drawables by decreasing score, computing each score once. Working 
+	 * arrays are kept from one call to the other, so sorting a list which size
+	 * does not grow allocates nothing.
+	 */
+	protected void sortByScore(List<AbstractDrawable> monotypes){
+	    int n = monotypes.size();
+	    if(n < 2)
+	        return;
+	    ensureSortCapacity(n);
+	    
+	    for(int i=0; i<n; i++)
+	        sortItems[i] = monotypes.get(i);
+	    scores(sortItems, n, sortScores);
+	    
+	    // sortable keys: ascending order of keys is descending order of scores
+	    for(int i=0; i<n; i++){
+	        sortKeys[i] = ~sortableBits(sortScores[i]);
+	        sortOrder[i] = i;
+	    }
+	    
+	    // the previous order often holds after a small camera move
+	    if(!insertionSort(sortKeys, sortOrder, n, INSERTION_SHIFT_FACTOR * n))
+	        radixSort(n);
+	    
+	    for(int i=0; i<n; i++){
+	        AbstractDrawable d = sortItems[sortOrder[i]];
+	        if(monotypes.get(i) != d)
+	            monotypes.set(i, d);
+	        sortItems[sortOrder[i]] = null;
+	    }
+	}
+	
+	/**
+	 * Compute the score of the n first drawables into the given array. Override
+	 * to hoist per-frame computations out of {@link #score(AbstractDrawable)}.
+	 */
+	protected void scores(AbstractDrawable[] drawables, int n, float[] scores){
+	    for(int i=0; i<n; i++)
+	        scores[i] = (float)score(drawables[i]);
+	}
+	
+	/** Map a float to an int which unsigned order is the float order, NaN being greater than any number.*/
+	protected static int sortableBits(float value){
+	    int bits = Float.floatToIntBits(value);
+	    return bits ^ ((bits >> 31) | 0x80000000);
+	}
+	
+	/**
+	 * Stable insertion sort of unsigned keys carrying an order array. Sorting stops
+	 * and returns false once more than maxShifts elements have moved, leaving a 
+	 * valid but partially sorted permutation.
+	 */
+	protected static boolean insertionSort(int[] keys, int[] order, int n, int maxShifts){
+	    int shifts = 0;
+	    for(int i=1; i<n; i++){
+	        int key = keys[i];
+	        int o = order[i];
+	        int j = i-1;
+	        while(j>=0 && Integer.compare(keys[j]^0x80000000, key^0x80000000) > 0){
+	            keys[j+1] = keys[j];
+	            order[j+1] = order[j];
+	            j--;
+	        }
+	        keys[j+1] = key;
+	        order[j+1] = o;
+	        shifts += i-1-j;
+	        if(shifts > maxShifts)
+	            return false;
+	    }
+	    return true;
+	}
+	
+	/** Stable LSD radix sort of the n first unsigned sort keys, 8 bits per pass.*/
+	protected void radixSort(int n){
+	    int[] keys = sortKeys, order = sortOrder;
+	    int[] keysTmp = sortKeysTmp, orderTmp = sortOrderTmp;
+	    int[] count = sortCount;
+	    
+	    for(int shift=0; shift<32; shift+=8){
+	        Arrays.fill(count, 0);
+	        for(int i=0; i<n; i++)
+	            count[(keys[i]>>>shift) & 0xFF]++;
+	        
+	        // a pass where all keys share the same byte changes nothing
+	        if(count[(keys[0]>>>shift) & 0xFF] == n)
+	            continue;
+	        
+	        int sum = 0;
+	        for(int b=0; b<256; b++){
+	            int c = count[b];
+	            count[b] = sum;
+	            sum += c;
+	        }
+	        for(int i=0; i<n; i++){
+	            int dst = count[(keys[i]>>>shift) & 0xFF]++;
+	            keysTmp[dst] = keys[i];
+	            orderTmp[dst] = order[i];
+	        }
+	        int[] t = keys; keys = keysTmp; keysTmp = t;
+	        t = order; order = orderTmp; orderTmp = t;
+	    }
+	    
+	    if(order != sortOrder)
+	        System.arraycopy(order, 0, sortOrder, 0, n);
+	    if(keys != sortKeys)
+	        System.arraycopy(keys, 0, sortKeys, 0, n);
+	}
+	
+	protected void ensureSortCapacity(int n){
+	    if(sortItems==null || sortItems.length<n){
+	        int capacity = Math.max(n, sortItems==null ? 0 : sortItems.length + sortItems.length/2);
+	        sortItems = new AbstractDrawable[capacity];
+	        sortScores = new float[capacity];
+	        sortKeys = new int[capacity];
+	        sortKeysTmp = new int[capacity];
+	        sortOrder = new int[capacity];
+	        sortOrderTmp = new int[capacity];
+	        sortCount = new int[256];
+	    }
 	}
 	
 	/** Return the opposite of closest distance, so that closest distance is sorted after farest distance.*/
@@ -50,6 +191,14 @@ public abstract class AbstractOrderingStrategy implements Comparator<AbstractDra
 	
 	/* */
 
+	public SortMode getSortMode() {
+        return sortMode;
+    }
+
+    public void setSortMode(SortMode sortMode) {
+        this.sortMode = sortMode;
+    }
+
 	public void setAll(GL gl, GLU glu, Camera camera, Transform transform){
 		this.gl        = gl;
 		this.glu       = glu;
@@ -107,4 +256,16 @@ public abstract class AbstractOrderingStrategy implements Comparator<AbstractDra
 	protected GL gl;
 	protected GLU glu;
 	
+	protected SortMode sortMode = SortMode.COMPARATOR;
+	
+	/** Insertion sort gives up for radix sort after this number of shifts per drawable.*/
+	protected static final int INSERTION_SHIFT_FACTOR = 4;
+	
+	protected AbstractDrawable[] sortItems;
+	protected float[] sortScores;
+	protected int[] sortKeys;
+	protected int[] sortKeysTmp;
+	protected int[] sortOrder;
+	protected int[] sortOrderTmp;
+	protected int[] sortCount;
 }
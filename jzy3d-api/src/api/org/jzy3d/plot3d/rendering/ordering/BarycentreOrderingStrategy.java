@@ -15,10 +15,11 @@ import org.jzy3d.plot3d.rendering.view.View;
 public class BarycentreOrderingStrategy extends AbstractOrderingStrategy{
 	public BarycentreOrderingStrategy(){
 	    super();
+	    this.sortMode = SortMode.SCORE;
 	}
 	
 	public BarycentreOrderingStrategy(View view){
-	    super();
+	    this();
 	    this.view = view;
 	}
 	
@@ -43,6 +44,20 @@ public class BarycentreOrderingStrategy extends AbstractOrderingStrategy{
             return camera.getDistance(d);
     }
     
+    /** Compute the scaled eye once for all drawables.*/
+    @Override
+    protected void scores(AbstractDrawable[] drawables, int n, float[] scores) {
+        Coord3d eye = camera.getEye();
+        if(view!=null)
+            eye = eye.div(view.getLastViewScaling());
+        boolean squared = camera.isUseSquaredDistance();
+        
+        for(int i=0; i<n; i++){
+            double d = drawables[i].getBarycentre().distanceSq(eye);
+            scores[i] = (float)(squared ? d : Math.sqrt(d));
+        }
+    }
+    
     @Override
     public double score(Coord3d coord) {
         if(view!=null)
@@ -0,0 +1,401 @@
+package org.jzy3d.plot3d.rendering.scene;
+
+import java.util.List;
+
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Frustum;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+
+/**
+ * A {@link BoundingVolumeHierarchy} is a binary tree of axis aligned boxes
+ * built over the {@link BoundingBox3d} of a list of drawables, usually the
+ * monotypes of a {@link Graph} decomposition. It answers frustum, box and ray
+ * queries without visiting drawables lying away from the query.
+ *
+ * Nodes are stored in flat arrays in depth first order, so that
+ * {@link #refit()} can update all boxes bottom-up after drawables moved,
+ * without rebuilding the tree. A refit tree remains exact but may become
+ * less efficient if drawables moved a lot, in which case it should be built
+ * again.
+ *
+ * Drawables without valid bounds are never culled and returned by all
+ * queries.
+ *
+ * Queries only read the tree and may run concurrently, but not while it is
+ * built or refit.
+ */
+public class BoundingVolumeHierarchy {
+    /** Maximum number of drawables per leaf. */
+    public static final int LEAF_SIZE = 4;
+
+    public BoundingVolumeHierarchy() {
+        build(null);
+    }
+
+    public BoundingVolumeHierarchy(List<AbstractDrawable> drawables) {
+        build(drawables);
+    }
+
+    /* BUILD */
+
+    /** Build the tree from scratch. A null list builds an empty tree. */
+    public void build(List<AbstractDrawable> drawables) {
+        int n = drawables == null ? 0 : drawables.size();
+
+        // split bounded and unbounded drawables
+        items = new AbstractDrawable[n];
+        itemBoxes = new float[n * 6];
+        unbounded = new AbstractDrawable[n];
+        nItems = 0;
+        nUnbounded = 0;
+        for (int i = 0; i < n; i++) {
+            AbstractDrawable d = drawables.get(i);
+            if (d == null)
+                continue;
+            if (readBounds(d, itemBoxes, nItems * 6))
+                items[nItems++] = d;
+            else
+                unbounded[nUnbounded++] = d;
+        }
+
+        // sort items in leaves
+        // leaves hold at least two items, so there are less nodes than items
+        int maxNodes = Math.max(1, nItems);
+        nodeBoxes = new float[maxNodes * 6];
+        nodeStart = new int[maxNodes];
+        nodeCount = new int[maxNodes];
+        nodeRight = new int[maxNodes];
+        nNodes = 0;
+        depth = 0;
+
+        int[] order = new int[nItems];
+        float[] centers = new float[nItems * 3];
+        for (int i = 0; i < nItems; i++) {
+            order[i] = i;
+            for (int a = 0; a < 3; a++)
+                centers[i * 3 + a] = (itemBoxes[i * 6 + a * 2] + itemBoxes[i * 6 + a * 2 + 1]) / 2;
+        }
+        if (nItems > 0)
+            buildNode(order, centers, 0, nItems, 0);
+        else
+            newNode(0, 0);
+
+        // store items in leaf order
+        AbstractDrawable[] sortedItems = new AbstractDrawable[nItems];
+        float[] sortedBoxes = new float[nItems * 6];
+        for (int i = 0; i < nItems; i++) {
+            sortedItems[i] = items[order[i]];
+            System.arraycopy(itemBoxes, order[i] * 6, sortedBoxes, i * 6, 6);
+        }
+        items = sortedItems;
+        itemBoxes = sortedBoxes;
+        refitNodes();
+    }
+
+    /** Build the subtree of items order[from..to[, splitting at the median of the widest axis of item centers.*/
+    protected int buildNode(int[] order, float[] centers, int from, int to, int level) {
+        depth = Math.max(depth, level);
+        if (to - from <= LEAF_SIZE)
+            return newNode(from, to - from);
+
+        int axis = widestAxis(order, centers, from, to);
+        int mid = (from + to) >>> 1;
+        select(order, centers, axis, from, to - 1, mid);
+
+        int node = newNode(from, 0);
+        buildNode(order, centers, from, mid, level + 1);
+        nodeRight[node] = buildNode(order, centers, mid, to, level + 1);
+        return node;
+    }
+
+    protected int newNode(int start, int count) {
+        int node = nNodes++;
+        nodeStart[node] = start;
+        nodeCount[node] = count;
+        nodeRight[node] = -1;
+        return node;
+    }
+
+    protected int widestAxis(int[] order, float[] centers, int from, int to) {
+        float[] min = { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE };
+        float[] max = { -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+        for (int i = from; i < to; i++) {
+            for (int a = 0; a < 3; a++) {
+                float c = centers[order[i] * 3 + a];
+                if (c < min[a])
+                    min[a] = c;
+                if (c > max[a])
+                    max[a] = c;
+            }
+        }
+        int axis = 0;
+        for (int a = 1; a < 3; a++)
+            if (max[a] - min[a] > max[axis] - min[axis])
+                axis = a;
+        return axis;
+    }
+
+    /** Quickselect order[lo..hi] so that the k-th item by center along axis stands at k. */
+    protected static void select(int[] order, float[] centers, int axis, int lo, int hi, int k) {
+        while (hi > lo) {
+            float pivot = centers[order[(lo + hi) >>> 1] * 3 + axis];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (centers[order[i] * 3 + axis] < pivot)
+                    i++;
+                while (centers[order[j] * 3 + axis] > pivot)
+                    j--;
+                if (i <= j) {
+                    int t = order[i];
+                    order[i] = order[j];
+                    order[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j)
+                hi = j;
+            else if (k >= i)
+                lo = i;
+            else
+                return;
+        }
+    }
+
+    /* REFIT */
+
+    /**
+     * Read again the bounds of all drawables and update node boxes
+     * accordingly, in linear time. A drawable which bounds became invalid is
+     * considered infinite and thus never culled.
+     */
+    public void refit() {
+        for (int i = 0; i < nItems; i++) {
+            if (!readBounds(items[i], itemBoxes, i * 6)) {
+                int o = i * 6;
+                itemBoxes[o] = itemBoxes[o + 2] = itemBoxes[o + 4] = -Float.MAX_VALUE;
+                itemBoxes[o + 1] = itemBoxes[o + 3] = itemBoxes[o + 5] = Float.MAX_VALUE;
+            }
+        }
+        refitNodes();
+    }
+
+    /** Children always follow their parent, so a reverse scan visits children first. */
+    protected void refitNodes() {
+        for (int node = nNodes - 1; node >= 0; node--) {
+            int o = node * 6;
+            if (nodeCount[node] > 0 || nodeRight[node] < 0) {
+                resetBox(nodeBoxes, o);
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++)
+                    unionBox(nodeBoxes, o, itemBoxes, i * 6);
+            } else {
+                System.arraycopy(nodeBoxes, (node + 1) * 6, nodeBoxes, o, 6);
+                unionBox(nodeBoxes, o, nodeBoxes, nodeRight[node] * 6);
+            }
+        }
+    }
+
+    /* QUERIES */
+
+    /** Append to output the drawables which bounds intersect the frustum. */
+    public void query(Frustum frustum, List<AbstractDrawable> output) {
+        appendUnbounded(output);
+        if (nItems == 0)
+            return;
+
+        int[] stack = newStack();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int o = node * 6;
+            int c = frustum.classify(nodeBoxes[o], nodeBoxes[o + 1], nodeBoxes[o + 2], nodeBoxes[o + 3], nodeBoxes[o + 4], nodeBoxes[o + 5]);
+            if (c == Frustum.OUTSIDE)
+                continue;
+            else if (c == Frustum.INSIDE)
+                appendSubtree(node, output);
+            else if (nodeRight[node] < 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++) {
+                    int b = i * 6;
+                    if (frustum.classify(itemBoxes[b], itemBoxes[b + 1], itemBoxes[b + 2], itemBoxes[b + 3], itemBoxes[b + 4], itemBoxes[b + 5]) != Frustum.OUTSIDE)
+                        output.add(items[i]);
+                }
+            } else
+                top = pushChildren(stack, node, top);
+        }
+    }
+
+    /** Append to output the drawables which bounds intersect the given box. */
+    public void query(BoundingBox3d box, List<AbstractDrawable> output) {
+        appendUnbounded(output);
+        if (nItems == 0)
+            return;
+
+        float[] q = { box.getXmin(), box.getXmax(), box.getYmin(), box.getYmax(), box.getZmin(), box.getZmax() };
+        int[] stack = newStack();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlap(nodeBoxes, node * 6, q))
+                continue;
+            if (nodeRight[node] < 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++)
+                    if (overlap(itemBoxes, i * 6, q))
+                        output.add(items[i]);
+            } else
+                top = pushChildren(stack, node, top);
+        }
+    }
+
+    /**
+     * Append to output the drawables which bounds are hit by the ray starting
+     * at origin and going toward direction. Drawables are not sorted by
+     * distance, and a hit box does not imply the drawable itself is hit.
+     */
+    public void query(Coord3d origin, Coord3d direction, List<AbstractDrawable> output) {
+        appendUnbounded(output);
+        if (nItems == 0)
+            return;
+
+        float[] inv = { 1 / direction.x, 1 / direction.y, 1 / direction.z };
+        float[] o = { origin.x, origin.y, origin.z };
+        int[] stack = newStack();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!hit(nodeBoxes, node * 6, o, inv))
+                continue;
+            if (nodeRight[node] < 0) {
+                for (int i = nodeStart[node]; i < nodeStart[node] + nodeCount[node]; i++)
+                    if (hit(itemBoxes, i * 6, o, inv))
+                        output.add(items[i]);
+            } else
+                top = pushChildren(stack, node, top);
+        }
+    }
+
+    /* */
+
+    /**
+     * A traversal stack owned by the calling query. Each level holds at most
+     * one pending sibling, and the last visited node pushes two children.
+     */
+    protected int[] newStack() {
+        return new int[depth + 2];
+    }
+
+    protected int pushChildren(int[] stack, int node, int top) {
+        stack[top++] = nodeRight[node];
+        stack[top++] = node + 1;
+        return top;
+    }
+
+    /** Items of a subtree are contiguous, from the first leaf to the last one.*/
+    protected void appendSubtree(int node, List<AbstractDrawable> output) {
+        int first = node;
+        while (nodeRight[first] >= 0)
+            first = first + 1;
+        int last = node;
+        while (nodeRight[last] >= 0)
+            last = nodeRight[last];
+        for (int i = nodeStart[first]; i < nodeStart[last] + nodeCount[last]; i++)
+            output.add(items[i]);
+    }
+
+    protected void appendUnbounded(List<AbstractDrawable> output) {
+        for (int i = 0; i < nUnbounded; i++)
+            output.add(unbounded[i]);
+    }
+
+    protected static boolean overlap(float[] boxes, int o, float[] q) {
+        return boxes[o] <= q[1] && q[0] <= boxes[o + 1] && boxes[o + 2] <= q[3] && q[2] <= boxes[o + 3] && boxes[o + 4] <= q[5] && q[4] <= boxes[o + 5];
+    }
+
+    /** Slab test of a ray against a box, for t in [0;+inf[.*/
+    protected static boolean hit(float[] boxes, int o, float[] origin, float[] inv) {
+        double tmin = 0;
+        double tmax = Double.POSITIVE_INFINITY;
+        for (int a = 0; a < 3; a++) {
+            double t1 = (boxes[o + a * 2] - origin[a]) * inv[a];
+            double t2 = (boxes[o + a * 2 + 1] - origin[a]) * inv[a];
+            if (Double.isNaN(t1) || Double.isNaN(t2)) {
+                // ray parallel to the slab and starting on its border
+                continue;
+            }
+            tmin = Math.max(tmin, Math.min(t1, t2));
+            tmax = Math.min(tmax, Math.max(t1, t2));
+            if (tmax < tmin)
+                return false;
+        }
+        return true;
+    }
+
+    /** Copy the bounds of a drawable and return true if they are valid.*/
+    protected static boolean readBounds(AbstractDrawable d, float[] boxes, int o) {
+        BoundingBox3d b = d.getBounds();
+        if (b == null || !b.valid())
+            return false;
+        boxes[o] = b.getXmin();
+        boxes[o + 1] = b.getXmax();
+        boxes[o + 2] = b.getYmin();
+        boxes[o + 3] = b.getYmax();
+        boxes[o + 4] = b.getZmin();
+        boxes[o + 5] = b.getZmax();
+        for (int i = 0; i < 6; i++)
+            if (Float.isNaN(boxes[o + i]))
+                return false;
+        return true;
+    }
+
+    protected static void resetBox(float[] boxes, int o) {
+        boxes[o] = boxes[o + 2] = boxes[o + 4] = Float.MAX_VALUE;
+        boxes[o + 1] = boxes[o + 3] = boxes[o + 5] = -Float.MAX_VALUE;
+    }
+
+    protected static void unionBox(float[] boxes, int o, float[] other, int p) {
+        for (int a = 0; a < 6; a += 2) {
+            if (other[p + a] < boxes[o + a])
+                boxes[o + a] = other[p + a];
+            if (other[p + a + 1] > boxes[o + a + 1])
+                boxes[o + a + 1] = other[p + a + 1];
+        }
+    }
+
+    /* */
+
+    /** Return the box of all bounded drawables, or null if there is none. */
+    public BoundingBox3d getBounds() {
+        if (nItems == 0)
+            return null;
+        return new BoundingBox3d(nodeBoxes[0], nodeBoxes[1], nodeBoxes[2], nodeBoxes[3], nodeBoxes[4], nodeBoxes[5]);
+    }
+
+    /** Return the number of indexed drawables, including those without bounds. */
+    public int size() {
+        return nItems + nUnbounded;
+    }
+
+    public int getNodeCount() {
+        return nNodes;
+    }
+
+    /* */
+
+    protected AbstractDrawable[] items;
+    protected float[] itemBoxes;
+    protected int nItems;
+    protected AbstractDrawable[] unbounded;
+    protected int nUnbounded;
+
+    protected float[] nodeBoxes;
+    protected int[] nodeStart;
+    protected int[] nodeCount;
+    protected int[] nodeRight;
+    protected int nNodes;
+
+    /** Number of levels below the root. */
+    protected int depth;
+}
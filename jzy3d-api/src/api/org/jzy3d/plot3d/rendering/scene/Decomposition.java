@@ -38,4 +38,35 @@ public class Decomposition {
         }
         return selection;
     }
+
+    /**
+     * Expand drawables into the given list of monotypes, without allocating
+     * intermediate lists. On the contrary to {@link #getDecomposition(List)},
+     * monotypes are kept whatever their display status, so that a caller
+     * caching the output only has to check this status at rendering. Only
+     * displayed composites are expanded, but all visited composites are
+     * appended to the given list of composites if it is not null.
+     */
+    public static void decompose(List<AbstractDrawable> drawables, List<AbstractDrawable> monotypes, List<AbstractComposite> composites) {
+        for (int i = 0; i < drawables.size(); i++) {
+            AbstractDrawable c = drawables.get(i);
+            if (c instanceof AbstractComposite)
+                decompose((AbstractComposite) c, monotypes, composites);
+            else if (c != null)
+                monotypes.add(c);
+        }
+    }
+
+    /** @see #decompose(List, List, List) */
+    public static void decompose(AbstractComposite input, List<AbstractDrawable> monotypes, List<AbstractComposite> composites) {
+        if (composites != null)
+            composites.add(input);
+        if (!input.isDisplayed())
+            return;
+
+        List<AbstractDrawable> children = input.getDrawables();
+        synchronized (children) {
+            decompose(children, monotypes, composites);
+        }
+    }
 }
@@ -3,7 +3,10 @@ package org.jzy3d.plot3d.rendering.scene;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jzy3d.events.DrawableChangedEvent;
+import org.jzy3d.events.IDrawableListener;
 import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Frustum;
 import org.jzy3d.maths.TicToc;
 import org.jzy3d.plot3d.primitives.AbstractComposite;
 import org.jzy3d.plot3d.primitives.AbstractDrawable;
@@ -73,6 +76,7 @@ public class Graph {
                 c.dispose();
         // }
         components.clear();
+        clearDecomposition();
         scene = null;
     }
 
@@ -93,6 +97,7 @@ public class Graph {
     public void add(AbstractDrawable drawable, boolean updateViews) {
         synchronized (this) {
             components.add(drawable);
+            invalidateDecomposition();
         }
 
         if (updateViews)
@@ -127,6 +132,7 @@ public class Graph {
         boolean output = false;
         synchronized (this) {
             output = components.remove(drawable);
+            invalidateDecomposition();
         }
         BoundingBox3d bbox = getBounds();
         for (View view : scene.views) {
@@ -141,6 +147,15 @@ public class Graph {
         return remove(drawable, true);
     }
 
+    /**
+     * Remove all drawables from the graph, without disposing them nor updating
+     * the views, e.g. to fill the graph with another scene before next render.
+     */
+    public synchronized void clear() {
+        components.clear();
+        invalidateDecomposition();
+    }
+
     public List<AbstractDrawable> getAll() {
         return components;
     }
@@ -178,7 +193,9 @@ public class Graph {
 
     protected synchronized void draw(GL gl, GLU glu, Camera camera, List<AbstractDrawable> components, boolean sort) {
         glMatrixMode(gl);
-        if (!sort) {
+        if (culling && camera != null && gl.isGL2()) {
+            drawCulled(gl, glu, camera, sort);
+        } else if (!sort) {
             drawSimple(gl, glu, camera, components);
         } else {
             drawDecomposition(gl, glu, camera);
@@ -204,15 +221,143 @@ public class Graph {
 
     public void drawDecomposition(GL gl, GLU glu, Camera camera) {
         // Render sorted monotypes
-        List<AbstractDrawable> monotypes = getDecomposition();
+        List<AbstractDrawable> monotypes = getCachedDecomposition();
         strategy.sort(monotypes, camera);
 
-        for (AbstractDrawable d : monotypes) {
+        for (int i = 0; i < monotypes.size(); i++) {
+            AbstractDrawable d = monotypes.get(i);
             if (d.isDisplayed())
                 d.draw(gl, glu, camera);
         }
     }
 
+    /**
+     * Render only monotypes which bounds intersect the camera frustum, sorting
+     * them if required. The frustum is read from the current GL projection
+     * matrix and from the graph {@link Transform}, which is assumed to be
+     * shared by all drawables.
+     */
+    public void drawCulled(GL gl, GLU glu, Camera camera, boolean sort) {
+        BoundingVolumeHierarchy index = getSpatialIndex();
+
+        if (transform != null)
+            transform.execute(gl);
+        else
+            gl.getGL2().glLoadIdentity();
+        gl.getGL2().glGetFloatv(GLMatrixFunc.GL_PROJECTION_MATRIX, projection, 0);
+        gl.getGL2().glGetFloatv(GLMatrixFunc.GL_MODELVIEW_MATRIX, modelview, 0);
+        if (frustum == null)
+            frustum = new Frustum(projection, modelview);
+        else
+            frustum.setMatrix(Frustum.multiply(projection, modelview));
+
+        visible.clear();
+        index.query(frustum, visible);
+        if (sort)
+            strategy.sort(visible, camera);
+
+        for (int i = 0; i < visible.size(); i++) {
+            AbstractDrawable d = visible.get(i);
+            if (d.isDisplayed())
+                d.draw(gl, glu, camera);
+        }
+    }
+
+    /**
+     * Return a {@link BoundingVolumeHierarchy} over the current
+     * decomposition, built again after the decomposition changed. Queries
+     * may be used for picking and selection, whatever culling is enabled or
+     * not. The index is refit when a decomposed drawable fires a
+     * {@link DrawableChangedEvent} related to its data or transform. Call
+     * {@link #refitSpatialIndex()} after editing drawables in a way that
+     * does not fire events, such as changing coordinates in place.
+     */
+    public synchronized BoundingVolumeHierarchy getSpatialIndex() {
+        List<AbstractDrawable> monotypes = getCachedDecomposition();
+        if (spatialIndex == null) {
+            spatialIndex = new BoundingVolumeHierarchy(monotypes);
+            spatialIndexRefit = false;
+        } else if (spatialIndexRefit) {
+            spatialIndex.refit();
+            spatialIndexRefit = false;
+        }
+        return spatialIndex;
+    }
+
+    /** Update the spatial index boxes at next query or culled rendering. */
+    public void refitSpatialIndex() {
+        spatialIndexRefit = true;
+    }
+
+    public boolean isCulling() {
+        return culling;
+    }
+
+    /**
+     * Enable frustum culling of decomposed drawables at rendering. Culling
+     * ignores {@link org.jzy3d.plot3d.transform.space.SpaceTransformer}s and should thus be left disabled for
+     * charts with log axes.
+     */
+    public void setCulling(boolean culling) {
+        this.culling = culling;
+    }
+
+    /**
+     * Return the decomposition used for rendering, which is only rebuilt
+     * after {@link #invalidateDecomposition()}. This happens when adding or
+     * removing a drawable from the graph, or when a decomposed
+     * {@link AbstractComposite} fires a {@link DrawableChangedEvent} related
+     * to its content or display status. The same list is reused from one
+     * frame to the other and is sorted in place by the ordering strategy.
+     * 
+     * On the contrary to {@link #getDecomposition()}, the returned list
+     * contains monotypes that are not displayed.
+     */
+    protected synchronized List<AbstractDrawable> getCachedDecomposition() {
+        if (!decompositionValid) {
+            // validate first so that a change occuring while rebuilding
+            // invalidates the result
+            decompositionValid = true;
+
+            for (int i = 0; i < decomposedComposites.size(); i++)
+                decomposedComposites.get(i).removeDrawableListener(decompositionListener);
+            for (int i = 0; i < decomposition.size(); i++)
+                decomposition.get(i).removeDrawableListener(spatialIndexListener);
+            decomposedComposites.clear();
+            decomposition.clear();
+
+            Decomposition.decompose(components, decomposition, decomposedComposites);
+            spatialIndex = null;
+
+            for (int i = 0; i < decomposedComposites.size(); i++)
+                decomposedComposites.get(i).addDrawableListener(decompositionListener);
+            for (int i = 0; i < decomposition.size(); i++)
+                decomposition.get(i).addDrawableListener(spatialIndexListener);
+        }
+        return decomposition;
+    }
+
+    /**
+     * Force decomposition to be rebuilt at next rendering. Only required when
+     * editing the list returned by {@link #getAll()} or
+     * {@link AbstractComposite#getDrawables()} directly.
+     */
+    public void invalidateDecomposition() {
+        decompositionValid = false;
+    }
+
+    protected synchronized void clearDecomposition() {
+        for (int i = 0; i < decomposedComposites.size(); i++)
+            decomposedComposites.get(i).removeDrawableListener(decompositionListener);
+        for (int i = 0; i < decomposition.size(); i++)
+            decomposition.get(i).removeDrawableListener(spatialIndexListener);
+        decomposedComposites.clear();
+        decomposition.clear();
+        decompositionValid = false;
+        spatialIndex = null;
+        visible.clear();
+    }
+
     /**
      * Expand all {@link AbstractComposites} instance into a list of atomic
      * {@link AbstractDrawable} types and return all the current Graph
@@ -369,7 +514,36 @@ public class Graph {
 
     protected List<AbstractDrawable> components;
     protected Scene scene;
+
+    protected ArrayList<AbstractDrawable> decomposition = new ArrayList<AbstractDrawable>();
+    protected ArrayList<AbstractComposite> decomposedComposites = new ArrayList<AbstractComposite>();
+    protected volatile boolean decompositionValid = false;
+    protected IDrawableListener decompositionListener = new IDrawableListener() {
+        @Override
+        public void drawableChanged(DrawableChangedEvent e) {
+            if (e.what() == DrawableChangedEvent.FIELD_DATA || e.what() == DrawableChangedEvent.FIELD_DISPLAYED)
+                invalidateDecomposition();
+            else if (e.what() == DrawableChangedEvent.FIELD_TRANSFORM)
+                refitSpatialIndex();
+        }
+    };
+    /** Keeps the spatial index boxes in sync with decomposed monotypes. */
+    protected IDrawableListener spatialIndexListener = new IDrawableListener() {
+        @Override
+        public void drawableChanged(DrawableChangedEvent e) {
+            if (e.what() == DrawableChangedEvent.FIELD_DATA || e.what() == DrawableChangedEvent.FIELD_TRANSFORM)
+                refitSpatialIndex();
+        }
+    };
     protected Transform transform;
+
+    protected boolean culling = false;
+    protected BoundingVolumeHierarchy spatialIndex;
+    protected volatile boolean spatialIndexRefit = false;
+    protected ArrayList<AbstractDrawable> visible = new ArrayList<AbstractDrawable>();
+    protected Frustum frustum;
+    protected float[] projection = new float[16];
+    protected float[] modelview = new float[16];
     // protected OrderingStrategy strategy;
 
     protected boolean VERBOSE = false;
@@ -0,0 +1,107 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jogamp.opengl.util.gl2.GLUT;
+
+/**
+ * Glyph bitmaps standing for the GLUT bitmap fonts, for drawing text with a
+ * {@link SoftwareGL}. GLUT does not publish the bits of its fonts, so glyphs are
+ * rasterized from the closest AWT font, without antialiasing, and advance by the
+ * GLUT character width so that texts keep the length given by
+ * {@link GLUT#glutBitmapLength(int, String)}.
+ */
+public class SoftwareBitmapFont {
+    /** A glyph in the layout of <code>glBitmap</code>: rows bottom first, most significant bit first. */
+    public static class Glyph {
+        public Glyph(int width, int height, float xorig, float yorig, float xmove, byte[] bits) {
+            this.width = width;
+            this.height = height;
+            this.xorig = xorig;
+            this.yorig = yorig;
+            this.xmove = xmove;
+            this.bits = bits;
+        }
+
+        /** Bytes per row of bits. */
+        public int getRowBytes() {
+            return (width + 7) / 8;
+        }
+
+        public final int width;
+        public final int height;
+        public final float xorig;
+        public final float yorig;
+        public final float xmove;
+        public final byte[] bits;
+    }
+
+    /** Return the glyph of a character in one of the GLUT bitmap fonts. */
+    public static synchronized Glyph getGlyph(int font, char c) {
+        Integer key = (font << 16) | c;
+        Glyph glyph = glyphs.get(key);
+        if (glyph == null) {
+            glyph = rasterize(awtFont(font), c, glut.glutBitmapWidth(font, c));
+            glyphs.put(key, glyph);
+        }
+        return glyph;
+    }
+
+    /** The AWT font of the size and family of a GLUT bitmap font. */
+    public static Font awtFont(int font) {
+        switch (font) {
+        case GLUT.BITMAP_9_BY_15:
+            return new Font(Font.MONOSPACED, Font.PLAIN, 14);
+        case GLUT.BITMAP_8_BY_13:
+            return new Font(Font.MONOSPACED, Font.PLAIN, 12);
+        case GLUT.BITMAP_TIMES_ROMAN_10:
+            return new Font(Font.SERIF, Font.PLAIN, 10);
+        case GLUT.BITMAP_TIMES_ROMAN_24:
+            return new Font(Font.SERIF, Font.PLAIN, 24);
+        case GLUT.BITMAP_HELVETICA_10:
+            return new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+        case GLUT.BITMAP_HELVETICA_12:
+            return new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+        case GLUT.BITMAP_HELVETICA_18:
+            return new Font(Font.SANS_SERIF, Font.PLAIN, 18);
+        default:
+            throw new IllegalArgumentException("Unknown GLUT bitmap font " + font);
+        }
+    }
+
+    protected static Glyph rasterize(Font font, char c, int advance) {
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = probe.createGraphics();
+        FontMetrics metrics = g.getFontMetrics(font);
+        g.dispose();
+
+        int width = Math.max(1, Math.max(advance, metrics.charWidth(c)));
+        int height = metrics.getAscent() + metrics.getDescent();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g.setFont(font);
+        g.setColor(java.awt.Color.WHITE);
+        g.drawString(String.valueOf(c), 0, metrics.getAscent());
+        g.dispose();
+
+        int rowBytes = (width + 7) / 8;
+        byte[] bits = new byte[rowBytes * height];
+        for (int y = 0; y < height; y++) {
+            int row = (height - 1 - y) * rowBytes;
+            for (int x = 0; x < width; x++)
+                if ((image.getRaster().getSample(x, y, 0) & 0x80) != 0)
+                    bits[row + x / 8] |= 0x80 >>> (x % 8);
+        }
+        return new Glyph(width, height, 0, metrics.getDescent(), advance, bits);
+    }
+
+    protected static GLUT glut = new GLUT();
+    protected static Map<Integer, Glyph> glyphs = new HashMap<Integer, Glyph>();
+}
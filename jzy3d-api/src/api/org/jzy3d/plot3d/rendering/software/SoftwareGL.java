@@ -0,0 +1,1097 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+/**
+ * A {@link GL2} emulating the fixed function pipeline used by drawables, and recording
+ * the resulting primitives into a {@link SoftwareRasterizer}.
+ *
+ * Supported features are immediate mode geometry (<code>glBegin</code>/<code>glEnd</code>),
+ * the modelview and projection matrix stacks, viewport, depth test, alpha blending,
+ * polygon modes and offsets, line width, point size, bitmaps (thus GLUT bitmap text),
+ * <code>glDrawPixels</code> and <code>glReadPixels</code>. Geometry is clipped against
+ * the near plane and the viewport.
+ *
+ * Lighting and materials are ignored, so lit drawables render with their flat colors.
+ * Buffer objects, vertex arrays, textures and shaders are not supported: creating or
+ * drawing them throws a {@link GLException}. Drawables relying on them, such as
+ * {@link org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO}, retained
+ * {@link org.jzy3d.plot3d.primitives.Scatter}s and textured drawables, can not be
+ * rendered by the software toolkit. Other unsupported methods of {@link GL2Adapter}
+ * do nothing.
+ *
+ * An instance must be used by one thread at a time.
+ */
+public class SoftwareGL extends GL2Adapter {
+    /** Depth difference applied by one unit of <code>glPolygonOffset</code>. */
+    public static float DEPTH_RESOLUTION = 1f / (1 << 20);
+
+    public SoftwareGL(SoftwareRasterizer rasterizer) {
+        this.rasterizer = rasterizer;
+        this.viewport = new int[] { 0, 0, rasterizer.getWidth(), rasterizer.getHeight() };
+        identity(modelview);
+        identity(projection);
+        identity(texture);
+    }
+
+    public SoftwareRasterizer getRasterizer() {
+        return rasterizer;
+    }
+
+    /* PROFILE */
+
+    @Override
+    public boolean isGL() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES1() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES2() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES3() {
+        return true;
+    }
+
+    @Override
+    public boolean isGL2GL3() {
+        return true;
+    }
+
+    @Override
+    public GL getGL() {
+        return this;
+    }
+
+    @Override
+    public GL2 getGL2() {
+        return this;
+    }
+
+    @Override
+    public GL2ES1 getGL2ES1() {
+        return this;
+    }
+
+    @Override
+    public GL2ES2 getGL2ES2() {
+        return this;
+    }
+
+    @Override
+    public GL2ES3 getGL2ES3() {
+        return this;
+    }
+
+    @Override
+    public GL2GL3 getGL2GL3() {
+        return this;
+    }
+
+    @Override
+    public GL getRootGL() {
+        return this;
+    }
+
+    @Override
+    public GL getDownstreamGL() {
+        return this;
+    }
+
+    @Override
+    public String glGetString(int name) {
+        switch (name) {
+        case GL.GL_VENDOR:
+            return "jzy3d";
+        case GL.GL_RENDERER:
+            return "Software rasterizer";
+        case GL.GL_VERSION:
+            return "1.1";
+        default:
+            return "";
+        }
+    }
+
+    @Override
+    public void glFlush() {
+        rasterizer.flush();
+    }
+
+    @Override
+    public void glFinish() {
+        rasterizer.flush();
+    }
+
+    /* STATE */
+
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        viewport[0] = x;
+        viewport[1] = y;
+        viewport[2] = width;
+        viewport[3] = height;
+    }
+
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        clearColor = pack(red, green, blue, alpha);
+    }
+
+    @Override
+    public void glClearDepth(double depth) {
+        clearDepth = (float) depth;
+    }
+
+    @Override
+    public void glClearDepthf(float depth) {
+        clearDepth = depth;
+    }
+
+    @Override
+    public void glClear(int mask) {
+        rasterizer.clear((mask & GL.GL_COLOR_BUFFER_BIT) != 0, clearColor, (mask & GL.GL_DEPTH_BUFFER_BIT) != 0, clearDepth);
+    }
+
+    @Override
+    public void glEnable(int cap) {
+        enabled.add(cap);
+    }
+
+    @Override
+    public void glDisable(int cap) {
+        enabled.remove(cap);
+    }
+
+    @Override
+    public boolean glIsEnabled(int cap) {
+        return enabled.contains(cap);
+    }
+
+    @Override
+    public void glDepthFunc(int func) {
+        depthFunc = func;
+    }
+
+    @Override
+    public void glDepthMask(boolean flag) {
+        depthMask = flag;
+    }
+
+    /** Set the mode of both faces, whatever the given face. */
+    @Override
+    public void glPolygonMode(int face, int mode) {
+        polygonMode = mode;
+    }
+
+    @Override
+    public void glPolygonOffset(float factor, float units) {
+        offsetFactor = factor;
+        offsetUnits = units;
+    }
+
+    @Override
+    public void glLineWidth(float width) {
+        lineWidth = width;
+    }
+
+    @Override
+    public void glPointSize(float size) {
+        pointSize = size;
+    }
+
+    @Override
+    public void glPixelStorei(int pname, int param) {
+        if (pname == GL.GL_UNPACK_ALIGNMENT)
+            unpackAlignment = Math.max(1, param);
+    }
+
+    @Override
+    public void glPixelZoom(float xfactor, float yfactor) {
+        zoomX = xfactor;
+        zoomY = yfactor;
+    }
+
+    @Override
+    public void glGetIntegerv(int pname, int[] params, int offset) {
+        get(pname, params, offset);
+    }
+
+    @Override
+    public void glGetIntegerv(int pname, IntBuffer params) {
+        get(pname, params, 0);
+    }
+
+    @Override
+    public void glGetFloatv(int pname, float[] params, int offset) {
+        get(pname, params, offset);
+    }
+
+    @Override
+    public void glGetFloatv(int pname, FloatBuffer params) {
+        get(pname, params, 0);
+    }
+
+    @Override
+    public void glGetDoublev(int pname, double[] params, int offset) {
+        get(pname, params, offset);
+    }
+
+    @Override
+    public void glGetDoublev(int pname, DoubleBuffer params) {
+        get(pname, params, 0);
+    }
+
+    /* MATRIX STACK */
+
+    @Override
+    public void glMatrixMode(int mode) {
+        matrixMode = mode;
+    }
+
+    @Override
+    public void glLoadIdentity() {
+        identity(current());
+    }
+
+    @Override
+    public void glPushMatrix() {
+        stack().push(current().clone());
+    }
+
+    @Override
+    public void glPopMatrix() {
+        if (!stack().isEmpty())
+            System.arraycopy(stack().pop(), 0, current(), 0, 16);
+    }
+
+    @Override
+    public void glLoadMatrixf(float[] m, int offset) {
+        System.arraycopy(matrix(m, offset), 0, current(), 0, 16);
+    }
+
+    @Override
+    public void glLoadMatrixf(FloatBuffer m) {
+        System.arraycopy(matrix(m, 0), 0, current(), 0, 16);
+    }
+
+    @Override
+    public void glLoadMatrixd(double[] m, int offset) {
+        System.arraycopy(matrix(m, offset), 0, current(), 0, 16);
+    }
+
+    @Override
+    public void glLoadMatrixd(DoubleBuffer m) {
+        System.arraycopy(matrix(m, 0), 0, current(), 0, 16);
+    }
+
+    @Override
+    public void glMultMatrixf(float[] m, int offset) {
+        multiply(current(), matrix(m, offset));
+    }
+
+    @Override
+    public void glMultMatrixf(FloatBuffer m) {
+        multiply(current(), matrix(m, 0));
+    }
+
+    @Override
+    public void glMultMatrixd(double[] m, int offset) {
+        multiply(current(), matrix(m, offset));
+    }
+
+    @Override
+    public void glMultMatrixd(DoubleBuffer m) {
+        multiply(current(), matrix(m, 0));
+    }
+
+    @Override
+    public void glTranslatef(float x, float y, float z) {
+        translate(current(), x, y, z);
+    }
+
+    @Override
+    public void glTranslated(double x, double y, double z) {
+        translate(current(), (float) x, (float) y, (float) z);
+    }
+
+    @Override
+    public void glScalef(float x, float y, float z) {
+        scale(current(), x, y, z);
+    }
+
+    @Override
+    public void glScaled(double x, double y, double z) {
+        scale(current(), (float) x, (float) y, (float) z);
+    }
+
+    @Override
+    public void glRotatef(float angle, float x, float y, float z) {
+        rotate(current(), angle, x, y, z);
+    }
+
+    @Override
+    public void glRotated(double angle, double x, double y, double z) {
+        rotate(current(), (float) angle, (float) x, (float) y, (float) z);
+    }
+
+    @Override
+    public void glOrtho(double left, double right, double bottom, double top, double near, double far) {
+        ortho(current(), (float) left, (float) right, (float) bottom, (float) top, (float) near, (float) far);
+    }
+
+    @Override
+    public void glOrthof(float left, float right, float bottom, float top, float near, float far) {
+        ortho(current(), left, right, bottom, top, near, far);
+    }
+
+    /* GEOMETRY */
+
+    @Override
+    public void glBegin(int mode) {
+        primitive = mode;
+        count = 0;
+        mvp = projection.clone();
+        multiply(mvp, modelview);
+    }
+
+    @Override
+    public void glEnd() {
+        end();
+    }
+
+    @Override
+    public void glVertex2f(float x, float y) {
+        vertex(x, y, 0, 1);
+    }
+
+    @Override
+    public void glVertex2d(double x, double y) {
+        vertex((float) x, (float) y, 0, 1);
+    }
+
+    @Override
+    public void glVertex2i(int x, int y) {
+        vertex(x, y, 0, 1);
+    }
+
+    @Override
+    public void glVertex3f(float x, float y, float z) {
+        vertex(x, y, z, 1);
+    }
+
+    @Override
+    public void glVertex3d(double x, double y, double z) {
+        vertex((float) x, (float) y, (float) z, 1);
+    }
+
+    @Override
+    public void glVertex3i(int x, int y, int z) {
+        vertex(x, y, z, 1);
+    }
+
+    @Override
+    public void glVertex3fv(float[] v, int offset) {
+        vertex(v[offset], v[offset + 1], v[offset + 2], 1);
+    }
+
+    @Override
+    public void glVertex3dv(double[] v, int offset) {
+        vertex((float) v[offset], (float) v[offset + 1], (float) v[offset + 2], 1);
+    }
+
+    @Override
+    public void glVertex4f(float x, float y, float z, float w) {
+        vertex(x, y, z, w);
+    }
+
+    @Override
+    public void glVertex4d(double x, double y, double z, double w) {
+        vertex((float) x, (float) y, (float) z, (float) w);
+    }
+
+    @Override
+    public void glColor3f(float red, float green, float blue) {
+        color = pack(red, green, blue, 1);
+    }
+
+    @Override
+    public void glColor3d(double red, double green, double blue) {
+        color = pack((float) red, (float) green, (float) blue, 1);
+    }
+
+    @Override
+    public void glColor4f(float red, float green, float blue, float alpha) {
+        color = pack(red, green, blue, alpha);
+    }
+
+    @Override
+    public void glColor4d(double red, double green, double blue, double alpha) {
+        color = pack((float) red, (float) green, (float) blue, (float) alpha);
+    }
+
+    @Override
+    public void glColor3fv(float[] v, int offset) {
+        color = pack(v[offset], v[offset + 1], v[offset + 2], 1);
+    }
+
+    @Override
+    public void glColor4fv(float[] v, int offset) {
+        color = pack(v[offset], v[offset + 1], v[offset + 2], v[offset + 3]);
+    }
+
+    @Override
+    public void glColor3ub(byte red, byte green, byte blue) {
+        color = 0xFF000000 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+    }
+
+    @Override
+    public void glColor4ub(byte red, byte green, byte blue, byte alpha) {
+        color = (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+    }
+
+    /* PIXELS */
+
+    @Override
+    public void glRasterPos2f(float x, float y) {
+        rasterPos(x, y, 0, 1);
+    }
+
+    @Override
+    public void glRasterPos2d(double x, double y) {
+        rasterPos((float) x, (float) y, 0, 1);
+    }
+
+    @Override
+    public void glRasterPos2i(int x, int y) {
+        rasterPos(x, y, 0, 1);
+    }
+
+    @Override
+    public void glRasterPos3f(float x, float y, float z) {
+        rasterPos(x, y, z, 1);
+    }
+
+    @Override
+    public void glRasterPos3d(double x, double y, double z) {
+        rasterPos((float) x, (float) y, (float) z, 1);
+    }
+
+    @Override
+    public void glRasterPos3i(int x, int y, int z) {
+        rasterPos(x, y, z, 1);
+    }
+
+    @Override
+    public void glRasterPos4f(float x, float y, float z, float w) {
+        rasterPos(x, y, z, w);
+    }
+
+    @Override
+    public void glWindowPos2f(float x, float y) {
+        windowPos(x, y, 0);
+    }
+
+    @Override
+    public void glWindowPos2i(int x, int y) {
+        windowPos(x, y, 0);
+    }
+
+    @Override
+    public void glWindowPos3f(float x, float y, float z) {
+        windowPos(x, y, z);
+    }
+
+    @Override
+    public void glBitmap(int width, int height, float xorig, float yorig, float xmove, float ymove, byte[] bitmap, int offset) {
+        bitmap(width, height, xorig, yorig, xmove, ymove, bitmap, offset);
+    }
+
+    @Override
+    public void glBitmap(int width, int height, float xorig, float yorig, float xmove, float ymove, ByteBuffer bitmap) {
+        ByteBuffer b = bitmap.duplicate();
+        byte[] bits = new byte[b.remaining()];
+        b.get(bits);
+        bitmap(width, height, xorig, yorig, xmove, ymove, bits, 0);
+    }
+
+    /** Draw pixels given as RGBA or BGRA unsigned bytes. */
+    @Override
+    public void glDrawPixels(int width, int height, int format, int type, Buffer pixels) {
+        if (!rasterValid || !(pixels instanceof ByteBuffer) || type != GL.GL_UNSIGNED_BYTE || (format != GL.GL_RGBA && format != GL.GL_BGRA))
+            return;
+        ByteBuffer bytes = (ByteBuffer) pixels;
+        int[] argb = new int[width * height];
+        int p = bytes.position();
+        for (int k = 0; k < argb.length; k++, p += 4) {
+            int c0 = bytes.get(p) & 0xFF;
+            int c1 = bytes.get(p + 1) & 0xFF;
+            int c2 = bytes.get(p + 2) & 0xFF;
+            int a = bytes.get(p + 3) & 0xFF;
+            argb[k] = format == GL.GL_RGBA ? a << 24 | c0 << 16 | c1 << 8 | c2 : a << 24 | c2 << 16 | c1 << 8 | c0;
+        }
+        rasterizer.image(flags(), depthFunc, (int) Math.floor(raster[0]), (int) Math.floor(raster[1]), raster[2], width, height, argb, zoomX, zoomY);
+    }
+
+    /**
+     * Read pixels as RGBA or BGRA unsigned bytes, or as BGRA unsigned int 8_8_8_8_REV,
+     * after drawing pending primitives.
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Buffer pixels) {
+        if (pixels instanceof IntBuffer && format == GL.GL_BGRA && type == GL2GL3.GL_UNSIGNED_INT_8_8_8_8_REV)
+            rasterizer.readARGB(x, y, width, height, ((IntBuffer) pixels).duplicate());
+        else if (pixels instanceof ByteBuffer) {
+            ByteBuffer target = ((ByteBuffer) pixels).duplicate();
+            if (format == GL.GL_BGRA && type == GL2GL3.GL_UNSIGNED_INT_8_8_8_8_REV)
+                rasterizer.readARGB(x, y, width, height, target.order(ByteOrder.nativeOrder()).asIntBuffer());
+            else if (format == GL.GL_RGBA && type == GL.GL_UNSIGNED_BYTE)
+                rasterizer.readRGBA(x, y, width, height, target);
+            else if (format == GL.GL_BGRA && type == GL.GL_UNSIGNED_BYTE)
+                rasterizer.readBGRA(x, y, width, height, target);
+            else
+                throw new GLException("Unsupported pixel format " + format + " and type " + type);
+        } else
+            throw new GLException("Unsupported pixel format " + format + " and type " + type);
+    }
+
+    /**
+     * Draw a string with a GLUT bitmap font at the current raster position. GLUT only
+     * draws with the GL of the current native context, so glyphs are given by a
+     * {@link SoftwareBitmapFont}.
+     */
+    public void glutBitmapString(int font, String text) {
+        for (int k = 0; k < text.length(); k++) {
+            SoftwareBitmapFont.Glyph glyph = SoftwareBitmapFont.getGlyph(font, text.charAt(k));
+            if (!rasterValid)
+                return;
+            int x = (int) Math.floor(raster[0] - glyph.xorig);
+            int y = (int) Math.floor(raster[1] - glyph.yorig);
+            rasterizer.bitmap(flags(), depthFunc, x, y, raster[2], rasterColor, glyph.width, glyph.height, glyph.bits, 0, glyph.getRowBytes());
+            raster[0] += glyph.xmove;
+        }
+    }
+
+    /* MATRICES */
+
+    protected float[] current() {
+        if (matrixMode == GLMatrixFunc.GL_PROJECTION)
+            return projection;
+        if (matrixMode == GL.GL_TEXTURE)
+            return texture;
+        return modelview;
+    }
+
+    protected ArrayDeque<float[]> stack() {
+        if (matrixMode == GLMatrixFunc.GL_PROJECTION)
+            return projectionStack;
+        if (matrixMode == GL.GL_TEXTURE)
+            return textureStack;
+        return modelviewStack;
+    }
+
+    protected static void identity(float[] m) {
+        Arrays.fill(m, 0);
+        m[0] = m[5] = m[10] = m[15] = 1;
+    }
+
+    /** Multiply column major matrix m by n, storing the result in m. */
+    protected static void multiply(float[] m, float[] n) {
+        float[] r = new float[16];
+        for (int col = 0; col < 4; col++)
+            for (int row = 0; row < 4; row++)
+                r[col * 4 + row] = m[row] * n[col * 4] + m[4 + row] * n[col * 4 + 1] + m[8 + row] * n[col * 4 + 2] + m[12 + row] * n[col * 4 + 3];
+        System.arraycopy(r, 0, m, 0, 16);
+    }
+
+    protected static void translate(float[] m, float x, float y, float z) {
+        float[] t = new float[16];
+        identity(t);
+        t[12] = x;
+        t[13] = y;
+        t[14] = z;
+        multiply(m, t);
+    }
+
+    protected static void scale(float[] m, float x, float y, float z) {
+        float[] s = new float[16];
+        s[0] = x;
+        s[5] = y;
+        s[10] = z;
+        s[15] = 1;
+        multiply(m, s);
+    }
+
+    protected static void rotate(float[] m, float degrees, float x, float y, float z) {
+        float len = (float) Math.sqrt(x * x + y * y + z * z);
+        if (len == 0)
+            return;
+        x /= len;
+        y /= len;
+        z /= len;
+        float c = (float) Math.cos(Math.toRadians(degrees));
+        float s = (float) Math.sin(Math.toRadians(degrees));
+        float k = 1 - c;
+        float[] r = new float[16];
+        r[0] = x * x * k + c;
+        r[1] = y * x * k + z * s;
+        r[2] = x * z * k - y * s;
+        r[4] = x * y * k - z * s;
+        r[5] = y * y * k + c;
+        r[6] = y * z * k + x * s;
+        r[8] = x * z * k + y * s;
+        r[9] = y * z * k - x * s;
+        r[10] = z * z * k + c;
+        r[15] = 1;
+        multiply(m, r);
+    }
+
+    protected static void ortho(float[] m, float left, float right, float bottom, float top, float near, float far) {
+        float[] o = new float[16];
+        o[0] = 2 / (right - left);
+        o[5] = 2 / (top - bottom);
+        o[10] = -2 / (far - near);
+        o[12] = -(right + left) / (right - left);
+        o[13] = -(top + bottom) / (top - bottom);
+        o[14] = -(far + near) / (far - near);
+        o[15] = 1;
+        multiply(m, o);
+    }
+
+    protected static float[] matrix(float[] values, int offset) {
+        return Arrays.copyOfRange(values, offset, offset + 16);
+    }
+
+    protected static float[] matrix(double[] values, int offset) {
+        float[] m = new float[16];
+        for (int k = 0; k < 16; k++)
+            m[k] = (float) values[offset + k];
+        return m;
+    }
+
+    protected static float[] matrix(FloatBuffer values, int offset) {
+        float[] m = new float[16];
+        for (int k = 0; k < 16; k++)
+            m[k] = values.get(values.position() + offset + k);
+        return m;
+    }
+
+    protected static float[] matrix(DoubleBuffer values, int offset) {
+        float[] m = new float[16];
+        for (int k = 0; k < 16; k++)
+            m[k] = (float) values.get(values.position() + offset + k);
+        return m;
+    }
+
+    /* PRIMITIVES */
+
+    protected void vertex(float x, float y, float z, float w) {
+        if (primitive < 0)
+            return;
+        if (verts.length < (count + 1) * 4) {
+            verts = Arrays.copyOf(verts, verts.length * 2);
+            colors = Arrays.copyOf(colors, colors.length * 2);
+        }
+        transform(mvp, x, y, z, w, verts, count * 4);
+        colors[count++] = color;
+    }
+
+    protected void end() {
+        int mode = primitive;
+        primitive = -1;
+        int n = count;
+        switch (mode) {
+        case GL.GL_POINTS:
+            for (int k = 0; k < n; k++)
+                point(k, 0);
+            break;
+        case GL.GL_LINES:
+            for (int k = 0; k + 1 < n; k += 2)
+                line(k, k + 1, 0);
+            break;
+        case GL.GL_LINE_STRIP:
+        case GL.GL_LINE_LOOP:
+            for (int k = 0; k + 1 < n; k++)
+                line(k, k + 1, 0);
+            if (mode == GL.GL_LINE_LOOP && n > 2)
+                line(n - 1, 0, 0);
+            break;
+        case GL.GL_TRIANGLES:
+            for (int k = 0; k + 2 < n; k += 3)
+                polygon(k, k + 1, k + 2);
+            break;
+        case GL.GL_TRIANGLE_STRIP:
+            for (int k = 0; k + 2 < n; k++) {
+                if (k % 2 == 0)
+                    polygon(k, k + 1, k + 2);
+                else
+                    polygon(k + 1, k, k + 2);
+            }
+            break;
+        case GL.GL_TRIANGLE_FAN:
+            for (int k = 1; k + 1 < n; k++)
+                polygon(0, k, k + 1);
+            break;
+        case GL2.GL_QUADS:
+            for (int k = 0; k + 3 < n; k += 4)
+                polygon(k, k + 1, k + 2, k + 3);
+            break;
+        case GL2.GL_QUAD_STRIP:
+            for (int k = 0; k + 3 < n; k += 2)
+                polygon(k, k + 1, k + 3, k + 2);
+            break;
+        case GL2.GL_POLYGON:
+            int[] all = new int[n];
+            for (int k = 0; k < n; k++)
+                all[k] = k;
+            if (n > 2)
+                polygon(all);
+            break;
+        default:
+            break;
+        }
+        count = 0;
+    }
+
+    protected void polygon(int... indices) {
+        if (polygonMode == GL2GL3.GL_POINT) {
+            for (int k : indices)
+                point(k, enabled.contains(GL2GL3.GL_POLYGON_OFFSET_POINT) ? offsetUnits * DEPTH_RESOLUTION : 0);
+        } else if (polygonMode == GL2GL3.GL_LINE) {
+            float offset = enabled.contains(GL2GL3.GL_POLYGON_OFFSET_LINE) ? offsetUnits * DEPTH_RESOLUTION : 0;
+            for (int k = 0; k < indices.length; k++)
+                line(indices[k], indices[(k + 1) % indices.length], offset);
+        } else
+            fill(indices);
+    }
+
+    /** Clip a polygon against the near plane, then draw it as a fan of triangles. */
+    protected void fill(int[] indices) {
+        int n = indices.length;
+        float[] clip = new float[(n + 1) * 2 * 4];
+        int[] clipColors = new int[(n + 1) * 2];
+        int m = 0;
+        for (int k = 0; k < n; k++) {
+            int a = indices[k] * 4;
+            int b = indices[(k + 1) % n] * 4;
+            float da = verts[a + 2] + verts[a + 3];
+            float db = verts[b + 2] + verts[b + 3];
+            if (da >= 0) {
+                System.arraycopy(verts, a, clip, m * 4, 4);
+                clipColors[m++] = colors[a / 4];
+            }
+            if ((da >= 0) != (db >= 0)) {
+                float t = da / (da - db);
+                for (int c = 0; c < 4; c++)
+                    clip[m * 4 + c] = verts[a + c] + (verts[b + c] - verts[a + c]) * t;
+                clipColors[m++] = SoftwareRasterizer.mix(colors[a / 4], colors[b / 4], t);
+            }
+        }
+        if (m < 3)
+            return;
+
+        float[] win = new float[m * 3];
+        for (int k = 0; k < m; k++) {
+            if (!(clip[k * 4 + 3] > 0) || !window(clip, k * 4, win, k * 3))
+                return;
+        }
+        boolean offset = enabled.contains(GL.GL_POLYGON_OFFSET_FILL);
+        int flags = flags();
+        for (int k = 1; k + 1 < m; k++) {
+            int a = 0;
+            int b = k * 3;
+            int c = (k + 1) * 3;
+            float z = offset ? offset(win, a, b, c) : 0;
+            rasterizer.triangle(flags, depthFunc, viewport, win[a], win[a + 1], win[a + 2], clipColors[0], win[b], win[b + 1], win[b + 2], clipColors[k], win[c], win[c + 1], win[c + 2], clipColors[k + 1], z);
+        }
+    }
+
+    /** Depth offset of a triangle given its window coordinates, as computed by glPolygonOffset. */
+    protected float offset(float[] win, int a, int b, int c) {
+        float area = (win[b] - win[a]) * (win[c + 1] - win[a + 1]) - (win[c] - win[a]) * (win[b + 1] - win[a + 1]);
+        float slope = 0;
+        if (area != 0) {
+            float dzdx = ((win[b + 2] - win[a + 2]) * (win[c + 1] - win[a + 1]) - (win[c + 2] - win[a + 2]) * (win[b + 1] - win[a + 1])) / area;
+            float dzdy = ((win[c + 2] - win[a + 2]) * (win[b] - win[a]) - (win[b + 2] - win[a + 2]) * (win[c] - win[a])) / area;
+            slope = Math.max(Math.abs(dzdx), Math.abs(dzdy));
+        }
+        return offsetFactor * slope + offsetUnits * DEPTH_RESOLUTION;
+    }
+
+    protected void line(int i0, int i1, float zOffset) {
+        float[] clip = new float[8];
+        System.arraycopy(verts, i0 * 4, clip, 0, 4);
+        System.arraycopy(verts, i1 * 4, clip, 4, 4);
+        int c0 = colors[i0];
+        int c1 = colors[i1];
+        float d0 = clip[2] + clip[3];
+        float d1 = clip[6] + clip[7];
+        if (d0 < 0 && d1 < 0)
+            return;
+        if (d0 < 0 || d1 < 0) {
+            float t = d0 / (d0 - d1);
+            int from = d0 < 0 ? 0 : 4;
+            for (int c = 0; c < 4; c++)
+                clip[from + c] = verts[i0 * 4 + c] + (verts[i1 * 4 + c] - verts[i0 * 4 + c]) * t;
+            if (d0 < 0)
+                c0 = SoftwareRasterizer.mix(c0, c1, t);
+            else
+                c1 = SoftwareRasterizer.mix(c0, c1, t);
+        }
+        float[] win = new float[6];
+        if (!(clip[3] > 0) || !(clip[7] > 0) || !window(clip, 0, win, 0) || !window(clip, 4, win, 3))
+            return;
+        rasterizer.line(flags(), depthFunc, viewport, win[0], win[1], win[2], c0, win[3], win[4], win[5], c1, lineWidth, zOffset);
+    }
+
+    protected void point(int index, float zOffset) {
+        int v = index * 4;
+        float w = verts[v + 3];
+        if (!(w > 0) || Math.abs(verts[v]) > w || Math.abs(verts[v + 1]) > w || Math.abs(verts[v + 2]) > w)
+            return;
+        float[] win = new float[3];
+        window(verts, v, win, 0);
+        rasterizer.point(flags(), depthFunc, viewport, win[0], win[1], win[2] + zOffset, colors[index], pointSize);
+    }
+
+    /** Convert clip coordinates to window coordinates, returning false if they are not finite. */
+    protected boolean window(float[] clip, int c, float[] win, int w) {
+        float iw = 1 / clip[c + 3];
+        win[w] = viewport[0] + (clip[c] * iw + 1) * viewport[2] / 2;
+        win[w + 1] = viewport[1] + (clip[c + 1] * iw + 1) * viewport[3] / 2;
+        win[w + 2] = (clip[c + 2] * iw + 1) / 2;
+        return !Float.isNaN(win[w] + win[w + 1] + win[w + 2]) && !Float.isInfinite(win[w] + win[w + 1] + win[w + 2]);
+    }
+
+    protected static void transform(float[] m, float x, float y, float z, float w, float[] out, int o) {
+        out[o] = m[0] * x + m[4] * y + m[8] * z + m[12] * w;
+        out[o + 1] = m[1] * x + m[5] * y + m[9] * z + m[13] * w;
+        out[o + 2] = m[2] * x + m[6] * y + m[10] * z + m[14] * w;
+        out[o + 3] = m[3] * x + m[7] * y + m[11] * z + m[15] * w;
+    }
+
+    protected int flags() {
+        boolean depthTest = enabled.contains(GL.GL_DEPTH_TEST);
+        return (depthTest ? SoftwareRasterizer.DEPTH_TEST : 0) | (depthTest && depthMask ? SoftwareRasterizer.DEPTH_WRITE : 0) | (enabled.contains(GL.GL_BLEND) ? SoftwareRasterizer.BLEND : 0);
+    }
+
+    /* PIXELS */
+
+    protected void rasterPos(float x, float y, float z, float w) {
+        float[] m = projection.clone();
+        multiply(m, modelview);
+        float[] clip = new float[4];
+        transform(m, x, y, z, w, clip, 0);
+        rasterValid = clip[3] > 0 && Math.abs(clip[0]) <= clip[3] && Math.abs(clip[1]) <= clip[3] && Math.abs(clip[2]) <= clip[3];
+        if (rasterValid)
+            window(clip, 0, raster, 0);
+        rasterColor = color;
+    }
+
+    protected void windowPos(float x, float y, float z) {
+        raster[0] = x;
+        raster[1] = y;
+        raster[2] = z;
+        rasterValid = true;
+        rasterColor = color;
+    }
+
+    protected void bitmap(int width, int height, float xorig, float yorig, float xmove, float ymove, byte[] bits, int offset) {
+        if (!rasterValid)
+            return;
+        if (width > 0 && height > 0) {
+            int rowBytes = ((width + 7) / 8 + unpackAlignment - 1) / unpackAlignment * unpackAlignment;
+            int x = (int) Math.floor(raster[0] - xorig);
+            int y = (int) Math.floor(raster[1] - yorig);
+            rasterizer.bitmap(flags(), depthFunc, x, y, raster[2], rasterColor, width, height, bits, offset, rowBytes);
+        }
+        raster[0] += xmove;
+        raster[1] += ymove;
+    }
+
+    /* QUERIES */
+
+    protected void get(int pname, Object target, int offset) {
+        float[] values = query(pname);
+        if (values == null)
+            return;
+        for (int k = 0; k < values.length; k++) {
+            if (target instanceof int[])
+                ((int[]) target)[offset + k] = (int) values[k];
+            else if (target instanceof float[])
+                ((float[]) target)[offset + k] = values[k];
+            else if (target instanceof double[])
+                ((double[]) target)[offset + k] = values[k];
+            else if (target instanceof IntBuffer)
+                ((IntBuffer) target).put(((IntBuffer) target).position() + k, (int) values[k]);
+            else if (target instanceof FloatBuffer)
+                ((FloatBuffer) target).put(((FloatBuffer) target).position() + k, values[k]);
+            else if (target instanceof DoubleBuffer)
+                ((DoubleBuffer) target).put(((DoubleBuffer) target).position() + k, values[k]);
+        }
+    }
+
+    protected float[] query(int pname) {
+        switch (pname) {
+        case GL.GL_VIEWPORT:
+            return new float[] { viewport[0], viewport[1], viewport[2], viewport[3] };
+        case GLMatrixFunc.GL_MODELVIEW_MATRIX:
+            return modelview.clone();
+        case GLMatrixFunc.GL_PROJECTION_MATRIX:
+            return projection.clone();
+        case GLMatrixFunc.GL_MATRIX_MODE:
+            return new float[] { matrixMode };
+        case GL2ES1.GL_CURRENT_COLOR:
+            return new float[] { ((color >> 16) & 0xFF) / 255f, ((color >> 8) & 0xFF) / 255f, (color & 0xFF) / 255f, ((color >>> 24) & 0xFF) / 255f };
+        case GL.GL_LINE_WIDTH:
+            return new float[] { lineWidth };
+        case GL2ES1.GL_POINT_SIZE:
+            return new float[] { pointSize };
+        case GL.GL_DEPTH_FUNC:
+            return new float[] { depthFunc };
+        case GL.GL_UNPACK_ALIGNMENT:
+            return new float[] { unpackAlignment };
+        case GL.GL_MAX_VIEWPORT_DIMS:
+            return new float[] { rasterizer.getWidth(), rasterizer.getHeight() };
+        default:
+            return null;
+        }
+    }
+
+    /* UNSUPPORTED */
+
+    @Override
+    public void glGenBuffers(int n, int[] buffers, int offset) {
+        throw unsupported("Buffer objects");
+    }
+
+    @Override
+    public void glGenBuffers(int n, IntBuffer buffers) {
+        throw unsupported("Buffer objects");
+    }
+
+    @Override
+    public void glBufferData(int target, long size, Buffer data, int usage) {
+        throw unsupported("Buffer objects");
+    }
+
+    @Override
+    public void glDrawArrays(int mode, int first, int count) {
+        throw unsupported("Vertex arrays");
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, Buffer indices) {
+        throw unsupported("Vertex arrays");
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, long offset) {
+        throw unsupported("Vertex arrays");
+    }
+
+    @Override
+    public void glGenTextures(int n, int[] textures, int offset) {
+        throw unsupported("Textures");
+    }
+
+    @Override
+    public void glGenTextures(int n, IntBuffer textures) {
+        throw unsupported("Textures");
+    }
+
+    @Override
+    public void glTexImage2D(int target, int level, int internalFormat, int width, int height, int border, int format, int type, Buffer pixels) {
+        throw unsupported("Textures");
+    }
+
+    @Override
+    public void glTexImage2D(int target, int level, int internalFormat, int width, int height, int border, int format, int type, long offset) {
+        throw unsupported("Textures");
+    }
+
+    @Override
+    public int glCreateShader(int type) {
+        throw unsupported("Shaders");
+    }
+
+    @Override
+    public int glCreateProgram() {
+        throw unsupported("Shaders");
+    }
+
+    protected static GLException unsupported(String feature) {
+        return new GLException(feature + " are not supported by the software toolkit");
+    }
+
+    /* UTILS */
+
+    protected static int pack(float r, float g, float b, float a) {
+        return SoftwareRasterizer.pack(a * 255, r * 255, g * 255, b * 255);
+    }
+
+    protected SoftwareRasterizer rasterizer;
+
+    protected int matrixMode = GLMatrixFunc.GL_MODELVIEW;
+    protected float[] modelview = new float[16];
+    protected float[] projection = new float[16];
+    protected float[] texture = new float[16];
+    protected ArrayDeque<float[]> modelviewStack = new ArrayDeque<float[]>();
+    protected ArrayDeque<float[]> projectionStack = new ArrayDeque<float[]>();
+    protected ArrayDeque<float[]> textureStack = new ArrayDeque<float[]>();
+    protected int[] viewport;
+
+    protected Set<Integer> enabled = new HashSet<Integer>();
+    protected int depthFunc = GL.GL_LESS;
+    protected boolean depthMask = true;
+    protected int polygonMode = GL2GL3.GL_FILL;
+    protected float offsetFactor;
+    protected float offsetUnits;
+    protected float lineWidth = 1;
+    protected float pointSize = 1;
+    protected int clearColor;
+    protected float clearDepth = 1;
+    protected int color = 0xFFFFFFFF;
+
+    protected int primitive = -1;
+    protected float[] mvp;
+    protected float[] verts = new float[64 * 4];
+    protected int[] colors = new int[64];
+    protected int count;
+
+    protected boolean rasterValid;
+    protected float[] raster = new float[3];
+    protected int rasterColor;
+    protected int unpackAlignment = 4;
+    protected float zoomX = 1;
+    protected float zoomY = 1;
+}
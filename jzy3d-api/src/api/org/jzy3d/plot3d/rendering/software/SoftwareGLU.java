@@ -0,0 +1,57 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.math.FloatUtil;
+
+/**
+ * A {@link GLU} applying its projection and viewing matrices to a given {@link GL2},
+ * as {@link GLU} applies them to the GL of the current native context.
+ *
+ * Projections between model and screen coordinates are inherited as they do not
+ * use any context. Quadrics are not supported.
+ */
+public class SoftwareGLU extends GLU {
+    public SoftwareGLU(GL2 gl) {
+        this.gl = gl;
+    }
+
+    @Override
+    public void gluOrtho2D(float left, float right, float bottom, float top) {
+        gl.glOrtho(left, right, bottom, top, -1, 1);
+    }
+
+    @Override
+    public void gluOrtho2D(double left, double right, double bottom, double top) {
+        gl.glOrtho(left, right, bottom, top, -1, 1);
+    }
+
+    @Override
+    public void gluPerspective(float fovy, float aspect, float zNear, float zFar) {
+        float[] m = new float[16];
+        FloatUtil.makePerspective(m, 0, true, (float) Math.toRadians(fovy), aspect, zNear, zFar);
+        gl.glMultMatrixf(m, 0);
+    }
+
+    @Override
+    public void gluPerspective(double fovy, double aspect, double zNear, double zFar) {
+        gluPerspective((float) fovy, (float) aspect, (float) zNear, (float) zFar);
+    }
+
+    @Override
+    public void gluLookAt(float eyeX, float eyeY, float eyeZ, float centerX, float centerY, float centerZ, float upX, float upY, float upZ) {
+        float[] m = new float[16];
+        float[] eye = { eyeX, eyeY, eyeZ };
+        float[] center = { centerX, centerY, centerZ };
+        float[] up = { upX, upY, upZ };
+        FloatUtil.makeLookAt(m, 0, eye, 0, center, 0, up, 0, new float[16]);
+        gl.glMultMatrixf(m, 0);
+    }
+
+    @Override
+    public void gluLookAt(double eyeX, double eyeY, double eyeZ, double centerX, double centerY, double centerZ, double upX, double upY, double upZ) {
+        gluLookAt((float) eyeX, (float) eyeY, (float) eyeZ, (float) centerX, (float) centerY, (float) centerZ, (float) upX, (float) upY, (float) upZ);
+    }
+
+    protected GL2 gl;
+}
@@ -0,0 +1,606 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jzy3d.maths.Parallel;
+
+/**
+ * Draws points, lines, triangles, bitmaps and images into an ARGB color buffer
+ * tested against a depth buffer, without any OpenGL implementation.
+ *
+ * Primitives are given in window coordinates and recorded until {@link #flush()}. The
+ * framebuffer is then split in bands of rows processed in parallel, each band drawing
+ * all recorded primitives clipped to its own rows, in the order they were recorded.
+ * As bands never share pixels, depth test and blending give the same image as a
+ * sequential drawing, without any synchronization.
+ *
+ * Buffers are stored bottom row first, like an OpenGL framebuffer. Colors are
+ * interpolated linearly in window space, which is exact for orthogonal projections.
+ */
+public class SoftwareRasterizer {
+    /** Number of rows below which a band is not split among threads. */
+    public static int ROWS_PER_BAND = 16;
+
+    /** Fragments are tested against the depth buffer. */
+    public static final int DEPTH_TEST = 1;
+    /** Fragments passing the depth test write their depth. */
+    public static final int DEPTH_WRITE = 2;
+    /** Fragments are blended with their source alpha. */
+    public static final int BLEND = 4;
+
+    public SoftwareRasterizer(int width, int height) {
+        setSize(width, height);
+    }
+
+    /** Resize the framebuffer, dropping its content and the recorded primitives. */
+    public void setSize(int width, int height) {
+        if (width < 1 || height < 1)
+            throw new IllegalArgumentException("Invalid framebuffer size: " + width + "x" + height);
+        this.width = width;
+        this.height = height;
+        this.color = new int[width * height];
+        this.depth = new float[width * height];
+        Arrays.fill(depth, 1);
+        reset();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /** Number of threads drawing the bands of the framebuffer. */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Return the ARGB color buffer, bottom row first. It is only up to date after a
+     * {@link #flush()}.
+     */
+    public int[] getColorBuffer() {
+        return color;
+    }
+
+    public float[] getDepthBuffer() {
+        return depth;
+    }
+
+    /* RECORDING */
+
+    /**
+     * Record the clear of the color buffer if clearColor is true, and of the depth
+     * buffer if clearDepth is true.
+     */
+    public void clear(boolean clearColor, int argb, boolean clearDepth, float z) {
+        pending++;
+        ints(3).add(CLEAR).add((clearColor ? 1 : 0) | (clearDepth ? 2 : 0)).add(argb);
+        floats(1).add(z);
+    }
+
+    /**
+     * Record a point of the given size centered on x, y.
+     *
+     * @param flags a combination of {@link #DEPTH_TEST}, {@link #DEPTH_WRITE} and {@link #BLEND}
+     * @param depthFunc the OpenGL depth comparison function
+     * @param clip the rectangle x, y, width, height out of which nothing is drawn
+     */
+    public void point(int flags, int depthFunc, int[] clip, float x, float y, float z, int argb, float size) {
+        header(POINT, flags, depthFunc, clip, 1).add(argb);
+        floats(4).add(x).add(y).add(z).add(size);
+    }
+
+    /** Record a line of the given width, interpolating colors from its first to its second end. */
+    public void line(int flags, int depthFunc, int[] clip, float x0, float y0, float z0, int argb0, float x1, float y1, float z1, int argb1, float width, float zOffset) {
+        header(LINE, flags, depthFunc, clip, 2).add(argb0).add(argb1);
+        floats(8).add(x0).add(y0).add(z0).add(x1).add(y1).add(z1).add(width).add(zOffset);
+    }
+
+    /** Record a triangle, interpolating colors between its vertices. Its depth is shifted by zOffset. */
+    public void triangle(int flags, int depthFunc, int[] clip, float x0, float y0, float z0, int argb0, float x1, float y1, float z1, int argb1, float x2, float y2, float z2, int argb2, float zOffset) {
+        header(TRIANGLE, flags, depthFunc, clip, 3).add(argb0).add(argb1).add(argb2);
+        floats(10).add(x0).add(y0).add(z0).add(x1).add(y1).add(z1).add(x2).add(y2).add(z2).add(zOffset);
+    }
+
+    /**
+     * Record a bitmap whose set bits are drawn with the given color, its lower left
+     * pixel being x, y. Rows are given bottom first, each bit from the most significant
+     * one of its byte, and each row starting on a multiple of rowBytes.
+     */
+    public void bitmap(int flags, int depthFunc, int x, int y, float z, int argb, int width, int height, byte[] bits, int offset, int rowBytes) {
+        byte[] copy = new byte[rowBytes * height];
+        System.arraycopy(bits, offset, copy, 0, Math.min(copy.length, bits.length - offset));
+        header(BITMAP, flags, depthFunc, null, 7).add(argb).add(x).add(y).add(width).add(height);
+        ints.add(rowBytes).add(arrays.size());
+        arrays.add(copy);
+        floats(1).add(z);
+    }
+
+    /**
+     * Record an image of ARGB pixels given bottom row first, its lower left pixel being
+     * x, y, each pixel covering zoomX by zoomY pixels of the framebuffer.
+     */
+    public void image(int flags, int depthFunc, int x, int y, float z, int width, int height, int[] argb, float zoomX, float zoomY) {
+        header(IMAGE, flags, depthFunc, null, 5).add(x).add(y).add(width).add(height).add(arrays.size());
+        arrays.add(argb);
+        floats(3).add(z).add(zoomX).add(zoomY);
+    }
+
+    /** Number of primitives waiting for the next {@link #flush()}. */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /* DRAWING */
+
+    /** Draw the recorded primitives into the framebuffer. */
+    public void flush() {
+        if (pending == 0)
+            return;
+        Parallel.forRange(0, height, parallelism, ROWS_PER_BAND, new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                drawBand(from, to);
+            }
+        });
+        reset();
+    }
+
+    /** Copy the framebuffer as RGBA bytes, bottom row first, after drawing pending primitives. */
+    public void readRGBA(int x, int y, int w, int h, ByteBuffer rgba) {
+        flush();
+        for (int row = y; row < y + h; row++) {
+            for (int col = x; col < x + w; col++) {
+                int c = pixel(col, row);
+                rgba.put((byte) (c >> 16)).put((byte) (c >> 8)).put((byte) c).put((byte) (c >>> 24));
+            }
+        }
+    }
+
+    /** Copy the framebuffer as BGRA bytes, bottom row first, after drawing pending primitives. */
+    public void readBGRA(int x, int y, int w, int h, ByteBuffer bgra) {
+        flush();
+        for (int row = y; row < y + h; row++) {
+            for (int col = x; col < x + w; col++) {
+                int c = pixel(col, row);
+                bgra.put((byte) c).put((byte) (c >> 8)).put((byte) (c >> 16)).put((byte) (c >>> 24));
+            }
+        }
+    }
+
+    /** Copy the framebuffer as packed ARGB integers, bottom row first, after drawing pending primitives. */
+    public void readARGB(int x, int y, int w, int h, IntBuffer argb) {
+        flush();
+        for (int row = y; row < y + h; row++) {
+            if (x >= 0 && x + w <= width && row >= 0 && row < height)
+                argb.put(color, row * width + x, w);
+            else {
+                for (int col = x; col < x + w; col++)
+                    argb.put(pixel(col, row));
+            }
+        }
+    }
+
+    protected int pixel(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            return 0;
+        return color[y * width + x];
+    }
+
+    /** Draw all recorded primitives restricted to the rows [from;to[. */
+    protected void drawBand(int from, int to) {
+        int[] iv = ints.values;
+        float[] fv = floats.values;
+        float[] scratch = new float[24];
+        int i = 0;
+        int f = 0;
+        while (i < ints.size) {
+            int op = iv[i];
+            if (op == CLEAR) {
+                clearBand(from, to, iv[i + 1], iv[i + 2], fv[f]);
+                i += 3;
+                f += 1;
+                continue;
+            }
+            int flags = iv[i + 1];
+            int x0 = Math.max(iv[i + 2], 0);
+            int y0 = Math.max(iv[i + 3], from);
+            int x1 = Math.min(iv[i + 4], width);
+            int y1 = Math.min(iv[i + 5], to);
+            i += 6;
+            switch (op) {
+            case POINT:
+                drawPoint(flags, x0, y0, x1, y1, fv[f], fv[f + 1], fv[f + 2], iv[i], fv[f + 3]);
+                i += 1;
+                f += 4;
+                break;
+            case LINE:
+                drawLine(flags, x0, y0, x1, y1, fv, f, iv[i], iv[i + 1]);
+                i += 2;
+                f += 8;
+                break;
+            case TRIANGLE:
+                drawTriangle(flags, x0, y0, x1, y1, fv, f, iv[i], iv[i + 1], iv[i + 2], scratch);
+                i += 3;
+                f += 10;
+                break;
+            case BITMAP:
+                drawBitmap(flags, x0, y0, x1, y1, iv[i], iv[i + 1], iv[i + 2], iv[i + 3], iv[i + 4], iv[i + 5], (byte[]) arrays.get(iv[i + 6]), fv[f]);
+                i += 7;
+                f += 1;
+                break;
+            case IMAGE:
+                drawImage(flags, x0, y0, x1, y1, iv[i], iv[i + 1], iv[i + 2], iv[i + 3], (int[]) arrays.get(iv[i + 4]), fv[f], fv[f + 1], fv[f + 2]);
+                i += 5;
+                f += 3;
+                break;
+            default:
+                throw new IllegalStateException("Unknown primitive " + op);
+            }
+        }
+    }
+
+    protected void clearBand(int from, int to, int mask, int argb, float z) {
+        if ((mask & 1) != 0)
+            Arrays.fill(color, from * width, to * width, argb);
+        if ((mask & 2) != 0)
+            Arrays.fill(depth, from * width, to * width, z);
+    }
+
+    protected void drawPoint(int flags, int x0, int y0, int x1, int y1, float x, float y, float z, int argb, float size) {
+        float half = Math.max(size, 1) / 2;
+        int left = Math.max(x0, ceil(x - half - 0.5f));
+        int right = Math.min(x1, ceil(x + half - 0.5f));
+        int bottom = Math.max(y0, ceil(y - half - 0.5f));
+        int top = Math.min(y1, ceil(y + half - 0.5f));
+        float a = alpha(argb);
+        for (int row = bottom; row < top; row++)
+            for (int col = left; col < right; col++)
+                fragment(flags, row * width + col, z, argb, a);
+    }
+
+    /**
+     * Draw a line as OpenGL draws aliased lines: one span of width pixels per column
+     * (resp. row) for lines mostly horizontal (resp. vertical).
+     */
+    protected void drawLine(int flags, int x0, int y0, int x1, int y1, float[] fv, int f, int argb0, int argb1) {
+        float ax = fv[f];
+        float ay = fv[f + 1];
+        float az = fv[f + 2] + fv[f + 7];
+        float bx = fv[f + 3];
+        float by = fv[f + 4];
+        float bz = fv[f + 5] + fv[f + 7];
+        int span = Math.max(1, Math.round(fv[f + 6]));
+        float dx = bx - ax;
+        float dy = by - ay;
+        boolean xMajor = Math.abs(dx) >= Math.abs(dy);
+        float length = xMajor ? dx : dy;
+        if (length == 0)
+            return;
+
+        // walk along the major axis: u is the major coordinate, v the minor one
+        float ua = xMajor ? ax : ay;
+        float ub = xMajor ? bx : by;
+        float va = xMajor ? ay : ax;
+        float slope = (xMajor ? dy : dx) / length;
+        int uFrom = ceil(Math.min(ua, ub) - 0.5f);
+        int uTo = ceil(Math.max(ua, ub) - 0.5f);
+        int vMin = xMajor ? y0 : x0;
+        int vMax = xMajor ? y1 : x1;
+        if (xMajor) {
+            uFrom = Math.max(uFrom, x0);
+            uTo = Math.min(uTo, x1);
+        } else {
+            uFrom = Math.max(uFrom, y0);
+            uTo = Math.min(uTo, y1);
+        }
+        int shift = (span - 1) / 2;
+
+        boolean flat = argb0 == argb1;
+        for (int u = uFrom; u < uTo; u++) {
+            float t = (u + 0.5f - ua) / length;
+            float v = va + slope * (u + 0.5f - ua);
+            int vFrom = (int) Math.floor(v) - shift;
+            int vTo = vFrom + span;
+            if (vTo <= vMin || vFrom >= vMax)
+                continue;
+            float z = az + (bz - az) * t;
+            int argb = flat ? argb0 : mix(argb0, argb1, t);
+            float a = alpha(argb);
+            for (int w = Math.max(vFrom, vMin); w < Math.min(vTo, vMax); w++)
+                fragment(flags, xMajor ? w * width + u : u * width + w, z, argb, a);
+        }
+    }
+
+    /**
+     * Draw a triangle by scanning its rows. On each row, the span of covered pixel
+     * centers is the intersection of the half planes of its edges. A pixel center lying
+     * exactly on an edge shared by two triangles is drawn by only one of them.
+     *
+     * @param scratch an array of at least 24 floats, holding plane and edge equations
+     */
+    protected void drawTriangle(int flags, int x0, int y0, int x1, int y1, float[] fv, int f, int argb0, int argb1, int argb2, float[] scratch) {
+        float ax = fv[f], ay = fv[f + 1], az = fv[f + 2];
+        float bx = fv[f + 3], by = fv[f + 4], bz = fv[f + 5];
+        float cx = fv[f + 6], cy = fv[f + 7], cz = fv[f + 8];
+        float area = (bx - ax) * (cy - ay) - (cx - ax) * (by - ay);
+        if (area == 0 || Float.isNaN(area))
+            return;
+
+        int bottom = Math.max(y0, ceil(Math.min(ay, Math.min(by, cy)) - 0.5f));
+        int top = Math.min(y1, ceil(Math.max(ay, Math.max(by, cy)) - 0.5f));
+        if (bottom >= top)
+            return;
+
+        // plane equations of depth and color channels: value = v0 + dx * (x - ax) + dy * (y - ay)
+        float inv = 1 / area;
+        float[] plane = scratch;
+        planes(plane, 0, az, bz, cz, ax, ay, bx, by, cx, cy, inv);
+        boolean flat = argb0 == argb1 && argb1 == argb2;
+        if (!flat) {
+            for (int k = 0; k < 4; k++) {
+                int s = 24 - 8 * k;
+                planes(plane, 3 + 3 * k, (argb0 >>> s) & 0xFF, (argb1 >>> s) & 0xFF, (argb2 >>> s) & 0xFF, ax, ay, bx, by, cx, cy, inv);
+            }
+        }
+        float zOffset = fv[f + 9];
+        float flatAlpha = alpha(argb0);
+
+        // edges as a * x + b * y + c >= 0 inside, whatever the winding
+        float sign = area > 0 ? 1 : -1;
+        float[] edges = scratch;
+        edge(edges, 15, ax, ay, bx, by, sign);
+        edge(edges, 18, bx, by, cx, cy, sign);
+        edge(edges, 21, cx, cy, ax, ay, sign);
+
+        for (int row = bottom; row < top; row++) {
+            float yc = row + 0.5f;
+            float left = Float.NEGATIVE_INFINITY;
+            float right = Float.POSITIVE_INFINITY;
+            boolean empty = false;
+            for (int e = 15; e < 24; e += 3) {
+                float a = edges[e];
+                float rest = edges[e + 1] * yc + edges[e + 2];
+                if (a > 0)
+                    left = Math.max(left, -rest / a); // x >= root, inclusive
+                else if (a < 0)
+                    right = Math.min(right, -rest / a); // x < root, exclusive
+                else if (rest < 0 || (rest == 0 && edges[e + 1] < 0))
+                    empty = true;
+            }
+            if (empty)
+                continue;
+            int from = Math.max(x0, ceil(left - 0.5f));
+            int to = Math.min(x1, ceil(right - 0.5f));
+            if (from >= to)
+                continue;
+
+            float dxc = from + 0.5f - ax;
+            float dyc = yc - ay;
+            float z = plane[0] + plane[1] * dxc + plane[2] * dyc + zOffset;
+            int offset = row * width;
+            if (flat) {
+                for (int col = from; col < to; col++, z += plane[1])
+                    fragment(flags, offset + col, z, argb0, flatAlpha);
+            } else {
+                float ca = plane[3] + plane[4] * dxc + plane[5] * dyc;
+                float cr = plane[6] + plane[7] * dxc + plane[8] * dyc;
+                float cg = plane[9] + plane[10] * dxc + plane[11] * dyc;
+                float cb = plane[12] + plane[13] * dxc + plane[14] * dyc;
+                for (int col = from; col < to; col++) {
+                    int argb = pack(ca, cr, cg, cb);
+                    fragment(flags, offset + col, z, argb, alpha(argb));
+                    z += plane[1];
+                    ca += plane[4];
+                    cr += plane[7];
+                    cg += plane[10];
+                    cb += plane[13];
+                }
+            }
+        }
+    }
+
+    protected void drawBitmap(int flags, int x0, int y0, int x1, int y1, int argb, int x, int y, int w, int h, int rowBytes, byte[] bits, float z) {
+        float a = alpha(argb);
+        for (int j = Math.max(0, y0 - y); j < h && y + j < y1; j++) {
+            for (int i = Math.max(0, x0 - x); i < w && x + i < x1; i++) {
+                if ((bits[j * rowBytes + (i >> 3)] & (0x80 >> (i & 7))) != 0)
+                    fragment(flags, (y + j) * width + x + i, z, argb, a);
+            }
+        }
+    }
+
+    protected void drawImage(int flags, int x0, int y0, int x1, int y1, int x, int y, int w, int h, int[] argb, float z, float zoomX, float zoomY) {
+        if (zoomX <= 0 || zoomY <= 0)
+            return;
+        int bottom = Math.max(y0, y);
+        int top = Math.min(y1, y + ceil(h * zoomY));
+        int left = Math.max(x0, x);
+        int right = Math.min(x1, x + ceil(w * zoomX));
+        for (int row = bottom; row < top; row++) {
+            int j = Math.min(h - 1, (int) ((row - y) / zoomY));
+            for (int col = left; col < right; col++) {
+                int c = argb[j * w + Math.min(w - 1, (int) ((col - x) / zoomX))];
+                fragment(flags, row * width + col, z, c, alpha(c));
+            }
+        }
+    }
+
+    /** Apply depth test and blending to a fragment of the pixel at index i. */
+    protected void fragment(int flags, int i, float z, int argb, float a) {
+        if ((flags & DEPTH_TEST) != 0) {
+            if (z < 0 || z > 1 || !depthPass(flags >> 4, z, depth[i]))
+                return;
+            if ((flags & DEPTH_WRITE) != 0)
+                depth[i] = z;
+        }
+        if ((flags & BLEND) != 0 && a < 1) {
+            if (a <= 0)
+                return;
+            int d = color[i];
+            float b = 1 - a;
+            int ra = Math.round(((argb >>> 24) & 0xFF) * a + ((d >>> 24) & 0xFF) * b);
+            int rr = Math.round(((argb >> 16) & 0xFF) * a + ((d >> 16) & 0xFF) * b);
+            int rg = Math.round(((argb >> 8) & 0xFF) * a + ((d >> 8) & 0xFF) * b);
+            int rb = Math.round((argb & 0xFF) * a + (d & 0xFF) * b);
+            color[i] = ra << 24 | rr << 16 | rg << 8 | rb;
+        } else
+            color[i] = argb;
+    }
+
+    /** Compare with the low bits of an OpenGL depth function, GL_NEVER being 0x200. */
+    protected static boolean depthPass(int func, float z, float d) {
+        switch (func & 7) {
+        case 0:
+            return false;
+        case 1:
+            return z < d;
+        case 2:
+            return z == d;
+        case 3:
+            return z <= d;
+        case 4:
+            return z > d;
+        case 5:
+            return z != d;
+        case 6:
+            return z >= d;
+        default:
+            return true;
+        }
+    }
+
+    /* UTILS */
+
+    protected static int ceil(float v) {
+        if (v > Integer.MAX_VALUE / 2)
+            return Integer.MAX_VALUE / 2;
+        if (v < Integer.MIN_VALUE / 2)
+            return Integer.MIN_VALUE / 2;
+        return (int) Math.ceil(v);
+    }
+
+    /** Store the equation a * x + b * y + c of the edge from p to q, positive on its left for sign 1. */
+    protected static void edge(float[] edges, int k, float px, float py, float qx, float qy, float sign) {
+        edges[k] = (py - qy) * sign;
+        edges[k + 1] = (qx - px) * sign;
+        edges[k + 2] = -(edges[k] * px + edges[k + 1] * py);
+    }
+
+    protected static void planes(float[] plane, int k, float v0, float v1, float v2, float ax, float ay, float bx, float by, float cx, float cy, float inv) {
+        plane[k] = v0;
+        plane[k + 1] = ((v1 - v0) * (cy - ay) - (v2 - v0) * (by - ay)) * inv;
+        plane[k + 2] = ((v2 - v0) * (bx - ax) - (v1 - v0) * (cx - ax)) * inv;
+    }
+
+    protected static float alpha(int argb) {
+        return ((argb >>> 24) & 0xFF) / 255f;
+    }
+
+    protected static int pack(float a, float r, float g, float b) {
+        return channel(a) << 24 | channel(r) << 16 | channel(g) << 8 | channel(b);
+    }
+
+    protected static int channel(float v) {
+        int c = Math.round(v);
+        return c < 0 ? 0 : (c > 255 ? 255 : c);
+    }
+
+    protected static int mix(int c0, int c1, float t) {
+        int r = 0;
+        for (int s = 0; s < 32; s += 8) {
+            float v0 = (c0 >>> s) & 0xFF;
+            float v1 = (c1 >>> s) & 0xFF;
+            r |= channel(v0 + (v1 - v0) * t) << s;
+        }
+        return r;
+    }
+
+    protected IntList header(int op, int flags, int depthFunc, int[] clip, int extra) {
+        pending++;
+        ints(6 + extra).add(op).add(flags | (depthFunc & 7) << 4);
+        if (clip != null)
+            ints.add(clip[0]).add(clip[1]).add(clip[0] + clip[2]).add(clip[1] + clip[3]);
+        else
+            ints.add(0).add(0).add(width).add(height);
+        return ints;
+    }
+
+    protected IntList ints(int n) {
+        ints.ensure(n);
+        return ints;
+    }
+
+    protected FloatList floats(int n) {
+        floats.ensure(n);
+        return floats;
+    }
+
+    protected void reset() {
+        ints.size = 0;
+        floats.size = 0;
+        arrays.clear();
+        pending = 0;
+    }
+
+    /** A growable array of ints, holding primitive types, flags and colors. */
+    protected static class IntList {
+        public void ensure(int n) {
+            if (size + n > values.length)
+                values = Arrays.copyOf(values, Math.max(size + n, values.length * 2));
+        }
+
+        public IntList add(int v) {
+            values[size++] = v;
+            return this;
+        }
+
+        protected int[] values = new int[1024];
+        protected int size;
+    }
+
+    /** A growable array of floats, holding primitive coordinates. */
+    protected static class FloatList {
+        public void ensure(int n) {
+            if (size + n > values.length)
+                values = Arrays.copyOf(values, Math.max(size + n, values.length * 2));
+        }
+
+        public FloatList add(float v) {
+            values[size++] = v;
+            return this;
+        }
+
+        protected float[] values = new float[1024];
+        protected int size;
+    }
+
+    protected static final int CLEAR = 0;
+    protected static final int POINT = 1;
+    protected static final int LINE = 2;
+    protected static final int TRIANGLE = 3;
+    protected static final int BITMAP = 4;
+    protected static final int IMAGE = 5;
+
+    protected int width;
+    protected int height;
+    protected int[] color;
+    protected float[] depth;
+    protected int parallelism = Parallel.AVAILABLE_PROCESSORS;
+
+    protected IntList ints = new IntList();
+    protected FloatList floats = new FloatList();
+    protected List<Object> arrays = new ArrayList<Object>();
+    protected int pending;
+}
@@ -0,0 +1,74 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import java.nio.ByteBuffer;
+
+import org.jzy3d.plot3d.rendering.view.Renderer3d;
+import org.jzy3d.plot3d.rendering.view.View;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
+import com.jogamp.opengl.util.texture.TextureData;
+
+/**
+ * A {@link Renderer3d} rendering its {@link View} with a {@link SoftwareGL} when
+ * {@link #display(int, int)} is called, instead of being called by a native drawable.
+ */
+public class SoftwareRenderer3d extends Renderer3d {
+    public SoftwareRenderer3d(View view, SoftwareGL gl) {
+        super(view, false, false, new SoftwareGLU(gl));
+        this.gl = gl;
+    }
+
+    /**
+     * Render the view in a framebuffer of the given size, initializing the view at the
+     * first call, and read the pending screenshots.
+     */
+    public void display(int width, int height) {
+        SoftwareRasterizer rasterizer = gl.getRasterizer();
+        if (width != this.width || height != this.height) {
+            if (width != rasterizer.getWidth() || height != rasterizer.getHeight())
+                rasterizer.setSize(width, height);
+            gl.glViewport(0, 0, width, height);
+            this.width = width;
+            this.height = height;
+        }
+        if (view == null)
+            return;
+        if (!initialized) {
+            view.init(gl);
+            initialized = true;
+        }
+
+        view.clear(gl);
+        view.render(gl, glu);
+        gl.glFinish();
+
+        if (doScreenshotAtNextDisplay) {
+            image = readImage(width, height);
+            doScreenshotAtNextDisplay = false;
+        }
+        submitScreenshots(gl, width, height);
+    }
+
+    @Override
+    public void display(GLAutoDrawable canvas) {
+        display(width, height);
+    }
+
+    /** Copy the framebuffer in a new buffer, so that former screenshots may be kept. */
+    protected TextureData readImage(int width, int height) {
+        ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * 4);
+        gl.getRasterizer().readRGBA(0, 0, width, height, pixels);
+        pixels.rewind();
+        // rows are bottom first, which texture writers expect when no flip is required
+        return new TextureData(null, GL.GL_RGBA, width, height, 0, new GLPixelAttributes(GL.GL_RGBA, GL.GL_UNSIGNED_BYTE), false, false, false, pixels, null);
+    }
+
+    public SoftwareGL getGL() {
+        return gl;
+    }
+
+    protected SoftwareGL gl;
+    protected boolean initialized = false;
+}
@@ -198,28 +198,49 @@ public class Camera extends AbstractViewportManager {
         return new Coord3d(screencoord[0], screencoord[1], screencoord[2]);
     }
 
+    /**
+     * Project points into screen, reading GL matrices only once. Use
+     * {@link #modelToScreen(GL, Coord3d[], float[])} to avoid allocating one
+     * {@link Coord3d} per point.
+     */
     public Coord3d[] modelToScreen(GL gl, GLU glu, Coord3d[] points) {
-        int viewport[] = getViewPortAsInt(gl);
-        float screencoord[] = new float[3];
+        float[] screen = new float[points.length * 3];
+        modelToScreen(gl, points, screen);
 
         Coord3d[] projection = new Coord3d[points.length];
-        for (int i = 0; i < points.length; i++) {
-            if (!glu.gluProject(points[i].x, points[i].y, points[i].z, getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
-                failedProjection("Could not retrieve model coordinates in screen for " + points[i]);
-            projection[i] = new Coord3d(screencoord[0], screencoord[1], screencoord[2]);
-        }
+        for (int i = 0; i < points.length; i++)
+            projection[i] = new Coord3d(screen[i * 3], screen[i * 3 + 1], screen[i * 3 + 2]);
         return projection;
     }
 
+    /**
+     * Project points into a preallocated array of interleaved screen
+     * coordinates, in parallel for large arrays. GL matrices are read once.
+     */
+    public void modelToScreen(GL gl, Coord3d[] points, float[] screen) {
+        if (snapshot(gl).project(points, screen) > 0)
+            failedProjection("Could not retrieve model coordinates in screen for some points");
+    }
+
+    /**
+     * Project interleaved x,y,z model coordinates into a preallocated array of
+     * interleaved screen coordinates, in parallel for large arrays. GL
+     * matrices are read once.
+     */
+    public void modelToScreen(GL gl, float[] xyz, float[] screen) {
+        if (snapshot(gl).project(xyz, screen) > 0)
+            failedProjection("Could not retrieve model coordinates in screen for some points");
+    }
+
     public Coord3d[][] modelToScreen(GL gl, GLU glu, Coord3d[][] points) {
-        int viewport[] = getViewPortAsInt(gl);
+        ProjectionSnapshot snapshot = snapshot(gl);
         float screencoord[] = new float[3];
 
         Coord3d[][] projection = new Coord3d[points.length][points[0].length];
 
         for (int i = 0; i < points.length; i++) {
             for (int j = 0; j < points[i].length; j++) {
-                if (!glu.gluProject(points[i][j].x, points[i][j].y, points[i][j].z, getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
+                if (!snapshot.project(points[i][j].x, points[i][j].y, points[i][j].z, screencoord, 0))
                     failedProjection("Could not retrieve model coordinates in screen for " + points[i][j]);
                 projection[i][j] = new Coord3d(screencoord[0], screencoord[1], screencoord[2]);
             }
@@ -228,12 +249,12 @@ public class Camera extends AbstractViewportManager {
     }
 
     public List<Coord3d> modelToScreen(GL gl, GLU glu, List<Coord3d> points) {
-        int viewport[] = getViewPortAsInt(gl);
+        ProjectionSnapshot snapshot = snapshot(gl);
         float screencoord[] = new float[3];
 
         List<Coord3d> projection = new Vector<Coord3d>();
         for (Coord3d point : points) {
-            if (!glu.gluProject(point.x, point.y, point.z, getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
+            if (!snapshot.project(point.x, point.y, point.z, screencoord, 0))
                 failedProjection("Could not retrieve model coordinates in screen for " + point);
             projection.add(new Coord3d(screencoord[0], screencoord[1], screencoord[2]));
         }
@@ -241,14 +262,18 @@ public class Camera extends AbstractViewportManager {
     }
 
     public ArrayList<ArrayList<Coord3d>> modelToScreen(GL gl, GLU glu, ArrayList<ArrayList<Coord3d>> polygons) {
-        int viewport[] = getViewPortAsInt(gl);
+        return modelToScreen(snapshot(gl), polygons);
+    }
+
+    /** Project polygons with the given snapshot, which does not require a GL context.*/
+    public ArrayList<ArrayList<Coord3d>> modelToScreen(ProjectionSnapshot snapshot, ArrayList<ArrayList<Coord3d>> polygons) {
         float screencoord[] = new float[3];
 
         ArrayList<ArrayList<Coord3d>> projections = new ArrayList<ArrayList<Coord3d>>(polygons.size());
         for (ArrayList<Coord3d> polygon : polygons) {
             ArrayList<Coord3d> projection = new ArrayList<Coord3d>(polygon.size());
             for (Coord3d point : polygon) {
-                if (!glu.gluProject(point.x, point.y, point.z, getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
+                if (!snapshot.project(point.x, point.y, point.z, screencoord, 0))
                     failedProjection("Could not retrieve model coordinates in screen for " + point);
                 projection.add(new Coord3d(screencoord[0], screencoord[1], screencoord[2]));
             }
@@ -258,7 +283,7 @@ public class Camera extends AbstractViewportManager {
     }
 
     public PolygonArray modelToScreen(GL gl, GLU glu, PolygonArray polygon) {
-        int viewport[] = getViewPortAsInt(gl);
+        ProjectionSnapshot snapshot = snapshot(gl);
         float screencoord[] = new float[3];
 
         int len = polygon.length();
@@ -268,7 +293,7 @@ public class Camera extends AbstractViewportManager {
         float[] z = new float[len];
 
         for (int i = 0; i < len; i++) {
-            if (!glu.gluProject(polygon.x[i], polygon.y[i], polygon.z[i], getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
+            if (!snapshot.project(polygon.x[i], polygon.y[i], polygon.z[i], screencoord, 0))
                 failedProjection("Could not retrieve model coordinates in screen for point " + i);
             x[i] = screencoord[0];
             y[i] = screencoord[1];
@@ -302,7 +327,7 @@ public class Camera extends AbstractViewportManager {
     }
 
     public PolygonArray[][] modelToScreen(GL gl, GLU glu, PolygonArray[][] polygons) {
-        int viewport[] = getViewPortAsInt(gl);
+        ProjectionSnapshot snapshot = snapshot(gl);
         float screencoord[] = new float[3];
 
         PolygonArray[][] projections = new PolygonArray[polygons.length][polygons[0].length];
@@ -315,7 +340,7 @@ public class Camera extends AbstractViewportManager {
                 float[] z = new float[len];
 
                 for (int k = 0; k < len; k++) {
-                    if (!glu.gluProject(polygon.x[k], polygon.y[k], polygon.z[k], getModelViewAsFloat(gl), 0, getProjectionAsFloat(gl), 0, viewport, 0, screencoord, 0))
+                    if (!snapshot.project(polygon.x[k], polygon.y[k], polygon.z[k], screencoord, 0))
                         failedProjection("Could not retrieve model coordinates in screen for point " + k);
                     x[k] = screencoord[0];
                     y[k] = screencoord[1];
@@ -338,6 +363,28 @@ public class Camera extends AbstractViewportManager {
 
     /*******************************************************************/
 
+    /**
+     * Read the current viewport, modelview and projection matrices once, and
+     * keep them as the last snapshot of this camera.
+     */
+    public ProjectionSnapshot snapshot(GL gl) {
+        lastSnapshot = new ProjectionSnapshot(getViewPortAsInt(gl), getModelViewAsFloat(gl), getProjectionAsFloat(gl));
+        return lastSnapshot;
+    }
+
+    /**
+     * Return the matrices read by the last call to {@link #snapshot(GL)}, or
+     * null if none was taken. The snapshot remains usable without GL
+     * context, e.g. to process a selection outside of rendering.
+     */
+    public ProjectionSnapshot getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    protected ProjectionSnapshot lastSnapshot;
+
+    /*******************************************************************/
+
     protected int[] getViewPortAsInt(GL gl) {
         int viewport[] = new int[4];
         gl.glGetIntegerv(GL.GL_VIEWPORT, viewport, 0);
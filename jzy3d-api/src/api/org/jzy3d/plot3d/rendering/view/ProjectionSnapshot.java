@@ -0,0 +1,222 @@
+package org.jzy3d.plot3d.rendering.view;
+
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Parallel;
+
+/**
+ * A {@link ProjectionSnapshot} holds a copy of the viewport, modelview and
+ * projection matrices that were active when it was taken, and projects model
+ * coordinates to screen and back the same way gluProject and gluUnProject do,
+ * without querying GL.
+ *
+ * A snapshot is taken once per frame with {@link Camera#snapshot(com.jogamp.opengl.GL)}, or
+ * built from raw matrices, which allows projecting points without any GL
+ * context. Matrices are stored in OpenGL column-major order.
+ */
+public class ProjectionSnapshot {
+    /**
+     * Number of points from which array projections run in parallel, split
+     * over all available processors.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    public ProjectionSnapshot(int[] viewport, float[] modelview, float[] projection) {
+        this.viewport = viewport.clone();
+        this.modelview = modelview.clone();
+        this.projection = projection.clone();
+
+        // combined projection x modelview matrix
+        for (int col = 0; col < 4; col++)
+            for (int row = 0; row < 4; row++) {
+                double sum = 0;
+                for (int k = 0; k < 4; k++)
+                    sum += (double) projection[k * 4 + row] * modelview[col * 4 + k];
+                mvp[col * 4 + row] = sum;
+            }
+        inverse = invert(mvp);
+    }
+
+    /* */
+
+    /**
+     * Project a model coordinate and write its screen x, y, and depth at the
+     * given offset of the output array.
+     *
+     * @return false if the point can not be projected, in which case the
+     *         output is filled with NaN.
+     */
+    public boolean project(float x, float y, float z, float[] out, int offset) {
+        double[] m = mvp;
+        double w = m[3] * x + m[7] * y + m[11] * z + m[15];
+        if (w == 0) {
+            out[offset] = out[offset + 1] = out[offset + 2] = Float.NaN;
+            return false;
+        }
+        double nx = (m[0] * x + m[4] * y + m[8] * z + m[12]) / w;
+        double ny = (m[1] * x + m[5] * y + m[9] * z + m[13]) / w;
+        double nz = (m[2] * x + m[6] * y + m[10] * z + m[14]) / w;
+
+        out[offset] = (float) (viewport[0] + (1 + nx) * viewport[2] / 2);
+        out[offset + 1] = (float) (viewport[1] + (1 + ny) * viewport[3] / 2);
+        out[offset + 2] = (float) ((1 + nz) / 2);
+        return true;
+    }
+
+    /** Project a model coordinate, or return null if it can not be projected. */
+    public Coord3d project(Coord3d point) {
+        float[] out = new float[3];
+        if (!project(point.x, point.y, point.z, out, 0))
+            return null;
+        return new Coord3d(out[0], out[1], out[2]);
+    }
+
+    /**
+     * Project interleaved x,y,z model coordinates into interleaved screen
+     * coordinates. Output may be the input array. Points that can not be
+     * projected are written as NaN.
+     *
+     * @return the number of points that could not be projected.
+     */
+    public int project(final float[] xyz, final float[] out) {
+        if (out.length < xyz.length)
+            throw new IllegalArgumentException("output array is too small: " + out.length + " < " + xyz.length);
+        final int n = xyz.length / 3;
+        final int[] failures = new int[1];
+
+        Parallel.forRange(0, n, parallelism(n), new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                int failed = 0;
+                for (int i = from; i < to; i++)
+                    if (!project(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2], out, i * 3))
+                        failed++;
+                if (failed > 0)
+                    synchronized (failures) {
+                        failures[0] += failed;
+                    }
+            }
+        });
+        return failures[0];
+    }
+
+    /**
+     * Project model coordinates into interleaved screen coordinates. Points
+     * that can not be projected are written as NaN.
+     *
+     * @return the number of points that could not be projected.
+     */
+    public int project(final Coord3d[] points, final float[] out) {
+        if (out.length < points.length * 3)
+            throw new IllegalArgumentException("output array is too small: " + out.length + " < " + points.length * 3);
+        final int[] failures = new int[1];
+
+        Parallel.forRange(0, points.length, parallelism(points.length), new Parallel.IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                int failed = 0;
+                for (int i = from; i < to; i++) {
+                    Coord3d c = points[i];
+                    if (!project(c.x, c.y, c.z, out, i * 3))
+                        failed++;
+                }
+                if (failed > 0)
+                    synchronized (failures) {
+                        failures[0] += failed;
+                    }
+            }
+        });
+        return failures[0];
+    }
+
+    protected static int parallelism(int points) {
+        return points < PARALLEL_THRESHOLD ? 1 : Parallel.AVAILABLE_PROCESSORS;
+    }
+
+    /* */
+
+    /**
+     * Unproject a screen x, y and depth and write its model coordinate at the
+     * given offset of the output array.
+     *
+     * @return false if the matrices can not be inverted or the point can not
+     *         be unprojected, in which case the output is filled with NaN.
+     */
+    public boolean unProject(float winX, float winY, float winZ, float[] out, int offset) {
+        double[] m = inverse;
+        if (m == null) {
+            out[offset] = out[offset + 1] = out[offset + 2] = Float.NaN;
+            return false;
+        }
+        double nx = (winX - viewport[0]) * 2.0 / viewport[2] - 1;
+        double ny = (winY - viewport[1]) * 2.0 / viewport[3] - 1;
+        double nz = winZ * 2.0 - 1;
+
+        double w = m[3] * nx + m[7] * ny + m[11] * nz + m[15];
+        if (w == 0) {
+            out[offset] = out[offset + 1] = out[offset + 2] = Float.NaN;
+            return false;
+        }
+        out[offset] = (float) ((m[0] * nx + m[4] * ny + m[8] * nz + m[12]) / w);
+        out[offset + 1] = (float) ((m[1] * nx + m[5] * ny + m[9] * nz + m[13]) / w);
+        out[offset + 2] = (float) ((m[2] * nx + m[6] * ny + m[10] * nz + m[14]) / w);
+        return true;
+    }
+
+    /** Unproject a screen coordinate, or return null if it can not be unprojected. */
+    public Coord3d unProject(Coord3d screen) {
+        float[] out = new float[3];
+        if (!unProject(screen.x, screen.y, screen.z, out, 0))
+            return null;
+        return new Coord3d(out[0], out[1], out[2]);
+    }
+
+    /** Invert a 4x4 column-major matrix by cofactors, or return null if it is singular. */
+    protected static double[] invert(double[] m) {
+        double[] inv = new double[16];
+        inv[0] = m[5] * m[10] * m[15] - m[5] * m[11] * m[14] - m[9] * m[6] * m[15] + m[9] * m[7] * m[14] + m[13] * m[6] * m[11] - m[13] * m[7] * m[10];
+        inv[4] = -m[4] * m[10] * m[15] + m[4] * m[11] * m[14] + m[8] * m[6] * m[15] - m[8] * m[7] * m[14] - m[12] * m[6] * m[11] + m[12] * m[7] * m[10];
+        inv[8] = m[4] * m[9] * m[15] - m[4] * m[11] * m[13] - m[8] * m[5] * m[15] + m[8] * m[7] * m[13] + m[12] * m[5] * m[11] - m[12] * m[7] * m[9];
+        inv[12] = -m[4] * m[9] * m[14] + m[4] * m[10] * m[13] + m[8] * m[5] * m[14] - m[8] * m[6] * m[13] - m[12] * m[5] * m[10] + m[12] * m[6] * m[9];
+        inv[1] = -m[1] * m[10] * m[15] + m[1] * m[11] * m[14] + m[9] * m[2] * m[15] - m[9] * m[3] * m[14] - m[13] * m[2] * m[11] + m[13] * m[3] * m[10];
+        inv[5] = m[0] * m[10] * m[15] - m[0] * m[11] * m[14] - m[8] * m[2] * m[15] + m[8] * m[3] * m[14] + m[12] * m[2] * m[11] - m[12] * m[3] * m[10];
+        inv[9] = -m[0] * m[9] * m[15] + m[0] * m[11] * m[13] + m[8] * m[1] * m[15] - m[8] * m[3] * m[13] - m[12] * m[1] * m[11] + m[12] * m[3] * m[9];
+        inv[13] = m[0] * m[9] * m[14] - m[0] * m[10] * m[13] - m[8] * m[1] * m[14] + m[8] * m[2] * m[13] + m[12] * m[1] * m[10] - m[12] * m[2] * m[9];
+        inv[2] = m[1] * m[6] * m[15] - m[1] * m[7] * m[14] - m[5] * m[2] * m[15] + m[5] * m[3] * m[14] + m[13] * m[2] * m[7] - m[13] * m[3] * m[6];
+        inv[6] = -m[0] * m[6] * m[15] + m[0] * m[7] * m[14] + m[4] * m[2] * m[15] - m[4] * m[3] * m[14] - m[12] * m[2] * m[7] + m[12] * m[3] * m[6];
+        inv[10] = m[0] * m[5] * m[15] - m[0] * m[7] * m[13] - m[4] * m[1] * m[15] + m[4] * m[3] * m[13] + m[12] * m[1] * m[7] - m[12] * m[3] * m[5];
+        inv[14] = -m[0] * m[5] * m[14] + m[0] * m[6] * m[13] + m[4] * m[1] * m[14] - m[4] * m[2] * m[13] - m[12] * m[1] * m[6] + m[12] * m[2] * m[5];
+        inv[3] = -m[1] * m[6] * m[11] + m[1] * m[7] * m[10] + m[5] * m[2] * m[11] - m[5] * m[3] * m[10] - m[9] * m[2] * m[7] + m[9] * m[3] * m[6];
+        inv[7] = m[0] * m[6] * m[11] - m[0] * m[7] * m[10] - m[4] * m[2] * m[11] + m[4] * m[3] * m[10] + m[8] * m[2] * m[7] - m[8] * m[3] * m[6];
+        inv[11] = -m[0] * m[5] * m[11] + m[0] * m[7] * m[9] + m[4] * m[1] * m[11] - m[4] * m[3] * m[9] - m[8] * m[1] * m[7] + m[8] * m[3] * m[5];
+        inv[15] = m[0] * m[5] * m[10] - m[0] * m[6] * m[9] - m[4] * m[1] * m[10] + m[4] * m[2] * m[9] + m[8] * m[1] * m[6] - m[8] * m[2] * m[5];
+
+        double det = m[0] * inv[0] + m[1] * inv[4] + m[2] * inv[8] + m[3] * inv[12];
+        if (det == 0)
+            return null;
+        for (int i = 0; i < 16; i++)
+            inv[i] /= det;
+        return inv;
+    }
+
+    /* */
+
+    public int[] getViewport() {
+        return viewport;
+    }
+
+    public float[] getModelView() {
+        return modelview;
+    }
+
+    public float[] getProjection() {
+        return projection;
+    }
+
+    /* */
+
+    protected int[] viewport;
+    protected float[] modelview;
+    protected float[] projection;
+    protected double[] mvp = new double[16];
+    protected double[] inverse;
+}
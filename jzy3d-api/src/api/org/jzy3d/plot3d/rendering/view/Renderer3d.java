@@ -1,5 +1,11 @@
 package org.jzy3d.plot3d.rendering.view;
 
+import java.io.File;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+
+import org.jzy3d.plot3d.primitives.vbo.buffers.PointVBO;
 import org.jzy3d.plot3d.rendering.canvas.ICanvas;
 import org.jzy3d.plot3d.rendering.scene.Scene;
 
@@ -77,17 +83,29 @@ public class Renderer3d implements GLEventListener {
     @Override
     public void display(GLAutoDrawable canvas) {
         GL gl = canvas.getGL();
+        PointVBO.releaseDisposed(gl);
 
         if (view != null) {
             view.clear(gl);
             view.render(gl, glu);
 
             if (doScreenshotAtNextDisplay) {
+                // a new reader per screenshot, so images handed out are never overwritten
                 GLReadBufferUtil screenshot = new GLReadBufferUtil(false, false);
                 screenshot.readPixels(gl, true);
                 image = screenshot.getTextureData();
                 doScreenshotAtNextDisplay = false;
             }
+            submitScreenshots(gl, canvas.getSurfaceWidth(), canvas.getSurfaceHeight());
+        }
+    }
+
+    /** Read the frame back for each pending asynchronous screenshot. */
+    protected void submitScreenshots(GL gl, int width, int height) {
+        ScreenshotPipeline.Request request;
+        while ((request = screenshotRequests.poll()) != null) {
+            if (!request.isCancelled())
+                request.getPipeline().submit(request, gl, width, height);
         }
     }
 
@@ -115,16 +133,53 @@ public class Renderer3d implements GLEventListener {
     public void dispose(GLAutoDrawable arg0) {
         view = null;
         glu = null;
+        ScreenshotPipeline.Request request;
+        while ((request = screenshotRequests.poll()) != null)
+            request.cancel(false);
     }
 
     public void nextDisplayUpdateScreenshot() {
         doScreenshotAtNextDisplay = true;
     }
 
+    /**
+     * Return the image read at the last display where a screenshot was required.
+     * Each screenshot has its own pixel buffer, so images may be kept.
+     */
     public TextureData getLastScreenshot() {
         return image;
     }
 
+    /**
+     * Save the frame of the next display into a file, without waiting for its encoding
+     * in the rendering thread. The image format is given by the file extension,
+     * among those listed by {@link ScreenshotPipeline}: png, jpg or bmp.
+     * 
+     * @return a future completing once the file is written, or cancelled if the
+     *         renderer is disposed before the next display.
+     * @see ScreenshotPipeline
+     */
+    public Future<File> nextDisplayScreenshot(File file) {
+        return nextDisplayScreenshot(screenshotPipeline.newRequest(file));
+    }
+
+    /**
+     * Save the frame of the next display for a request that was created
+     * beforehand, possibly by another pipeline.
+     */
+    public Future<File> nextDisplayScreenshot(ScreenshotPipeline.Request request) {
+        screenshotRequests.add(request);
+        return request;
+    }
+
+    public ScreenshotPipeline getScreenshotPipeline() {
+        return screenshotPipeline;
+    }
+
+    public void setScreenshotPipeline(ScreenshotPipeline screenshotPipeline) {
+        this.screenshotPipeline = screenshotPipeline;
+    }
+
     /** Return the width that was given after the last resize event. */
     public int getWidth() {
         return width;
@@ -142,6 +197,8 @@ public class Renderer3d implements GLEventListener {
     protected int height = 0;
     protected boolean doScreenshotAtNextDisplay = false;
     protected TextureData image = null;
+    protected ScreenshotPipeline screenshotPipeline = ScreenshotPipeline.getShared();
+    protected Queue<ScreenshotPipeline.Request> screenshotRequests = new ConcurrentLinkedQueue<ScreenshotPipeline.Request>();
     protected boolean traceGL = false;
     protected boolean debugGL = false;
 
@@ -0,0 +1,290 @@
+package org.jzy3d.plot3d.rendering.view;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.ImageIO;
+
+import org.jzy3d.maths.Parallel;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+
+/**
+ * Saves rendered frames to image files without making the rendering thread wait for
+ * image encoding.
+ *
+ * The GL thread only reads the framebuffer back into a buffer taken from a pool. The
+ * buffer is then encoded on a pool of worker threads, while the GL thread renders and reads the next frames. The
+ * buffer returns to the pool once the file is written.
+ *
+ * The image format is given by the file extension. PNG keeps the alpha channel and is
+ * written with {@link TextureIO}. JPEG (jpg, jpeg) and BMP drop it and are written with
+ * {@link ImageIO}. Other extensions fail unless a {@link TextureIO} writer accepts RGBA
+ * data.
+ *
+ * The number of frames waiting for encoding is bounded: reading a frame back blocks
+ * until a buffer is available, which slows rendering down to the encoding throughput
+ * instead of exhausting memory.
+ *
+ * @see Renderer3d#nextDisplayScreenshot(File)
+ */
+public class ScreenshotPipeline {
+    /** Return the pipeline shared by all renderers. */
+    public static synchronized ScreenshotPipeline getShared() {
+        if (shared == null) {
+            int workers = Math.max(1, Parallel.AVAILABLE_PROCESSORS - 1);
+            shared = new ScreenshotPipeline(workers, workers + 1);
+        }
+        return shared;
+    }
+
+    /**
+     * A pipeline encoding images on the given number of threads, with at most
+     * maxPending frames read back and waiting for encoding.
+     */
+    public ScreenshotPipeline(int workers, int maxPending) {
+        this.executor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "screenshot-" + threads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.pending = new Semaphore(maxPending);
+    }
+
+    /** A screenshot to write to a file, that completes once the file is written. */
+    public Request newRequest(File file) {
+        return new Request(new EncodeTask(file));
+    }
+
+    /**
+     * Read the current framebuffer back and schedule its encoding to the file of the request.
+     * Must be called by the thread owning the GL context, after rendering.
+     */
+    public void submit(Request request, GL gl, int width, int height) {
+        ByteBuffer pixels = acquire(width * height * 4);
+        try {
+            gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
+            gl.glReadPixels(0, 0, width, height, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixels);
+        } catch (RuntimeException e) {
+            release(pixels);
+            throw e;
+        }
+        request.task.set(pixels, width, height, gl.getGLProfile());
+        schedule(request);
+    }
+
+    /**
+     * Schedule the encoding of RGBA pixels ordered bottom row first, as read from a
+     * framebuffer. The buffer must come from {@link #acquire(int)}, and is released
+     * once encoded.
+     */
+    public void submit(Request request, ByteBuffer pixels, int width, int height) {
+        request.task.set(pixels, width, height, null);
+        schedule(request);
+    }
+
+    /**
+     * Run the request on a worker. A request rejected by a stopped pipeline fails, and
+     * the pixel buffer of a request cancelled before it runs returns to the pool.
+     */
+    protected void schedule(Request request) {
+        try {
+            executor.execute(request);
+        } catch (RejectedExecutionException e) {
+            request.fail(e);
+            throw e;
+        }
+        // completed before its pixels were set, so done() found nothing to release
+        if (request.isDone())
+            request.task.releasePixels();
+    }
+
+    /**
+     * Return a buffer of the given size from the pool, blocking while the maximum
+     * number of frames are waiting for encoding.
+     */
+    public ByteBuffer acquire(int bytes) {
+        pending.acquireUninterruptibly();
+        ByteBuffer buffer = null;
+        synchronized (buffers) {
+            while (buffer == null && !buffers.isEmpty()) {
+                ByteBuffer candidate = buffers.poll();
+                if (candidate.capacity() == bytes)
+                    buffer = candidate; // buffers of other sizes are dropped
+            }
+        }
+        if (buffer == null)
+            buffer = ByteBuffer.allocateDirect(bytes);
+        buffer.clear();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        synchronized (buffers) {
+            buffers.add(buffer);
+        }
+        pending.release();
+    }
+
+    /** Number of frames written to their file. */
+    public long getEncodedCount() {
+        return encoded.get();
+    }
+
+    /** Number of frames that could not be encoded or written. */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /** Total time spent by workers encoding and writing frames, in nanoseconds. */
+    public long getEncodeNanos() {
+        return encodeNanos.get();
+    }
+
+    /** Stop worker threads once the scheduled frames are encoded. */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /* */
+
+    /** The future of a screenshot, holding the frame to encode once read back. */
+    public static class Request extends FutureTask<File> {
+        protected Request(EncodeTask task) {
+            super(task);
+            this.task = task;
+        }
+
+        /** The pipeline that encodes this screenshot and owns its pixel buffer. */
+        public ScreenshotPipeline getPipeline() {
+            return task.getPipeline();
+        }
+
+        /** Complete with an error, for a frame that could not be rendered. */
+        public void fail(Throwable cause) {
+            setException(cause);
+        }
+
+        /**
+         * Return the pixel buffer to the pool if the encoding never started, e.g. if
+         * the request was cancelled or failed before running.
+         */
+        @Override
+        protected void done() {
+            task.releasePixels();
+        }
+
+        protected final EncodeTask task;
+    }
+
+    protected class EncodeTask implements Callable<File> {
+        public EncodeTask(File file) {
+            this.file = file;
+        }
+
+        public void set(ByteBuffer pixels, int width, int height, GLProfile profile) {
+            this.width = width;
+            this.height = height;
+            this.profile = profile;
+            this.pixels.set(pixels);
+        }
+
+        /** Return the pixel buffer to the pool, unless it was already taken. */
+        public void releasePixels() {
+            ByteBuffer buffer = pixels.getAndSet(null);
+            if (buffer != null)
+                release(buffer);
+        }
+
+        public ScreenshotPipeline getPipeline() {
+            return ScreenshotPipeline.this;
+        }
+
+        @Override
+        public File call() throws Exception {
+            long start = System.nanoTime();
+            boolean written = false;
+            // taken once, so that a concurrent cancellation does not release it as well
+            ByteBuffer pixels = this.pixels.getAndSet(null);
+            if (pixels == null)
+                throw new IllegalStateException("No frame to encode");
+            try {
+                // rows are bottom first, which texture writers expect when no flip is required
+                String format = rgbFormat(file);
+                if (format != null)
+                    writeRGB(pixels, format);
+                else {
+                    TextureData data = new TextureData(profile, GL.GL_RGBA, width, height, 0, new GLPixelAttributes(GL.GL_RGBA, GL.GL_UNSIGNED_BYTE), false, false, false, pixels, null);
+                    TextureIO.write(data, file);
+                }
+                written = true;
+                return file;
+            } finally {
+                encodeNanos.addAndGet(System.nanoTime() - start);
+                (written ? encoded : failed).incrementAndGet();
+                release(pixels);
+            }
+        }
+
+        /** Copy RGBA rows, bottom first, into an opaque image and write it with ImageIO. */
+        protected void writeRGB(ByteBuffer pixels, String format) throws IOException {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] rgb = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            for (int y = 0; y < height; y++) {
+                int src = (height - 1 - y) * width * 4;
+                int dst = y * width;
+                for (int x = 0; x < width; x++, src += 4)
+                    rgb[dst + x] = (pixels.get(src) & 0xFF) << 16 | (pixels.get(src + 1) & 0xFF) << 8 | (pixels.get(src + 2) & 0xFF);
+            }
+            if (!ImageIO.write(image, format, file))
+                throw new IOException("No image writer found for " + format);
+        }
+
+        protected File file;
+        protected final AtomicReference<ByteBuffer> pixels = new AtomicReference<ByteBuffer>();
+        protected int width;
+        protected int height;
+        protected GLProfile profile;
+    }
+
+    /** The ImageIO format of a file written without alpha, or null for a TextureIO file. */
+    protected static String rgbFormat(File file) {
+        String name = file.getName().toLowerCase();
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg"))
+            return "jpeg";
+        if (name.endsWith(".bmp"))
+            return "bmp";
+        return null;
+    }
+
+    protected ExecutorService executor;
+    protected Semaphore pending;
+    protected ArrayDeque<ByteBuffer> buffers = new ArrayDeque<ByteBuffer>();
+    protected AtomicInteger threads = new AtomicInteger();
+    protected AtomicLong encoded = new AtomicLong();
+    protected AtomicLong failed = new AtomicLong();
+    protected AtomicLong encodeNanos = new AtomicLong();
+
+    protected static ScreenshotPipeline shared;
+}
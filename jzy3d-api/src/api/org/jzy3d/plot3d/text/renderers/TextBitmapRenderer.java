@@ -6,6 +6,7 @@ import org.jzy3d.maths.BoundingBox3d;
 import org.jzy3d.maths.Coord2d;
 import org.jzy3d.maths.Coord3d;
 import org.jzy3d.plot3d.rendering.compat.GLES2CompatUtils;
+import org.jzy3d.plot3d.rendering.software.SoftwareGL;
 import org.jzy3d.plot3d.rendering.view.Camera;
 import org.jzy3d.plot3d.text.AbstractTextRenderer;
 import org.jzy3d.plot3d.text.ITextRenderer;
@@ -42,7 +43,7 @@ public class TextBitmapRenderer extends AbstractTextRenderer implements ITextRen
             GLES2CompatUtils.glRasterPos3f(position.x, position.y, position.z);
         }
 
-        glut.glutBitmapString(font, s);
+        glutBitmapString(gl, font, s);
     }
 
     /**
@@ -71,7 +72,7 @@ public class TextBitmapRenderer extends AbstractTextRenderer implements ITextRen
 
         // Draws actual string
         glRasterPos(gl, sceneOffset, posReal);
-        glut.glutBitmapString(font, text);
+        glutBitmapString(gl, font, text);
         return computeTextBounds(gl, glu, cam, posScreenShifted, strlen);
     }
 
@@ -83,6 +84,17 @@ public class TextBitmapRenderer extends AbstractTextRenderer implements ITextRen
         }
     }
 
+    /**
+     * Draw a string at the current raster position. GLUT only draws with the GL of
+     * the current native context, so a {@link SoftwareGL} draws the string itself.
+     */
+    public static void glutBitmapString(GL gl, int font, String text) {
+        if (gl instanceof SoftwareGL)
+            ((SoftwareGL) gl).glutBitmapString(font, text);
+        else
+            glut.glutBitmapString(font, text);
+    }
+
     public BoundingBox3d computeTextBounds(GL gl, GLU glu, Camera cam, Coord3d posScreenShifted, float strlen) {
         Coord3d botLeft = new Coord3d();
         Coord3d topRight = new Coord3d();
@@ -3,32 +3,51 @@ package org.jzy3d.chart;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2;
 import com.jogamp.opengl.GL2GL3;
 
+/**
+ * Reads the framebuffer into a {@link BufferedImage}.
+ *
+ * Pixels are read as packed ARGB integers in a buffer kept from one call to the
+ * other, and copied row by row into the image. An instance is thus not thread
+ * safe.
+ */
 public class AWTScreenshotUtils {
     public BufferedImage toImage(GL2 gl, int w, int h) {
 
         gl.glReadBuffer(GL.GL_FRONT); // or GL.GL_BACK
 
-        ByteBuffer glBB = ByteBuffer.allocate(3 * w * h);
-        gl.glReadPixels(0, 0, w, h, GL2GL3.GL_BGR, GL.GL_BYTE, glBB);
+        if (readBuffer == null || readBuffer.capacity() < 4 * w * h)
+            readBuffer = ByteBuffer.allocateDirect(4 * w * h).order(ByteOrder.nativeOrder());
+        readBuffer.clear();
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 4);
+        gl.glReadPixels(0, 0, w, h, GL.GL_BGRA, GL2GL3.GL_UNSIGNED_INT_8_8_8_8_REV, readBuffer);
 
+        return toImage(readBuffer.asIntBuffer(), w, h);
+    }
+
+    /**
+     * Build an opaque image from ARGB pixels ordered bottom row first, as read
+     * from a framebuffer.
+     */
+    public static BufferedImage toImage(IntBuffer argb, int w, int h) {
         BufferedImage bi = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
         int[] bd = ((DataBufferInt) bi.getRaster().getDataBuffer()).getData();
 
         for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                int b = 2 * glBB.get();
-                int g = 2 * glBB.get();
-                int r = 2 * glBB.get();
-
-                bd[(h - y - 1) * w + x] = (r << 16) | (g << 8) | b | 0xFF000000;
-            }
+            argb.position(y * w);
+            argb.get(bd, (h - y - 1) * w, w);
         }
+        for (int i = 0; i < bd.length; i++)
+            bd[i] |= 0xFF000000;
 
         return bi;
     }
+
+    protected ByteBuffer readBuffer;
 }
@@ -3,7 +3,6 @@ package org.jzy3d.chart.controllers.mouse.selection;
 import java.awt.Graphics2D;
 
 import org.apache.log4j.Logger;
-import org.jzy3d.maths.Coord3d;
 import org.jzy3d.plot3d.primitives.selectable.SelectableScatter;
 import org.jzy3d.plot3d.rendering.scene.Scene;
 import org.jzy3d.plot3d.rendering.view.View;
@@ -21,9 +20,17 @@ public class AWTScatterMouseSelector extends AWTAbstractMouseSelector {
 	@Override
 	protected void processSelection(Scene scene, View view, int width, int height) {
 		view.project();
-		Coord3d[] projection = scatter.getProjection();
-		for (int i = 0; i < projection.length; i++)
-			if (matchRectangleSelection(in, out, projection[i], width, height))
+		processSelection(scatter.getProjectionAsFloat(), width, height);
+	}
+
+	/**
+	 * Highlight points which interleaved screen coordinates stand in the
+	 * current selection rectangle. Does not require a GL context.
+	 */
+	protected void processSelection(float[] projection, int width, int height) {
+		int n = projection.length / 3;
+		for (int i = 0; i < n; i++)
+			if (matchRectangleSelection(in, out, projection[i * 3], projection[i * 3 + 1], width, height))
 				scatter.setHighlighted(i, true);
 	}
 
@@ -139,6 +139,8 @@ public class AWTChartComponentFactory extends ChartComponentFactory {
         case offscreen:
             Dimension dimension = getCanvasDimension(windowingToolkit);
             return new OffscreenCanvas(factory, scene, quality, capabilities, dimension.width, dimension.height, traceGL, debugGL);
+        case software:
+            return newCanvasSoftware(factory, scene, quality, windowingToolkit);
         default:
             throw new RuntimeException("unknown chart type:" + chartType);
         }
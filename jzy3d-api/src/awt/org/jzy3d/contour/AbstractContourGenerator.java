@@ -1,5 +1,8 @@
 package org.jzy3d.contour;
 
+import org.jzy3d.maths.Parallel;
+import org.jzy3d.plot3d.builder.HeightField;
+
 /**
  * The AbstractContourGenerator provides various utility fonctions
  * to compute core contour matrices.
@@ -17,6 +20,29 @@ public abstract class AbstractContourGenerator {
 
 	protected abstract void computeHeightMatrix(double matrix[][], int xRes, int yRes);
 	
+	/**
+	 * Copy the values of a height field into the matrix, with the Y coordinate
+	 * inverted because DrawableTexture is handled like this, and update the
+	 * min and max values.
+	 */
+	protected void fillHeightMatrix(final double matrix[][], final HeightField field) {
+		final double[][] values = field.getValues();
+		Parallel.forRange(0, values.length, Parallel.AVAILABLE_PROCESSORS, 64, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				for (int xi = from; xi < to; xi++) {
+					double[] column = values[xi];
+					double[] flipped = matrix[xi];
+					int last = column.length - 1;
+					for (int yi = 0; yi <= last; yi++)
+						flipped[last - yi] = column[yi];
+				}
+			}
+		});
+		minValue = field.getMin();
+		maxValue = field.getMax();
+	}
+	
 	/**
 	 * Calculates the points in the XY plane that belong to a contour
 	 * 
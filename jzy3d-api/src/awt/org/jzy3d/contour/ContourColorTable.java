@@ -0,0 +1,92 @@
+package org.jzy3d.contour;
+
+import java.util.Arrays;
+
+/**
+ * Colors of an {@link IContourColoringPolicy} precomputed for the values of a contour
+ * matrix, so that an image can be filled without querying the policy for each pixel.
+ *
+ * A table either holds the exact color of each contour level, for quantized matrices,
+ * or samples the policy on regular intervals over a range of values, for height maps.
+ */
+public class ContourColorTable {
+	/** Number of colors sampled by {@link #ofRange(IContourColoringPolicy, double, double)}. */
+	public static int RANGE_TABLE_SIZE = 4096;
+
+	/** A table holding the color of each of the sorted levels. */
+	public static ContourColorTable ofLevels(IContourColoringPolicy policy, double[] sortedLevels) {
+		return new ContourColorTable(policy, sortedLevels.clone(), false);
+	}
+
+	/**
+	 * A table holding the color of the values produced by
+	 * {@link AbstractContourGenerator#quantizeMatrix(double[][], double, double, int)}.
+	 */
+	public static ContourColorTable ofQuantizedLevels(IContourColoringPolicy policy, double min, double max, int nLevels) {
+		double step = (max - min) / nLevels;
+		if (!(step > 0) || Double.isInfinite(step))
+			return new ContourColorTable(policy, new double[0], false);
+		int first = (int) (min / step);
+		int last = (int) (max / step);
+		double[] levels = new double[last - first + 1];
+		for (int k = 0; k < levels.length; k++)
+			levels[k] = step * (first + k); // same rounding as the quantization
+		return new ContourColorTable(policy, levels, false);
+	}
+
+	/**
+	 * A table of {@link #RANGE_TABLE_SIZE} colors sampled at the center of regular intervals
+	 * between min and max. Values out of the range get the color of the nearest interval.
+	 */
+	public static ContourColorTable ofRange(IContourColoringPolicy policy, double min, double max) {
+		int size = RANGE_TABLE_SIZE;
+		double width = (max - min) / size;
+		double[] samples = new double[size];
+		for (int i = 0; i < size; i++)
+			samples[i] = min + (i + 0.5) * width;
+		return new ContourColorTable(policy, samples, true);
+	}
+
+	protected ContourColorTable(IContourColoringPolicy policy, double[] values, boolean sampled) {
+		this.policy = policy;
+		this.values = values;
+		this.sampled = sampled;
+		this.colors = new int[values.length];
+		for (int i = 0; i < values.length; i++)
+			colors[i] = policy.getRGB(values[i]);
+		this.background = policy.getRGB(AbstractContourGenerator.NON_CONTOUR);
+		if (sampled && values.length > 1) {
+			this.min = values[0] - (values[1] - values[0]) / 2;
+			this.scale = 1 / (values[1] - values[0]);
+		}
+	}
+
+	/** Return the packed color of a matrix value. */
+	public int getRGB(double value) {
+		if (value == AbstractContourGenerator.NON_CONTOUR)
+			return background;
+		if (sampled) {
+			if (scale > 0 && !Double.isInfinite(scale) && !Double.isNaN(value)) {
+				int i = (int) ((value - min) * scale);
+				return colors[i < 0 ? 0 : (i >= colors.length ? colors.length - 1 : i)];
+			}
+		} else {
+			int i = Arrays.binarySearch(values, value);
+			if (i >= 0)
+				return colors[i];
+		}
+		return policy.getRGB(value);
+	}
+
+	public int size() {
+		return colors.length;
+	}
+
+	protected IContourColoringPolicy policy;
+	protected double[] values;
+	protected int[] colors;
+	protected int background;
+	protected boolean sampled;
+	protected double min;
+	protected double scale;
+}
@@ -1,10 +1,15 @@
 package org.jzy3d.contour;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
 import org.jzy3d.maths.Coord3d;
-import org.jzy3d.maths.IntegerCoord2d;
 import org.jzy3d.maths.Range;
 import org.jzy3d.maths.Utils;
+import org.jzy3d.plot3d.builder.HeightField;
+import org.jzy3d.plot3d.builder.HeightFieldCache;
 import org.jzy3d.plot3d.builder.Mapper;
 import org.jzy3d.plot3d.primitives.LineStrip;
 import org.jzy3d.plot3d.primitives.Point;
@@ -12,16 +17,14 @@ import org.jzy3d.plot3d.primitives.contour.ContourMesh;
 
 
 /**
- * Computes the contour matrix of a {@link Mapper}, and returns it
- * as a {@link ContourMesh}.
+ * Computes the contour lines of a {@link Mapper} with {@link MarchingSquares},
+ * and returns them as a {@link ContourMesh}.
  * 
  * @author Juan Barandiaran
  * @author Martin Pernollet
  */
 public class MapperContourMeshGenerator extends AbstractContourGenerator implements IContourMeshGenerator {
-	public static int PIXEL_NEIGHBOUR_THRESHOLD = 2;
 	public static float LINE_STRIP_WIDTH = 2;
-	public static int MERGE_STRIP_DIST = 1;
 	
 	public MapperContourMeshGenerator(Mapper mapper, Range xrange, Range yrange) {
 		this.mapper = mapper;
@@ -30,20 +33,18 @@ public class MapperContourMeshGenerator extends AbstractContourGenerator impleme
 	}
 
 	/**
-	 * Extracts contour lines from the contour dots matrix of nLevels number of
-	 * contours.
-	 * Return a MeshContour that cleanly describes 
-	 * 
+	 * Extracts contour lines of nLevels number of contours from the height
+	 * matrix, at the heights where the quantized matrix changes.
 	 **/
 	@Override
 	public ContourMesh getContourMesh(IContourColoringPolicy policy, int xRes, int yRes, int nLevels, float planeAxe, boolean writeText) {
-		double[][] contours = computeContour(xRes, yRes, nLevels);
-		return computeMesh(policy, xRes, yRes, contours, planeAxe);
+		HeightField field = heightField(xRes, yRes);
+		return computeMesh(policy, field.getValues(), levels(field.getMin(), field.getMax(), nLevels), planeAxe);
 	}
 
 	/**
-	 * Extracts contour lines from the contour dots matrix of contours at
-	 * user-defined Heigths in sortedLevels
+	 * Extracts contour lines from the height matrix at user-defined Heigths
+	 * in sortedLevels
 	 * 
 	 **/
 	@Override
@@ -53,8 +54,7 @@ public class MapperContourMeshGenerator extends AbstractContourGenerator impleme
 				throw new RuntimeException("Levels sent to getContourStrips() are not in order from Min to Max");
 			}
 		}
-		double[][] contours = computeContour(xRes, yRes, sortedLevels);
-		return computeMesh(policy, xRes, yRes, contours, planeAxe);
+		return computeMesh(policy, heightField(xRes, yRes).getValues(), sortedLevels, planeAxe);
 	}
 	
 	@Override
@@ -64,127 +64,100 @@ public class MapperContourMeshGenerator extends AbstractContourGenerator impleme
 
 	/**********************************************/
 	
-	protected ContourMesh computeMesh(IContourColoringPolicy policy, int xRes, int yRes, double[][] contours, float planeAxe){
-		boolean[][] processed = new boolean[xRes][yRes];
-		// List<AbstractDrawable> strips = new ArrayList<AbstractDrawable>();
+	/**
+	 * Builds connected line strips of each level with {@link MarchingSquares}, 
+	 * levels being processed concurrently according to the mapper parallelism.
+	 * The matrix is read only, x major and y minor with increasing y, as the
+	 * values of a {@link HeightField}.
+	 */
+	protected ContourMesh computeMesh(IContourColoringPolicy policy, double[][] matrix, double[] levels, float planeAxe){
+		List<List<double[]>> isolines = MarchingSquares.isolines(matrix, levels, mapper.getParallelism());
+		ColorMapper colors = ((DefaultContourColoringPolicy) policy).getColorMapper();
 		ContourMesh mesh = new ContourMesh();
 
-		for (int i = 0; i < contours.length; i++) {
-			for (int j = 0; j < contours[i].length; j++) {
-				if (!processed[i][j] && (contours[i][j] != NON_CONTOUR)) {
-					double level = contours[i][j];
-
-					// Compute a line part for this contour
-					LineStrip strip = followContourFrom(
-							(DefaultContourColoringPolicy) policy, i, j,
-							contours, processed, planeAxe);
-					strip.setWidth(LINE_STRIP_WIDTH);
-					// Setup mesh with
-					mesh.lines.appendLevelLine(level, strip);
-					mesh.setLevelLabel(level, Utils.num2str('f', level, 2));
-				}
-			}
+		for (int l = 0; l < levels.length; l++) {
+			double level = levels[l];
+			List<double[]> lines = isolines.get(l);
+			if (lines.isEmpty())
+				continue;
+			Color color = colors.getColor(new Coord3d(0, 0, level));
+			List<LineStrip> strips = new ArrayList<LineStrip>(lines.size());
+			for (double[] line : lines)
+				strips.add(toLineStrip(line, matrix, color, planeAxe));
+			mesh.lines.setLevelLines(level, strips);
+			mesh.setLevelLabel(level, Utils.num2str('f', level, 2));
 		}
 		return mesh;
 	}
 
-	protected LineStrip followContourFrom(DefaultContourColoringPolicy policy,
-			int i, int j, double[][] contours, boolean[][] processed,
-			float planeAxe) {
-		LineStrip strip = new LineStrip(100);
-
-		// add current
-		processed[i][j] = true;
-		strip.add(new Point(map(i, j, planeAxe, contours)));
-		int width = 1;
-		IntegerCoord2d next = findNext(i, j, width, contours, processed);
-		while (next != null) {
-			processed[next.x][next.y] = true;
-			Coord3d coord = map(next.x, next.y, planeAxe, contours);
-			Color color = policy.getColorMapper().getColor(
-					new Coord3d(0, 0, contours[next.x][next.y]));
-			strip.add(new Point(coord, color));
-			// follow path
-			next = findNext(next.x, next.y, width, contours, processed);
-		}
+	protected LineStrip toLineStrip(double[] line, double[][] matrix, Color color, float planeAxe) {
+		LineStrip strip = new LineStrip(line.length / 2);
+		for (int k = 0; k < line.length; k += 2)
+			strip.add(new Point(map(line[k], line[k + 1], planeAxe, matrix), color));
+		strip.setWidth(LINE_STRIP_WIDTH);
 		return strip;
 	}
 
-	protected IntegerCoord2d findNext(int i, int j, int width,
-			double[][] contours, boolean[][] processed) {
-		int iFrom = (i > (width - 1)) ? (i - width) : i;
-		int iTo = (i < contours.length - width) ? (i + width) : i;
-		int jFrom = (j > (width - 1)) ? (j - width) : j;
-		int jTo = (j < contours[0].length - width) ? (j + width) : j;
-		int n = 0;
-
-		for (int ii = iFrom; ii <= iTo; ii++) {
-			for (int jj = jFrom; jj <= jTo; jj++) {
-				n++;
-				if ((!processed[ii][jj]) && (contours[ii][jj] != NON_CONTOUR)) {
-					return new IntegerCoord2d(ii, jj);
-				}
-			}
-		}
-		if (width < PIXEL_NEIGHBOUR_THRESHOLD)
-			return findNext(i, j, width + 1, contours, processed);
-		return null;
-	}
-
-	protected Coord3d map(int i, int j, double[][] contours) {
-		return map(i, j, contours[i][j], contours);
+	/**
+	 * Levels at each multiple of (max-min)/nLevels lying in ]min;max[, which
+	 * are the boundaries of the quantized matrix.
+	 */
+	protected double[] levels(double min, double max, int nLevels) {
+		double step = (max - min) / nLevels;
+		if (!(step > 0))
+			return new double[0];
+		long first = (long) Math.floor(min / step) + 1;
+		long last = (long) Math.ceil(max / step) - 1;
+		double[] levels = new double[(int) Math.max(last - first + 1, 0)];
+		for (int k = 0; k < levels.length; k++)
+			levels[k] = step * (first + k);
+		return levels;
 	}
 
-	// TODO: we flip back what was flipped during contour build
-	protected Coord3d map(int i, int j, double value, double[][] contours) {
-		double xrng = xrange.getRange();
-		double yrng = yrange.getRange();
-		double x = xrange.getMin() + xrng * ((i) / ((double) contours.length));
-		double y = yrange.getMin() + yrng
-				* ((contours[0].length - j) / ((double) contours[0].length));
+	/** Map fractional matrix indices to x,y. */
+	protected Coord3d map(double i, double j, double value, double[][] matrix) {
+		double x = xrange.getMin() + xrange.getRange() * (i / (matrix.length - 1));
+		double y = yrange.getMin() + yrange.getRange() * (j / (matrix[0].length - 1));
 		return new Coord3d(x, y, value);
 	}
 	
 	/***********************************/
 	
 	/**
-	 * Calculates the Height of the surface for each point in the XY plane
+	 * Calculates the Height of the surface for each point in the XY plane,
+	 * or reuse the one computed for the same mapper, ranges and resolution
+	 * by any generator or surface builder sharing the height field cache.
 	 * 
+	 * @see HeightFieldCache
 	 **/
 	@Override
     protected void computeHeightMatrix(double matrix[][], int xRes, int yRes) {
-		double value;
-		minValue = Double.MAX_VALUE;
-		maxValue = -Double.MAX_VALUE;
-
-		// TODO: This matrix filling could be done at the same time the surface
-		// is computed to save time and avoid calling the mapper.f() two times
-		// for each point.
-		double xstep = xrange.getRange() / (double) (xRes - 1);
-		double ystep = yrange.getRange() / (double) (yRes - 1);
-		for (int xi = 0; xi < xRes; xi++) {
-			for (int yi = 0; yi < yRes; yi++) {
-				double x = xrange.getMin() + xi * xstep;
-				double y = yrange.getMin() + yi * ystep;
-
-				value = mapper.f(x, y);
-
-				// Y coordinate in the matrix is inverted because
-				// DrawableTexture
-				// is handled like this
-				matrix[xi][yRes - 1 - yi] = value;
-				if (value < minValue)
-					minValue = value;
-				if (value > maxValue)
-					maxValue = value;
-			}
-		}
+		fillHeightMatrix(matrix, heightField(xRes, yRes));
 	}
-
 	
+	protected HeightField heightField(int xRes, int yRes) {
+		if (heightFieldCache != null)
+			return heightFieldCache.get(mapper, xrange, xRes, yrange, yRes);
+		return HeightField.compute(mapper, xrange, xRes, yrange, yRes);
+	}
+	
+	public HeightFieldCache getHeightFieldCache() {
+		return heightFieldCache;
+	}
+	
+	/**
+	 * Reuse mapper values computed by surface builders and generators sharing the
+	 * same cache. No cache is used by default.
+	 * 
+	 * @see org.jzy3d.plot3d.builder.concrete.OrthonormalGrid#setHeightFieldCache(HeightFieldCache)
+	 */
+	public void setHeightFieldCache(HeightFieldCache heightFieldCache) {
+		this.heightFieldCache = heightFieldCache;
+	}
 	
 	protected Mapper mapper;
 	protected Range xrange;
 	protected Range yrange;
+	protected HeightFieldCache heightFieldCache;
 
 }
@@ -1,9 +1,14 @@
 package org.jzy3d.contour;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 
+import org.jzy3d.maths.Parallel;
 import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.HeightField;
+import org.jzy3d.plot3d.builder.HeightFieldCache;
 import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.rendering.textures.BufferedImageTexture;
 
 
 /**
@@ -17,6 +22,7 @@ public class MapperContourPictureGenerator extends AbstractContourGenerator impl
 	public static int PIXEL_NEIGHBOUR_THRESHOLD = 2;
 	public static float LINE_STRIP_WIDTH = 2;
 	public static int MERGE_STRIP_DIST = 1;
+	protected static final int ROWS_PER_BLOCK = 16;
 	
 	public MapperContourPictureGenerator(Mapper mapper, Range xrange, Range yrange) {
 		this.mapper = mapper;
@@ -34,77 +40,97 @@ public class MapperContourPictureGenerator extends AbstractContourGenerator impl
 	@Override
 	public BufferedImage getContourImage(IContourColoringPolicy policy, int xRes, int yRes, int nLevels) {
 		double[][] contours = computeContour(xRes, yRes, nLevels);
-		return buildImage(xRes, yRes, contours, policy);
+		return buildImage(xRes, yRes, contours, ContourColorTable.ofQuantizedLevels(policy, minValue, maxValue, nLevels));
 	}
 	
 	@Override
 	public BufferedImage getContourImage(IContourColoringPolicy policy, int xRes, int yRes, double[] sortedLevels) {
 		double[][] contours = computeContour(xRes, yRes, sortedLevels);
-		return buildImage(xRes, yRes, contours, policy);
+		return buildImage(xRes, yRes, contours, ContourColorTable.ofLevels(policy, sortedLevels));
 	}
 
 	@Override
 	public BufferedImage getFilledContourImage(IContourColoringPolicy policy, int xRes, int yRes, int nLevels) {
 		double[][] contours = computeFilledContour(xRes, yRes, nLevels);
-		return buildImage(xRes, yRes, contours, policy);
+		return buildImage(xRes, yRes, contours, ContourColorTable.ofQuantizedLevels(policy, minValue, maxValue, nLevels));
 	}
 
 	@Override
 	public BufferedImage getHeightMap(IContourColoringPolicy policy, int xRes, int yRes, int nLevels) {
 		double[][] contours = computeXYColors(xRes, yRes, nLevels);
-		return buildImage(xRes, yRes, contours, policy);
+		return buildImage(xRes, yRes, contours, ContourColorTable.ofRange(policy, minValue, maxValue));
 	}
 	
 	/**********************************************/
 
 	protected BufferedImage buildImage(int xRes, int yRes, double[][] contours, IContourColoringPolicy policy){
-		// Build an image with a size
-		BufferedImage image = new BufferedImage(xRes, yRes,
-				BufferedImage.TYPE_INT_RGB);
-		for (int x = 0; x < xRes; x++)
-			for (int y = 0; y < yRes; y++)
-				image.setRGB(x, y, policy.getRGB(contours[x][y]));
+		return buildImage(xRes, yRes, contours, ContourColorTable.ofLevels(policy, new double[0]));
+	}
+
+	/**
+	 * Build an image by writing the colors of the matrix values straight in
+	 * the image pixel array, row after row, rows being split in stripes
+	 * processed concurrently. The image is a {@link BufferedImage#TYPE_INT_RGB}
+	 * that can be given to a {@link BufferedImageTexture} without conversion.
+	 */
+	protected BufferedImage buildImage(final int xRes, final int yRes, final double[][] contours, final ContourColorTable table){
+		BufferedImage image = new BufferedImage(xRes, yRes, BufferedImage.TYPE_INT_RGB);
+		final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		
+		Parallel.forRange(0, yRes, Parallel.AVAILABLE_PROCESSORS, ROWS_PER_BLOCK, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				// blocks of rows let each matrix column be read sequentially
+				for (int y0 = from; y0 < to; y0 += ROWS_PER_BLOCK) {
+					int y1 = Math.min(y0 + ROWS_PER_BLOCK, to);
+					for (int x = 0; x < xRes; x++) {
+						double[] column = contours[x];
+						for (int y = y0; y < y1; y++)
+							pixels[y * xRes + x] = table.getRGB(column[y]);
+					}
+				}
+			}
+		});
 		return image;
 	}
 
 	/**********************************************/
 	
 	/**
-	 * Calculates the Height of the surface for each point in the XY plane
+	 * Calculates the Height of the surface for each point in the XY plane,
+	 * or reuse the one computed for the same mapper, ranges and resolution
+	 * by any generator or surface builder sharing the height field cache.
 	 * 
+	 * @see HeightFieldCache
 	 **/
 	@Override
     protected void computeHeightMatrix(double matrix[][], int xRes, int yRes) {
-		double value;
-		minValue = Double.MAX_VALUE;
-		maxValue = -Double.MAX_VALUE;
-
-		// TODO: This matrix filling could be done at the same time the surface
-		// is computed to save time and avoid calling the mapper.f() two times
-		// for each point.
-		double xstep = xrange.getRange() / (double) (xRes - 1);
-		double ystep = yrange.getRange() / (double) (yRes - 1);
-		for (int xi = 0; xi < xRes; xi++) {
-			for (int yi = 0; yi < yRes; yi++) {
-				double x = xrange.getMin() + xi * xstep;
-				double y = yrange.getMin() + yi * ystep;
-
-				value = mapper.f(x, y);
-
-				// Y coordinate in the matrix is inverted because
-				// DrawableTexture
-				// is handled like this
-				matrix[xi][yRes - 1 - yi] = value;
-				if (value < minValue)
-					minValue = value;
-				if (value > maxValue)
-					maxValue = value;
-			}
-		}
+		fillHeightMatrix(matrix, heightField(xRes, yRes));
+	}
+	
+	protected HeightField heightField(int xRes, int yRes) {
+		if (heightFieldCache != null)
+			return heightFieldCache.get(mapper, xrange, xRes, yrange, yRes);
+		return HeightField.compute(mapper, xrange, xRes, yrange, yRes);
+	}
+	
+	public HeightFieldCache getHeightFieldCache() {
+		return heightFieldCache;
+	}
+	
+	/**
+	 * Reuse mapper values computed by surface builders and generators sharing the
+	 * same cache. No cache is used by default.
+	 * 
+	 * @see org.jzy3d.plot3d.builder.concrete.OrthonormalGrid#setHeightFieldCache(HeightFieldCache)
+	 */
+	public void setHeightFieldCache(HeightFieldCache heightFieldCache) {
+		this.heightFieldCache = heightFieldCache;
 	}
 	
 	protected Mapper mapper;
 	protected Range xrange;
 	protected Range yrange;
+	protected HeightFieldCache heightFieldCache;
 
 }
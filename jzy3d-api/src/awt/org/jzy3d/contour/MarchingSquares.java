@@ -0,0 +1,277 @@
+package org.jzy3d.contour;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jzy3d.maths.Parallel;
+
+/**
+ * Extracts iso lines from a height matrix with the marching squares algorithm.
+ *
+ * Each cell made of four neighbour matrix values is crossed by the iso line of a
+ * level on the cell edges having one value below and one value above the level. The
+ * crossing point is linearly interpolated between the two values, so lines are
+ * accurate below the matrix resolution. Crossings shared by neighbour cells are
+ * chained into polylines while visiting each cell once, so that the cost of a level
+ * is linear in the number of cells. Ambiguous cells, having their diagonal values on
+ * the same side of the level, are resolved with the average of the cell values.
+ *
+ * A polyline is returned as an array of interleaved matrix coordinates
+ * <code>{i0, j0, i1, j1, ...}</code>, where i and j are fractional indices in the
+ * first and second matrix dimensions. A closed polyline ends with its first point.
+ * Cells having a NaN value are ignored.
+ */
+public class MarchingSquares {
+	/**
+	 * Return the polylines of each level, computed concurrently on at most
+	 * parallelism threads.
+	 */
+	public static List<List<double[]>> isolines(final double[][] matrix, final double[] levels, int parallelism) {
+		final List<List<double[]>> lines = new ArrayList<List<double[]>>(levels.length);
+		for (int l = 0; l < levels.length; l++)
+			lines.add(null);
+		Parallel.forRange(0, levels.length, parallelism, new Parallel.IRangeTask() {
+			@Override
+			public void run(int from, int to) {
+				MarchingSquares squares = new MarchingSquares(matrix);
+				for (int l = from; l < to; l++)
+					lines.set(l, squares.isolines(levels[l]));
+			}
+		});
+		return lines;
+	}
+
+	/**
+	 * A marching squares reusing its working memory from one level to the other.
+	 * Not thread safe.
+	 */
+	public MarchingSquares(double[][] matrix) {
+		this.matrix = matrix;
+		this.nx = matrix.length;
+		this.ny = nx > 0 ? matrix[0].length : 0;
+		this.horizontal = nx > 0 ? (nx - 1) * ny : 0;
+		allocate(64);
+	}
+
+	/** Return the polylines of the given level. */
+	public List<double[]> isolines(double level) {
+		List<double[]> lines = new ArrayList<double[]>();
+		if (nx < 2 || ny < 2)
+			return lines;
+		this.level = level;
+		clear();
+
+		for (int i = 0; i < nx - 1; i++) {
+			double[] c0 = matrix[i];
+			double[] c1 = matrix[i + 1];
+			for (int j = 0; j < ny - 1; j++)
+				march(i, j, c0[j], c1[j], c1[j + 1], c0[j + 1]);
+		}
+
+		// open lines start and end on the matrix border
+		for (int s = 0; s < keys.length; s++) {
+			if (keys[s] != NONE && degree(s) == 1)
+				lines.add(follow(s, false));
+		}
+		// remaining crossings form closed lines
+		for (int s = 0; s < keys.length; s++) {
+			if (keys[s] != NONE && degree(s) == 2)
+				lines.add(follow(s, true));
+		}
+		return lines;
+	}
+
+	/**
+	 * Link the crossings of the cell having its lower corner at (i,j), given its
+	 * values in counter clockwise order from that corner.
+	 */
+	protected void march(int i, int j, double v00, double v10, double v11, double v01) {
+		if (Double.isNaN(v00) || Double.isNaN(v10) || Double.isNaN(v11) || Double.isNaN(v01))
+			return;
+		int config = (v00 >= level ? 1 : 0) | (v10 >= level ? 2 : 0) | (v11 >= level ? 4 : 0) | (v01 >= level ? 8 : 0);
+		if (config == 0 || config == 15)
+			return;
+
+		int bottom = i * ny + j; // (i,j)-(i+1,j)
+		int top = i * ny + j + 1; // (i,j+1)-(i+1,j+1)
+		int left = horizontal + i * (ny - 1) + j; // (i,j)-(i,j+1)
+		int right = horizontal + (i + 1) * (ny - 1) + j; // (i+1,j)-(i+1,j+1)
+
+		switch (config) {
+		case 1:
+		case 14:
+			link(left, bottom);
+			break;
+		case 2:
+		case 13:
+			link(bottom, right);
+			break;
+		case 3:
+		case 12:
+			link(left, right);
+			break;
+		case 4:
+		case 11:
+			link(right, top);
+			break;
+		case 6:
+		case 9:
+			link(bottom, top);
+			break;
+		case 7:
+		case 8:
+			link(left, top);
+			break;
+		case 5:
+		case 10:
+			boolean centerAbove = (v00 + v10 + v11 + v01) / 4 >= level;
+			// corners 00 and 11 are connected through the center if it has their side
+			if (centerAbove == (config == 5)) {
+				link(left, top);
+				link(bottom, right);
+			} else {
+				link(left, bottom);
+				link(right, top);
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	protected void link(int e1, int e2) {
+		if (2 * (size + 2) > keys.length)
+			allocate(keys.length * 2);
+		attach(slot(e1), e2);
+		attach(slot(e2), e1);
+	}
+
+	/** Return the slot of edge e in the crossings table, adding it if needed. */
+	protected int slot(int e) {
+		int mask = keys.length - 1;
+		int s = (e * 0x9E3779B9) >>> shift;
+		while (keys[s] != NONE) {
+			if (keys[s] == e)
+				return s;
+			s = (s + 1) & mask;
+		}
+		keys[s] = e;
+		size++;
+		return s;
+	}
+
+	protected void attach(int s, int other) {
+		if (links[2 * s] == NONE)
+			links[2 * s] = other;
+		else
+			links[2 * s + 1] = other;
+	}
+
+	protected void detach(int s, int other) {
+		if (links[2 * s] == other) {
+			links[2 * s] = links[2 * s + 1];
+			links[2 * s + 1] = NONE;
+		} else if (links[2 * s + 1] == other)
+			links[2 * s + 1] = NONE;
+	}
+
+	protected int degree(int s) {
+		return links[2 * s] == NONE ? 0 : (links[2 * s + 1] == NONE ? 1 : 2);
+	}
+
+	/** Walk the crossings linked to the one in slot s, consuming the links on the way. */
+	protected double[] follow(int s, boolean closed) {
+		int first = keys[s];
+		double[] line = new double[16];
+		int n = 0;
+		line = append(line, n, first);
+		n += 2;
+		int current = first;
+		while (links[2 * s] != NONE) {
+			int next = links[2 * s];
+			int nextSlot = slot(next);
+			detach(s, next);
+			detach(nextSlot, current);
+			line = append(line, n, next);
+			n += 2;
+			current = next;
+			s = nextSlot;
+		}
+		if (closed && current != first) { // should not happen on a consistent matrix
+			line = append(line, n, first);
+			n += 2;
+		}
+		return Arrays.copyOf(line, n);
+	}
+
+	/** Empty the crossings table, keeping its memory for the next level. */
+	protected void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, NONE);
+			Arrays.fill(links, NONE);
+			size = 0;
+		}
+	}
+
+	/** Grow the crossings table to the given power of two capacity, keeping its content. */
+	protected void allocate(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldLinks = links;
+		keys = new int[capacity];
+		links = new int[2 * capacity];
+		Arrays.fill(keys, NONE);
+		Arrays.fill(links, NONE);
+		shift = 32 - Integer.numberOfTrailingZeros(capacity);
+		size = 0;
+		if (oldKeys != null) {
+			for (int s = 0; s < oldKeys.length; s++) {
+				if (oldKeys[s] != NONE) {
+					int t = slot(oldKeys[s]);
+					links[2 * t] = oldLinks[2 * s];
+					links[2 * t + 1] = oldLinks[2 * s + 1];
+				}
+			}
+		}
+	}
+
+	/** Write the crossing point of edge e at index n, growing the array if needed. */
+	protected double[] append(double[] line, int n, int e) {
+		if (n + 2 > line.length)
+			line = Arrays.copyOf(line, line.length * 2);
+		int i, j, i2, j2;
+		if (e < horizontal) {
+			i = e / ny;
+			j = e % ny;
+			i2 = i + 1;
+			j2 = j;
+		} else {
+			int v = e - horizontal;
+			i = v / (ny - 1);
+			j = v % (ny - 1);
+			i2 = i;
+			j2 = j + 1;
+		}
+		double a = matrix[i][j];
+		double b = matrix[i2][j2];
+		double t = (level - a) / (b - a);
+		line[n] = i + t * (i2 - i);
+		line[n + 1] = j + t * (j2 - j);
+		return line;
+	}
+
+	protected static final int NONE = -1;
+
+	protected final double[][] matrix;
+	protected final int nx;
+	protected final int ny;
+	/** number of edges along the first dimension, numbered before the others */
+	protected final int horizontal;
+	/** edges crossed by the current level, in an open addressing table */
+	protected int[] keys;
+	/** the two crossings linked to the crossing in each slot, or NONE */
+	protected int[] links;
+	protected int size;
+	protected int shift;
+	protected double level;
+}
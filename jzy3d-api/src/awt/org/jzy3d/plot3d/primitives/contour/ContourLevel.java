@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jzy3d.contour.MapperContourPictureGenerator;
+import org.jzy3d.events.DrawableChangedEvent;
 import org.jzy3d.plot3d.primitives.AbstractComposite;
 import org.jzy3d.plot3d.primitives.AbstractDrawable;
 import org.jzy3d.plot3d.primitives.LineStrip;
@@ -74,6 +75,8 @@ public class ContourLevel extends AbstractComposite {
 		components.clear();
 		for (LineStrip strip : lines)
 			components.add(strip);
+		invalidateBounds();
+		fireDrawableChanged(DrawableChangedEvent.FIELD_DATA);
 	}
 
 	protected ILineStripMergePolicy policy = new DefaultLineStripMergePolicy(MapperContourPictureGenerator.MERGE_STRIP_DIST);
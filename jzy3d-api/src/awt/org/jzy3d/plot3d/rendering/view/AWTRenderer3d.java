@@ -24,6 +24,8 @@ public class AWTRenderer3d extends Renderer3d{
 
     /**
      * Uses a dedicated {@link AWTGLReadBufferUtil} to read a buffered image.
+     * The framebuffer is read once for both the buffered image and the
+     * texture data.
      * @see {@link getLastScreenshotImage()} to retrieve the image
      */
     @Override
@@ -36,15 +38,15 @@ public class AWTRenderer3d extends Renderer3d{
 
             if (doScreenshotAtNextDisplay) {
                 AWTGLReadBufferUtil screenshot = new AWTGLReadBufferUtil(GLProfile.getGL2GL3(), true);
-                screenshot.readPixels(gl, true);
-                image = screenshot.getTextureData();
                 bufferedImage = screenshot.readPixelsToBufferedImage(gl, true);
+                image = screenshot.getTextureData();
 
                 doScreenshotAtNextDisplay = false;
             }
+            submitScreenshots(gl, canvas.getSurfaceWidth(), canvas.getSurfaceHeight());
         }
     }
-    
+
     public BufferedImage getLastScreenshotImage() {
         return bufferedImage;
     }
@@ -0,0 +1,162 @@
+package org.jzy3d.chart.batch;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.chart.factories.AWTChartComponentFactory;
+import org.jzy3d.chart.factories.IChartComponentFactory.Toolkit;
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.Builder;
+import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.primitives.Shape;
+import org.jzy3d.plot3d.rendering.canvas.Quality;
+
+public class TestChartRenderService {
+    @Test
+    public void pooledChartsRenderEachScene() throws Exception {
+        ChartRenderService service = new ChartRenderService(new AWTChartComponentFactory(), Toolkit.software, 2);
+        List<Future<File>> images = new ArrayList<Future<File>>();
+        for (int i = 0; i < 8; i++) {
+            File file = File.createTempFile("batch" + i + "-", ".png");
+            file.deleteOnExit();
+            SceneDescription scene = new SceneDescription().add(surface(i));
+            scene.setBackgroundColor(i % 2 == 0 ? Color.WHITE : Color.BLACK);
+            scene.setAxeBoxDisplayed(false);
+            images.add(service.submit(new RenderJob(scene, i < 4 ? 120 : 80, i < 4 ? 90 : 60, Quality.Advanced, file)));
+        }
+
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage image = ImageIO.read(images.get(i).get());
+            Assert.assertEquals(i < 4 ? 120 : 80, image.getWidth());
+            Assert.assertEquals(i < 4 ? 90 : 60, image.getHeight());
+            // background of the scene bound to the pooled chart
+            Assert.assertEquals(i % 2 == 0 ? 0xFFFFFFFF : 0xFF000000, image.getRGB(0, 0));
+            Assert.assertNotEquals(image.getRGB(0, 0), image.getRGB(image.getWidth() / 2, image.getHeight() / 2));
+        }
+
+        service.shutdown();
+        RenderStatistics statistics = service.getStatistics();
+        Assert.assertEquals(8, statistics.getSubmitted());
+        Assert.assertEquals(8, statistics.getRendered());
+        Assert.assertEquals(8, statistics.getEncoded());
+        Assert.assertEquals(0, statistics.getRenderFailed());
+        // at most one chart per render thread and size
+        Assert.assertTrue(statistics.getCanvasCreated() <= 4);
+        Assert.assertEquals(8, statistics.getCanvasCreated() + statistics.getCanvasReused());
+        Assert.assertEquals(0, service.getPooledCount());
+    }
+
+    @Test
+    public void idleChartsAreBoundedOverAllSizes() throws Exception {
+        ChartRenderService service = new ChartRenderService(new AWTChartComponentFactory(), Toolkit.software, 1);
+        service.setMaxIdle(2);
+        for (int i = 0; i < 5; i++) {
+            File file = File.createTempFile("size" + i + "-", ".png");
+            file.deleteOnExit();
+            service.submit(new RenderJob(new SceneDescription().add(surface(i)), 20 + i, 20, Quality.Fastest, file)).get();
+            Assert.assertTrue(service.getPooledCount() <= 2);
+        }
+        // the least recently used sizes were disposed
+        Assert.assertEquals(2, service.getPooledCount());
+        Assert.assertEquals(2, service.pool.size());
+        Assert.assertTrue(service.pool.containsKey(new ChartRenderService.CanvasKey(24, 20, Quality.Fastest)));
+        Assert.assertTrue(service.pool.containsKey(new ChartRenderService.CanvasKey(23, 20, Quality.Fastest)));
+
+        File file = File.createTempFile("reused", ".png");
+        file.deleteOnExit();
+        service.submit(new RenderJob(new SceneDescription().add(surface(0)), 23, 20, Quality.Fastest, file)).get();
+        Assert.assertEquals(1, service.getStatistics().getCanvasReused());
+        service.shutdown();
+        Assert.assertEquals(0, service.getPooledCount());
+    }
+
+    @Test
+    public void serverAnswersImagesAndStatistics() throws Exception {
+        ChartRenderService service = new ChartRenderService(new AWTChartComponentFactory(), Toolkit.software, 1);
+        ChartRenderServer server = new ChartRenderServer(service, 0);
+        server.register("surface", new ISceneProvider() {
+            @Override
+            public SceneDescription newScene(Map<String, String> parameters) {
+                return new SceneDescription().add(surface(Integer.parseInt(parameters.get("seed"))));
+            }
+        });
+        server.start();
+        try {
+            HttpURLConnection image = open(server, "/render/surface?width=64&height=48&seed=3");
+            Assert.assertEquals(200, image.getResponseCode());
+            Assert.assertEquals("image/png", image.getContentType());
+            InputStream in = image.getInputStream();
+            BufferedImage png = ImageIO.read(in);
+            in.close();
+            Assert.assertEquals(64, png.getWidth());
+            Assert.assertEquals(48, png.getHeight());
+
+            BufferedImage reference = null;
+            for (String format : new String[] { "png", "jpg", "bmp" }) {
+                image = open(server, "/render/surface?width=32&height=24&seed=3&format=" + format);
+                Assert.assertEquals(format, 200, image.getResponseCode());
+                Assert.assertEquals(format.equals("jpg") ? "image/jpeg" : "image/" + format, image.getContentType());
+                in = image.getInputStream();
+                BufferedImage decoded = ImageIO.read(in);
+                in.close();
+                Assert.assertEquals(32, decoded.getWidth());
+                Assert.assertEquals(24, decoded.getHeight());
+                if (reference == null)
+                    reference = decoded;
+                else if (format.equals("bmp")) {
+                    // lossless, same orientation and colors as the png
+                    for (int y = 0; y < 24; y++)
+                        for (int x = 0; x < 32; x++)
+                            Assert.assertEquals(reference.getRGB(x, y) & 0xFFFFFF, decoded.getRGB(x, y) & 0xFFFFFF);
+                }
+            }
+            Assert.assertEquals(400, open(server, "/render/surface?seed=3&format=gif").getResponseCode());
+
+            Assert.assertEquals(404, open(server, "/render/unknown").getResponseCode());
+            Assert.assertEquals(400, open(server, "/render/surface?width=zero&seed=1").getResponseCode());
+            Assert.assertEquals(400, open(server, "/render/surface?width=100000&height=100000&seed=1").getResponseCode());
+
+            HttpURLConnection stats = open(server, "/stats");
+            Assert.assertEquals(200, stats.getResponseCode());
+            Scanner scanner = new Scanner(stats.getInputStream(), "UTF-8").useDelimiter("\\A");
+            String text = scanner.next();
+            scanner.close();
+            Assert.assertTrue(text, text.contains("rendered=4\n"));
+        } finally {
+            server.stop(0);
+            service.shutdown();
+        }
+    }
+
+    protected static Shape surface(final int seed) {
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return Math.sin(x * (seed + 1)) * Math.cos(y);
+            }
+        };
+        Shape surface = Builder.buildOrthonormal(mapper, new Range(-3, 3), 20);
+        surface.setColorMapper(new ColorMapper(new ColorMapRainbow(), surface.getBounds().getZmin(), surface.getBounds().getZmax()));
+        surface.setWireframeDisplayed(false);
+        return surface;
+    }
+
+    protected static HttpURLConnection open(ChartRenderServer server, String path) throws Exception {
+        return (HttpURLConnection) new URL("http", server.server.getAddress().getHostString(), server.getPort(), path).openConnection();
+    }
+}
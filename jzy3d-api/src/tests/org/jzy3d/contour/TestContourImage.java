@@ -0,0 +1,64 @@
+package org.jzy3d.contour;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.Mapper;
+
+public class TestContourImage {
+    Mapper mapper = new Mapper() {
+        @Override
+        public double f(double x, double y) {
+            return Math.sin(x) * Math.cos(y) * 10;
+        }
+    };
+    MapperContourPictureGenerator generator = new MapperContourPictureGenerator(mapper, new Range(-3, 3), new Range(-2, 2));
+    IContourColoringPolicy policy = new DefaultContourColoringPolicy(new ColorMapper(new ColorMapRainbow(), -10, 10));
+    int xRes = 301;
+    int yRes = 203;
+
+    @Test
+    public void levelImagesHaveThePolicyColors() {
+        assertSameColors(generator.getContourImage(policy, xRes, yRes, 7), generator.computeContour(xRes, yRes, 7), 0);
+        assertSameColors(generator.getFilledContourImage(policy, xRes, yRes, 7), generator.computeFilledContour(xRes, yRes, 7), 0);
+
+        double[] levels = { -5, -1, 0, 2.5, 8 };
+        assertSameColors(generator.getContourImage(policy, xRes, yRes, levels), generator.computeContour(xRes, yRes, levels), 0);
+    }
+
+    @Test
+    public void heightMapIsSampledFinely() {
+        assertSameColors(generator.getHeightMap(policy, xRes, yRes, 7), generator.computeXYColors(xRes, yRes, 7), 2);
+    }
+
+    @Test
+    public void quantizedLevelsAreFound() {
+        ContourColorTable table = ContourColorTable.ofQuantizedLevels(policy, -10, 10, 7);
+        Assert.assertEquals(7, table.size());
+        double step = 20 / 7d;
+        Assert.assertEquals(policy.getRGB(step * -2), table.getRGB(step * (int) (-6.5 / step)));
+        Assert.assertEquals(policy.getRGB(AbstractContourGenerator.NON_CONTOUR), table.getRGB(AbstractContourGenerator.NON_CONTOUR));
+    }
+
+    /** Compare to the color given by the policy, allowing a difference on each channel. */
+    protected void assertSameColors(BufferedImage image, double[][] matrix, int tolerance) {
+        Assert.assertEquals(xRes, image.getWidth());
+        Assert.assertEquals(yRes, image.getHeight());
+        for (int x = 0; x < xRes; x++) {
+            for (int y = 0; y < yRes; y++) {
+                int expected = policy.getRGB(matrix[x][y]);
+                int actual = image.getRGB(x, y);
+                for (int shift = 0; shift < 24; shift += 8) {
+                    int e = (expected >> shift) & 0xFF;
+                    int a = (actual >> shift) & 0xFF;
+                    if (Math.abs(e - a) > tolerance)
+                        Assert.fail("pixel " + x + "," + y + ": " + Integer.toHexString(expected) + " != " + Integer.toHexString(actual));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.jzy3d.contour;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.primitives.LineStrip;
+import org.jzy3d.plot3d.primitives.Point;
+import org.jzy3d.plot3d.primitives.contour.ContourLevel;
+import org.jzy3d.plot3d.primitives.contour.ContourMesh;
+
+public class TestMarchingSquares {
+    @Test
+    public void circleIsOneClosedLine() {
+        int n = 101;
+        double[][] matrix = new double[n][n];
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                matrix[i][j] = Math.hypot(i - 50, j - 50);
+
+        List<List<double[]>> isolines = MarchingSquares.isolines(matrix, new double[] { 10.5, 30.25 }, 2);
+        for (int l = 0; l < 2; l++) {
+            double radius = l == 0 ? 10.5 : 30.25;
+            List<double[]> lines = isolines.get(l);
+            Assert.assertEquals(1, lines.size());
+            double[] line = lines.get(0);
+            Assert.assertEquals(line[0], line[line.length - 2], 0);
+            Assert.assertEquals(line[1], line[line.length - 1], 0);
+            for (int k = 0; k < line.length; k += 2)
+                Assert.assertEquals(radius, Math.hypot(line[k] - 50, line[k + 1] - 50), 0.05);
+        }
+    }
+
+    @Test
+    public void planeIsOneOpenLineAcrossTheMatrix() {
+        double[][] matrix = new double[8][5];
+        for (int i = 0; i < 8; i++)
+            for (int j = 0; j < 5; j++)
+                matrix[i][j] = i;
+
+        List<double[]> lines = new MarchingSquares(matrix).isolines(2.25);
+        Assert.assertEquals(1, lines.size());
+        double[] line = lines.get(0);
+        Assert.assertEquals(2 * 5, line.length);
+        for (int k = 0; k < line.length; k += 2)
+            Assert.assertEquals(2.25, line[k], 1e-12);
+    }
+
+    @Test
+    public void meshHasConnectedLinesPerLevel() {
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return x * x + y * y;
+            }
+        };
+        MapperContourMeshGenerator generator = new MapperContourMeshGenerator(mapper, new Range(-2, 2), new Range(-2, 2));
+        DefaultContourColoringPolicy policy = new DefaultContourColoringPolicy(new ColorMapper(new ColorMapRainbow(), 0, 8));
+        ContourMesh mesh = generator.getContourMesh(policy, 200, 200, new double[] { 1, 2, 3 }, 0, false);
+
+        Assert.assertEquals(3, mesh.getLevels().size());
+        for (ContourLevel level : mesh.lines.getContourLevels()) {
+            Assert.assertEquals(1, level.getLines().size());
+            LineStrip strip = level.getLines().get(0);
+            double radius = Math.sqrt(level.getValue());
+            for (Point p : strip.getPoints()) {
+                Assert.assertEquals(radius, Math.hypot(p.xyz.x, p.xyz.y), 0.01);
+                Assert.assertNotNull(p.rgb);
+            }
+        }
+    }
+}
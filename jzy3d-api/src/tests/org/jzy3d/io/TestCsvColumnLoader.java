@@ -0,0 +1,93 @@
+package org.jzy3d.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.builder.concrete.OrthonormalTessellator;
+import org.jzy3d.plot3d.primitives.AbstractComposite;
+
+public class TestCsvColumnLoader {
+    @Test
+    public void parallelChunksGiveTheRowsOfFileDataset() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        Random random = new Random(5);
+        int n = 20000;
+        for (int i = 0; i < n; i++)
+            csv.append(random.nextFloat() * 200 - 100).append(',').append(random.nextGaussian() * 1e-6).append(',').append((float) (random.nextDouble() * 1e12)).append(i % 7 == 0 ? "\r\n" : "\n");
+        File file = write(csv.toString());
+
+        int minChunk = CsvColumnLoader.MIN_CHUNK_SIZE;
+        CsvColumnLoader.MIN_CHUNK_SIZE = 1000; // many chunks
+        CsvColumns columns;
+        try {
+            columns = new CsvColumnLoader().setParallelism(4).load(file);
+        } finally {
+            CsvColumnLoader.MIN_CHUNK_SIZE = minChunk;
+        }
+
+        Coord3d[] expected = FileDataset.loadArray(file.getPath());
+        Assert.assertEquals(n, columns.getRowCount());
+        Assert.assertEquals(n, columns.getX().length);
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(expected[i].x, columns.getX()[i], Math.ulp(expected[i].x));
+            Assert.assertEquals(expected[i].y, columns.getY()[i], Math.ulp(expected[i].y));
+            Assert.assertEquals(expected[i].z, columns.getZ()[i], Math.ulp(expected[i].z));
+        }
+        Assert.assertEquals(expected[n - 1], columns.toArray()[n - 1]);
+    }
+
+    @Test
+    public void headersDelimitersAndColumnsAreConfigurable() throws IOException {
+        File file = write("# exported points\n" //
+                + "id;\"x\"; y ;label;z\n" //
+                + "1;0.5;1;\"a\";-2e1\n" //
+                + "\n" //
+                + "2; \"1.5\" ;2;b;\n" //
+                + "3;2.5\n" //
+                + "4;3.5;4;c;+8\r\n");
+        CsvColumns columns = new CsvColumnLoader().setDelimiter(';').setHeaderLines(2).setColumns("z", "x", "y").load(file);
+        Assert.assertArrayEquals(new String[] { "id", "x", "y", "label", "z" }, columns.getHeader());
+        Assert.assertEquals(3, columns.getRowCount());
+        Assert.assertArrayEquals(new float[] { -20, Float.NaN, 8 }, columns.getColumn(0), 0);
+        Assert.assertArrayEquals(new float[] { 0.5f, 1.5f, 3.5f }, columns.getColumn(1), 0);
+        Assert.assertArrayEquals(new float[] { 1, 2, 4 }, columns.getColumn(2), 0);
+
+        File blanks = write("  1 \t 2   3\n4 5 6   \n");
+        columns = new CsvColumnLoader().setDelimiter(' ').setColumns(2, 0).load(blanks);
+        Assert.assertArrayEquals(new float[] { 3, 6 }, columns.getColumn(0), 0);
+        Assert.assertArrayEquals(new float[] { 1, 4 }, columns.getColumn(1), 0);
+
+        try {
+            new CsvColumnLoader().load(write("1,2,3\n4,five,6\n"));
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("byte 8"));
+        }
+    }
+
+    @Test
+    public void columnsFeedTessellators() throws IOException {
+        StringBuilder csv = new StringBuilder("x,y,z\n");
+        for (int i = 0; i < 4; i++)
+            for (int j = 0; j < 4; j++)
+                csv.append(i).append(',').append(j).append(',').append(i * j).append('\n');
+        CsvColumns xyz = new CsvColumnLoader().setHeaderLines(1).load(write(csv.toString()));
+        AbstractComposite surface = new OrthonormalTessellator().build(xyz.getX(), xyz.getY(), xyz.getZ());
+        Assert.assertEquals(9, surface.getDrawables().size());
+        Assert.assertEquals(9, surface.getBounds().getZmax(), 0);
+    }
+
+    protected File write(String content) throws IOException {
+        File file = File.createTempFile("dataset", ".csv");
+        file.deleteOnExit();
+        PrintWriter writer = new PrintWriter(file, "US-ASCII");
+        writer.print(content);
+        writer.close();
+        return file;
+    }
+}
@@ -0,0 +1,54 @@
+package org.jzy3d.io;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestDecimalParser {
+    @Test
+    public void numbersMatchJavaParsing() throws IOException {
+        String[] numbers = { "0", "-0", "+1", "12.5", ".5", "5.", "-3.25e2", "1E-3", "6.02e+23", "123456789012345678901234", "0.000000000000000000000001", "1e400", "1e-400" };
+        for (String number : numbers)
+            Assert.assertEquals(number, Double.parseDouble(number), parse(number + " "), Math.ulp(Double.parseDouble(number)));
+
+        Random random = new Random(4);
+        for (int i = 0; i < 1000; i++) {
+            float f = (float) (random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10));
+            Assert.assertEquals(f, (float) parse(Float.toString(f)), 0);
+        }
+    }
+
+    @Test
+    public void malformedNumbersAreRejected() {
+        for (String number : new String[] { "-", ".", "x", "1e", "2e+" }) {
+            try {
+                parse(number);
+                Assert.fail(number);
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().startsWith("at "));
+            }
+        }
+    }
+
+    /** Parse a string, checking the parser stops after the number. */
+    protected static double parse(final String text) throws IOException {
+        DecimalParser parser = new DecimalParser() {
+            @Override
+            protected int next() {
+                return ++i < text.length() ? text.charAt(i) : -1;
+            }
+
+            @Override
+            protected IOException error(String message) {
+                return new IOException("at " + i + ": " + message);
+            }
+
+            int i;
+        };
+        int c = parser.parse(text.charAt(0));
+        Assert.assertTrue(c == ' ' || c == -1);
+        return parser.getValue();
+    }
+}
@@ -0,0 +1,193 @@
+package org.jzy3d.io.mesh;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.io.IGLLoader;
+import org.jzy3d.io.obj.OBJFile;
+import org.jzy3d.io.obj.OBJFileLoader;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.Builder;
+import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.primitives.Shape;
+import org.jzy3d.plot3d.primitives.vbo.buffers.FloatVBO;
+import org.jzy3d.plot3d.primitives.vbo.drawable.DrawableVBO;
+
+import com.jogamp.opengl.GL;
+
+public class TestMeshFile {
+    static final String QUAD = "v 0 0 0\nv 1 0 0\nv 1 1 0\nv 0 1 2\nvn 0 0 1\nf 1//1 2//1 3//1 4//1\n";
+
+    @Test
+    public void shapeRoundTripsThroughMappedFile() throws IOException {
+        Shape surface = Builder.buildOrthonormal(new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return x * y;
+            }
+        }, new Range(-1, 1), 5);
+        MeshFile mesh = MeshFile.of(surface);
+        int polygons = surface.getDrawables().size();
+        Assert.assertEquals(polygons * 4 * 10, mesh.getVertices().remaining());
+        Assert.assertEquals(polygons * 6, mesh.getSize());
+        Assert.assertEquals(4, mesh.getColorChannels());
+
+        MeshFile mapped = MeshFile.map(write(mesh));
+        Assert.assertTrue(mapped.getVertices().isDirect());
+        Assert.assertEquals(mesh.getVertices(), mapped.getVertices());
+        Assert.assertEquals(mesh.getIndices(), mapped.getIndices());
+        Assert.assertEquals(GL.GL_TRIANGLES, mapped.getGeometry());
+        Assert.assertEquals(40, mapped.getStride());
+        Assert.assertEquals(24, mapped.getColorOffset());
+        Assert.assertEquals(surface.getBounds().getZmax(), mapped.getBounds().getZmax(), 0);
+
+        FloatVBO vbo = mapped.toFloatVBO();
+        Assert.assertEquals(mapped.getVertices(), vbo.getVertices());
+        Assert.assertEquals(mapped.getIndices(), vbo.getIndices());
+    }
+
+    @Test
+    public void drawableIsRecordedFromItsLoader() throws Exception {
+        File obj = writeObj(QUAD);
+        DrawableVBO drawable = new DrawableVBO(new OBJFileLoader(url(obj)));
+        MeshFile mapped = MeshFile.map(write(MeshFile.of(drawable)));
+
+        OBJFile expected = new OBJFile();
+        expected.loadModelFromFilename(url(obj));
+        expected.compileModel();
+        Assert.assertEquals(expected.getCompiledVertices(), mapped.getVertices());
+        Assert.assertEquals(expected.getCompiledIndices(), mapped.getIndices());
+        Assert.assertEquals(6, mapped.getSize());
+        Assert.assertEquals(24, mapped.getStride());
+        Assert.assertEquals(12, mapped.getNormalOffset());
+        Assert.assertEquals(0, mapped.getColorChannels());
+        Assert.assertEquals(2, mapped.getBounds().getZmax(), 0);
+    }
+
+    @Test
+    public void cacheMapsMeshesOfKnownContent() throws Exception {
+        File directory = Files.createTempDirectory("meshes").toFile();
+        MeshCache cache = new MeshCache(directory);
+        File obj = writeObj(QUAD);
+        CountingLoader parser = new CountingLoader(new OBJFileLoader(url(obj)));
+
+        MeshFile first = cache.get(obj, parser, null);
+        MeshFile second = cache.get(obj, parser, null);
+        Assert.assertEquals(1, parser.count);
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(first.getVertices(), second.getVertices());
+        Assert.assertEquals(MeshCache.hash(obj), second.getSourceHash());
+        Assert.assertEquals(cache.layoutHash(parser, null), second.getLayoutHash());
+        Assert.assertTrue(cache.getFile(MeshCache.hash(obj), cache.layoutHash(parser, null)).isFile());
+
+        // a modified source is parsed again
+        PrintWriter writer = new PrintWriter(new FileOutputStream(obj, true));
+        writer.print("v 5 5 5\n");
+        writer.close();
+        MeshFile third = cache.get(obj, parser, null);
+        Assert.assertEquals(2, parser.count);
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(4 * 6, first.getVertices().remaining());
+        Assert.assertEquals(first.getVertices(), third.getVertices());
+
+        Assert.assertEquals(2, directory.listFiles().length);
+        for (File f : directory.listFiles())
+            f.delete();
+        directory.delete();
+    }
+
+    @Test
+    public void otherParsersAndLayoutsAreMisses() throws Exception {
+        File directory = Files.createTempDirectory("meshes").toFile();
+        MeshCache cache = new MeshCache(directory);
+        File obj = writeObj(QUAD);
+        CountingLoader parser = new CountingLoader(new OBJFileLoader(url(obj)));
+        CountingLoader other = new CountingLoader(new OBJFileLoader(url(obj))) {
+        };
+        DrawableVBO points = new DrawableVBO(parser);
+        points.setGeometry(GL.GL_POINTS);
+
+        cache.get(obj, parser, null);
+        MeshFile pointMesh = cache.get(obj, parser, points);
+        Assert.assertEquals(GL.GL_POINTS, pointMesh.getGeometry());
+        Assert.assertEquals(GL.GL_TRIANGLES, cache.get(obj, parser, null).getGeometry());
+        Assert.assertEquals(2, parser.count);
+        cache.get(obj, other, null);
+        Assert.assertEquals(1, other.count);
+        Assert.assertEquals(3, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(3, directory.listFiles().length);
+
+        // a file of another layout stored under this name is not trusted
+        File file = cache.getFile(MeshCache.hash(obj), cache.layoutHash(parser, null));
+        Files.copy(cache.getFile(MeshCache.hash(obj), cache.layoutHash(parser, points)).toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        Assert.assertEquals(GL.GL_TRIANGLES, cache.get(obj, parser, null).getGeometry());
+        Assert.assertEquals(3, parser.count);
+
+        for (File f : directory.listFiles())
+            f.delete();
+        directory.delete();
+    }
+
+    @Test
+    public void invalidFilesAreRejected() throws IOException {
+        File file = File.createTempFile("mesh", MeshCache.EXTENSION);
+        file.deleteOnExit();
+        MeshFile mesh = new MeshFile(FloatBuffer.wrap(new float[] { 0, 0, 0 }), IntBuffer.wrap(new int[] { 0 }), new BoundingBox3d(), GL.GL_POINTS, 3, 12, 0, 0, 0);
+        mesh.write(file);
+        Assert.assertEquals(1, MeshFile.map(file).getSize());
+
+        byte[] content = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), java.util.Arrays.copyOf(content, content.length - 1));
+        try {
+            MeshFile.map(file);
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("truncated"));
+        }
+        Assert.assertNotEquals(MeshCache.hash(file), 0);
+    }
+
+    static class CountingLoader implements IGLLoader<DrawableVBO> {
+        IGLLoader<DrawableVBO> loader;
+        int count;
+
+        CountingLoader(IGLLoader<DrawableVBO> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public void load(GL gl, DrawableVBO drawable) throws Exception {
+            count++;
+            loader.load(gl, drawable);
+        }
+    }
+
+    protected File write(MeshFile mesh) throws IOException {
+        File file = File.createTempFile("mesh", MeshCache.EXTENSION);
+        file.deleteOnExit();
+        mesh.write(file);
+        return file;
+    }
+
+    protected String url(File file) throws IOException {
+        return file.toURI().toURL().toString();
+    }
+
+    protected File writeObj(String content) throws IOException {
+        File file = File.createTempFile("model", ".obj");
+        file.deleteOnExit();
+        PrintWriter writer = new PrintWriter(file, "US-ASCII");
+        writer.print(content);
+        writer.close();
+        return file;
+    }
+}
@@ -0,0 +1,140 @@
+package org.jzy3d.io.obj;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestOBJParser {
+    static final String CUBE_FACE = "# two squares sharing an edge\r\n" //
+            + "o squares\r\n" //
+            + "v 0 0 0\r\n" //
+            + "v 1.0 0 0\r\n" //
+            + "v 1 1 0 1.0\r\n" //
+            + "v 0 1e0 0\r\n" //
+            + "v 2 0 0\n" //
+            + "v 2 1 -0.5E-1\n" //
+            + "vt 0 0\n" //
+            + "vt 1\n" //
+            + "vn 0 0 1\n" //
+            + "vn  0\t0  -1\n" //
+            + "usemtl none\n" //
+            + "f 1//1 2//1 3//1 4//1\n" //
+            + "f 2/1/2 5/2/2 -1/2/2\n" //
+            + "f -5 -4 -1\n" //
+            + "f  3/1  2/2  6/1  "; // no end of line
+
+    @Test
+    public void allFaceFormsAreTriangulated() throws IOException {
+        OBJParser parser = parse(CUBE_FACE, false);
+        Assert.assertEquals(6, parser.getPositionCount());
+        Assert.assertEquals(2, parser.getNormalCount());
+        Assert.assertEquals(2, parser.getTexCoordCount());
+        Assert.assertEquals(-0.05f, parser.getPositions()[17], 0);
+        Assert.assertEquals(1, parser.getPositions()[10], 0);
+        Assert.assertEquals(-1, parser.getNormals()[5], 0);
+        Assert.assertEquals(0, parser.getTexCoords()[3], 0);
+
+        // quad as a fan, then three triangles
+        Assert.assertEquals(5 * 3, parser.getCornerCount());
+        int[] positions = Arrays.copyOf(parser.getPositionIndices(), parser.getCornerCount());
+        Assert.assertArrayEquals(new int[] { 0, 1, 2, 0, 2, 3, 1, 4, 5, 1, 2, 5, 2, 1, 5 }, positions);
+        int[] normals = Arrays.copyOf(parser.getNormalIndices(), parser.getCornerCount());
+        Assert.assertArrayEquals(new int[] { 0, 0, 0, 0, 0, 0, 1, 1, 1, -1, -1, -1, -1, -1, -1 }, normals);
+        int[] texCoords = Arrays.copyOf(parser.getTexCoordIndices(), parser.getCornerCount());
+        Assert.assertArrayEquals(new int[] { -1, -1, -1, -1, -1, -1, 0, 1, 1, -1, -1, -1, 0, 1, 0 }, texCoords);
+        Assert.assertTrue(parser.hasTexCoordIndices());
+        Assert.assertFalse(parser.hasNormalIndices());
+    }
+
+    @Test
+    public void channelAndMappedFileGiveTheSameModel() throws IOException {
+        StringBuilder obj = new StringBuilder();
+        Random random = new Random(3);
+        int n = 2000;
+        for (int i = 0; i < n; i++)
+            obj.append("v ").append(random.nextFloat() * 200 - 100).append(' ').append(random.nextGaussian() * 1e-6).append(' ').append((float) (random.nextDouble() * 1e12)).append('\n');
+        for (int i = 0; i < n; i++)
+            obj.append("vn ").append(random.nextFloat()).append(" 0 1\n");
+        for (int i = 0; i < n; i++)
+            obj.append("f ").append(1 + random.nextInt(n)).append("//").append(i + 1).append(' ').append(1 + random.nextInt(n)).append("//").append(i + 1).append(' ').append(1 + random.nextInt(n)).append("//").append(i + 1).append('\n');
+
+        int bufferSize = OBJParser.BUFFER_SIZE;
+        OBJParser.BUFFER_SIZE = 7; // tokens span buffer refills
+        OBJParser streamed;
+        try {
+            streamed = parse(obj.toString(), false);
+        } finally {
+            OBJParser.BUFFER_SIZE = bufferSize;
+        }
+        OBJParser mapped = parse(obj.toString(), true);
+
+        Assert.assertEquals(n, mapped.getPositionCount());
+        Assert.assertEquals(n * 3, mapped.getCornerCount());
+        Assert.assertArrayEquals(Arrays.copyOf(mapped.getPositions(), n * 3), Arrays.copyOf(streamed.getPositions(), n * 3), 0);
+        Assert.assertArrayEquals(Arrays.copyOf(mapped.getPositionIndices(), n * 3), Arrays.copyOf(streamed.getPositionIndices(), n * 3));
+
+        // numbers are parsed as Float.parseFloat does, within rounding
+        String[] lines = obj.toString().split("\n");
+        for (int i = 0; i < n; i++) {
+            String[] values = lines[i].split(" ");
+            for (int k = 0; k < 3; k++) {
+                float expected = Float.parseFloat(values[k + 1]);
+                Assert.assertEquals(values[k + 1], expected, mapped.getPositions()[i * 3 + k], Math.ulp(expected));
+            }
+        }
+    }
+
+    @Test
+    public void compiledModelSharesVerticesOfIdenticalCorners() throws IOException {
+        File file = write("v 0 0 0\nv 1 0 0\nv 1 1 0\nv 0 1 0\nvn 0 0 1\nf 1//1 2//1 3//1 4//1\n", ".obj");
+        OBJFile obj = new OBJFile();
+        Assert.assertTrue(obj.loadModelFromURL(file.toURI().toURL()));
+        obj.compileModel();
+
+        Assert.assertTrue(obj.hasNormals());
+        Assert.assertEquals(6, obj.getIndexCount());
+        Assert.assertEquals(4 * 6, obj.getCompiledVertexCount());
+        Assert.assertEquals(6, obj.getCompiledVertexSize());
+        Assert.assertEquals(3, obj.getCompiledNormalOffset());
+        FloatBuffer vertices = obj.getCompiledVertices();
+        IntBuffer indices = obj.getCompiledIndices();
+        Assert.assertTrue(vertices.isDirect());
+        Assert.assertTrue(indices.isDirect());
+        Assert.assertEquals(6, indices.remaining());
+        Assert.assertEquals(2, indices.get(4));
+        Assert.assertEquals(1, vertices.get(2 * 6 + 1), 0);
+        Assert.assertEquals(1, vertices.get(2 * 6 + 5), 0);
+        Assert.assertEquals(Float.valueOf(1), obj.getPositions().get(3));
+        Assert.assertEquals(1, obj.computeBoundingBox().getYmax(), 0);
+
+        Assert.assertFalse(obj.loadModelFromURL(write("v 0 0\n", ".obj").toURI().toURL()));
+        Assert.assertFalse(obj.loadModelFromURL(write("v 0 0 0\nf 1 2 3\n", ".obj").toURI().toURL()));
+    }
+
+    protected OBJParser parse(String obj, boolean mapped) throws IOException {
+        OBJParser parser = new OBJParser();
+        if (mapped)
+            parser.parse(write(obj, ".obj"));
+        else
+            parser.parse(Channels.newChannel(new ByteArrayInputStream(obj.getBytes("US-ASCII"))));
+        return parser;
+    }
+
+    protected File write(String content, String suffix) throws IOException {
+        File file = File.createTempFile("model", suffix);
+        file.deleteOnExit();
+        PrintWriter writer = new PrintWriter(file, "US-ASCII");
+        writer.print(content);
+        writer.close();
+        return file;
+    }
+}
@@ -0,0 +1,106 @@
+package org.jzy3d.maths;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestHistogram {
+    @Test
+    public void binsValuesArithmetically() {
+        Histogram h = new Histogram(0, 10, 5);
+        h.add(0f);
+        h.add(1.99f);
+        h.add(2f);
+        h.add(9.5f);
+        h.add(10f);
+
+        Assert.assertEquals(2, h.getCount(0));
+        Assert.assertEquals(1, h.getCount(1));
+        Assert.assertEquals(0, h.getCount(2));
+        Assert.assertEquals(2, h.getCount(4));
+        Assert.assertEquals(5, h.getTotal());
+        Assert.assertEquals(2, h.computeMaxCount());
+        Assert.assertEquals(8, h.ranges()[4].getMin(), 0);
+        Assert.assertEquals(10, h.ranges()[4].getMax(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsValuesOutOfRange() {
+        new Histogram(0, 10, 5).add(10.5f);
+    }
+
+    @Test
+    public void bulkAddMatchesSingleAdds() {
+        float[] values = randomValues(500000, 1);
+        Histogram single = new Histogram(-1, 1, 37);
+        for (float v : values)
+            single.add(v);
+
+        Histogram bulk = new Histogram(-1, 1, 37);
+        bulk.add(values);
+        Assert.assertArrayEquals(single.getCounts(), bulk.getCounts());
+    }
+
+    @Test
+    public void bulkAddWithIllegalValueLeavesCountsUnchanged() {
+        float[] values = randomValues(200000, 2);
+        values[150000] = 2;
+        Histogram h = new Histogram(-1, 1, 10);
+        try {
+            h.add(values);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+        }
+        Assert.assertEquals(0, h.getTotal());
+    }
+
+    @Test
+    public void mergeAddsPartialCounts() {
+        float[] values = randomValues(10000, 3);
+        Histogram all = new Histogram(-1, 1, 20);
+        Histogram a = new Histogram(-1, 1, 20);
+        Histogram b = new Histogram(-1, 1, 20);
+        for (int i = 0; i < values.length; i++) {
+            all.add(values[i]);
+            (i % 2 == 0 ? a : b).add(values[i]);
+        }
+        a.merge(b);
+        Assert.assertArrayEquals(all.getCounts(), a.getCounts());
+    }
+
+    @Test
+    public void concurrentAddsAreAllCounted() throws InterruptedException {
+        final float[] values = randomValues(100000, 4);
+        final ConcurrentHistogram h = new ConcurrentHistogram(-1, 1, 16);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (float v : values)
+                        h.add(v);
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+
+        Histogram expected = new Histogram(-1, 1, 16);
+        expected.add(values);
+        for (int b = 0; b < 16; b++)
+            Assert.assertEquals(expected.getLongCount(b) * threads.length, h.getLongCount(b));
+
+        h.reset();
+        Assert.assertEquals(0, h.getTotal());
+    }
+
+    protected float[] randomValues(int n, long seed) {
+        Random r = new Random(seed);
+        float[] values = new float[n];
+        for (int i = 0; i < n; i++)
+            values[i] = r.nextFloat() * 2 - 1;
+        return values;
+    }
+}
@@ -0,0 +1,123 @@
+package org.jzy3d.maths;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.maths.Parallel.IRangeTask;
+import org.jzy3d.plot3d.builder.Builder;
+import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.builder.concrete.OrthonormalGrid;
+import org.jzy3d.plot3d.primitives.Shape;
+
+public class TestParallel {
+    @Test
+    public void rangesArePartitionedInContiguousChunks() {
+        int[][] cases = { { 0, 10, 3 }, { 5, 1005, 4 }, { -7, 8, 16 }, { 0, 1, 4 }, { 3, 3, 4 }, { 0, 100, 1 }, { 0, 997, 7 } };
+        for (int[] c : cases) {
+            int from = c[0], to = c[1], parallelism = c[2];
+            List<int[]> chunks = chunks(from, to, parallelism, 1);
+
+            Assert.assertTrue(chunks.size() <= Math.max(1, parallelism));
+            int next = from;
+            for (int[] chunk : chunks) {
+                Assert.assertEquals(next, chunk[0]);
+                Assert.assertTrue(chunk[1] > chunk[0]);
+                next = chunk[1];
+            }
+            Assert.assertEquals(to, next);
+            if (to - from >= parallelism)
+                Assert.assertEquals(parallelism, chunks.size());
+        }
+    }
+
+    @Test
+    public void everyIndexIsProcessedOnce() {
+        final AtomicIntegerArray counts = new AtomicIntegerArray(100000);
+        Parallel.forRange(0, counts.length(), 8, 100, new IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                for (int i = from; i < to; i++)
+                    counts.incrementAndGet(i);
+            }
+        });
+        for (int i = 0; i < counts.length(); i++)
+            Assert.assertEquals(1, counts.get(i));
+    }
+
+    @Test
+    public void chunksHoldAtLeastMinChunkIndices() {
+        for (int[] chunk : chunks(0, 1000, 8, 300))
+            Assert.assertTrue(chunk[1] - chunk[0] >= 300);
+        Assert.assertEquals(3, chunks(0, 1000, 8, 300).size());
+
+        // a range of less than two chunks runs in the calling thread
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<Thread>();
+        Parallel.forRange(0, 599, 8, 300, new IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                threads.add(Thread.currentThread());
+                Assert.assertEquals(0, from);
+                Assert.assertEquals(599, to);
+            }
+        });
+        Assert.assertEquals(Collections.singletonList(caller), threads);
+    }
+
+    @Test
+    public void exceptionsReachTheCaller() {
+        for (int parallelism : new int[] { 1, 4 }) {
+            try {
+                Parallel.forRange(0, 1000, parallelism, new IRangeTask() {
+                    @Override
+                    public void run(int from, int to) {
+                        if (from <= 600 && 600 < to)
+                            throw new IllegalStateException("failed at 600");
+                    }
+                });
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertTrue(e.getMessage().contains("failed at 600"));
+            }
+        }
+    }
+
+    @Test
+    public void builderLeavesMapperParallelismUnchanged() {
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return x + y;
+            }
+        };
+        OrthonormalGrid grid = new OrthonormalGrid(new Range(0, 1), 20);
+        Shape parallel = Builder.buildOrthonormal(grid, mapper, 4);
+        Assert.assertEquals(1, mapper.getParallelism());
+        Assert.assertEquals(Builder.buildOrthonormal(grid, mapper).getBounds(), parallel.getBounds());
+        Assert.assertArrayEquals(grid.applyAsFloat(mapper), grid.applyAsFloat(mapper, 4), 0);
+    }
+
+    /** The [from;to[ chunks processed by forRange, in order. */
+    protected static List<int[]> chunks(int from, int to, int parallelism, int minChunk) {
+        final List<int[]> chunks = new ArrayList<int[]>();
+        Parallel.forRange(from, to, parallelism, minChunk, new IRangeTask() {
+            @Override
+            public void run(int from, int to) {
+                synchronized (chunks) {
+                    chunks.add(new int[] { from, to });
+                }
+            }
+        });
+        Collections.sort(chunks, new java.util.Comparator<int[]>() {
+            @Override
+            public int compare(int[] a, int[] b) {
+                return Integer.compare(a[0], b[0]);
+            }
+        });
+        return chunks;
+    }
+}
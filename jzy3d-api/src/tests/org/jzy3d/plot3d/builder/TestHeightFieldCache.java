@@ -0,0 +1,104 @@
+package org.jzy3d.plot3d.builder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.contour.DefaultContourColoringPolicy;
+import org.jzy3d.contour.MapperContourPictureGenerator;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.concrete.OrthonormalGrid;
+
+public class TestHeightFieldCache {
+    @Test
+    public void builderAndContoursEvaluateMapperOnce() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        SingleParameterMapper mapper = new SingleParameterMapper(1) {
+            @Override
+            public double f(double x, double y) {
+                evaluations.incrementAndGet();
+                return p * x + 10 * y;
+            }
+        };
+        mapper.setParallelism(4);
+        Range range = new Range(0, 1);
+        int steps = 50;
+
+        HeightFieldCache cache = new HeightFieldCache(HeightFieldCache.DEFAULT_CAPACITY);
+        OrthonormalGrid grid = new OrthonormalGrid(range, steps, range, steps);
+        grid.setHeightFieldCache(cache);
+        List<Coord3d> coords = grid.apply(mapper);
+        Assert.assertEquals(steps * steps, evaluations.get());
+        Assert.assertEquals(1 / 49d + 10 * 25 / 49d, coords.get(steps + 25).z, 1e-5);
+        evaluations.set(0);
+
+        MapperContourPictureGenerator contour = new MapperContourPictureGenerator(mapper, range, range);
+        contour.setHeightFieldCache(cache);
+        DefaultContourColoringPolicy policy = new DefaultContourColoringPolicy(new ColorMapper(new ColorMapRainbow(), 0, 11));
+        contour.getContourImage(policy, steps, steps, 5);
+        contour.getContourImage(policy, steps, steps, 12);
+        contour.getFilledContourImage(policy, steps, steps, 5);
+        Assert.assertEquals(0, evaluations.get());
+
+        // a new parameter requires a new evaluation
+        mapper.setParam(2);
+        cache.invalidate(mapper);
+        coords = grid.apply(mapper);
+        Assert.assertEquals(steps * steps, evaluations.get());
+        Assert.assertEquals(2 + 10, coords.get(steps * steps - 1).z, 1e-5);
+    }
+
+    @Test
+    public void gridsWithoutCacheEvaluateMapperEachTime() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final double[] a = { 1 };
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                evaluations.incrementAndGet();
+                return a[0] * x;
+            }
+        };
+        Range range = new Range(0, 1);
+        OrthonormalGrid grid = new OrthonormalGrid(range, 10);
+        Assert.assertEquals(1, grid.applyAsFloat(mapper)[99], 0);
+        a[0] = 3; // mutable mapper, never invalidated
+        Assert.assertEquals(3, grid.applyAsFloat(mapper)[99], 0);
+        Assert.assertEquals(3, Builder.buildOrthonormal(grid, mapper).getBounds().getZmax(), 1e-6);
+        Assert.assertEquals(300, evaluations.get());
+        Assert.assertEquals(0, HeightFieldCache.getShared().size());
+    }
+
+    @Test
+    public void leastRecentlyUsedFieldsAreDropped() {
+        HeightFieldCache cache = new HeightFieldCache(2);
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return x - y;
+            }
+        };
+        Range range = new Range(-1, 1);
+        HeightField f10 = cache.get(mapper, range, 10, range, 10);
+        HeightField f20 = cache.get(mapper, range, 20, range, 20);
+        Assert.assertSame(f10, cache.get(mapper, range, 10, range, 10));
+        cache.get(mapper, range, 30, range, 30); // drops 20
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertSame(f10, cache.get(mapper, range, 10, range, 10));
+        Assert.assertNotSame(f20, cache.get(mapper, range, 20, range, 20));
+        Assert.assertEquals(2, cache.getHits());
+        Assert.assertEquals(4, cache.getMisses());
+
+        Assert.assertEquals(-2, f10.getMin(), 1e-6);
+        Assert.assertEquals(2, f10.getMax(), 1e-6);
+        Assert.assertEquals(-2, f10.getZ(0, 9), 1e-6);
+
+        cache.invalidate(mapper);
+        Assert.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,95 @@
+package org.jzy3d.plot3d.builder.delaunay;
+
+import il.ac.idc.jdt.Triangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.Color;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.Polygon;
+
+public class TestDelaunaySurface {
+    @Test
+    public void patchedPolygonsMatchTriangulation() {
+        Random r = new Random(0);
+        DelaunaySurface surface = new DelaunaySurface();
+        surface.setColor(Color.RED);
+        List<Coord3d> inserted = new ArrayList<Coord3d>();
+
+        for (int step = 0; step < 20; step++) {
+            // the domain grows, so that some points extend the convex hull
+            float extent = 10 + step;
+            for (int i = 0; i < 50; i++) {
+                Coord3d c = new Coord3d(r.nextFloat() * extent, r.nextFloat() * extent, r.nextFloat());
+                inserted.add(c);
+                surface.insertPoint(c);
+            }
+            for (int i = 0; i < 10; i++) {
+                Coord3d c = inserted.get(r.nextInt(inserted.size()));
+                if (surface.deletePoint(c))
+                    inserted.remove(c);
+            }
+            Assert.assertEquals(triangles(surface), polygons(surface));
+            Assert.assertEquals(recomputedBounds(surface), surface.getBounds());
+        }
+        for (AbstractDrawable d : surface.getDrawables())
+            Assert.assertEquals(Color.RED, ((Polygon) d).getColor());
+    }
+
+    @Test
+    public void batchInsertionMatchesRebuild() {
+        Random r = new Random(1);
+        List<Coord3d> coords = new ArrayList<Coord3d>();
+        for (int i = 0; i < 2000; i++)
+            coords.add(new Coord3d(r.nextFloat(), r.nextFloat(), r.nextFloat()));
+        DelaunaySurface surface = new DelaunaySurface();
+        surface.insertPoints(coords);
+        Set<String> patched = polygons(surface);
+        surface.rebuild();
+        Assert.assertEquals(polygons(surface), patched);
+        Assert.assertEquals(triangles(surface), patched);
+    }
+
+    private Set<String> triangles(DelaunaySurface surface) {
+        Set<String> set = new HashSet<String>();
+        Iterator<Triangle> it = surface.getTriangulation().trianglesIterator();
+        while (it.hasNext()) {
+            Triangle t = it.next();
+            if (!t.isHalfplane())
+                set.add(key(JDTConverter.toJzyPolygon(t)));
+        }
+        return set;
+    }
+
+    private Set<String> polygons(DelaunaySurface surface) {
+        Set<String> set = new HashSet<String>();
+        for (AbstractDrawable d : surface.getDrawables())
+            Assert.assertTrue(set.add(key((Polygon) d)));
+        return set;
+    }
+
+    private BoundingBox3d recomputedBounds(DelaunaySurface surface) {
+        BoundingBox3d box = new BoundingBox3d();
+        for (AbstractDrawable d : surface.getDrawables())
+            box.add(d.getBounds());
+        return box;
+    }
+
+    private String key(Polygon p) {
+        String[] v = new String[p.size()];
+        for (int i = 0; i < v.length; i++)
+            v[i] = p.get(i).xyz.toString();
+        Arrays.sort(v);
+        return Arrays.toString(v);
+    }
+}
@@ -0,0 +1,272 @@
+package org.jzy3d.plot3d.primitives;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.transform.Transform;
+
+public class TestStreamingScatter {
+    @Test
+    public void concurrentWritersPublishEveryPoint() throws InterruptedException {
+        final int writers = 4;
+        final int perWriter = 50000;
+        final StreamingScatter scatter = new StreamingScatter(1024, StreamingScatter.UNBOUNDED, null);
+
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final int id = w;
+            threads[w] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perWriter; i++)
+                        scatter.add(id, i, 0);
+                }
+            };
+            threads[w].start();
+        }
+
+        // reading while writing must only see fully written points
+        float[] snapshot = new float[writers * perWriter * 3];
+        for (int r = 0; r < 20; r++) {
+            int n = scatter.copy(snapshot);
+            for (int i = 0; i < n; i++) {
+                Assert.assertTrue(snapshot[i * 3] >= 0 && snapshot[i * 3] < writers);
+                Assert.assertEquals(0, snapshot[i * 3 + 2], 0);
+            }
+        }
+        for (Thread t : threads)
+            t.join();
+
+        Assert.assertEquals(writers * perWriter, scatter.size());
+
+        int n = scatter.copy(snapshot);
+        int[] counts = new int[writers];
+        int[] last = new int[writers];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < n; i++) {
+            int id = (int) snapshot[i * 3];
+            int value = (int) snapshot[i * 3 + 1];
+            Assert.assertTrue("points of a writer are published in order", value > last[id]);
+            last[id] = value;
+            counts[id]++;
+        }
+        for (int w = 0; w < writers; w++)
+            Assert.assertEquals(perWriter, counts[w]);
+    }
+
+    @Test
+    public void ringBufferRetainsLastPoints() {
+        StreamingScatter scatter = new StreamingScatter(16, 40, null);
+        scatter.setWriteMode(StreamingScatter.WriteMode.SINGLE_WRITER);
+        for (int i = 0; i < 1000; i++)
+            scatter.add(i, 0, 0);
+
+        Assert.assertEquals(40, scatter.size());
+        Assert.assertEquals(1000, scatter.getAppendedCount());
+
+        float[] out = new float[40 * 3];
+        Assert.assertEquals(40, scatter.copy(out));
+        for (int i = 0; i < 40; i++)
+            Assert.assertEquals(960 + i, out[i * 3], 0);
+
+        scatter.updateBounds();
+        BoundingBox3d bounds = scatter.getBounds();
+        Assert.assertEquals(960, bounds.getXmin(), 0);
+        Assert.assertEquals(999, bounds.getXmax(), 0);
+    }
+
+    @Test
+    public void batchAppendAndClear() {
+        StreamingScatter scatter = new StreamingScatter(8, StreamingScatter.UNBOUNDED, new ColorMapper(new ColorMapRainbow(), 0, 1));
+        float[] xyz = new float[100 * 3];
+        for (int i = 0; i < 100; i++)
+            xyz[i * 3] = i;
+        scatter.add(xyz, 0, 100);
+
+        Assert.assertTrue(scatter.hasColor());
+        Assert.assertEquals(100, scatter.size());
+        Assert.assertEquals(99, scatter.getBounds().getXmax(), 0);
+
+        scatter.clear();
+        Assert.assertEquals(0, scatter.size());
+        scatter.add(5, 5, 5);
+        Assert.assertEquals(1, scatter.size());
+        Assert.assertEquals(5, scatter.getBounds().getXmin(), 0);
+    }
+
+    @Test
+    public void concurrentGrowthKeepsEveryChunk() throws InterruptedException {
+        final int writers = 8;
+        final int perWriter = 20000;
+        // tiny chunks make the directory grow while writers install chunks
+        final StreamingScatter scatter = new StreamingScatter(2, StreamingScatter.UNBOUNDED, null);
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            threads[w] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perWriter; i++)
+                        scatter.add(1, i, 0);
+                }
+            };
+            threads[w].start();
+        }
+        for (Thread t : threads)
+            t.join();
+
+        float[] out = new float[writers * perWriter * 3];
+        Assert.assertEquals(writers * perWriter, scatter.copy(out));
+        for (int i = 0; i < writers * perWriter; i++)
+            Assert.assertEquals(1, out[i * 3], 0);
+    }
+
+    @Test
+    public void failedAppendDoesNotBlockNextWriters() throws InterruptedException {
+        ColorMapper failing = new ColorMapper(new ColorMapRainbow(), 0, 1) {
+            @Override
+            public Color getColor(float x, float y, float z) {
+                if (x < 0)
+                    throw new IllegalArgumentException("negative");
+                return super.getColor(x, y, z);
+            }
+        };
+        final StreamingScatter scatter = new StreamingScatter(8, 16, failing);
+        try {
+            scatter.add(new float[] { 1, 1, 1, -1, 0, 0, 2, 2, 2 }, 0, 3);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            scatter.add(new float[9 * 3], 0, 9);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("at once"));
+        }
+
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                scatter.add(3, 3, 3);
+            }
+        };
+        writer.start();
+        writer.join(5000);
+        Assert.assertFalse("next writer is not blocked", writer.isAlive());
+
+        float[] out = new float[4 * 3];
+        Assert.assertEquals(4, scatter.copy(out));
+        Assert.assertEquals(1, out[0], 0);
+        Assert.assertTrue(Float.isNaN(out[3]));
+        Assert.assertTrue(Float.isNaN(out[6]));
+        Assert.assertEquals(3, out[9], 0);
+        Assert.assertEquals(3, scatter.getBounds().getXmax(), 0);
+    }
+
+    @Test
+    public void writersDoNotLapASnapshotBeingRead() throws InterruptedException {
+        final StreamingScatter scatter = new StreamingScatter(4, 8, null);
+        for (int i = 0; i < 8; i++)
+            scatter.add(i, 0, 0);
+
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final float[] seen = new float[8];
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                // a transform stands for a slow draw of the snapshot
+                scatter.applyGeometryTransform(new Transform() {
+                    @Override
+                    public Coord3d compute(Coord3d c) {
+                        if (c.x == 0) {
+                            reading.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                        seen[(int) c.x] = c.x;
+                        return c;
+                    }
+                });
+            }
+        };
+        reader.start();
+        Assert.assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                // a full lap of the 12 slots ring
+                for (int i = 0; i < 12; i++)
+                    scatter.add(100 + i, 0, 0);
+            }
+        };
+        writer.start();
+        writer.join(200);
+        Assert.assertTrue("writer waits for the snapshot", writer.isAlive());
+        Assert.assertEquals(12, scatter.getAppendedCount());
+
+        release.countDown();
+        reader.join(5000);
+        writer.join(5000);
+        Assert.assertFalse(writer.isAlive());
+        for (int i = 0; i < 8; i++)
+            Assert.assertEquals("snapshot was not overwritten", i, seen[i], 0);
+        Assert.assertEquals(20, scatter.getAppendedCount());
+
+        float[] out = new float[8 * 3];
+        Assert.assertEquals(8, scatter.copy(out));
+        for (int i = 0; i < 8; i++)
+            Assert.assertEquals(104 + i, out[i * 3], 0);
+    }
+
+    @Test
+    public void concurrentWritersPublishOnARing() throws InterruptedException {
+        final int writers = 4;
+        final int perWriter = 20000;
+        final StreamingScatter scatter = new StreamingScatter(16, 64, null);
+
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final int id = w;
+            threads[w] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perWriter; i++)
+                        scatter.add(new float[] { id, i, 0, id, i, 1 }, 0, 2);
+                }
+            };
+            threads[w].start();
+        }
+
+        // a snapshot only holds fully written points, each writer's in order
+        float[] out = new float[64 * 3];
+        for (int r = 0; r < 2000; r++) {
+            int n = scatter.copy(out);
+            int[] last = new int[writers];
+            Arrays.fill(last, -1);
+            for (int i = 0; i < n; i++) {
+                int id = (int) out[i * 3];
+                int value = (int) out[i * 3 + 1];
+                Assert.assertTrue(id >= 0 && id < writers);
+                Assert.assertTrue(value >= last[id]);
+                last[id] = value;
+            }
+        }
+        for (Thread t : threads)
+            t.join();
+
+        Assert.assertEquals(writers * perWriter * 2, scatter.getAppendedCount());
+        Assert.assertEquals(64, scatter.size());
+    }
+}
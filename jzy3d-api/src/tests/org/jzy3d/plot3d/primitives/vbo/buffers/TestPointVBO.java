@@ -0,0 +1,172 @@
+package org.jzy3d.plot3d.primitives.vbo.buffers;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.plot3d.primitives.Scatter;
+import org.jzy3d.plot3d.primitives.ScatterMultiColor;
+import org.jzy3d.plot3d.rendering.software.GL2Adapter;
+
+import com.jogamp.opengl.GL2;
+
+/**
+ * Tests CPU side packing of point clouds, which does not require a GPU.
+ */
+public class TestPointVBO {
+    float delta = 1E-6f;
+
+    Coord3d[] coords = { new Coord3d(0, 1, 2), new Coord3d(-3, 4, 5), new Coord3d(6, -7, 8) };
+    Color[] colors = { new Color(1f, 0f, 0f, 1f), new Color(0f, 1f, 0f, 0.5f), new Color(0f, 0f, 1f, 0.25f) };
+
+    @Test
+    public void packCoordinatesAndColors() {
+        PointVBO points = new PointVBO();
+        points.pack(coords, colors);
+
+        FloatBuffer vertices = points.getBuffer().getVertices();
+        Assert.assertTrue(vertices.isDirect());
+        Assert.assertEquals(3, points.size());
+        Assert.assertTrue(points.hasColor());
+        Assert.assertEquals(3 * 7, vertices.limit());
+
+        float[] expected = { -3, 4, 5, 0, 1, 0, 0.5f };
+        for (int i = 0; i < 7; i++)
+            Assert.assertEquals(expected[i], vertices.get(7 + i), delta);
+
+        Assert.assertEquals(-3, points.getBuffer().getBounds().getXmin(), delta);
+        Assert.assertEquals(8, points.getBuffer().getBounds().getZmax(), delta);
+    }
+
+    @Test
+    public void packCoordinatesOnly() {
+        PointVBO points = new PointVBO();
+        points.pack(coords, (Color[]) null);
+
+        FloatBuffer vertices = points.getBuffer().getVertices();
+        Assert.assertFalse(points.hasColor());
+        Assert.assertEquals(3 * 3, vertices.limit());
+        Assert.assertEquals(6, vertices.get(6), delta);
+        Assert.assertEquals(-7, vertices.get(7), delta);
+        Assert.assertEquals(8, vertices.get(8), delta);
+    }
+
+    @Test
+    public void packWithMapper() {
+        ColorMapper mapper = new ColorMapper(new ColorMapRainbow(), 2, 8);
+        PointVBO points = new PointVBO();
+        points.pack(coords, mapper);
+
+        FloatBuffer vertices = points.getBuffer().getVertices();
+        Color c = mapper.getColor(coords[2]);
+        Assert.assertEquals(c.r, vertices.get(14 + 3), delta);
+        Assert.assertEquals(c.g, vertices.get(14 + 4), delta);
+        Assert.assertEquals(c.b, vertices.get(14 + 5), delta);
+        Assert.assertEquals(c.a, vertices.get(14 + 6), delta);
+    }
+
+    @Test
+    public void reuseBufferWhenLargeEnough() {
+        PointVBO points = new PointVBO();
+        points.pack(coords, colors);
+        FloatVBO first = points.getBuffer();
+
+        points.pack(new Coord3d[] { new Coord3d(1, 1, 1) }, (Color[]) null);
+        Assert.assertSame(first, points.getBuffer());
+        Assert.assertEquals(3, points.getBuffer().getVertices().limit());
+        Assert.assertEquals(1, points.getBuffer().getBounds().getXmin(), delta);
+        Assert.assertTrue(points.isDirty());
+    }
+
+    @Test
+    public void scatterRepacksOnlyWhenDataOrColorsChange() {
+        Scatter scatter = new Scatter(coords, Color.BLUE);
+        scatter.setRetained(true);
+
+        Assert.assertTrue(scatter.updateRetained());
+        Assert.assertFalse(scatter.updateRetained());
+
+        scatter.setColor(Color.RED);
+        Assert.assertFalse(scatter.updateRetained());
+
+        scatter.setColors(colors);
+        Assert.assertTrue(scatter.updateRetained());
+        Assert.assertTrue(scatter.getRetainedPoints().hasColor());
+
+        scatter.setData(coords);
+        Assert.assertTrue(scatter.updateRetained());
+    }
+
+    @Test
+    public void scatterMultiColorRepacksWhenMapperRangeChanges() {
+        ColorMapper mapper = new ColorMapper(new ColorMapRainbow(), 2, 8);
+        ScatterMultiColor scatter = new ScatterMultiColor(coords, mapper);
+        scatter.setRetained(true);
+
+        Assert.assertTrue(scatter.updateRetained());
+        Assert.assertFalse(scatter.updateRetained());
+
+        mapper.setMax(10);
+        Assert.assertTrue(scatter.updateRetained());
+    }
+
+    @Test
+    public void gpuBufferIsReleasedWhenReplacedOrCleared() {
+        RecordingGL gl = new RecordingGL();
+        Scatter scatter = new Scatter(coords, Color.BLUE);
+        scatter.setRetained(true);
+
+        scatter.drawRetained(gl);
+        int first = scatter.getRetainedPoints().getBufferName();
+        Assert.assertEquals(1, gl.generated.size());
+
+        // a larger cloud replaces the packed buffer, and its GPU buffer with it
+        scatter.setData(new Coord3d[] { new Coord3d(), new Coord3d(), new Coord3d(), new Coord3d() });
+        scatter.drawRetained(gl);
+        Assert.assertEquals(2, gl.generated.size());
+        Assert.assertEquals(1, gl.deleted.size());
+        Assert.assertEquals(first, (int) gl.deleted.get(0));
+
+        scatter.clear();
+        Assert.assertEquals(0, scatter.getRetainedPoints().getBufferName());
+
+        scatter.setData(coords);
+        scatter.drawRetained(gl);
+        Assert.assertTrue(scatter.getRetainedPoints().getBufferName() != 0);
+        scatter.dispose();
+        Assert.assertEquals(0, scatter.getRetainedPoints().getBufferName());
+
+        scatter.setRetained(true);
+        scatter.drawRetained(gl);
+        scatter.setRetained(false);
+        Assert.assertEquals(0, scatter.getRetainedPoints().getBufferName());
+    }
+
+    /** A GL without context recording buffer names, all other calls doing nothing. */
+    static class RecordingGL extends GL2Adapter {
+        List<Integer> generated = new ArrayList<Integer>();
+        List<Integer> deleted = new ArrayList<Integer>();
+
+        @Override
+        public GL2 getGL2() {
+            return this;
+        }
+
+        @Override
+        public void glGenBuffers(int n, int[] names, int offset) {
+            generated.add(generated.size() + 1);
+            names[offset] = generated.size();
+        }
+
+        @Override
+        public void glDeleteBuffers(int n, int[] names, int offset) {
+            deleted.add(names[offset]);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.jzy3d.plot3d.rendering.scene;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.maths.BoundingBox3d;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Frustum;
+import org.jzy3d.plot3d.primitives.AbstractDrawable;
+import org.jzy3d.plot3d.primitives.LineStrip;
+import org.jzy3d.plot3d.primitives.Point;
+import org.jzy3d.plot3d.primitives.Polygon;
+import org.jzy3d.plot3d.primitives.Scatter;
+
+public class TestBoundingVolumeHierarchy {
+    @Test
+    public void queriesMatchBruteForce() {
+        Random random = new Random(7);
+        List<AbstractDrawable> drawables = segments(random, 500);
+        drawables.add(new LineStrip()); // no bounds
+        BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(drawables);
+        Assert.assertEquals(501, bvh.size());
+        Assert.assertTrue(bvh.getNodeCount() < 500);
+
+        check(bvh, drawables, random);
+
+        // move drawables and refit
+        for (AbstractDrawable d : drawables) {
+            LineStrip strip = (LineStrip) d;
+            for (Point p : strip.getPoints())
+                p.setData(p.getCoord().add(random.nextFloat() * 4 - 2, 0, random.nextFloat()));
+            strip.updateBounds();
+        }
+        bvh.refit();
+        check(bvh, drawables, random);
+    }
+
+    @Test
+    public void emptyAndSmallTrees() {
+        BoundingVolumeHierarchy empty = new BoundingVolumeHierarchy();
+        List<AbstractDrawable> output = new ArrayList<AbstractDrawable>();
+        empty.query(new BoundingBox3d(-1, 1, -1, 1, -1, 1), output);
+        Assert.assertTrue(output.isEmpty());
+        Assert.assertNull(empty.getBounds());
+
+        List<AbstractDrawable> drawables = segments(new Random(1), 3);
+        BoundingVolumeHierarchy leaf = new BoundingVolumeHierarchy(drawables);
+        Assert.assertEquals(1, leaf.getNodeCount());
+        leaf.query(new Coord3d(0, 0, -100), new Coord3d(0, 0, 1), output);
+        Assert.assertEquals(bruteForceRay(drawables, new Coord3d(0, 0, -100), new Coord3d(0, 0, 1)), new HashSet<AbstractDrawable>(output));
+    }
+
+    @Test
+    public void graphIndexFollowsDataChanges() {
+        Point point = new Point(new Coord3d(0, 0, 0));
+        Scatter scatter = new Scatter(new Coord3d[] { new Coord3d(1, 1, 1) });
+        Polygon polygon = new Polygon();
+        polygon.add(new Point(new Coord3d(2, 2, 2)));
+        polygon.add(new Point(new Coord3d(2, 3, 2)));
+
+        Graph graph = new Graph(null);
+        graph.add(point, false);
+        graph.add(scatter, false);
+        graph.add(polygon, false);
+
+        BoundingBox3d far = new BoundingBox3d(9, 11, 9, 11, 9, 11);
+        Assert.assertEquals(0, query(graph, far).size());
+
+        point.setData(new Coord3d(10, 10, 10));
+        Assert.assertEquals(Collections.singletonList(point), query(graph, far));
+
+        scatter.setData(new Coord3d[] { new Coord3d(10, 10, 10) });
+        Assert.assertEquals(2, query(graph, far).size());
+
+        // coordinates edited in place are notified by invalidating bounds
+        for (Point p : polygon.getPoints())
+            p.xyz.set(10, 10, 10);
+        polygon.invalidateBounds();
+        Assert.assertEquals(3, query(graph, far).size());
+    }
+
+    protected static List<AbstractDrawable> query(Graph graph, BoundingBox3d box) {
+        List<AbstractDrawable> found = new ArrayList<AbstractDrawable>();
+        graph.getSpatialIndex().query(box, found);
+        return found;
+    }
+
+    @Test
+    public void concurrentQueriesAreIndependent() throws Exception {
+        final List<AbstractDrawable> drawables = segments(new Random(3), 2000);
+        final BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(drawables);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 8; t++) {
+                final long seed = t;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 200; i++) {
+                            BoundingBox3d box = randomBox(random, 5);
+                            List<AbstractDrawable> output = new ArrayList<AbstractDrawable>();
+                            bvh.query(box, output);
+                            if (!new HashSet<AbstractDrawable>(output).equals(bruteForceBox(drawables, box)))
+                                return false;
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results)
+                Assert.assertTrue(result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /* */
+
+    protected void check(BoundingVolumeHierarchy bvh, List<AbstractDrawable> drawables, Random random) {
+        BoundingBox3d all = new BoundingBox3d();
+        for (AbstractDrawable d : drawables)
+            if (d.getBounds().valid())
+                all.add(d.getBounds());
+        Assert.assertEquals(all, bvh.getBounds());
+
+        for (int i = 0; i < 50; i++) {
+            BoundingBox3d box = randomBox(random, 10);
+            List<AbstractDrawable> output = new ArrayList<AbstractDrawable>();
+            bvh.query(box, output);
+            Assert.assertEquals(output.size(), new HashSet<AbstractDrawable>(output).size());
+            Assert.assertEquals(bruteForceBox(drawables, box), new HashSet<AbstractDrawable>(output));
+
+            Coord3d origin = new Coord3d(random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+            Coord3d direction = new Coord3d(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, i % 5 == 0 ? 0 : random.nextFloat() * 2 - 1);
+            output.clear();
+            bvh.query(origin, direction, output);
+            Assert.assertEquals(bruteForceRay(drawables, origin, direction), new HashSet<AbstractDrawable>(output));
+
+            Frustum frustum = new Frustum(ortho(-random.nextFloat() * 30, random.nextFloat() * 30, -random.nextFloat() * 30, random.nextFloat() * 30, -50, 50), translation(random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10, 0));
+            output.clear();
+            bvh.query(frustum, output);
+            Assert.assertEquals(output.size(), new HashSet<AbstractDrawable>(output).size());
+            Assert.assertEquals(bruteForceFrustum(drawables, frustum), new HashSet<AbstractDrawable>(output));
+        }
+    }
+
+    protected static HashSet<AbstractDrawable> bruteForceBox(List<AbstractDrawable> drawables, BoundingBox3d box) {
+        HashSet<AbstractDrawable> result = new HashSet<AbstractDrawable>();
+        float[] q = { box.getXmin(), box.getXmax(), box.getYmin(), box.getYmax(), box.getZmin(), box.getZmax() };
+        for (AbstractDrawable d : drawables) {
+            float[] b = bounds(d);
+            if (b == null || BoundingVolumeHierarchy.overlap(b, 0, q))
+                result.add(d);
+        }
+        return result;
+    }
+
+    protected static HashSet<AbstractDrawable> bruteForceRay(List<AbstractDrawable> drawables, Coord3d origin, Coord3d direction) {
+        HashSet<AbstractDrawable> result = new HashSet<AbstractDrawable>();
+        float[] o = { origin.x, origin.y, origin.z };
+        float[] inv = { 1 / direction.x, 1 / direction.y, 1 / direction.z };
+        for (AbstractDrawable d : drawables) {
+            float[] b = bounds(d);
+            if (b == null || BoundingVolumeHierarchy.hit(b, 0, o, inv))
+                result.add(d);
+        }
+        return result;
+    }
+
+    protected static HashSet<AbstractDrawable> bruteForceFrustum(List<AbstractDrawable> drawables, Frustum frustum) {
+        HashSet<AbstractDrawable> result = new HashSet<AbstractDrawable>();
+        for (AbstractDrawable d : drawables) {
+            float[] b = bounds(d);
+            if (b == null || frustum.classify(b[0], b[1], b[2], b[3], b[4], b[5]) != Frustum.OUTSIDE)
+                result.add(d);
+        }
+        return result;
+    }
+
+    protected static float[] bounds(AbstractDrawable d) {
+        float[] b = new float[6];
+        return BoundingVolumeHierarchy.readBounds(d, b, 0) ? b : null;
+    }
+
+    protected static List<AbstractDrawable> segments(Random random, int n) {
+        List<AbstractDrawable> drawables = new ArrayList<AbstractDrawable>();
+        for (int i = 0; i < n; i++) {
+            Coord3d a = new Coord3d(random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+            Coord3d b = a.add(random.nextFloat() * 4, random.nextFloat() * 4, random.nextFloat() * 4);
+            drawables.add(new LineStrip(new Point(a), new Point(b)));
+        }
+        Collections.shuffle(drawables, random);
+        return drawables;
+    }
+
+    protected static BoundingBox3d randomBox(Random random, float size) {
+        float x = random.nextFloat() * 100 - 50;
+        float y = random.nextFloat() * 100 - 50;
+        float z = random.nextFloat() * 100 - 50;
+        return new BoundingBox3d(x, x + random.nextFloat() * size, y, y + random.nextFloat() * size, z, z + random.nextFloat() * size);
+    }
+
+    /** Column-major glOrtho matrix. */
+    protected static float[] ortho(float l, float r, float b, float t, float n, float f) {
+        return new float[] { 2 / (r - l), 0, 0, 0, 0, 2 / (t - b), 0, 0, 0, 0, -2 / (f - n), 0, -(r + l) / (r - l), -(t + b) / (t - b), -(f + n) / (f - n), 1 };
+    }
+
+    protected static float[] translation(float x, float y, float z) {
+        return new float[] { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, x, y, z, 1 };
+    }
+}
@@ -0,0 +1,176 @@
+package org.jzy3d.plot3d.rendering.software;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.chart.Chart;
+import org.jzy3d.chart.factories.AWTChartComponentFactory;
+import org.jzy3d.colors.Color;
+import org.jzy3d.colors.ColorMapper;
+import org.jzy3d.colors.colormaps.ColorMapRainbow;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Range;
+import org.jzy3d.plot3d.builder.Builder;
+import org.jzy3d.plot3d.builder.Mapper;
+import org.jzy3d.plot3d.primitives.Scatter;
+import org.jzy3d.plot3d.primitives.Shape;
+import org.jzy3d.plot3d.rendering.canvas.Quality;
+import org.jzy3d.plot3d.rendering.canvas.SoftwareCanvas;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.gl2.GLUT;
+import com.jogamp.opengl.util.texture.TextureData;
+
+public class TestSoftwareCanvas {
+    @Test
+    public void sharedEdgesAreBlendedOnce() {
+        SoftwareRasterizer rasterizer = new SoftwareRasterizer(40, 30);
+        rasterizer.clear(true, 0xFF000000, true, 1);
+        int red = 0x80FF0000;
+        int[] clip = { 0, 0, 40, 30 };
+        // a quad split along its diagonal, and along a vertical edge at a pixel center
+        rasterizer.triangle(SoftwareRasterizer.BLEND, GL.GL_LESS, clip, 2, 2, 0, red, 20.5f, 2, 0, red, 20.5f, 28, 0, red, 0);
+        rasterizer.triangle(SoftwareRasterizer.BLEND, GL.GL_LESS, clip, 2, 2, 0, red, 20.5f, 28, 0, red, 2, 28, 0, red, 0);
+        rasterizer.triangle(SoftwareRasterizer.BLEND, GL.GL_LESS, clip, 20.5f, 2, 0, red, 38, 2, 0, red, 38, 28, 0, red, 0);
+        rasterizer.triangle(SoftwareRasterizer.BLEND, GL.GL_LESS, clip, 20.5f, 28, 0, red, 20.5f, 2, 0, red, 38, 28, 0, red, 0);
+        rasterizer.flush();
+
+        int[] color = rasterizer.getColorBuffer();
+        int inside = color[15 * 40 + 10];
+        Assert.assertEquals(0x80, (inside >> 16) & 0xFF);
+        for (int y = 2; y < 28; y++)
+            for (int x = 2; x < 38; x++)
+                Assert.assertEquals("pixel " + x + "," + y, inside, color[y * 40 + x]);
+        Assert.assertEquals(0xFF000000, color[40 + 1]);
+    }
+
+    @Test
+    public void bandsGiveTheImageOfASequentialRendering() {
+        int before = SoftwareRasterizer.ROWS_PER_BAND;
+        SoftwareRasterizer.ROWS_PER_BAND = 3;
+        try {
+            SoftwareRasterizer sequential = new SoftwareRasterizer(97, 61);
+            sequential.setParallelism(1);
+            SoftwareRasterizer parallel = new SoftwareRasterizer(97, 61);
+            parallel.setParallelism(8);
+            draw(sequential, new Random(5));
+            draw(parallel, new Random(5));
+            Assert.assertTrue(Arrays.equals(sequential.getColorBuffer(), parallel.getColorBuffer()));
+            Assert.assertTrue(Arrays.equals(sequential.getDepthBuffer(), parallel.getDepthBuffer()));
+        } finally {
+            SoftwareRasterizer.ROWS_PER_BAND = before;
+        }
+    }
+
+    @Test
+    public void chartIsRenderedWithoutOpenGL() {
+        Mapper mapper = new Mapper() {
+            @Override
+            public double f(double x, double y) {
+                return x * Math.sin(x * y);
+            }
+        };
+        Shape surface = Builder.buildOrthonormal(mapper, new Range(-3, 3), 40);
+        surface.setColorMapper(new ColorMapper(new ColorMapRainbow(), surface.getBounds().getZmin(), surface.getBounds().getZmax(), new Color(1, 1, 1, .5f)));
+        surface.setFaceDisplayed(true);
+        surface.setWireframeDisplayed(false);
+
+        Chart chart = AWTChartComponentFactory.chart(Quality.Advanced, "software,320,240");
+        chart.getScene().getGraph().add(surface);
+        Assert.assertTrue(chart.getCanvas() instanceof SoftwareCanvas);
+
+        TextureData image = chart.screenshot();
+        Assert.assertEquals(320, image.getWidth());
+        Assert.assertEquals(240, image.getHeight());
+
+        ByteBuffer pixels = (ByteBuffer) image.getBuffer();
+        int white = 0;
+        int black = 0;
+        int colored = 0;
+        for (int i = 0; i < 320 * 240; i++) {
+            int r = pixels.get(i * 4) & 0xFF;
+            int g = pixels.get(i * 4 + 1) & 0xFF;
+            int b = pixels.get(i * 4 + 2) & 0xFF;
+            if (r == 255 && g == 255 && b == 255)
+                white++;
+            else if (r == 0 && g == 0 && b == 0)
+                black++; // axe box and labels
+            else if (Math.max(r, Math.max(g, b)) - Math.min(r, Math.min(g, b)) > 64)
+                colored++; // surface
+        }
+        Assert.assertTrue("background: " + white, white > 320 * 240 / 4);
+        Assert.assertTrue("axes: " + black, black > 500);
+        Assert.assertTrue("surface: " + colored, colored > 320 * 240 / 10);
+
+        // a later screenshot does not overwrite the former one
+        ByteBuffer copy = ByteBuffer.allocate(pixels.capacity());
+        copy.put(pixels.duplicate()).flip();
+        chart.getScene().getGraph().remove(surface);
+        TextureData empty = chart.screenshot();
+        Assert.assertNotSame(pixels, empty.getBuffer());
+        Assert.assertEquals(copy, pixels.duplicate().rewind());
+        Assert.assertNotEquals(copy, ((ByteBuffer) empty.getBuffer()).duplicate().rewind());
+    }
+
+    @Test
+    public void unsupportedDrawablesFailLoudly() {
+        Scatter scatter = new Scatter(new Coord3d[] { new Coord3d(0, 0, 0), new Coord3d(1, 1, 1) });
+        scatter.setRetained(true);
+        Chart chart = AWTChartComponentFactory.chart(Quality.Advanced, "software,64,48");
+        try {
+            // adding a drawable renders the chart
+            chart.getScene().getGraph().add(scatter);
+            chart.screenshot();
+            Assert.fail();
+        } catch (GLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("not supported by the software toolkit"));
+        }
+    }
+
+    @Test
+    public void bitmapTextIsDrawnWithoutGlut() {
+        SoftwareRasterizer rasterizer = new SoftwareRasterizer(80, 30);
+        SoftwareGL gl = new SoftwareGL(rasterizer);
+        gl.glClearColor(1, 1, 1, 1);
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+        gl.glColor4f(0, 0, 0, 1);
+        gl.glWindowPos2f(2, 10);
+        gl.glutBitmapString(GLUT.BITMAP_HELVETICA_12, "Axis 12");
+        gl.glFinish();
+
+        int black = 0;
+        for (int argb : rasterizer.getColorBuffer())
+            if ((argb & 0xFFFFFF) == 0)
+                black++;
+        Assert.assertTrue("text pixels: " + black, black > 20);
+        Assert.assertEquals(2 + new GLUT().glutBitmapLength(GLUT.BITMAP_HELVETICA_12, "Axis 12"), gl.raster[0], 0);
+    }
+
+    protected void draw(SoftwareRasterizer rasterizer, Random random) {
+        int[] clip = { 5, 3, 80, 55 };
+        rasterizer.clear(true, 0xFFFFFFFF, true, 1);
+        for (int i = 0; i < 200; i++) {
+            int flags = SoftwareRasterizer.DEPTH_TEST | SoftwareRasterizer.DEPTH_WRITE | (i % 2 == 0 ? SoftwareRasterizer.BLEND : 0);
+            int c0 = random.nextInt();
+            int c1 = random.nextInt();
+            if (i % 3 == 0)
+                rasterizer.line(flags, GL.GL_LEQUAL, clip, x(random), y(random), random.nextFloat(), c0, x(random), y(random), random.nextFloat(), c1, 1 + random.nextInt(3), 0);
+            else
+                rasterizer.triangle(flags, GL.GL_LESS, clip, x(random), y(random), random.nextFloat(), c0, x(random), y(random), random.nextFloat(), c1, x(random), y(random), random.nextFloat(), random.nextInt(), 0);
+        }
+        rasterizer.point(0, GL.GL_LESS, clip, 50, 30, 0, 0xFF00FF00, 5);
+        rasterizer.flush();
+    }
+
+    protected float x(Random random) {
+        return random.nextFloat() * 110 - 5;
+    }
+
+    protected float y(Random random) {
+        return random.nextFloat() * 70 - 5;
+    }
+}
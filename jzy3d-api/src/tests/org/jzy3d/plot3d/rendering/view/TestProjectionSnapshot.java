@@ -0,0 +1,117 @@
+package org.jzy3d.plot3d.rendering.view;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.maths.Coord3d;
+import org.jzy3d.maths.Parallel;
+
+import com.jogamp.opengl.glu.GLU;
+
+public class TestProjectionSnapshot {
+    static final int[] VIEWPORT = { 10, 20, 800, 600 };
+
+    @Test
+    public void projectionMatchesGlu() {
+        GLU glu = new GLU();
+        Random random = new Random(11);
+        float[][] projections = { perspective(60, 800f / 600, 1, 100), ortho(-5, 5, -4, 4, -10, 10) };
+        float[] modelview = lookAt(3, 4, 8, 0, 0, 0, 0, 1, 0);
+
+        for (float[] projection : projections) {
+            ProjectionSnapshot snapshot = new ProjectionSnapshot(VIEWPORT, modelview, projection);
+            float[] expected = new float[3];
+            float[] actual = new float[3];
+            for (int i = 0; i < 100; i++) {
+                float x = random.nextFloat() * 6 - 3, y = random.nextFloat() * 6 - 3, z = random.nextFloat() * 6 - 3;
+                Assert.assertTrue(glu.gluProject(x, y, z, modelview, 0, projection, 0, VIEWPORT, 0, expected, 0));
+                Assert.assertTrue(snapshot.project(x, y, z, actual, 0));
+                assertClose(expected, actual, 1e-3f);
+
+                float depth = random.nextFloat();
+                Assert.assertTrue(glu.gluUnProject(actual[0], actual[1], depth, modelview, 0, projection, 0, VIEWPORT, 0, expected, 0));
+                Assert.assertTrue(snapshot.unProject(actual[0], actual[1], depth, actual, 0));
+                assertClose(expected, actual, 1e-3f * Math.max(1, Math.abs(expected[2])));
+            }
+
+            // round trip
+            Coord3d point = new Coord3d(1, -2, 0.5f);
+            Coord3d back = snapshot.unProject(snapshot.project(point));
+            Assert.assertEquals(0, back.distance(point), 1e-4);
+        }
+    }
+
+    @Test
+    public void singularMatricesAreReported() {
+        float[] flat = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1 };
+        ProjectionSnapshot snapshot = new ProjectionSnapshot(VIEWPORT, flat, identity());
+        Assert.assertNotNull(snapshot.project(new Coord3d(1, 1, 1)));
+        Assert.assertNull(snapshot.unProject(new Coord3d(1, 1, 1)));
+    }
+
+    @Test
+    public void arraysRunInParallelFromThreshold() {
+        Assert.assertEquals(1, ProjectionSnapshot.parallelism(ProjectionSnapshot.PARALLEL_THRESHOLD - 1));
+        Assert.assertEquals(Parallel.AVAILABLE_PROCESSORS, ProjectionSnapshot.parallelism(ProjectionSnapshot.PARALLEL_THRESHOLD));
+
+        ProjectionSnapshot snapshot = new ProjectionSnapshot(VIEWPORT, lookAt(3, 4, 8, 0, 0, 0, 0, 1, 0), perspective(60, 800f / 600, 1, 100));
+        Random random = new Random(2);
+        int n = ProjectionSnapshot.PARALLEL_THRESHOLD + 5;
+        float[] xyz = new float[n * 3];
+        for (int i = 0; i < xyz.length; i++)
+            xyz[i] = random.nextFloat() * 6 - 3;
+        float[] screen = new float[xyz.length];
+        Assert.assertEquals(0, snapshot.project(xyz, screen));
+
+        float[] expected = new float[3];
+        for (int i = 0; i < n; i += 997) {
+            snapshot.project(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2], expected, 0);
+            Assert.assertArrayEquals(expected, new float[] { screen[i * 3], screen[i * 3 + 1], screen[i * 3 + 2] }, 0);
+        }
+    }
+
+    /* */
+
+    protected static void assertClose(float[] expected, float[] actual, float delta) {
+        for (int i = 0; i < 3; i++)
+            Assert.assertEquals(expected[i], actual[i], delta);
+    }
+
+    protected static float[] identity() {
+        return new float[] { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1 };
+    }
+
+    /** Column-major gluPerspective matrix. */
+    protected static float[] perspective(float fovy, float aspect, float near, float far) {
+        float f = (float) (1 / Math.tan(Math.toRadians(fovy) / 2));
+        return new float[] { f / aspect, 0, 0, 0, 0, f, 0, 0, 0, 0, (far + near) / (near - far), -1, 0, 0, 2 * far * near / (near - far), 0 };
+    }
+
+    /** Column-major glOrtho matrix. */
+    protected static float[] ortho(float l, float r, float b, float t, float n, float f) {
+        return new float[] { 2 / (r - l), 0, 0, 0, 0, 2 / (t - b), 0, 0, 0, 0, -2 / (f - n), 0, -(r + l) / (r - l), -(t + b) / (t - b), -(f + n) / (f - n), 1 };
+    }
+
+    /** Column-major gluLookAt matrix. */
+    protected static float[] lookAt(float ex, float ey, float ez, float cx, float cy, float cz, float ux, float uy, float uz) {
+        float[] f = normalize(new float[] { cx - ex, cy - ey, cz - ez });
+        float[] side = normalize(cross(f, new float[] { ux, uy, uz }));
+        float[] up = cross(side, f);
+        float[] eye = { ex, ey, ez };
+        return new float[] { side[0], up[0], -f[0], 0, side[1], up[1], -f[1], 0, side[2], up[2], -f[2], 0, -dot(side, eye), -dot(up, eye), dot(f, eye), 1 };
+    }
+
+    protected static float[] cross(float[] a, float[] b) {
+        return new float[] { a[1] * b[2] - a[2] * b[1], a[2] * b[0] - a[0] * b[2], a[0] * b[1] - a[1] * b[0] };
+    }
+
+    protected static float dot(float[] a, float[] b) {
+        return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+    }
+
+    protected static float[] normalize(float[] a) {
+        float length = (float) Math.sqrt(dot(a, a));
+        return new float[] { a[0] / length, a[1] / length, a[2] / length };
+    }
+}
@@ -0,0 +1,97 @@
+package org.jzy3d.plot3d.rendering.view;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jzy3d.chart.AWTScreenshotUtils;
+
+public class TestScreenshotPipeline {
+    @Test
+    public void framesAreEncodedInImageOrientation() throws Exception {
+        ScreenshotPipeline pipeline = new ScreenshotPipeline(2, 2);
+        int w = 64;
+        int h = 48;
+        List<Future<File>> futures = new ArrayList<Future<File>>();
+        for (int frame = 0; frame < 6; frame++) {
+            File file = File.createTempFile("frame" + frame + "-", ".png");
+            file.deleteOnExit();
+            ScreenshotPipeline.Request request = pipeline.newRequest(file);
+
+            // bottom row first, as read from a framebuffer
+            ByteBuffer pixels = pipeline.acquire(w * h * 4);
+            for (int y = 0; y < h; y++) {
+                for (int x = 0; x < w; x++) {
+                    pixels.put((byte) (y == 0 ? 255 : 0)); // red bottom row
+                    pixels.put((byte) (4 * x));
+                    pixels.put((byte) (y == h - 1 ? 255 : frame)); // blue top row
+                    pixels.put((byte) 255);
+                }
+            }
+            pixels.rewind();
+            pipeline.submit(request, pixels, w, h);
+            futures.add(request);
+        }
+
+        for (int frame = 0; frame < futures.size(); frame++) {
+            BufferedImage image = ImageIO.read(futures.get(frame).get());
+            Assert.assertEquals(w, image.getWidth());
+            Assert.assertEquals(h, image.getHeight());
+            Assert.assertEquals(0xFF0000FF, image.getRGB(0, 0));
+            Assert.assertEquals(0xFFFF0000 | (4 * 10) << 8 | frame, image.getRGB(10, h - 1));
+            Assert.assertEquals(0xFF000000 | (4 * 20) << 8 | frame, image.getRGB(20, h / 2));
+        }
+        // buffers went back to the pool
+        Assert.assertEquals(2, pipeline.pending.availablePermits());
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void cancelledAndRejectedFramesReleaseTheirBuffer() throws Exception {
+        ScreenshotPipeline pipeline = new ScreenshotPipeline(1, 2);
+        for (int frame = 0; frame < 10; frame++) {
+            File file = File.createTempFile("frame" + frame + "-", ".png");
+            file.deleteOnExit();
+            ScreenshotPipeline.Request request = pipeline.newRequest(file);
+            ByteBuffer pixels = pipeline.acquire(4 * 4 * 4);
+            if (frame % 2 == 0)
+                request.cancel(false); // before submit
+            pipeline.submit(request, pixels, 4, 4);
+            if (frame % 2 == 1)
+                request.cancel(false); // may run or not
+        }
+        pipeline.shutdown();
+        pipeline.executor.awaitTermination(10, TimeUnit.SECONDS);
+        Assert.assertEquals(2, pipeline.pending.availablePermits());
+
+        ScreenshotPipeline.Request request = pipeline.newRequest(File.createTempFile("rejected", ".png"));
+        try {
+            pipeline.submit(request, pipeline.acquire(16), 2, 2);
+            Assert.fail();
+        } catch (RejectedExecutionException e) {
+            Assert.assertTrue(request.isDone());
+        }
+        Assert.assertEquals(2, pipeline.pending.availablePermits());
+    }
+
+    @Test
+    public void framebufferRowsAreCopiedUpsideDown() {
+        int w = 3;
+        int h = 2;
+        IntBuffer argb = IntBuffer.wrap(new int[] { 1, 2, 3, 4, 5, 6 });
+        BufferedImage image = AWTScreenshotUtils.toImage(argb, w, h);
+        Assert.assertEquals(0xFF000004, image.getRGB(0, 0));
+        Assert.assertEquals(0xFF000006, image.getRGB(2, 0));
+        Assert.assertEquals(0xFF000001, image.getRGB(0, 1));
+    }
+}
@@ -162,10 +162,21 @@ public class BoundingBox implements Serializable {
 	 * @return true if this BoundingBox contains the other BoundingBox
 	 */
 	public boolean contains(BoundingBox other) {
-		return !(isNull() || other.isNull()) && other.minX >= minX && other.maxY <= maxX && other.minY >= minY
+		return !(isNull() || other.isNull()) && other.minX >= minX && other.maxX <= maxX && other.minY >= minY
 				&& other.maxY <= maxY;
 	}
 
+	/**
+	 * Tests if the point lies inside this BoundingBox, border included
+	 * 
+	 * @param p
+	 *            the point to check
+	 * @return true if this BoundingBox contains the point on the XY plane
+	 */
+	public boolean contains(Point p) {
+		return !isNull() && p.getX() >= minX && p.getX() <= maxX && p.getY() >= minY && p.getY() <= maxY;
+	}
+
 	/**
 	 * Unify the BoundingBoxes of this and the other BoundingBox
 	 * 
@@ -0,0 +1,689 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A Delaunay triangulation stored in primitive arrays, for large point sets
+ * (millions of vertices) that do not fit in memory as {@link Triangle} and
+ * {@link Point} objects. <br>
+ * <br>
+ * Vertices are stored as x, y, z coordinate arrays, and referenced by their
+ * index. Triangle t is made of vertices triangles[3t], triangles[3t+1] and
+ * triangles[3t+2], in counterclockwise order. Each triangle side is a half
+ * edge: half edge e goes from vertex triangles[e] to the next vertex of its
+ * triangle, and halfedges[e] is the opposite half edge in the adjacent
+ * triangle, or -1 on the convex hull. A triangle thus takes 24 bytes and a
+ * vertex 24 bytes, where the object based {@link DelaunayTriangulation} takes
+ * several hundred bytes per vertex. <br>
+ * <br>
+ * The triangulation is built at once with a sweep-hull algorithm: points are
+ * inserted in order of distance to a seed triangle, each new point being
+ * connected to the visible part of the convex hull before edges are flipped
+ * to restore the Delaunay condition. Duplicated points are ignored. <br>
+ * <br>
+ * See Sinclair: "S-hull: a fast radial sweep-hull routine for Delaunay
+ * triangulation" (2010), and the Delaunator library by V. Agafonkin.
+ */
+public class CompactTriangulation {
+	private static final double EPSILON = Math.pow(2, -52);
+
+	private final double[] x;
+	private final double[] y;
+	private final double[] z;
+
+	private int[] triangles;
+	private int[] halfedges;
+	private int[] hull;
+	private int trianglesLen;
+
+	// construction state, released once built
+	private int[] hullPrev;
+	private int[] hullNext;
+	private int[] hullTri;
+	private int[] hullHash;
+	private int hashSize;
+	private int hullStart;
+	private double cx, cy;
+	private int[] edgeStack = new int[512];
+
+	/**
+	 * triangulates the given points. Vertices are numbered along a Hilbert
+	 * curve, so that triangles sharing vertices also share memory pages when
+	 * iterating over them.
+	 */
+	public CompactTriangulation(Collection<Point> points) {
+		this(coordinates(PointOrdering.hilbert(points)));
+	}
+
+	/**
+	 * triangulates the given coordinates, vertex i being (x[i], y[i], z[i]).
+	 * Arrays are not copied. z may be null if no elevation is available.
+	 */
+	public CompactTriangulation(double[] x, double[] y, double[] z) {
+		if (x.length != y.length || (z != null && z.length != x.length))
+			throw new IllegalArgumentException("coordinate arrays must have the same length");
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		triangulate();
+	}
+
+	private CompactTriangulation(double[][] xyz) {
+		this(xyz[0], xyz[1], xyz[2]);
+	}
+
+	/** wraps a mesh built elsewhere, see {@link ParallelTriangulator}. */
+	CompactTriangulation(double[] x, double[] y, double[] z, int[] triangles, int[] halfedges, int[] hull) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.triangles = triangles;
+		this.halfedges = halfedges;
+		this.hull = hull;
+		this.trianglesLen = triangles.length;
+		this.edgeStack = null;
+	}
+
+	static double[][] coordinates(Point[] points) {
+		double[][] xyz = new double[3][points.length];
+		for (int i = 0; i < points.length; i++) {
+			xyz[0][i] = points[i].getX();
+			xyz[1][i] = points[i].getY();
+			xyz[2][i] = points[i].getZ();
+		}
+		return xyz;
+	}
+
+	/* ACCESS */
+
+	/**
+	 * @return the number of vertices, including duplicated points that are
+	 *         not part of any triangle.
+	 */
+	public int verticesSize() {
+		return x.length;
+	}
+
+	/**
+	 * @return the number of triangles (infinite faces are not stored).
+	 */
+	public int trianglesSize() {
+		return trianglesLen / 3;
+	}
+
+	public double getX(int vertex) {
+		return x[vertex];
+	}
+
+	public double getY(int vertex) {
+		return y[vertex];
+	}
+
+	public double getZ(int vertex) {
+		return z != null ? z[vertex] : 0;
+	}
+
+	/**
+	 * @return the vertex indices of all triangles, three per triangle. The
+	 *         array may be longer than 3 * trianglesSize().
+	 */
+	public int[] getTriangles() {
+		return triangles;
+	}
+
+	/**
+	 * @return the opposite half edge of each half edge, or -1 for half edges
+	 *         of the convex hull.
+	 */
+	public int[] getHalfedges() {
+		return halfedges;
+	}
+
+	/**
+	 * @return the vertices of the convex hull in counterclockwise order.
+	 */
+	public int[] getHull() {
+		return hull;
+	}
+
+	/** @return the index of vertex i (0, 1 or 2) of triangle t. */
+	public int vertex(int t, int i) {
+		return triangles[t * 3 + i];
+	}
+
+	/**
+	 * @return the triangle adjacent to side i of triangle t (from vertex i to
+	 *         vertex i+1), or -1 on the convex hull.
+	 */
+	public int neighbour(int t, int i) {
+		int e = halfedges[t * 3 + i];
+		return e < 0 ? -1 : e / 3;
+	}
+
+	/** @return vertex i of triangle t as a new point. */
+	public Point getPoint(int t, int i) {
+		int v = triangles[t * 3 + i];
+		return new Point(x[v], y[v], getZ(v));
+	}
+
+	/**
+	 * @return triangle t as a new {@link Triangle}, not linked to its
+	 *         neighbours.
+	 */
+	public Triangle getTriangle(int t) {
+		return new Triangle(getPoint(t, 0), getPoint(t, 1), getPoint(t, 2));
+	}
+
+	/**
+	 * returns an iterator creating a {@link Triangle} for each triangle, in
+	 * storage order. Prefer reading {@link #getTriangles()} directly when
+	 * processing large triangulations.
+	 */
+	public Iterator<Triangle> trianglesIterator() {
+		return new Iterator<Triangle>() {
+			private int t = 0;
+
+			public boolean hasNext() {
+				return t < trianglesSize();
+			}
+
+			public Triangle next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return getTriangle(t++);
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public List<Triangle> getTriangulation() {
+		List<Triangle> triangulation = new ArrayList<Triangle>(trianglesSize());
+		for (int t = 0; t < trianglesSize(); t++)
+			triangulation.add(getTriangle(t));
+		return triangulation;
+	}
+
+	/**
+	 * walks from triangle start toward (px, py), crossing at each step a side
+	 * the point lies beyond.
+	 *
+	 * @return the triangle containing the point, or -1 if it lies outside of
+	 *         the convex hull.
+	 */
+	public int locate(double px, double py, int start) {
+		int size = trianglesSize();
+		if (size == 0)
+			return -1;
+		int t = start >= 0 && start < size ? start : 0;
+		walk: for (int step = 0; step <= size; step++) {
+			for (int k = 0; k < 3; k++) {
+				// rotate the first tested side so that the walk cannot cycle
+				int i = (k + step) % 3;
+				int a = triangles[t * 3 + i];
+				int b = triangles[t * 3 + (i + 1) % 3];
+				if ((x[b] - x[a]) * (py - y[a]) - (y[b] - y[a]) * (px - x[a]) < 0) {
+					int e = halfedges[t * 3 + i];
+					if (e < 0)
+						return -1;
+					t = e / 3;
+					continue walk;
+				}
+			}
+			return t;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the number of bytes held by the vertex and triangle arrays.
+	 */
+	public long memorySize() {
+		long vertices = (long) x.length * (z != null ? 24 : 16);
+		return vertices + 4L * (triangles.length + halfedges.length + hull.length);
+	}
+
+	/* CONSTRUCTION */
+
+	private void triangulate() {
+		int n = x.length;
+		int maxTriangles = Math.max(2 * n - 5, 0);
+		triangles = new int[maxTriangles * 3];
+		halfedges = new int[maxTriangles * 3];
+		trianglesLen = 0;
+		hull = new int[0];
+		if (n < 3)
+			return;
+
+		hashSize = (int) Math.ceil(Math.sqrt(n));
+		hullPrev = new int[n];
+		hullNext = new int[n];
+		hullTri = new int[n];
+		hullHash = new int[hashSize];
+		Arrays.fill(hullHash, -1);
+
+		double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+		int[] ids = new int[n];
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+			ids[i] = i;
+		}
+		double mx = (minX + maxX) / 2;
+		double my = (minY + maxY) / 2;
+
+		// seed point close to the center, its closest point, and the third
+		// point making the smallest circumcircle with them
+		int i0 = 0, i1 = 0, i2 = 0;
+		double minDist = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			double d = dist(mx, my, x[i], y[i]);
+			if (d < minDist) {
+				i0 = i;
+				minDist = d;
+			}
+		}
+		minDist = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			if (i == i0)
+				continue;
+			double d = dist(x[i0], y[i0], x[i], y[i]);
+			if (d < minDist && d > 0) {
+				i1 = i;
+				minDist = d;
+			}
+		}
+		double minRadius = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			if (i == i0 || i == i1)
+				continue;
+			double r = circumradius(x[i0], y[i0], x[i1], y[i1], x[i], y[i]);
+			if (r < minRadius) {
+				i2 = i;
+				minRadius = r;
+			}
+		}
+		if (minRadius == Double.POSITIVE_INFINITY) {
+			// all points are collinear: no triangle
+			release();
+			return;
+		}
+
+		// the sweep builds clockwise triangles, which are reversed at the end
+		if (orient(x[i0], y[i0], x[i1], y[i1], x[i2], y[i2])) {
+			int i = i1;
+			i1 = i2;
+			i2 = i;
+		}
+		circumcenter(x[i0], y[i0], x[i1], y[i1], x[i2], y[i2]);
+
+		double[] dists = new double[n];
+		for (int i = 0; i < n; i++)
+			dists[i] = dist(x[i], y[i], cx, cy);
+		quicksort(ids, dists, 0, n - 1);
+		dists = null;
+
+		// the seed triangle is the starting hull
+		hullStart = i0;
+		int hullSize = 3;
+		hullNext[i0] = hullPrev[i2] = i1;
+		hullNext[i1] = hullPrev[i0] = i2;
+		hullNext[i2] = hullPrev[i1] = i0;
+		hullTri[i0] = 0;
+		hullTri[i1] = 1;
+		hullTri[i2] = 2;
+		hullHash[hashKey(x[i0], y[i0])] = i0;
+		hullHash[hashKey(x[i1], y[i1])] = i1;
+		hullHash[hashKey(x[i2], y[i2])] = i2;
+
+		addTriangle(i0, i1, i2, -1, -1, -1);
+
+		double xp = 0, yp = 0;
+		for (int k = 0; k < n; k++) {
+			int i = ids[k];
+			double px = x[i];
+			double py = y[i];
+
+			// skip near duplicated points
+			if (k > 0 && Math.abs(px - xp) <= EPSILON && Math.abs(py - yp) <= EPSILON)
+				continue;
+			xp = px;
+			yp = py;
+
+			if (i == i0 || i == i1 || i == i2)
+				continue;
+
+			// find a visible edge of the convex hull using the edge hash
+			int start = 0;
+			for (int j = 0, key = hashKey(px, py); j < hashSize; j++) {
+				start = hullHash[(key + j) % hashSize];
+				if (start != -1 && start != hullNext[start])
+					break;
+			}
+			start = hullPrev[start];
+			int e = start;
+			int q;
+			while (true) {
+				q = hullNext[e];
+				if (orient(px, py, x[e], y[e], x[q], y[q]))
+					break;
+				e = q;
+				if (e == start) {
+					e = -1;
+					break;
+				}
+			}
+			// likely a near duplicated point
+			if (e == -1)
+				continue;
+
+			// first triangle from the point, then flip until Delaunay
+			int t = addTriangle(e, i, hullNext[e], -1, -1, hullTri[e]);
+			hullTri[i] = legalize(t + 2);
+			hullTri[e] = t;
+			hullSize++;
+
+			// walk forward through the hull, adding triangles
+			int next = hullNext[e];
+			while (true) {
+				q = hullNext[next];
+				if (!orient(px, py, x[next], y[next], x[q], y[q]))
+					break;
+				t = addTriangle(next, i, q, hullTri[i], -1, hullTri[next]);
+				hullTri[i] = legalize(t + 2);
+				hullNext[next] = next; // removed from hull
+				hullSize--;
+				next = q;
+			}
+
+			// walk backward from the other side
+			if (e == start) {
+				while (true) {
+					q = hullPrev[e];
+					if (!orient(px, py, x[q], y[q], x[e], y[e]))
+						break;
+					t = addTriangle(q, i, e, -1, hullTri[e], hullTri[q]);
+					legalize(t + 2);
+					hullTri[q] = t;
+					hullNext[e] = e; // removed from hull
+					hullSize--;
+					e = q;
+				}
+			}
+
+			// update the hull
+			hullStart = hullPrev[i] = e;
+			hullNext[e] = hullPrev[next] = i;
+			hullNext[i] = next;
+
+			hullHash[hashKey(px, py)] = i;
+			hullHash[hashKey(x[e], y[e])] = e;
+		}
+
+		// hull and triangles are clockwise: store them counterclockwise
+		hull = new int[hullSize];
+		for (int i = hullSize - 1, e = hullStart; i >= 0; i--) {
+			hull[i] = e;
+			e = hullNext[e];
+		}
+		release();
+		reverseTriangles();
+	}
+
+	/**
+	 * swap the second and third vertex of each triangle. Side i of a reversed
+	 * triangle is side 2-i of the original one, followed backward.
+	 */
+	private void reverseTriangles() {
+		for (int t = 0; t < trianglesLen; t += 3) {
+			int v = triangles[t + 1];
+			triangles[t + 1] = triangles[t + 2];
+			triangles[t + 2] = v;
+
+			int e = halfedges[t];
+			halfedges[t] = reversed(halfedges[t + 2]);
+			halfedges[t + 1] = reversed(halfedges[t + 1]);
+			halfedges[t + 2] = reversed(e);
+		}
+	}
+
+	private static int reversed(int e) {
+		return e < 0 ? e : e - e % 3 + 2 - e % 3;
+	}
+
+	/** drop construction arrays, keeping only the mesh. */
+	private void release() {
+		hullPrev = hullNext = hullTri = hullHash = null;
+		edgeStack = null;
+		if (trianglesLen < triangles.length) {
+			triangles = Arrays.copyOf(triangles, trianglesLen);
+			halfedges = Arrays.copyOf(halfedges, trianglesLen);
+		}
+	}
+
+	/**
+	 * flip the edge a and the edges it invalidates until they satisfy the
+	 * Delaunay condition, without recursion.
+	 *
+	 * @return the half edge that replaced a's previous edge in its triangle
+	 */
+	private int legalize(int a) {
+		int i = 0;
+		int ar;
+
+		while (true) {
+			int b = halfedges[a];
+			int a0 = a - a % 3;
+			ar = a0 + (a + 2) % 3;
+
+			if (b == -1) { // hull edge
+				if (i == 0)
+					break;
+				a = edgeStack[--i];
+				continue;
+			}
+
+			int b0 = b - b % 3;
+			int al = a0 + (a + 1) % 3;
+			int bl = b0 + (b + 2) % 3;
+
+			int p0 = triangles[ar];
+			int pr = triangles[a];
+			int pl = triangles[al];
+			int p1 = triangles[bl];
+
+			if (inCircle(x[p0], y[p0], x[pr], y[pr], x[pl], y[pl], x[p1], y[p1])) {
+				triangles[a] = p1;
+				triangles[b] = p0;
+
+				int hbl = halfedges[bl];
+
+				// edge swapped on the other side of the hull (rare)
+				if (hbl == -1) {
+					int e = hullStart;
+					do {
+						if (hullTri[e] == bl) {
+							hullTri[e] = a;
+							break;
+						}
+						e = hullPrev[e];
+					} while (e != hullStart);
+				}
+				link(a, hbl);
+				link(b, halfedges[ar]);
+				link(ar, bl);
+
+				int br = b0 + (b + 1) % 3;
+				if (i == edgeStack.length)
+					edgeStack = Arrays.copyOf(edgeStack, i * 2);
+				edgeStack[i++] = br;
+			} else {
+				if (i == 0)
+					break;
+				a = edgeStack[--i];
+			}
+		}
+		return ar;
+	}
+
+	private void link(int a, int b) {
+		halfedges[a] = b;
+		if (b != -1)
+			halfedges[b] = a;
+	}
+
+	private int addTriangle(int i0, int i1, int i2, int a, int b, int c) {
+		int t = trianglesLen;
+		triangles[t] = i0;
+		triangles[t + 1] = i1;
+		triangles[t + 2] = i2;
+		link(t, a);
+		link(t + 1, b);
+		link(t + 2, c);
+		trianglesLen += 3;
+		return t;
+	}
+
+	private int hashKey(double px, double py) {
+		return (int) Math.floor(pseudoAngle(px - cx, py - cy) * hashSize) % hashSize;
+	}
+
+	/* GEOMETRY */
+
+	// monotonically increases with the angle, in [0;1]
+	private static double pseudoAngle(double dx, double dy) {
+		double p = dx / (Math.abs(dx) + Math.abs(dy));
+		return (dy > 0 ? 3 - p : 1 + p) / 4;
+	}
+
+	private static double dist(double ax, double ay, double bx, double by) {
+		double dx = ax - bx;
+		double dy = ay - by;
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * true if (p, q, r) is counterclockwise, testing the sign in the three
+	 * rotations of the triangle until one can be trusted.
+	 */
+	private static boolean orient(double px, double py, double qx, double qy, double rx, double ry) {
+		double sign = orientIfSure(rx, ry, px, py, qx, qy);
+		if (sign == 0)
+			sign = orientIfSure(px, py, qx, qy, rx, ry);
+		if (sign == 0)
+			sign = orientIfSure(qx, qy, rx, ry, px, py);
+		return sign < 0;
+	}
+
+	private static double orientIfSure(double px, double py, double rx, double ry, double qx, double qy) {
+		double l = (ry - py) * (qx - px);
+		double r = (rx - px) * (qy - py);
+		return Math.abs(l - r) >= 3.3306690738754716e-16 * Math.abs(l + r) ? l - r : 0;
+	}
+
+	/** true if p lies strictly inside the circumcircle of (a,b,c). */
+	private static boolean inCircle(double ax, double ay, double bx, double by, double cx, double cy, double px, double py) {
+		double dx = ax - px;
+		double dy = ay - py;
+		double ex = bx - px;
+		double ey = by - py;
+		double fx = cx - px;
+		double fy = cy - py;
+		double ap = dx * dx + dy * dy;
+		double bp = ex * ex + ey * ey;
+		double cp = fx * fx + fy * fy;
+		return dx * (ey * cp - bp * fy) - dy * (ex * cp - bp * fx) + ap * (ex * fy - ey * fx) < 0;
+	}
+
+	private static double circumradius(double ax, double ay, double bx, double by, double cx, double cy) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double ex = cx - ax;
+		double ey = cy - ay;
+		double bl = dx * dx + dy * dy;
+		double cl = ex * ex + ey * ey;
+		double d = 0.5 / (dx * ey - dy * ex);
+		double x = (ey * bl - dy * cl) * d;
+		double y = (dx * cl - ex * bl) * d;
+		return x * x + y * y;
+	}
+
+	private void circumcenter(double ax, double ay, double bx, double by, double cx, double cy) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double ex = cx - ax;
+		double ey = cy - ay;
+		double bl = dx * dx + dy * dy;
+		double cl = ex * ex + ey * ey;
+		double d = 0.5 / (dx * ey - dy * ex);
+		this.cx = ax + (ey * bl - dy * cl) * d;
+		this.cy = ay + (dx * cl - ex * bl) * d;
+	}
+
+	/** sort ids by increasing dists[id]. */
+	private static void quicksort(int[] ids, double[] dists, int left, int right) {
+		while (right - left > 20) {
+			int median = (left + right) >> 1;
+			int i = left + 1;
+			int j = right;
+			swap(ids, median, i);
+			if (dists[ids[left]] > dists[ids[right]])
+				swap(ids, left, right);
+			if (dists[ids[i]] > dists[ids[right]])
+				swap(ids, i, right);
+			if (dists[ids[left]] > dists[ids[i]])
+				swap(ids, left, i);
+
+			int temp = ids[i];
+			double tempDist = dists[temp];
+			while (true) {
+				do
+					i++;
+				while (dists[ids[i]] < tempDist);
+				do
+					j--;
+				while (dists[ids[j]] > tempDist);
+				if (j < i)
+					break;
+				swap(ids, i, j);
+			}
+			ids[left + 1] = ids[j];
+			ids[j] = temp;
+
+			// recurse on the smaller part, loop on the larger one
+			if (right - i + 1 >= j - left) {
+				quicksort(ids, dists, left, j - 1);
+				left = i;
+			} else {
+				quicksort(ids, dists, i, right);
+				right = j - 1;
+			}
+		}
+		for (int i = left + 1; i <= right; i++) {
+			int temp = ids[i];
+			double tempDist = dists[temp];
+			int j = i - 1;
+			while (j >= left && dists[ids[j]] > tempDist) {
+				ids[j + 1] = ids[j];
+				j--;
+			}
+			ids[j + 1] = temp;
+		}
+	}
+
+	private static void swap(int[] a, int i, int j) {
+		int t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+}
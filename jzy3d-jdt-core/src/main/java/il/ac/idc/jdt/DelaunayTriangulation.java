@@ -1,8 +1,10 @@
 package il.ac.idc.jdt;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -79,6 +81,17 @@ public class DelaunayTriangulation {
 	 */
 	private GridIndex gridIndex = null;
 
+	/**
+	 * Average number of vertices per cell of an automatically sized index
+	 */
+	public static final int POINTS_PER_CELL = 4;
+
+	// below this number of z queries per thread, queries are not split
+	private static final int MIN_QUERIES_PER_THREAD = 10000;
+
+	// seed of the bulk insertion order, for reproducible triangulations
+	private static final long BRIO_SEED = 0x5DEECE66DL;
+
 	/**
 	 * creates an empty Delaunay Triangulation.
 	 */
@@ -142,6 +155,28 @@ public class DelaunayTriangulation {
 		}
 	}
 
+	/**
+	 * insert many points at once, ordered so that each point lies close to the
+	 * previous one (see {@link PointOrdering#brio(Collection, long)}), which
+	 * makes point location walk over a few triangles only. Any index is
+	 * removed during insertion, and a {@link GridIndex} sized according to the
+	 * number of vertices is built once all points are inserted.<br>
+	 * Note: the resulting triangulation is a Delaunay triangulation of the
+	 * points, but may differ from the one built by {@link #insertPoints(Collection)}
+	 * for co-circular points.
+	 * 
+	 * @param points
+	 *            new vertices to be inserted in the triangulation.
+	 */
+	public void insertPointsBulk(Collection<Point> points) {
+		removeIndex();
+		for (Point p : PointOrdering.brio(points, BRIO_SEED)) {
+			insertPoint(p);
+		}
+		if (!allCollinear)
+			indexData();
+	}
+
 	/**
 	 * insert the point to this Delaunay Triangulation. Note: if p is null or
 	 * already exist in this triangulation p is ignored.
@@ -150,11 +185,10 @@ public class DelaunayTriangulation {
 	 *            new vertex to be inserted the triangulation.
 	 */
 	public void insertPoint(Point p) {
-		if (vertices.contains(p))
+		if (!vertices.add(p))
 			return;
 		modCount++;
 		updateBoundingBox(p);
-		vertices.add(p);
 		Triangle t = insertPointSimple(p);
 		if (t == null) //
 			return;
@@ -189,20 +223,16 @@ public class DelaunayTriangulation {
 			return;
 		}
 
-		while (pointsVec.size() >= 3) {
-			// Getting a triangle to add, and saving it.
-			Triangle triangle = findTriangle(pointsVec, pointToDelete);
-			addedTriangles.add(triangle);
-
-			// Finding the point on the diagonal (pointToDelete,p)
-			Point p = findDiagonal(triangle, pointToDelete);
-
-			for (Point tmpP : pointsVec) {
-				if (tmpP.equals(p)) {
-					pointsVec.removeElement(tmpP);
-					break;
-				}
-			}
+		// Clipping ears of the hole left by the point, in counterclockwise
+		// order, until it is filled.
+		List<Point> hole = new ArrayList<Point>(pointsVec);
+		if (signedArea(hole) < 0)
+			Collections.reverse(hole);
+		while (hole.size() >= 3) {
+			int n = hole.size();
+			int ear = findEar(hole);
+			addedTriangles.add(new Triangle(hole.get((ear + n - 1) % n), hole.get(ear), hole.get((ear + 1) % n)));
+			hole.remove(ear);
 		}
 		// updating the trangulation
 		deleteUpdate(pointToDelete);
@@ -606,25 +636,6 @@ public class DelaunayTriangulation {
 		}
 	}
 
-	// finds the a point on the triangle that if connect it to "point" (creating
-	// a segment)
-	// the other two points of the triangle will be to the left and to the right
-	// of the segment
-	// by Doron Ganel & Eyal Roth(2009)
-	private Point findDiagonal(Triangle triangle, Point point) {
-		Point p1 = triangle.getA();
-		Point p2 = triangle.getB();
-		Point p3 = triangle.getC();
-
-		if ((p1.pointLineTest(point, p3) == Point.LEFT) && (p2.pointLineTest(point, p3) == Point.RIGHT))
-			return p3;
-		if ((p3.pointLineTest(point, p2) == Point.LEFT) && (p1.pointLineTest(point, p2) == Point.RIGHT))
-			return p2;
-		if ((p2.pointLineTest(point, p1) == Point.LEFT) && (p3.pointLineTest(point, p1) == Point.RIGHT))
-			return p1;
-		return null;
-	}
-
 	/**
 	 * Calculates a Voronoi cell for a given neighborhood in this triangulation.
 	 * A neighborhood is defined by a triangle and one of its corner points.
@@ -736,7 +747,8 @@ public class DelaunayTriangulation {
 	 */
 	public Iterator<Triangle> getLastUpdatedTriangles() {
 		Vector<Triangle> tmp = new Vector<Triangle>();
-		if (this.trianglesSize() > 1) {
+		// same as trianglesSize() > 1, without collecting all triangles
+		if (this.size() > 2 && !allCollinear) {
 			Triangle t = currT;
 			allTriangles(t, tmp, this.modCount);
 		}
@@ -1147,7 +1159,7 @@ public class DelaunayTriangulation {
 			return null;
 		}
 
-		triangles = findTriangleNeighborhood(triangle, point);
+		triangles = findStar(triangle, point);
 		if (triangles == null) {
 			System.err.println("Error: can't delete a point on the perimeter");
 			return null;
@@ -1180,6 +1192,27 @@ public class DelaunayTriangulation {
 		return pointsVec;
 	}
 
+	/*
+	 * returns the triangles around a vertex, turning across the side ending at
+	 * the vertex in each triangle, or null if the vertex is on the convex hull.
+	 */
+	private Vector<Triangle> findStar(Triangle firstTriangle, Point point) {
+		Vector<Triangle> triangles = new Vector<Triangle>(30);
+		Triangle current = firstTriangle;
+		do {
+			if (current == null || current.isHalfplane() || triangles.size() > size())
+				return null;
+			triangles.add(current);
+			if (point.equals(current.getA()))
+				current = current.getCaTriangle();
+			else if (point.equals(current.getB()))
+				current = current.getAbTriangle();
+			else
+				current = current.getBcTriangle();
+		} while (current != firstTriangle);
+		return triangles;
+	}
+
 	// Walks on a consistent side of triangles until a cycle is achieved.
 	// By Doron Ganel & Eyal Roth
 	// changed to public by Udi
@@ -1206,57 +1239,62 @@ public class DelaunayTriangulation {
 	}
 
 	/*
-	 * find triangle to be added to the triangulation
-	 * 
-	 * By: Doron Ganel & Eyal Roth
+	 * find the ear to clip from a counterclockwise hole: a convex corner whose
+	 * circumcircle holds no other vertex of the hole. If rounding errors leave
+	 * no such corner, the convex corner whose circumcircle is the least
+	 * violated is returned, so that the hole is always filled.
 	 */
-	private Triangle findTriangle(Vector<Point> pointsVec, Point p) {
-		Point[] arrayPoints = new Point[pointsVec.size()];
-		pointsVec.toArray(arrayPoints);
-
-		int size = arrayPoints.length;
-		if (size < 3) {
-			return null;
-		}
-		// if we left with 3 points we return the triangle
-		else if (size == 3) {
-			return new Triangle(arrayPoints[0], arrayPoints[1], arrayPoints[2]);
-		} else {
-			for (int i = 0; i <= size - 1; i++) {
-				Point p1 = arrayPoints[i];
-				int j = i + 1;
-				int k = i + 2;
-				if (j >= size) {
-					j = 0;
-					k = 1;
-				}
-				// check IndexOutOfBound
-				else if (k >= size)
-					k = 0;
-				Point p2 = arrayPoints[j];
-				Point p3 = arrayPoints[k];
-				// check if the triangle is not re-entrant and not encloses p
-				Triangle t = new Triangle(p1, p2, p3);
-				if ((calcDet(p1, p2, p3) >= 0) && !t.contains(p)) {
-					if (!t.fallInsideCircumcircle(arrayPoints))
-						return t;
-				}
-				// if there are only 4 points use contains that refers to point
-				// on boundary as outside
-				if (size == 4 && (calcDet(p1, p2, p3) >= 0) && !t.containsBoundaryIsOutside(p)) {
-					if (!t.fallInsideCircumcircle(arrayPoints))
-						return t;
-				}
+	private static int findEar(List<Point> hole) {
+		int n = hole.size();
+		int best = -1;
+		double bestViolation = Double.POSITIVE_INFINITY;
+		int flattest = 0;
+		double flattestArea = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			Point a = hole.get((i + n - 1) % n), b = hole.get(i), c = hole.get((i + 1) % n);
+			double area = orientation(a, b, c);
+			if (area > flattestArea) {
+				flattestArea = area;
+				flattest = i;
+			}
+			if (area <= 0)
+				continue;
+			double violation = Double.NEGATIVE_INFINITY;
+			for (Point d : hole) {
+				if (d != a && d != b && d != c)
+					violation = Math.max(violation, inCircle(a, b, c, d));
+			}
+			if (violation <= 0)
+				return i;
+			if (violation < bestViolation) {
+				bestViolation = violation;
+				best = i;
 			}
 		}
-		return null;
+		return best >= 0 ? best : flattest;
+	}
+
+	private static double signedArea(List<Point> polygon) {
+		double area = 0;
+		for (int i = 0, n = polygon.size(); i < n; i++) {
+			Point a = polygon.get(i), b = polygon.get((i + 1) % n);
+			area += a.getX() * b.getY() - b.getX() * a.getY();
+		}
+		return area / 2;
+	}
+
+	// positive if (a,b,c) is counterclockwise
+	private static double orientation(Point a, Point b, Point c) {
+		return (b.getX() - a.getX()) * (c.getY() - a.getY()) - (b.getY() - a.getY()) * (c.getX() - a.getX());
 	}
 
-	// TODO: Move this to triangle.
-	// checks if the triangle is not re-entrant
-	private double calcDet(Point A, Point B, Point P) {
-		return (A.getX() * (B.getY() - P.getY())) - (A.getY() * (B.getX() - P.getX()))
-				+ (B.getX() * P.getY() - B.getY() * P.getX());
+	// positive if d lies inside the circumcircle of the counterclockwise (a,b,c)
+	private static double inCircle(Point a, Point b, Point c, Point d) {
+		double adx = a.getX() - d.getX(), ady = a.getY() - d.getY();
+		double bdx = b.getX() - d.getX(), bdy = b.getY() - d.getY();
+		double cdx = c.getX() - d.getX(), cdy = c.getY() - d.getY();
+		return (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy) - (bdx * bdx + bdy * bdy) * (adx * cdy - cdx * ady)
+				+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
 	}
 
 	/**
@@ -1311,6 +1349,80 @@ public class DelaunayTriangulation {
 		return t.zValue(q);
 	}
 
+	/**
+	 * computes the z values of many query points, using one thread per
+	 * available processor. See {@link #z(double[], double[], double[], int)}.
+	 * 
+	 * @return the interpolated z values, NaN for points outside of the
+	 *         triangulation.
+	 */
+	public double[] z(double[] x, double[] y) {
+		double[] z = new double[x.length];
+		z(x, y, z, Runtime.getRuntime().availableProcessors());
+		return z;
+	}
+
+	/**
+	 * computes the z values of many query points (x[i], y[i]) into z[i]. The
+	 * triangulation is indexed first if it is not already. Queries are split in
+	 * contiguous ranges, each one answered by a thread walking from the
+	 * previous query (see {@link PointLocator}), so that consecutive queries
+	 * should be close to each other, e.g. grid cells in row order. Points
+	 * outside of the triangulation get a NaN z value. The triangulation must
+	 * not be modified during the call.
+	 */
+	public void z(final double[] x, final double[] y, final double[] z, int parallelism) {
+		if (x.length != y.length || z.length != x.length)
+			throw new IllegalArgumentException("coordinate arrays must have the same length");
+		if (gridIndex == null && size() > 2)
+			indexData();
+
+		int n = x.length;
+		int tasks = Math.max(1, Math.min(parallelism, n / MIN_QUERIES_PER_THREAD));
+		if (tasks == 1) {
+			z(x, y, z, 0, n);
+			return;
+		}
+		final Throwable[] failure = new Throwable[1];
+		Thread[] threads = new Thread[tasks];
+		for (int k = 0; k < tasks; k++) {
+			final int from = (int) ((long) n * k / tasks);
+			final int to = (int) ((long) n * (k + 1) / tasks);
+			threads[k] = new Thread("delaunay-z-" + k) {
+				@Override
+				public void run() {
+					try {
+						z(x, y, z, from, to);
+					} catch (Throwable e) {
+						synchronized (failure) {
+							failure[0] = e;
+						}
+					}
+				}
+			};
+			threads[k].start();
+		}
+		try {
+			for (Thread thread : threads)
+				thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while computing z values", e);
+		}
+		synchronized (failure) {
+			if (failure[0] instanceof RuntimeException)
+				throw (RuntimeException) failure[0];
+			if (failure[0] instanceof Error)
+				throw (Error) failure[0];
+		}
+	}
+
+	private void z(double[] x, double[] y, double[] z, int from, int to) {
+		PointLocator locator = new PointLocator(this);
+		for (int i = from; i < to; i++)
+			z[i] = locator.z(x[i], y[i]);
+	}
+
 	private void updateBoundingBox(Point p) {
 		double x = p.getX(), y = p.getY(), z = p.getZ();
 		if (bbMin == null) {
@@ -1410,11 +1522,11 @@ public class DelaunayTriangulation {
 			return;
 		if (this.size() > 2) {
 			modCount2 = modCount;
-			Vector<Triangle> front = new Vector<Triangle>();
+			ArrayDeque<Triangle> front = new ArrayDeque<Triangle>();
 			triangles = new Vector<Triangle>();
 			front.add(this.startTriangle);
 			while (front.size() > 0) {
-				Triangle t = front.remove(0);
+				Triangle t = front.poll();
 				if (t.isMark() == false) {
 					t.setMark(true);
 					triangles.add(t);
@@ -1447,6 +1559,19 @@ public class DelaunayTriangulation {
 		gridIndex = new GridIndex(this, xCellCount, yCellCount);
 	}
 
+	/**
+	 * Index the triangulation using a grid index, with about
+	 * {@link #POINTS_PER_CELL} vertices per cell.
+	 */
+	public void indexData() {
+		BoundingBox box = getBoundingBox();
+		double cells = Math.max(1, size() / (double) POINTS_PER_CELL);
+		double ratio = box.getHeight() > 0 ? box.getWidth() / box.getHeight() : 1;
+		int xCellCount = (int) Math.max(1, Math.min(cells, Math.round(Math.sqrt(cells * ratio))));
+		int yCellCount = (int) Math.max(1, Math.round(cells / xCellCount));
+		indexData(xCellCount, yCellCount);
+	}
+
 	/**
 	 * Remove any existing spatial indexing
 	 */
@@ -1454,6 +1579,13 @@ public class DelaunayTriangulation {
 		gridIndex = null;
 	}
 
+	/**
+	 * @return true if the triangulation has a spatial index
+	 */
+	public boolean isIndexed() {
+		return gridIndex != null;
+	}
+
 	public List<Triangle> getTriangulation() {
 		if (this.size() <= 2)
 			triangles = new Vector<Triangle>();
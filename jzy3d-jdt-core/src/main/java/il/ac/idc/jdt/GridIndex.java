@@ -107,8 +107,8 @@ public class GridIndex {
 	private void init(DelaunayTriangulation delaunay, int xCellCount, int yCellCount, BoundingBox region) {
 		indexDelaunay = delaunay;
 		indexRegion = region;
-		xSize = region.getWidth() / yCellCount;
-		ySize = region.getHeight() / xCellCount;
+		xSize = region.getWidth() / xCellCount;
+		ySize = region.getHeight() / yCellCount;
 
 		// The grid will hold a trinagle for each cell, so a point (x,y) will
 		// lie
@@ -128,9 +128,10 @@ public class GridIndex {
 	 * @return a triangle at the same cell of the point
 	 */
 	public Triangle findCellTriangleOf(Point point) {
-		int xIndex = (int) ((point.getX() - indexRegion.minX()) / xSize);
-		int yIndex = (int) ((point.getY() - indexRegion.minY()) / ySize);
-		return grid[xIndex][yIndex];
+		if (!indexRegion.contains(point))
+			return null;
+		PointInt cell = getCellOf(point);
+		return grid[cell.x][cell.y];
 	}
 
 	/**
@@ -163,8 +164,7 @@ public class GridIndex {
 		// Bad news - the updated region lies outside the indexed region.
 		// The whole index must be recalculated
 		if (!indexRegion.contains(updatedRegion)) {
-			init(indexDelaunay, (int) (indexRegion.getWidth() / xSize), (int) (indexRegion.getHeight() / ySize),
-					indexRegion.unionWith(updatedRegion));
+			init(indexDelaunay, grid.length, grid[0].length, indexRegion.unionWith(updatedRegion));
 		} else {
 			// Find the cell region to be updated
 			PointInt minInvalidCell = getCellOf(updatedRegion.getMinPoint());
@@ -242,9 +242,10 @@ public class GridIndex {
 	 * @return cell covering the coordinate
 	 */
 	private PointInt getCellOf(Point coordinate) {
-		int xCell = (int) ((coordinate.getX() - indexRegion.minX()) / xSize);
-		int yCell = (int) ((coordinate.getY() - indexRegion.minY()) / ySize);
-		return new PointInt(xCell, yCell);
+		// points on the max border of the region belong to the last cell
+		int xCell = xSize > 0 ? (int) ((coordinate.getX() - indexRegion.minX()) / xSize) : 0;
+		int yCell = ySize > 0 ? (int) ((coordinate.getY() - indexRegion.minY()) / ySize) : 0;
+		return new PointInt(Math.max(0, Math.min(grid.length - 1, xCell)), Math.max(0, Math.min(grid[0].length - 1, yCell)));
 	}
 
 	/**
@@ -0,0 +1,529 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Builds a {@link CompactTriangulation} of a large point set on several
+ * threads, giving the same Delaunay triangulation as a single threaded build. <br>
+ * <br>
+ * Points are split into vertical strips holding about the same number of
+ * points, and each strip is triangulated by its own task. A triangle of a strip
+ * whose circumcircle lies strictly inside the strip cannot contain a point of
+ * another strip: it belongs to the final triangulation as is. The vertices of
+ * all other triangles, which lie along the seams between strips and along the
+ * strips hulls, are triangulated again together. Triangles of this seam
+ * triangulation that do not overlap a kept strip triangle fill the holes left
+ * between strips. <br>
+ * <br>
+ * A strip triangle having a neighbour vertex on (or very close to) its
+ * circumcircle is re-triangulated with the seam, so that co-circular points
+ * such as grids get consistent triangles on both sides of the seam.
+ */
+public class ParallelTriangulator {
+	/** Below this number of points per strip, points are triangulated by the calling thread. */
+	public static final int MIN_STRIP_SIZE = 10000;
+
+	/** Number of buckets per strip used to split points along x. */
+	private static final int BUCKETS_PER_STRIP = 64;
+
+	/** Relative tolerance under which a point is considered co-circular. */
+	private static final double COCIRCULAR_EPSILON = 1e-10;
+
+	private final int parallelism;
+	private ExecutorService executor;
+
+	/** A triangulator using one thread per available processor. */
+	public ParallelTriangulator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelTriangulator(int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		this.parallelism = parallelism;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * triangulates the given points. As for
+	 * {@link CompactTriangulation#CompactTriangulation(Collection)}, vertices
+	 * are numbered along a Hilbert curve.
+	 */
+	public CompactTriangulation triangulate(Collection<Point> points) {
+		double[][] xyz = CompactTriangulation.coordinates(PointOrdering.hilbert(points));
+		return triangulate(xyz[0], xyz[1], xyz[2]);
+	}
+
+	/**
+	 * triangulates the given coordinates, vertex i being (x[i], y[i], z[i]).
+	 * Arrays are not copied. z may be null if no elevation is available.
+	 */
+	public CompactTriangulation triangulate(final double[] x, final double[] y, double[] z) {
+		if (x.length != y.length || (z != null && z.length != x.length))
+			throw new IllegalArgumentException("coordinate arrays must have the same length");
+
+		Strip[] strips = split(x, Math.min(parallelism, x.length / MIN_STRIP_SIZE));
+		if (strips.length < 2)
+			return new CompactTriangulation(x, y, z);
+
+		// triangulate strips and find their final triangles
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(strips.length);
+		for (int s = 0; s < strips.length; s++) {
+			final Strip strip = strips[s];
+			final double left = s > 0 ? strips[s - 1].maxX : Double.NEGATIVE_INFINITY;
+			final double right = s < strips.length - 1 ? strips[s + 1].minX : Double.POSITIVE_INFINITY;
+			tasks.add(new Callable<Void>() {
+				public Void call() {
+					strip.triangulate(x, y, left, right);
+					return null;
+				}
+			});
+		}
+		invokeAll(tasks);
+
+		// triangulate seam points and keep the triangles lying between strips
+		int seamSize = 0;
+		for (Strip strip : strips)
+			seamSize += strip.seamSize;
+		int[] seamIds = new int[seamSize];
+		int[] seamStrips = new int[seamSize];
+		int[] seamLocals = new int[seamSize];
+		double[] sx = new double[seamSize];
+		double[] sy = new double[seamSize];
+		for (int s = 0, k = 0; s < strips.length; s++) {
+			Strip strip = strips[s];
+			for (int v = 0; v < strip.size(); v++) {
+				if (strip.seam[v]) {
+					seamIds[k] = strip.ids[v];
+					seamStrips[k] = s;
+					seamLocals[k] = v;
+					sx[k] = x[strip.ids[v]];
+					sy[k] = y[strip.ids[v]];
+					k++;
+				}
+			}
+		}
+		CompactTriangulation seamMesh = new CompactTriangulation(sx, sy, null);
+		int[] seamTriangles = seamMesh.getTriangles();
+		boolean[] accepted = new boolean[seamMesh.trianglesSize()];
+		int acceptedSize = 0;
+		for (int t = 0; t < accepted.length; t++) {
+			int a = seamTriangles[3 * t], b = seamTriangles[3 * t + 1], c = seamTriangles[3 * t + 2];
+			double gx = (sx[a] + sx[b] + sx[c]) / 3;
+			double gy = (sy[a] + sy[b] + sy[c]) / 3;
+			int s = stripAt(strips, gx);
+			if (s < 0) {
+				accepted[t] = true;
+			} else {
+				// walk from a vertex of the triangle when it belongs to the strip
+				int start = -1;
+				for (int v : new int[] { a, b, c })
+					if (seamStrips[v] == s)
+						start = strips[s].incident[seamLocals[v]];
+				accepted[t] = !strips[s].coversWithFinal(gx, gy, start);
+			}
+			if (accepted[t])
+				acceptedSize++;
+		}
+
+		// copy final triangles, linking sides shared inside a strip
+		int total = 0;
+		for (Strip strip : strips) {
+			strip.offset = total;
+			total += strip.finals;
+		}
+		final int[] triangles = new int[(total + acceptedSize) * 3];
+		final int[] halfedges = new int[triangles.length];
+		tasks.clear();
+		for (final Strip strip : strips) {
+			tasks.add(new Callable<Void>() {
+				public Void call() {
+					strip.write(triangles, halfedges);
+					return null;
+				}
+			});
+		}
+		invokeAll(tasks);
+
+		// append seam triangles, all their sides being open
+		int open = acceptedSize * 3;
+		for (Strip strip : strips)
+			open += strip.open.length;
+		int[] openEdges = new int[open];
+		open = 0;
+		for (Strip strip : strips) {
+			System.arraycopy(strip.open, 0, openEdges, open, strip.open.length);
+			open += strip.open.length;
+			strip.release();
+		}
+		for (int t = 0, e = total * 3; t < accepted.length; t++) {
+			if (!accepted[t])
+				continue;
+			for (int i = 0; i < 3; i++, e++) {
+				triangles[e] = seamIds[seamTriangles[3 * t + i]];
+				halfedges[e] = -1;
+				openEdges[open++] = e;
+			}
+		}
+
+		int[] hull = link(triangles, halfedges, openEdges, x.length);
+		return new CompactTriangulation(x, y, z, triangles, halfedges, hull);
+	}
+
+	/**
+	 * stops the threads of this triangulator. A later call to triangulate
+	 * starts new ones.
+	 */
+	public synchronized void shutdown() {
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	/* STRIPS */
+
+	/**
+	 * sort point indices into vertical strips with a counting sort on x
+	 * buckets, so that all points of a strip lie left of the points of the
+	 * next one.
+	 */
+	private static Strip[] split(double[] x, int count) {
+		int n = x.length;
+		if (count < 2)
+			return new Strip[0];
+		double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, x[i]);
+			maxX = Math.max(maxX, x[i]);
+		}
+		if (!(maxX > minX))
+			return new Strip[0];
+
+		int buckets = count * BUCKETS_PER_STRIP;
+		double scale = buckets / (maxX - minX);
+		int[] starts = new int[buckets + 1];
+		int[] bucketOf = new int[n];
+		for (int i = 0; i < n; i++) {
+			int b = Math.min(buckets - 1, (int) ((x[i] - minX) * scale));
+			bucketOf[i] = b;
+			starts[b + 1]++;
+		}
+		for (int b = 0; b < buckets; b++)
+			starts[b + 1] += starts[b];
+		int[] ids = new int[n];
+		int[] next = starts.clone();
+		for (int i = 0; i < n; i++)
+			ids[next[bucketOf[i]]++] = i;
+
+		// cut at bucket boundaries once a strip holds its share of points
+		List<Strip> strips = new ArrayList<Strip>(count);
+		int from = 0;
+		for (int b = 1; b <= buckets; b++) {
+			if (starts[b] > from && (starts[b] >= (long) n * (strips.size() + 1) / count || b == buckets)) {
+				strips.add(new Strip(ids, from, starts[b], x));
+				from = starts[b];
+			}
+		}
+		return strips.toArray(new Strip[strips.size()]);
+	}
+
+	/** @return the index of the strip whose x range contains px, or -1. */
+	private static int stripAt(Strip[] strips, double px) {
+		int lo = 0, hi = strips.length - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (px < strips[mid].minX)
+				hi = mid - 1;
+			else if (px > strips[mid].maxX)
+				lo = mid + 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	/** A vertical slice of the input, triangulated on its own. */
+	private static class Strip {
+		final int[] ids;
+		final double minX;
+		final double maxX;
+
+		CompactTriangulation mesh;
+		boolean[] finalTriangle;
+		int finals;
+		boolean[] seam;
+		int seamSize;
+		int[] incident;
+		int offset;
+		int[] open;
+		int last;
+
+		Strip(int[] allIds, int from, int to, double[] x) {
+			ids = new int[to - from];
+			System.arraycopy(allIds, from, ids, 0, ids.length);
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int id : ids) {
+				min = Math.min(min, x[id]);
+				max = Math.max(max, x[id]);
+			}
+			minX = min;
+			maxX = max;
+		}
+
+		int size() {
+			return ids.length;
+		}
+
+		/**
+		 * triangulate the strip, keep triangles whose circumcircle lies
+		 * strictly between left and right, and mark the vertices of all other
+		 * triangles as seam vertices.
+		 */
+		void triangulate(double[] x, double[] y, double left, double right) {
+			int n = ids.length;
+			double[] lx = new double[n];
+			double[] ly = new double[n];
+			for (int i = 0; i < n; i++) {
+				lx[i] = x[ids[i]];
+				ly[i] = y[ids[i]];
+			}
+			mesh = new CompactTriangulation(lx, ly, null);
+			int[] triangles = mesh.getTriangles();
+			int[] halfedges = mesh.getHalfedges();
+			int size = mesh.trianglesSize();
+
+			finalTriangle = new boolean[size];
+			seam = new boolean[n];
+			incident = new int[n];
+			for (int t = 0; t < size; t++) {
+				int a = triangles[3 * t], b = triangles[3 * t + 1], c = triangles[3 * t + 2];
+				incident[a] = incident[b] = incident[c] = t;
+				boolean keep = circleBetween(lx[a], ly[a], lx[b], ly[b], lx[c], ly[c], left, right);
+				for (int i = 0; i < 3 && keep; i++) {
+					int o = halfedges[3 * t + i];
+					if (o >= 0) {
+						int p = triangles[o - o % 3 + (o % 3 + 2) % 3];
+						keep = strictlyOutside(lx[a], ly[a], lx[b], ly[b], lx[c], ly[c], lx[p], ly[p]);
+					}
+				}
+				finalTriangle[t] = keep;
+				if (keep)
+					finals++;
+				else
+					seam[a] = seam[b] = seam[c] = true;
+			}
+			if (size == 0) {
+				// collinear strip: all its points go to the seam
+				for (int v = 0; v < n; v++)
+					seam[v] = true;
+			}
+			for (int v : mesh.getHull())
+				seam[v] = true;
+			for (int v = 0; v < n; v++)
+				if (seam[v])
+					seamSize++;
+		}
+
+		/**
+		 * true if (px, py) lies in a final triangle of this strip.
+		 *
+		 * @param start
+		 *            a triangle close to the point, or -1 to start from the
+		 *            last located one
+		 */
+		boolean coversWithFinal(double px, double py, int start) {
+			int t = mesh.locate(px, py, start >= 0 ? start : last);
+			if (t < 0)
+				return false;
+			last = t;
+			return finalTriangle[t];
+		}
+
+		/**
+		 * copy final triangles with global vertex indices. Sides shared by two
+		 * final triangles are linked, the others are listed as open.
+		 */
+		void write(int[] triangles, int[] halfedges) {
+			int[] local = mesh.getTriangles();
+			int[] localHalfedges = mesh.getHalfedges();
+			int[] index = new int[finalTriangle.length];
+			for (int t = 0, k = offset; t < finalTriangle.length; t++)
+				index[t] = finalTriangle[t] ? k++ : -1;
+
+			int[] openSides = new int[64];
+			int openSize = 0;
+			for (int t = 0; t < finalTriangle.length; t++) {
+				if (!finalTriangle[t])
+					continue;
+				for (int i = 0; i < 3; i++) {
+					int e = index[t] * 3 + i;
+					triangles[e] = ids[local[3 * t + i]];
+					int o = localHalfedges[3 * t + i];
+					if (o >= 0 && finalTriangle[o / 3]) {
+						halfedges[e] = index[o / 3] * 3 + o % 3;
+					} else {
+						halfedges[e] = -1;
+						if (openSize == openSides.length)
+							openSides = Arrays.copyOf(openSides, openSize * 2);
+						openSides[openSize++] = e;
+					}
+				}
+			}
+			open = Arrays.copyOf(openSides, openSize);
+		}
+
+		void release() {
+			mesh = null;
+			finalTriangle = null;
+			seam = null;
+			incident = null;
+			open = null;
+		}
+	}
+
+	/* SEAMS */
+
+	/**
+	 * link the open sides of final and seam triangles that join the same
+	 * vertices in opposite directions.
+	 *
+	 * @return the convex hull, made of the sides left unlinked
+	 */
+	private static int[] link(int[] triangles, int[] halfedges, int[] open, int vertices) {
+		int capacity = Integer.highestOneBit(Math.max(open.length, 1)) * 4;
+		long[] keys = new long[capacity];
+		int[] values = new int[capacity];
+		Arrays.fill(values, -1);
+		int mask = capacity - 1;
+
+		for (int e : open) {
+			long key = (long) triangles[e] * vertices + triangles[next(e)];
+			int slot = hash(key) & mask;
+			while (values[slot] != -1)
+				slot = (slot + 1) & mask;
+			keys[slot] = key;
+			values[slot] = e;
+		}
+		Map<Integer, Integer> hullNext = new HashMap<Integer, Integer>();
+		for (int e : open) {
+			long key = (long) triangles[next(e)] * vertices + triangles[e];
+			int slot = hash(key) & mask;
+			while (values[slot] != -1 && keys[slot] != key)
+				slot = (slot + 1) & mask;
+			if (values[slot] != -1)
+				halfedges[e] = values[slot];
+			else
+				hullNext.put(triangles[e], triangles[next(e)]);
+		}
+
+		int[] hull = new int[hullNext.size()];
+		if (hull.length > 0) {
+			int v = hullNext.keySet().iterator().next();
+			for (int i = 0; i < hull.length; i++) {
+				hull[i] = v;
+				v = hullNext.get(v);
+			}
+		}
+		return hull;
+	}
+
+	private static int next(int e) {
+		return e % 3 == 2 ? e - 2 : e + 1;
+	}
+
+	private static int hash(long key) {
+		key *= 0x9E3779B97F4A7C15L;
+		return (int) (key ^ (key >>> 32));
+	}
+
+	/* GEOMETRY */
+
+	/** true if the circumcircle of (a,b,c) lies strictly between left and right. */
+	private static boolean circleBetween(double ax, double ay, double bx, double by, double cx, double cy, double left, double right) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double ex = cx - ax;
+		double ey = cy - ay;
+		double bl = dx * dx + dy * dy;
+		double cl = ex * ex + ey * ey;
+		double d = 0.5 / (dx * ey - dy * ex);
+		double ox = (ey * bl - dy * cl) * d;
+		double oy = (dx * cl - ex * bl) * d;
+		double r = Math.sqrt(ox * ox + oy * oy);
+		double centerX = ax + ox;
+		// margin against rounding of the center and radius
+		double margin = (r + Math.abs(centerX)) * 1e-9;
+		return centerX - r - margin > left && centerX + r + margin < right;
+	}
+
+	/**
+	 * true if p lies outside of the circumcircle of the counterclockwise
+	 * triangle (a,b,c), and not close enough to it to be considered
+	 * co-circular.
+	 */
+	private static boolean strictlyOutside(double ax, double ay, double bx, double by, double cx, double cy, double px, double py) {
+		double dx = ax - px;
+		double dy = ay - py;
+		double ex = bx - px;
+		double ey = by - py;
+		double fx = cx - px;
+		double fy = cy - py;
+		double ap = dx * dx + dy * dy;
+		double bp = ex * ex + ey * ey;
+		double cp = fx * fx + fy * fy;
+		double t1 = dx * (ey * cp - bp * fy);
+		double t2 = dy * (ex * cp - bp * fx);
+		double t3 = ap * (ex * fy - ey * fx);
+		double det = t1 - t2 + t3;
+		return det < -COCIRCULAR_EPSILON * (Math.abs(t1) + Math.abs(t2) + Math.abs(t3));
+	}
+
+	/* THREADS */
+
+	private void invokeAll(List<Callable<Void>> tasks) {
+		try {
+			for (Future<Void> future : getExecutor().invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while triangulating", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+				private int count = 0;
+
+				public synchronized Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "delaunay-" + count++);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+}
@@ -0,0 +1,82 @@
+package il.ac.idc.jdt;
+
+/**
+ * Answers a sequence of point location and z interpolation queries on a
+ * {@link DelaunayTriangulation}, such as the cells of a grid resampling a
+ * terrain. <br>
+ * <br>
+ * Each query starts walking from the triangle of the previous one when both
+ * are close, which finds the triangle within a few steps when queries are
+ * spatially coherent. Distant queries start from the grid index of the
+ * triangulation. <br>
+ * <br>
+ * A locator is not thread safe: use one locator per thread. Several locators
+ * can query the same triangulation concurrently, as long as it is not
+ * modified.
+ */
+public class PointLocator {
+	/**
+	 * Queries farther than this number of mean vertex spacings from the
+	 * previous one start from the grid index.
+	 */
+	public static final double NEAR_SPACINGS = 4;
+
+	private final DelaunayTriangulation triangulation;
+	private final double near;
+	private Triangle last;
+	private double lastX, lastY;
+
+	public PointLocator(DelaunayTriangulation triangulation) {
+		this.triangulation = triangulation;
+		BoundingBox box = triangulation.getBoundingBox();
+		double spacing = 0;
+		if (box != null && triangulation.size() > 0)
+			spacing = Math.sqrt(box.getWidth() * box.getHeight() / triangulation.size());
+		this.near = NEAR_SPACINGS * spacing;
+	}
+
+	/**
+	 * @return the triangle containing (x, y), or a half plane triangle if the
+	 *         point lies outside of the convex hull, or null if the
+	 *         triangulation has less than three vertices.
+	 */
+	public Triangle locate(double x, double y) {
+		if (triangulation.size() < 3)
+			return null;
+		Point p = new Point(x, y);
+		Triangle t;
+		if (last != null && !last.isHalfplane() && Math.abs(x - lastX) + Math.abs(y - lastY) <= near)
+			t = triangulation.find(p, last);
+		else
+			t = triangulation.find(p);
+		last = t;
+		lastX = x;
+		lastY = y;
+		return t;
+	}
+
+	/**
+	 * @return the z value at (x, y), interpolated on the plane of its
+	 *         triangle, or NaN if the point lies outside of the convex hull.
+	 */
+	public double z(double x, double y) {
+		Triangle t = locate(x, y);
+		if (t == null || t.isHalfplane())
+			return Double.NaN;
+		return interpolate(t, x, y);
+	}
+
+	/** @return the z value at (x, y) on the plane of triangle t. */
+	static double interpolate(Triangle t, double x, double y) {
+		Point a = t.getA(), b = t.getB(), c = t.getC();
+		double bx = b.getX() - a.getX(), by = b.getY() - a.getY();
+		double cx = c.getX() - a.getX(), cy = c.getY() - a.getY();
+		double det = bx * cy - cx * by;
+		if (det == 0)
+			return t.zValue(new Point(x, y));
+		double px = x - a.getX(), py = y - a.getY();
+		double u = (px * cy - cx * py) / det;
+		double v = (bx * py - px * by) / det;
+		return a.getZ() + u * (b.getZ() - a.getZ()) + v * (c.getZ() - a.getZ());
+	}
+}
@@ -0,0 +1,125 @@
+package il.ac.idc.jdt;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+/**
+ * Orders points before inserting them in a {@link DelaunayTriangulation}, so
+ * that each point lies close to the previously inserted one and point location
+ * walks over a few triangles only.
+ *
+ * Points are sorted along a Hilbert curve covering their bounding box. A
+ * Biased Randomized Insertion Order (BRIO) first splits points into rounds of
+ * doubling size, each round being sorted along the curve. The small random
+ * first rounds quickly cover the whole domain with triangles, which avoids
+ * the long thin triangles a pure curve order builds at the beginning.
+ *
+ * See Amenta, Choi, Rote: "Incremental constructions con BRIO" (2003).
+ */
+public class PointOrdering {
+	/** Number of bits per axis used to quantize coordinates on the curve. */
+	public static final int HILBERT_ORDER = 16;
+
+	/** Size of the first BRIO round, inserted in random order. */
+	public static final int FIRST_ROUND = 64;
+
+	/**
+	 * Return points in a BRIO order, each round following a Hilbert curve.
+	 *
+	 * @param seed
+	 *            seed of the random split into rounds, so that a given input
+	 *            always gives the same triangulation.
+	 */
+	public static Point[] brio(Collection<Point> points, long seed) {
+		Point[] ordered = points.toArray(new Point[points.size()]);
+		shuffle(ordered, new Random(seed));
+
+		// rounds double in size, the last one holding about half the points
+		int end = ordered.length;
+		while (end > FIRST_ROUND) {
+			int start = end / 2;
+			hilbertSort(ordered, start, end);
+			end = start;
+		}
+		return ordered;
+	}
+
+	/** Return points sorted along a Hilbert curve. */
+	public static Point[] hilbert(Collection<Point> points) {
+		Point[] ordered = points.toArray(new Point[points.size()]);
+		hilbertSort(ordered, 0, ordered.length);
+		return ordered;
+	}
+
+	/** Sort points of [from;to[ along a Hilbert curve covering their bounds. */
+	public static void hilbertSort(Point[] points, int from, int to) {
+		int n = to - from;
+		if (n < 2)
+			return;
+
+		double xmin = Double.POSITIVE_INFINITY, ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY, ymax = Double.NEGATIVE_INFINITY;
+		for (int i = from; i < to; i++) {
+			Point p = points[i];
+			xmin = Math.min(xmin, p.getX());
+			xmax = Math.max(xmax, p.getX());
+			ymin = Math.min(ymin, p.getY());
+			ymax = Math.max(ymax, p.getY());
+		}
+		int cells = (1 << HILBERT_ORDER) - 1;
+		double sx = xmax > xmin ? cells / (xmax - xmin) : 0;
+		double sy = ymax > ymin ? cells / (ymax - ymin) : 0;
+
+		// curve index in the high bits, position in the low bits, so that a
+		// sort of primitive longs sorts the points
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			Point p = points[from + i];
+			int x = (int) ((p.getX() - xmin) * sx);
+			int y = (int) ((p.getY() - ymin) * sy);
+			keys[i] = ((long) hilbertIndex(x, y, HILBERT_ORDER) << 31) | i;
+		}
+		Arrays.sort(keys);
+
+		Point[] sorted = new Point[n];
+		for (int i = 0; i < n; i++)
+			sorted[i] = points[from + (int) (keys[i] & Integer.MAX_VALUE)];
+		System.arraycopy(sorted, 0, points, from, n);
+	}
+
+	/**
+	 * Return the position of cell (x,y) along a Hilbert curve covering a
+	 * 2^order x 2^order grid.
+	 */
+	public static long hilbertIndex(int x, int y, int order) {
+		int n = 1 << order;
+		long d = 0;
+		for (int s = n / 2; s > 0; s >>= 1) {
+			int rx = (x & s) > 0 ? 1 : 0;
+			int ry = (y & s) > 0 ? 1 : 0;
+			d += (long) s * s * ((3 * rx) ^ ry);
+
+			// rotate the quadrant
+			if (ry == 0) {
+				if (rx == 1) {
+					x = n - 1 - x;
+					y = n - 1 - y;
+				}
+				int t = x;
+				x = y;
+				y = t;
+			}
+		}
+		return d;
+	}
+
+	private static void shuffle(Point[] points, Random random) {
+		for (int i = points.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			Point t = points[i];
+			points[i] = points[j];
+			points[j] = t;
+		}
+	}
+}
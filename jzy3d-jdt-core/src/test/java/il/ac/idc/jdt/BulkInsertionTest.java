@@ -0,0 +1,92 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class BulkInsertionTest {
+
+	public void shouldBuildSameMeshSizeAsIncrementalInsertion() throws Exception {
+		for (String data : new String[] { "t1_5000.tsin", "terra_13000.tsin" }) {
+			List<Point> points = IOParsers.readPoints(this.getClass().getResourceAsStream("/inputs/" + data));
+			DelaunayTriangulation incremental = new DelaunayTriangulation(points);
+			DelaunayTriangulation bulk = new DelaunayTriangulation();
+			bulk.insertPointsBulk(points);
+
+			Assert.assertEquals(data, incremental.size(), bulk.size());
+			Assert.assertEquals(data, incremental.trianglesSize(), bulk.trianglesSize());
+			Assert.assertEquals(data, 0, countDelaunayViolations(bulk));
+		}
+	}
+
+	public void shouldLocatePointsWithAutomaticIndex() {
+		Random r = new Random(0);
+		List<Point> points = new ArrayList<Point>();
+		for (int i = 0; i < 20000; i++)
+			points.add(new Point(r.nextDouble() * 100, r.nextDouble() * 10, r.nextDouble()));
+		DelaunayTriangulation dt = new DelaunayTriangulation();
+		dt.insertPointsBulk(points);
+
+		Assert.assertEquals(0, countDelaunayViolations(dt));
+		for (int i = 0; i < 1000; i++) {
+			Point q = new Point(r.nextDouble() * 100, r.nextDouble() * 10);
+			Triangle t = dt.find(q);
+			Assert.assertTrue(t.isHalfplane() || t.contains(q));
+		}
+		// outside of the indexed region
+		Assert.assertTrue(dt.find(new Point(200, 200)).isHalfplane());
+	}
+
+	public void shouldFollowHilbertCurve() {
+		// the order 1 curve visits (0,0), (0,1), (1,1), (1,0)
+		Assert.assertEquals(0, PointOrdering.hilbertIndex(0, 0, 1));
+		Assert.assertEquals(1, PointOrdering.hilbertIndex(0, 1, 1));
+		Assert.assertEquals(2, PointOrdering.hilbertIndex(1, 1, 1));
+		Assert.assertEquals(3, PointOrdering.hilbertIndex(1, 0, 1));
+
+		// consecutive cells of the curve are adjacent
+		int order = 4;
+		int side = 1 << order;
+		int[][] cells = new int[side * side][];
+		for (int x = 0; x < side; x++)
+			for (int y = 0; y < side; y++)
+				cells[(int) PointOrdering.hilbertIndex(x, y, order)] = new int[] { x, y };
+		for (int i = 1; i < cells.length; i++)
+			Assert.assertEquals(1, Math.abs(cells[i][0] - cells[i - 1][0]) + Math.abs(cells[i][1] - cells[i - 1][1]));
+	}
+
+	/**
+	 * Count vertices of neighbour triangles lying strictly inside a triangle
+	 * circumcircle.
+	 */
+	private int countDelaunayViolations(DelaunayTriangulation dt) {
+		int violations = 0;
+		for (Triangle t : dt.getTriangulation()) {
+			if (t.isHalfplane())
+				continue;
+			for (Triangle u : new Triangle[] { t.getAbTriangle(), t.getBcTriangle(), t.getCaTriangle() }) {
+				if (u == null || u.isHalfplane())
+					continue;
+				for (Point p : new Point[] { u.getA(), u.getB(), u.getC() }) {
+					if (p != t.getA() && p != t.getB() && p != t.getC() && inCircle(t.getA(), t.getB(), t.getC(), p) > 1e-9)
+						violations++;
+				}
+			}
+		}
+		return violations;
+	}
+
+	private double inCircle(Point a, Point b, Point c, Point d) {
+		double adx = a.getX() - d.getX(), ady = a.getY() - d.getY();
+		double bdx = b.getX() - d.getX(), bdy = b.getY() - d.getY();
+		double cdx = c.getX() - d.getX(), cdy = c.getY() - d.getY();
+		double det = (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy) - (bdx * bdx + bdy * bdy) * (adx * cdy - cdx * ady)
+				+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
+		double orientation = (b.getX() - a.getX()) * (c.getY() - a.getY()) - (b.getY() - a.getY()) * (c.getX() - a.getX());
+		return orientation > 0 ? det : -det;
+	}
+}
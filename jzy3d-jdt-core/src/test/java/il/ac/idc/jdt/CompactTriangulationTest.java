@@ -0,0 +1,106 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class CompactTriangulationTest {
+
+	public void shouldMatchObjectTriangulationOnExampleData() throws Exception {
+		for (String data : new String[] { "t1_1000.tsin", "t1_5000.tsin", "terra_13000.tsin" }) {
+			List<Point> points = IOParsers.readPoints(this.getClass().getResourceAsStream("/inputs/" + data));
+			DelaunayTriangulation reference = new DelaunayTriangulation(points);
+			CompactTriangulation compact = new CompactTriangulation(points);
+
+			int finite = 0, halfplanes = 0;
+			for (Triangle t : reference.getTriangulation()) {
+				if (t.isHalfplane())
+					halfplanes++;
+				else
+					finite++;
+			}
+			Assert.assertEquals(data, finite, compact.trianglesSize());
+			Assert.assertEquals(data, halfplanes, compact.getHull().length);
+			assertValid(compact);
+		}
+	}
+
+	public void shouldTriangulateRandomAndGridPoints() {
+		Random r = new Random(1);
+		int n = 50000;
+		double[] x = new double[n], y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = r.nextDouble() * 1000;
+			y[i] = r.nextDouble() * 1000;
+		}
+		assertValid(new CompactTriangulation(x, y, null));
+
+		// co-circular points everywhere
+		List<Point> grid = new ArrayList<Point>();
+		for (int i = 0; i < 100; i++)
+			for (int j = 0; j < 100; j++)
+				grid.add(new Point(i, j, i * j));
+		grid.add(new Point(5, 5, 25)); // duplicate
+		CompactTriangulation compact = new CompactTriangulation(grid);
+		Assert.assertEquals(2 * 99 * 99, compact.trianglesSize());
+		assertValid(compact);
+	}
+
+	public void shouldHandleDegenerateInput() {
+		Assert.assertEquals(0, new CompactTriangulation(new double[] { 0, 1 }, new double[] { 0, 1 }, null).trianglesSize());
+		Assert.assertEquals(0, new CompactTriangulation(new double[] { 0, 1, 2, 3 }, new double[] { 0, 1, 2, 3 }, null).trianglesSize());
+		CompactTriangulation one = new CompactTriangulation(new double[] { 0, 1, 0 }, new double[] { 0, 0, 1 }, new double[] { 1, 2, 3 });
+		Assert.assertEquals(1, one.trianglesSize());
+		Assert.assertEquals(3, one.getHull().length);
+		Assert.assertEquals(-1, one.neighbour(0, 0));
+		Assert.assertEquals(6, one.getTriangle(0).getA().getZ() + one.getTriangle(0).getB().getZ() + one.getTriangle(0).getC().getZ(), 0);
+	}
+
+	/**
+	 * check triangles are counterclockwise, half edges are symmetric, and no
+	 * vertex of a neighbour lies inside a triangle circumcircle.
+	 */
+	static void assertValid(CompactTriangulation dt) {
+		int[] triangles = dt.getTriangles();
+		int[] halfedges = dt.getHalfedges();
+		int hullEdges = 0;
+		for (int t = 0; t < dt.trianglesSize(); t++) {
+			int a = dt.vertex(t, 0), b = dt.vertex(t, 1), c = dt.vertex(t, 2);
+			Assert.assertTrue(orientation(dt, a, b, c) > 0);
+			for (int i = 0; i < 3; i++) {
+				int e = t * 3 + i;
+				int o = halfedges[e];
+				if (o == -1) {
+					hullEdges++;
+					continue;
+				}
+				Assert.assertEquals(e, halfedges[o]);
+				// opposite half edges join the same vertices in reverse order
+				Assert.assertEquals(triangles[e], triangles[o - o % 3 + (o + 1) % 3]);
+				int p = triangles[o - o % 3 + (o + 2) % 3];
+				Assert.assertFalse(inCircle(dt, a, b, c, p) > 1e-6);
+			}
+		}
+		Assert.assertEquals(dt.getHull().length, hullEdges);
+
+		int[] hull = dt.getHull();
+		for (int i = 0; i < hull.length; i++)
+			Assert.assertTrue(orientation(dt, hull[i], hull[(i + 1) % hull.length], hull[(i + 2) % hull.length]) >= 0);
+	}
+
+	static double orientation(CompactTriangulation dt, int a, int b, int c) {
+		return (dt.getX(b) - dt.getX(a)) * (dt.getY(c) - dt.getY(a)) - (dt.getY(b) - dt.getY(a)) * (dt.getX(c) - dt.getX(a));
+	}
+
+	static double inCircle(CompactTriangulation dt, int a, int b, int c, int d) {
+		double adx = dt.getX(a) - dt.getX(d), ady = dt.getY(a) - dt.getY(d);
+		double bdx = dt.getX(b) - dt.getX(d), bdy = dt.getY(b) - dt.getY(d);
+		double cdx = dt.getX(c) - dt.getX(d), cdy = dt.getY(c) - dt.getY(d);
+		return (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy) - (bdx * bdx + bdy * bdy) * (adx * cdy - cdx * ady)
+				+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady);
+	}
+}
@@ -0,0 +1,90 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ParallelTriangulatorTest {
+
+	public void shouldBuildSameTrianglesAsSingleThreadedTriangulation() {
+		Random r = new Random(2);
+		int n = 200000;
+		double[] x = new double[n], y = new double[n], z = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = r.nextDouble() * 1000;
+			y[i] = r.nextDouble() * 100;
+			z[i] = i;
+		}
+		ParallelTriangulator triangulator = new ParallelTriangulator(4);
+		CompactTriangulation parallel = triangulator.triangulate(x, y, z);
+		triangulator.shutdown();
+		CompactTriangulation single = new CompactTriangulation(x, y, z);
+
+		Assert.assertEquals(single.trianglesSize(), parallel.trianglesSize());
+		Assert.assertEquals(single.getHull().length, parallel.getHull().length);
+		Assert.assertEquals(triangleSet(single), triangleSet(parallel));
+		CompactTriangulationTest.assertValid(parallel);
+	}
+
+	public void shouldBuildSameTrianglesAsObjectTriangulation() {
+		Random r = new Random(3);
+		List<Point> points = new ArrayList<Point>();
+		for (int i = 0; i < 50000; i++)
+			points.add(new Point(r.nextDouble(), r.nextDouble(), r.nextDouble()));
+		CompactTriangulation parallel = new ParallelTriangulator(4).triangulate(points);
+		DelaunayTriangulation reference = new DelaunayTriangulation();
+		reference.insertPointsBulk(points);
+
+		Map<Point, Integer> index = new HashMap<Point, Integer>();
+		for (int v = 0; v < parallel.verticesSize(); v++)
+			index.put(new Point(parallel.getX(v), parallel.getY(v)), v);
+		Set<String> expected = new HashSet<String>();
+		for (Triangle t : reference.getTriangulation()) {
+			if (!t.isHalfplane())
+				expected.add(key(index.get(t.getA()), index.get(t.getB()), index.get(t.getC())));
+		}
+		Assert.assertEquals(expected, triangleSet(parallel));
+	}
+
+	public void shouldTriangulateCocircularPoints() {
+		List<Point> grid = new ArrayList<Point>();
+		for (int i = 0; i < 300; i++)
+			for (int j = 0; j < 300; j++)
+				grid.add(new Point(i, j, i * j));
+		grid.add(new Point(150, 150, 0)); // duplicate
+		CompactTriangulation parallel = new ParallelTriangulator(4).triangulate(grid);
+		Assert.assertEquals(2 * 299 * 299, parallel.trianglesSize());
+		CompactTriangulationTest.assertValid(parallel);
+	}
+
+	public void shouldLocatePoints() {
+		CompactTriangulation dt = new CompactTriangulation(new double[] { 0, 2, 0, 2 }, new double[] { 0, 0, 2, 2 }, null);
+		int t = dt.locate(1.5, 0.2, 0);
+		Assert.assertTrue(t >= 0);
+		Set<Integer> vertices = new HashSet<Integer>(Arrays.asList(dt.vertex(t, 0), dt.vertex(t, 1), dt.vertex(t, 2)));
+		Assert.assertTrue(vertices.containsAll(Arrays.asList(0, 1)));
+		Assert.assertEquals(-1, dt.locate(3, 1, 1));
+	}
+
+	private Set<String> triangleSet(CompactTriangulation dt) {
+		Set<String> set = new HashSet<String>();
+		for (int t = 0; t < dt.trianglesSize(); t++)
+			set.add(key(dt.vertex(t, 0), dt.vertex(t, 1), dt.vertex(t, 2)));
+		return set;
+	}
+
+	private String key(int a, int b, int c) {
+		int[] v = { a, b, c };
+		Arrays.sort(v);
+		return v[0] + "," + v[1] + "," + v[2];
+	}
+}
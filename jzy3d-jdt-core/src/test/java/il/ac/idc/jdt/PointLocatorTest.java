@@ -0,0 +1,64 @@
+package il.ac.idc.jdt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class PointLocatorTest {
+
+	public void shouldInterpolateGridInBatch() {
+		Random r = new Random(4);
+		List<Point> points = new ArrayList<Point>();
+		for (int i = 0; i < 20000; i++) {
+			double x = r.nextDouble() * 100, y = r.nextDouble() * 100;
+			points.add(new Point(x, y, plane(x, y)));
+		}
+		DelaunayTriangulation dt = new DelaunayTriangulation(points);
+		Assert.assertFalse(dt.isIndexed());
+
+		int side = 300;
+		double[] x = new double[side * side], y = new double[side * side];
+		for (int i = 0; i < side; i++) {
+			for (int j = 0; j < side; j++) {
+				x[i * side + j] = 10 + 80.0 * i / side;
+				y[i * side + j] = 10 + 80.0 * j / side;
+			}
+		}
+		x[0] = -50; // outside of the triangulation
+		double[] z = new double[x.length];
+		dt.z(x, y, z, 4);
+		Assert.assertTrue(dt.isIndexed());
+
+		Assert.assertTrue(Double.isNaN(z[0]));
+		for (int i = 1; i < z.length; i++)
+			Assert.assertEquals(plane(x[i], y[i]), z[i], 1e-9);
+		for (int i = 1; i < z.length; i += 997)
+			Assert.assertEquals(dt.z(x[i], y[i]), z[i], 1e-9);
+	}
+
+	public void shouldLocateRandomQueries() {
+		Random r = new Random(5);
+		List<Point> points = new ArrayList<Point>();
+		for (int i = 0; i < 5000; i++)
+			points.add(new Point(r.nextDouble(), r.nextDouble(), r.nextDouble()));
+		DelaunayTriangulation dt = new DelaunayTriangulation();
+		dt.insertPointsBulk(points);
+		PointLocator locator = new PointLocator(dt);
+		for (int i = 0; i < 10000; i++) {
+			// alternate close and distant queries
+			Point q = i % 2 == 0 ? new Point(r.nextDouble(), r.nextDouble()) : new Point(0.5 + r.nextDouble() * 1e-3, 0.5);
+			Triangle t = locator.locate(q.getX(), q.getY());
+			Assert.assertTrue(t.isHalfplane() || t.contains(q));
+		}
+		Assert.assertTrue(Double.isNaN(locator.z(2, 2)));
+		Assert.assertNull(new PointLocator(new DelaunayTriangulation()).locate(0, 0));
+	}
+
+	private double plane(double x, double y) {
+		return 2 * x - 3 * y + 1;
+	}
+}